@@ -0,0 +1,153 @@
+package nildumu;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * State of an analysis that would otherwise be global: the counters for the ids of bits, nodes and
+ * intervals, the bit width of values, the default leakage algorithm and the configuration of the leakage
+ * computation, the pipeline mode and the {@link GraphRegistry}.
+ * <p>
+ * Every thread uses the {@link #getDefault() default session} unless another session is bound to it
+ * via {@link #run(Supplier)}. Independent analyses can therefore run concurrently in a single JVM,
+ * as long as each of them runs in its own session:
+ * <pre>
+ *     Context context = new AnalysisSession().run(() -> Processor.process(program));
+ * </pre>
+ * Objects created in one session (bits, values, nodes) should not be mixed with objects from another one.
+ * Bits can be created concurrently in the same session, which allows to compute the leakage with several
+ * algorithms at once (see {@link PortfolioLeakageAlgorithm}).
+ */
+public class AnalysisSession {
+
+    private static final AnalysisSession DEFAULT = new AnalysisSession();
+
+    private static final ThreadLocal<AnalysisSession> current = new ThreadLocal<>();
+
+    /**
+     * Number of the first bit created in this session
+     */
+    private long firstBitNo = 0;
+
+    private final AtomicLong numberOfBits = new AtomicLong();
+
+    private int nodeIdCounter = 0;
+
+    private long intervalCounter = 0;
+
+    int bitWidth = 32;
+
+    LeakageAlgorithm.Algo usedAlgo = LeakageAlgorithm.Algo.GRAPHT_PP;
+
+    LeakageCache usedCache = null;
+
+    boolean useBounds = true;
+
+    boolean usePreprocessing = true;
+
+    public ProcessingPipeline.Mode pipelineMode = ProcessingPipeline.Mode.IN_MEMORY;
+
+    private final GraphRegistry graphRegistry = new GraphRegistry();
+
+    /**
+     * Session that is used by threads without a bound session
+     */
+    public static AnalysisSession getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Session bound to the current thread, or the default session
+     */
+    public static AnalysisSession current() {
+        AnalysisSession session = current.get();
+        return session == null ? DEFAULT : session;
+    }
+
+    /**
+     * Runs the function with this session bound to the current thread, restores the previously bound session afterwards
+     */
+    public <T> T run(Supplier<T> func) {
+        AnalysisSession prev = current.get();
+        current.set(this);
+        try {
+            return func.get();
+        } finally {
+            if (prev == null) {
+                current.remove();
+            } else {
+                current.set(prev);
+            }
+        }
+    }
+
+    public void run(Runnable func) {
+        run(() -> {
+            func.run();
+            return null;
+        });
+    }
+
+    /**
+     * Creates a session with the bit width, the leakage algorithm and its configuration and the pipeline mode of this session,
+     * but with its own counters and graph registry. The numbers of the bits created in the new session start
+     * at the passed number: bits of both sessions can be mixed as long as the used ranges of bit numbers
+     * do not overlap
+     */
+    public AnalysisSession fork(long firstBitNo) {
+        AnalysisSession session = new AnalysisSession();
+        session.firstBitNo = firstBitNo;
+        session.numberOfBits.set(firstBitNo);
+        session.bitWidth = bitWidth;
+        session.usedAlgo = usedAlgo;
+        session.usedCache = usedCache;
+        session.useBounds = useBounds;
+        session.usePreprocessing = usePreprocessing;
+        session.pipelineMode = pipelineMode;
+        return session;
+    }
+
+    long nextBitNo() {
+        return numberOfBits.getAndIncrement();
+    }
+
+    public long getNumberOfCreatedBits() {
+        return numberOfBits.get() - firstBitNo;
+    }
+
+    int nextNodeId() {
+        return nodeIdCounter++;
+    }
+
+    public int getNodeIdCount() {
+        return nodeIdCounter;
+    }
+
+    public long nextIntervalId() {
+        return intervalCounter++;
+    }
+
+    public int getBitWidth() {
+        return bitWidth;
+    }
+
+    public GraphRegistry getGraphRegistry() {
+        return graphRegistry;
+    }
+
+    public void resetNumberOfCreatedBits() {
+        numberOfBits.set(firstBitNo);
+    }
+
+    public void resetNodeIdCounter() {
+        nodeIdCounter = 0;
+    }
+
+    /**
+     * Resets the counters for the bit and node ids
+     */
+    public void resetCounters() {
+        resetNumberOfCreatedBits();
+        resetNodeIdCounter();
+    }
+}
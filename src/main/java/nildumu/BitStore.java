@@ -0,0 +1,287 @@
+package nildumu;
+
+import nildumu.util.LongIntMap;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static nildumu.Lattices.*;
+
+/**
+ * Array based leakage graph: a dense, index based snapshot of the bit graph that is reachable from a set of
+ * root bits, built once the analysis is done.
+ * <p>
+ * Every bit is represented by an int id, its value is stored in a byte array (the ordinal of its {@link B}),
+ * its dependencies in CSR style int arrays and its value membership in int columns. The leakage computation
+ * algorithms work on this store and only map the ids back to {@link Bit} handles for their results.
+ * <p>
+ * The analysis itself ({@link Context} and the {@link Operator}s) still works on {@link Bit} objects, as they
+ * are refined in place during the fixpoint iteration, the store therefore only reduces the allocations of the
+ * leakage computation and not the size of the heap during the analysis.
+ * <p>
+ * The store is built with the semantics of {@link BitLattice#walkBits(Bit, java.util.function.Consumer, Predicate, Set)}:
+ * every reached bit is visited (and has its dependencies recorded), but the dependencies of ignored bits are not
+ * expanded further. Bits that are only known as a dependency of such an ignored bit are not visited.
+ */
+public class BitStore {
+
+    private static final B[] BS = B.values();
+
+    private static final int INITIAL_SIZE = 64;
+
+    private final LongIntMap bitNoToId;
+
+    private Bit[] bits;
+
+    private byte[] vals;
+
+    /**
+     * Start of the dependencies of every visited bit in {@link #deps}, -1 for not visited bits
+     */
+    private int[] depStart;
+
+    private int[] depCount;
+
+    private int[] deps;
+
+    private int depsSize = 0;
+
+    /**
+     * Id of the value in {@link #values} for every bit, -1 if the bit does not belong to a value
+     */
+    private int[] valueIds;
+
+    private int[] valueIndexes;
+
+    private final List<Value> values = new ArrayList<>();
+
+    private final IdentityHashMap<Value, Integer> valueToId = new IdentityHashMap<>();
+
+    private int size = 0;
+
+    /**
+     * Ids of the visited bits in the order of the visit
+     */
+    private int[] visitOrder;
+
+    private int visitedCount = 0;
+
+    private BitStore(int expectedSize) {
+        int capacity = Math.max(INITIAL_SIZE, expectedSize);
+        bitNoToId = new LongIntMap(capacity);
+        bits = new Bit[capacity];
+        vals = new byte[capacity];
+        depStart = new int[capacity];
+        depCount = new int[capacity];
+        valueIds = new int[capacity];
+        valueIndexes = new int[capacity];
+        visitOrder = new int[capacity];
+        deps = new int[capacity * 2];
+    }
+
+    /**
+     * Creates a store for all bits reachable from the root bits
+     *
+     * @param roots start bits of the walks, ignored roots are skipped
+     * @param ignoreBit the dependencies of ignored bits are not expanded
+     */
+    public static BitStore create(Collection<Bit> roots, Predicate<Bit> ignoreBit) {
+        BitStore store = new BitStore(roots.size() * 4);
+        for (Bit root : roots) {
+            store.walk(root, ignoreBit);
+        }
+        return store;
+    }
+
+    public static BitStore create(Collection<Bit> roots) {
+        return create(roots, b -> false);
+    }
+
+    private void walk(Bit root, Predicate<Bit> ignoreBit) {
+        if (ignoreBit.test(root)) {
+            return;
+        }
+        int[] stack = new int[16];
+        int stackSize = 0;
+        stack[stackSize++] = id(root);
+        while (stackSize > 0) {
+            int cur = stack[--stackSize];
+            if (isVisited(cur)) {
+                continue;
+            }
+            Bit bit = bits[cur];
+            Set<Bit> curDeps = bit.deps();
+            ensureDepsCapacity(depsSize + curDeps.size());
+            depStart[cur] = depsSize;
+            depCount[cur] = curDeps.size();
+            for (Bit dep : curDeps) {
+                deps[depsSize++] = id(dep);
+            }
+            if (visitedCount == visitOrder.length) {
+                visitOrder = Arrays.copyOf(visitOrder, visitOrder.length * 2);
+            }
+            visitOrder[visitedCount++] = cur;
+            if (!ignoreBit.test(bit)) {
+                int start = depStart[cur];
+                int end = start + depCount[cur];
+                if (stackSize + depCount[cur] > stack.length) {
+                    stack = Arrays.copyOf(stack, Math.max(stack.length * 2, stackSize + depCount[cur]));
+                }
+                for (int i = start; i < end; i++) {
+                    stack[stackSize++] = deps[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the bit, registers the bit (without visiting it) if it is not already part of the store
+     */
+    public int id(Bit bit) {
+        int id = bitNoToId.get(bit.bitNo);
+        if (id != LongIntMap.MISSING) {
+            return id;
+        }
+        id = size++;
+        if (id == bits.length) {
+            grow();
+        }
+        bitNoToId.put(bit.bitNo, id);
+        bits[id] = bit;
+        vals[id] = (byte) bit.val().ordinal();
+        depStart[id] = -1;
+        Value value = bit.value();
+        if (value == null) {
+            valueIds[id] = -1;
+        } else {
+            Integer valueId = valueToId.get(value);
+            if (valueId == null) {
+                valueId = values.size();
+                values.add(value);
+                valueToId.put(value, valueId);
+            }
+            valueIds[id] = valueId;
+        }
+        valueIndexes[id] = bit.valueIndex();
+        return id;
+    }
+
+    private void grow() {
+        int capacity = bits.length * 2;
+        bits = Arrays.copyOf(bits, capacity);
+        vals = Arrays.copyOf(vals, capacity);
+        depStart = Arrays.copyOf(depStart, capacity);
+        depCount = Arrays.copyOf(depCount, capacity);
+        valueIds = Arrays.copyOf(valueIds, capacity);
+        valueIndexes = Arrays.copyOf(valueIndexes, capacity);
+    }
+
+    private void ensureDepsCapacity(int required) {
+        if (required > deps.length) {
+            deps = Arrays.copyOf(deps, Math.max(deps.length * 2, required));
+        }
+    }
+
+    /**
+     * Number of bits in the store (visited and only referenced ones)
+     */
+    public int size() {
+        return size;
+    }
+
+    public int visitedCount() {
+        return visitedCount;
+    }
+
+    /**
+     * Id of the i-th visited bit
+     */
+    public int visited(int i) {
+        return visitOrder[i];
+    }
+
+    public boolean isVisited(int id) {
+        return depStart[id] != -1;
+    }
+
+    /**
+     * @return id of the bit or -1 if it is not part of the store
+     */
+    public int idOf(Bit bit) {
+        return bitNoToId.get(bit.bitNo);
+    }
+
+    public boolean contains(Bit bit) {
+        return bitNoToId.containsKey(bit.bitNo);
+    }
+
+    public Bit bit(int id) {
+        return bits[id];
+    }
+
+    public B val(int id) {
+        return BS[vals[id]];
+    }
+
+    public boolean isConstant(int id) {
+        return val(id).isConstant();
+    }
+
+    /**
+     * Number of recorded dependencies, zero for not visited bits
+     */
+    public int depCount(int id) {
+        return isVisited(id) ? depCount[id] : 0;
+    }
+
+    /**
+     * Id of the i-th dependency of the passed bit
+     */
+    public int dep(int id, int i) {
+        return deps[depStart[id] + i];
+    }
+
+    /**
+     * @return value id or -1
+     */
+    public int valueId(int id) {
+        return valueIds[id];
+    }
+
+    public Value value(int id) {
+        int valueId = valueIds[id];
+        return valueId == -1 ? null : values.get(valueId);
+    }
+
+    public int valueIndex(int id) {
+        return valueIndexes[id];
+    }
+
+    public int numberOfValues() {
+        return values.size();
+    }
+
+    /**
+     * Evaluates the weight function once for every bit of the store
+     */
+    public double[] weights(Function<Bit, Double> weights) {
+        double[] ret = new double[size];
+        for (int i = 0; i < size; i++) {
+            ret[i] = weights.apply(bits[i]);
+        }
+        return ret;
+    }
+
+    /**
+     * Approximate number of bytes used by the arrays of this store
+     */
+    public long estimatedByteSize() {
+        return (long) bits.length * (4 + 1 + 4 * 4) + (long) deps.length * 4 + (long) visitOrder.length * 4;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BitStore(bits=%d, visited=%d, deps=%d, values=%d)", size, visitedCount, depsSize, values.size());
+    }
+}
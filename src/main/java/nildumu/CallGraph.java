@@ -199,6 +199,82 @@ public class CallGraph {
         return worklist(mainNode, action, bot, next, loopDepths::get, state, changed);
     }
 
+    /**
+     * Worklist algorithm that only iterates over the passed nodes, the values of all other nodes that
+     * are used by the action have to be present in the passed state
+     *
+     * @param nodes nodes to iterate over, in their initial order
+     * @param next next nodes for current node, have to be part of the passed nodes
+     */
+    public <T> Map<CallNode, T> worklist(
+            List<CallNode> nodes,
+            BiFunction<CallNode, Map<CallNode, T>, T> action,
+            Function<CallNode, T> bot,
+            Function<CallNode, Set<CallNode>> next,
+            Map<CallNode, T> state,
+            BiPredicate<T, T> changed) {
+        return worklist(nodes, action, bot, next, loopDepths::get, state, changed);
+    }
+
+    /**
+     * Strongly connected components of the methods that the main node transitively calls (main node included),
+     * computed with Tarjan's algorithm. The components are ordered such that every component comes after all
+     * components that contain its callees, the nodes of each component are in post order.
+     */
+    public List<List<CallNode>> stronglyConnectedComponents() {
+        List<CallNode> postOrder = mainNode.calledCallNodesAndSelfInPostOrder();
+        Map<CallNode, Integer> postOrderIndex = new HashMap<>();
+        for (int i = 0; i < postOrder.size(); i++) {
+            postOrderIndex.put(postOrder.get(i), i);
+        }
+        Comparator<CallNode> order = Comparator.comparingInt(postOrderIndex::get);
+        Map<CallNode, Integer> index = new HashMap<>();
+        Map<CallNode, Integer> lowLink = new HashMap<>();
+        Set<CallNode> onStack = new HashSet<>();
+        Deque<CallNode> stack = new ArrayDeque<>();
+        List<List<CallNode>> components = new ArrayList<>();
+        // iterative version of the recursive algorithm, a frame consists of a node and the iterator over its callees
+        Deque<Pair<CallNode, Iterator<CallNode>>> frames = new ArrayDeque<>();
+        Function<CallNode, Pair<CallNode, Iterator<CallNode>>> visit = n -> {
+            index.put(n, index.size());
+            lowLink.put(n, index.get(n));
+            stack.push(n);
+            onStack.add(n);
+            return new Pair<>(n, n.callees.stream().sorted(order).iterator());
+        };
+        frames.push(visit.apply(mainNode));
+        while (!frames.isEmpty()) {
+            Pair<CallNode, Iterator<CallNode>> frame = frames.peek();
+            CallNode node = frame.first;
+            if (frame.second.hasNext()) {
+                CallNode callee = frame.second.next();
+                if (!index.containsKey(callee)) {
+                    frames.push(visit.apply(callee));
+                } else if (onStack.contains(callee)) {
+                    lowLink.put(node, Math.min(lowLink.get(node), index.get(callee)));
+                }
+                continue;
+            }
+            frames.pop();
+            if (!frames.isEmpty()) {
+                CallNode caller = frames.peek().first;
+                lowLink.put(caller, Math.min(lowLink.get(caller), lowLink.get(node)));
+            }
+            if (lowLink.get(node).equals(index.get(node))) {
+                List<CallNode> component = new ArrayList<>();
+                CallNode cur;
+                do {
+                    cur = stack.pop();
+                    onStack.remove(cur);
+                    component.add(cur);
+                } while (cur != node);
+                component.sort(order);
+                components.add(component);
+            }
+        }
+        return components;
+    }
+
     public Set<MethodNode> dominators(MethodNode method){
         return dominators.get(methodToNode.get(method)).stream().map(CallNode::getMethod).collect(Collectors.toSet());
     }
@@ -323,9 +399,20 @@ public class CallGraph {
             Function<CallNode, Integer> priority,
             Map<CallNode, T> state,
             BiPredicate<T, T> changed) {
+        return worklist(mainNode.calledCallNodesAndSelfInPostOrder(), action, bot, next, priority, state, changed);
+    }
+
+    private static <T> Map<CallNode, T> worklist(
+            List<CallNode> nodes,
+            BiFunction<CallNode, Map<CallNode, T>, T> action,
+            Function<CallNode, T> bot,
+            Function<CallNode, Set<CallNode>> next,
+            Function<CallNode, Integer> priority,
+            Map<CallNode, T> state,
+            BiPredicate<T, T> changed) {
         StablePriorityQueue<CallNode> queue =
                 new StablePriorityQueue<>(Comparator.comparingInt(priority::apply));
-        queue.addAll(mainNode.calledCallNodesAndSelfInPostOrder());
+        queue.addAll(nodes);
         Context.log(() -> String.format("Initial order: %s", queue.toString()));
         queue.forEach(n -> state.put(n, bot.apply(n)));
         while (queue.size() > 0) {
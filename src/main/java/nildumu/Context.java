@@ -4,6 +4,7 @@ import nildumu.intervals.Interval;
 import nildumu.mih.MethodInvocationHandler;
 import nildumu.util.DefaultMap;
 import nildumu.util.Util;
+import swp.parser.lr.BaseAST;
 import swp.util.Pair;
 
 import java.util.*;
@@ -194,26 +195,97 @@ public class Context {
         }
     }
 
-    public static class NodeValueState {
+    /**
+     * Dense indices of the nodes and variables of a program, stored in the nodes and variables themselves.
+     * <p>
+     * The indices are assigned once after the processing pipeline (see {@link #index(ProgramNode)}), as the
+     * ids of the node counter of the {@link AnalysisSession} are reset between its stages and are therefore
+     * not unique. Nodes and variables that are created during the analysis (e.g. the call sites of the
+     * summary handlers) get their index on their first use.
+     */
+    static class ProgramIndex {
 
-        long nodeValueUpdateCount = 0;
+        /**
+         * Nodes ordered by their index, contains {@code null} at the index used for missing nodes
+         * (e.g. missing array lengths)
+         */
+        private final List<MJNode> nodes = new ArrayList<>();
+
+        private int nullNodeIndex = -1;
 
-        final DefaultMap<MJNode, Value> nodeValueMap = new DefaultMap<>(new LinkedHashMap<>(), new DefaultMap.Extension<MJNode, Value>() {
+        private int variableCount = 0;
 
-            @Override
-            public void handleValueUpdate(DefaultMap<MJNode, Value> map, MJNode key, Value value) {
-                assert value.isNotEmpty();
-                if (map.get(key).size() != value.size() ||
-                        vl.mapBits(map.get(key), value, (a, b) -> a != b).stream().anyMatch(p -> p)){
-                    nodeValueUpdateCount++;
+        synchronized void index(ProgramNode program) {
+            if (program.index >= 0) {
+                return;
+            }
+            Deque<MJNode> stack = new ArrayDeque<>();
+            stack.push(program);
+            while (!stack.isEmpty()) {
+                MJNode node = stack.pop();
+                if (node.index >= 0) {
+                    continue;
+                }
+                nodeIndex(node);
+                Variable definition = null;
+                if (node instanceof ParameterNode) {
+                    definition = ((ParameterNode) node).definition;
+                } else if (node instanceof VariableAssignmentNode) {
+                    definition = ((VariableAssignmentNode) node).definition;
+                } else if (node instanceof VariableAccessNode) {
+                    definition = ((VariableAccessNode) node).definition;
+                }
+                if (definition != null) {
+                    variableIndex(definition);
+                }
+                List<BaseAST> children = node.children();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    if (children.get(i) instanceof MJNode) {
+                        stack.push((MJNode) children.get(i));
+                    }
                 }
             }
+        }
 
-            @Override
-            public Value defaultValue(Map<MJNode, Value> map, MJNode key) {
-                return vl.bot();
+        synchronized int nodeIndex(MJNode node) {
+            if (node == null) {
+                if (nullNodeIndex == -1) {
+                    nullNodeIndex = nodes.size();
+                    nodes.add(null);
+                }
+                return nullNodeIndex;
             }
-        }, FORBID_DELETIONS);
+            if (node.index == -1) {
+                node.index = nodes.size();
+                nodes.add(node);
+            }
+            return node.index;
+        }
+
+        synchronized int variableIndex(Variable variable) {
+            if (variable.index == -1) {
+                variable.index = variableCount++;
+            }
+            return variable.index;
+        }
+
+        synchronized List<MJNode> nodes() {
+            return new ArrayList<>(nodes);
+        }
+    }
+
+    /**
+     * Per frame state of the nodes, stored in arrays that are indexed by the {@link Context#nodeIndex(MJNode) index}
+     * of each node. The arrays only cover the range of indices that is used in the frame (which usually are
+     * the nodes of a single method), therefore frames of inlined calls are cheap to create.
+     */
+    public static class NodeValueState {
+
+        private static final int[] NO_VERSIONS = new int[0];
+
+        private static final Value[] NO_VALUES = new Value[0];
+
+        private static final long[] NO_BITS = new long[0];
 
         long nodeVersionUpdateCount = 0;
 
@@ -222,54 +294,169 @@ public class Context {
          */
         long nodeVersionWOAppendValuedUpdateCount = 0;
 
-        final DefaultMap<MJNode, Integer> nodeVersionMap = new DefaultMap<>(new LinkedHashMap<>(), new DefaultMap.Extension<MJNode, Integer>() {
+        /**
+         * Index of the node that is stored at position 0 of the arrays, a multiple of 64
+         */
+        private int offset = 0;
 
-            @Override
-            public void handleValueUpdate(DefaultMap<MJNode, Integer> map, MJNode key, Integer value) {
-                if (!map.get(key).equals(value)){
-                    if (!(nodeValueMap.get(key) instanceof AppendOnlyValue)){
-                        nodeVersionWOAppendValuedUpdateCount++;
-                    }
-                    nodeVersionUpdateCount++;
-                }
-            }
+        private int[] nodeVersions = NO_VERSIONS;
 
-            @Override
-            public Integer defaultValue(Map<MJNode, Integer> map, MJNode key) {
-                return 0;
-            }
-        }, FORBID_DELETIONS);
+        private Value[] nodeValues = NO_VALUES;
 
-        final DefaultMap<Variable, Integer> variableVersionMap = new DefaultMap<>(new LinkedHashMap<>(), new DefaultMap.Extension<Variable, Integer>() {
+        /**
+         * Nodes whose parameters did not change since their last evaluation, only used with sparse evaluation
+         */
+        private long[] upToDateNodes = NO_BITS;
 
-            @Override
-            public void handleValueUpdate(DefaultMap<Variable, Integer> map, Variable key, Integer value) {
-            }
+        /**
+         * Index of the variable whose version is stored at position 0 of {@link #variableVersions}, a multiple of 64
+         */
+        private int variableOffset = 0;
 
-            @Override
-            public Integer defaultValue(Map<Variable, Integer> map, Variable key) {
-                return 0;
-            }
-        }, FORBID_DELETIONS);
+        /**
+         * Versions of the variables, indexed by their {@link Context#variableIndex(Variable) index}
+         */
+        private int[] variableVersions = NO_VERSIONS;
 
         final CallPath path;
 
-        private final Map<Branch, Mods> modsMap = new DefaultMap<>((map, bit) -> {
-            return Mods.empty();
-        });
+        private Map<Branch, Mods> modsMap;
 
         private final Stack<Branch> branchStack = new Stack<>();
 
-        private final Map<Branch, Optional<Branch>> parentBranch = new DefaultMap<>((map, branch) -> {
-            return Optional.empty();
-        });
+        private Map<Branch, Optional<Branch>> parentBranch;
 
-        private final Map<MJNode, List<Integer>> lastParamVersions = new HashMap<>();
+        private Map<MJNode, List<Integer>> lastParamVersions;
 
 
         public NodeValueState(CallPath path) {
             this.path = path;
         }
+
+        /**
+         * Position of the node with the passed index in the arrays, grows the arrays if needed
+         */
+        private int position(int index) {
+            if (nodeVersions.length == 0) {
+                offset = index & ~63;
+                resize(offset, 64);
+            } else if (index < offset) {
+                resize(index & ~63, offset - (index & ~63) + nodeVersions.length);
+            } else if (index - offset >= nodeVersions.length) {
+                resize(offset, Math.max(nodeVersions.length * 2, ((index - offset) | 63) + 1));
+            }
+            return index - offset;
+        }
+
+        private void resize(int newOffset, int newLength) {
+            int shift = offset - newOffset;
+            int[] versions = new int[newLength];
+            Value[] values = new Value[newLength];
+            long[] upToDate = new long[newLength / 64];
+            System.arraycopy(nodeVersions, 0, versions, shift, nodeVersions.length);
+            System.arraycopy(nodeValues, 0, values, shift, nodeValues.length);
+            System.arraycopy(upToDateNodes, 0, upToDate, shift / 64, upToDateNodes.length);
+            offset = newOffset;
+            nodeVersions = versions;
+            nodeValues = values;
+            upToDateNodes = upToDate;
+        }
+
+        private boolean inRange(int index) {
+            return index >= offset && index - offset < nodeVersions.length;
+        }
+
+        int version(int index) {
+            return inRange(index) ? nodeVersions[index - offset] : 0;
+        }
+
+        void incrementVersion(int index) {
+            int position = position(index);
+            nodeVersions[position]++;
+            if (!(nodeValues[position] instanceof AppendOnlyValue)) {
+                nodeVersionWOAppendValuedUpdateCount++;
+            }
+            nodeVersionUpdateCount++;
+        }
+
+        /**
+         * @return value of the node or {@code null} if the node has not been assigned a value in this frame
+         */
+        Value value(int index) {
+            return inRange(index) ? nodeValues[index - offset] : null;
+        }
+
+        Value value(int index, Value value) {
+            int position = position(index);
+            Value prev = nodeValues[position];
+            nodeValues[position] = value;
+            return prev;
+        }
+
+        /**
+         * Marks the node as up to date
+         *
+         * @return was the node outdated before?
+         */
+        boolean markUpToDate(int index) {
+            int position = position(index);
+            long mask = 1L << position;
+            boolean outdated = (upToDateNodes[position >>> 6] & mask) == 0;
+            upToDateNodes[position >>> 6] |= mask;
+            return outdated;
+        }
+
+        void markOutdated(int index) {
+            if (inRange(index)) {
+                int position = index - offset;
+                upToDateNodes[position >>> 6] &= ~(1L << position);
+            }
+        }
+
+        int variableVersion(int index) {
+            int position = index - variableOffset;
+            return position >= 0 && position < variableVersions.length ? variableVersions[position] : 0;
+        }
+
+        void variableVersion(int index, int version) {
+            if (variableVersions.length == 0) {
+                variableOffset = index & ~63;
+                variableVersions = new int[64];
+            } else if (index < variableOffset || index - variableOffset >= variableVersions.length) {
+                int newOffset = Math.min(variableOffset, index & ~63);
+                int end = Math.max(variableOffset + variableVersions.length, (index | 63) + 1);
+                int[] versions = new int[end - newOffset];
+                System.arraycopy(variableVersions, 0, versions, variableOffset - newOffset, variableVersions.length);
+                variableOffset = newOffset;
+                variableVersions = versions;
+            }
+            variableVersions[index - variableOffset] = version;
+        }
+
+        Map<Branch, Mods> modsMap() {
+            if (modsMap == null) {
+                modsMap = new DefaultMap<>((map, bit) -> {
+                    return Mods.empty();
+                });
+            }
+            return modsMap;
+        }
+
+        Map<Branch, Optional<Branch>> parentBranch() {
+            if (parentBranch == null) {
+                parentBranch = new DefaultMap<>((map, branch) -> {
+                    return Optional.empty();
+                });
+            }
+            return parentBranch;
+        }
+
+        Map<MJNode, List<Integer>> lastParamVersions() {
+            if (lastParamVersions == null) {
+                lastParamVersions = new HashMap<>();
+            }
+            return lastParamVersions;
+        }
     }
 
     private Mode mode;
@@ -323,10 +510,32 @@ public class Context {
      * to the mods for evaluating y */
     private Stack<Mods> additionalMods = new Stack<>();
 
+    /**
+     * Results of {@link #replace(Value, Branch)} per branch, keyed by the identity of the value,
+     * cleared whenever the mods, the branch hierarchy or the frame change
+     */
+    private final Map<Branch, Map<Value, Value>> replaceCache = new HashMap<>();
+
+    private boolean cacheReplacements = true;
+
+    private long replaceCacheHits = 0;
+
+    private long replaceCacheMisses = 0;
+
     /*-------------------------- loop mode specific -------------------------------*/
 
     private final HashMap<Bit, Double> weightMap = new HashMap<>();
 
+    /**
+     * Shared dependency sets of the bits created in this context
+     */
+    private final DependencySetPool dependencySetPool = new DependencySetPool();
+
+    /**
+     * Session in which the context was created, all further computations on the context use it
+     */
+    public final AnalysisSession session = AnalysisSession.current();
+
     public static final float INFTY = Float.MAX_VALUE;
 
     /*-------------------------- methods -------------------------------*/
@@ -367,6 +576,36 @@ public class Context {
     private boolean useSimplifiedHeuristic;
     private boolean useReplacements;
 
+    private FixpointIteration.Strategy iterationStrategy = FixpointIteration.Strategy.STACK;
+
+    /**
+     * Use the def-use edges to decide whether a node has to be re-evaluated, instead of comparing the versions
+     * of its parameters
+     */
+    private boolean sparseEvaluation = true;
+
+    private final DefUseGraph defUseGraph = new DefUseGraph();
+
+    /**
+     * Shared with the contexts created by {@link #fork()}, as they analyze the same program
+     */
+    private ProgramIndex programIndex = new ProgramIndex();
+
+    /**
+     * Number of statement visits of the fix point iteration, including the ones for inlined methods
+     */
+    private long statementVisits = 0;
+
+    /**
+     * Number of calls of {@link #evaluate(MJNode)}
+     */
+    private long evaluations = 0;
+
+    /**
+     * Number of calls of {@link #evaluate(MJNode)} that recompute the value of the node, as its parameters changed
+     */
+    private long recomputations = 0;
+
     public static final int RECORD_ALTERNATIVES      = 0b0001;
     /** only consider the bit itself */
     public static final int USE_SIMPLIFIED_HEURISTIC = 0b0010;
@@ -379,7 +618,7 @@ public class Context {
         this.maxBitWidth = maxBitWidth;
         this.entropyBounds = entropyBounds;
         resetFrames(outputState);
-        ValueLattice.get().bitWidth = maxBitWidth;
+        ValueLattice.get().setBitWidth(maxBitWidth);
         this.recordAlternatives = (alternativesConfig & RECORD_ALTERNATIVES) != 0;
         this.useSimplifiedHeuristic = (alternativesConfig & USE_SIMPLIFIED_HEURISTIC) != 0;
         this.useReplacements = (alternativesConfig & USE_REPLACEMENTS) != 0;
@@ -397,6 +636,33 @@ public class Context {
         this(sl, maxBitWidth, new EntropyBounds());
     }
 
+    /**
+     * Creates an empty context with the configuration of this context that does not record alternatives.
+     * It is intended for analyses that run concurrently in another {@link AnalysisSession}, therefore it
+     * has to be called in this session
+     */
+    public Context fork() {
+        Context context = new Context(sl, maxBitWidth, entropyBounds, new State.OutputState(),
+                (useSimplifiedHeuristic ? USE_SIMPLIFIED_HEURISTIC : 0) | (useReplacements ? USE_REPLACEMENTS : 0));
+        context.mode(mode);
+        context.iterationStrategy = iterationStrategy;
+        context.sparseEvaluation = sparseEvaluation;
+        context.cacheReplacements = cacheReplacements;
+        context.programIndex = programIndex;
+        return context;
+    }
+
+    /**
+     * Returns the shared version of the dependency set, see {@link DependencySetPool}
+     */
+    public DependencySet intern(DependencySet deps) {
+        return dependencySetPool.intern(deps);
+    }
+
+    public DependencySetPool getDependencySetPool() {
+        return dependencySetPool;
+    }
+
     public static B v(Bit bit) {
         return bit.val();
     }
@@ -473,7 +739,7 @@ public class Context {
 
     public static void log(Supplier<String> msgProducer){
         if (LOG.isLoggable(Level.FINE)){
-            System.out.println(msgProducer.get());
+            System.out.println(Util.indent(msgProducer.get()));
         }
     }
 
@@ -500,17 +766,49 @@ public class Context {
             if (value.isConstant()) {
                 return value;
             }
-            if (!frame.nodeValueState.nodeValueMap.containsKey(node)) {
-                frame.nodeValueState.nodeValueMap.put(node, value.copy());
+            int index = nodeIndex(node);
+            Value copy = frame.nodeValueState.value(index);
+            if (copy == null) {
+                copy = value.copy();
+                frame.nodeValueState.value(index, copy);
             }
-            return replace(frame.nodeValueState.nodeValueMap.get(node));
+            return replace(copy);
         }
-        return replace(frame.nodeValueState.nodeValueMap.get(node));
+        Value value = frame.nodeValueState.value(nodeIndex(node));
+        return replace(value == null ? vl.bot() : value);
     }
 
     public Value nodeValue(MJNode node, Value value){
         assert value.isNotEmpty();
-        return frame.nodeValueState.nodeValueMap.put(node, value);
+        return frame.nodeValueState.value(nodeIndex(node), value);
+    }
+
+    /**
+     * Assigns the indices of the nodes and variables of the program, has to be called after all
+     * transformations of the program and before its analysis
+     */
+    void indexProgram(ProgramNode program) {
+        programIndex.index(program);
+    }
+
+    /**
+     * Dense index of the node in the tables of the frames, see {@link ProgramIndex}
+     */
+    int nodeIndex(MJNode node){
+        if (node != null && node.index >= 0) {
+            return node.index;
+        }
+        return programIndex.nodeIndex(node);
+    }
+
+    /**
+     * Dense index of the variable in the version tables of the frames, see {@link ProgramIndex}
+     */
+    int variableIndex(Variable variable){
+        if (variable.index >= 0) {
+            return variable.index;
+        }
+        return programIndex.variableIndex(variable);
     }
 
     Operator operatorForNode(MJNode node){
@@ -551,36 +849,60 @@ public class Context {
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Increments the version of the node and marks its uses as outdated
+     */
+    private void incrementNodeVersion(MJNode node){
+        frame.nodeValueState.incrementVersion(nodeIndex(node));
+        if (sparseEvaluation) {
+            markUsesOutdated(defUseGraph.uses(node));
+        }
+    }
+
+    private void markUsesOutdated(List<MJNode> uses){
+        for (int i = 0; i < uses.size(); i++) {
+            frame.nodeValueState.markOutdated(nodeIndex(uses.get(i)));
+        }
+    }
+
     private boolean compareAndStoreParamVersion(MJNode node){
+        if (sparseEvaluation) {
+            if (!defUseGraph.isRegistered(node)) {
+                defUseGraph.register(node, paramNode(node));
+            }
+            return frame.nodeValueState.markUpToDate(nodeIndex(node));
+        }
         List<Integer> curVersions = paramNode(node).stream().map(n -> {
             if (n instanceof VariableAccessNode && ((VariableAccessNode) n).definingExpression == null){
-                return frame.nodeValueState.variableVersionMap.get(((VariableAccessNode) n).definition);
+                return frame.nodeValueState.variableVersion(variableIndex(((VariableAccessNode) n).definition));
             }
-            return frame.nodeValueState.nodeVersionMap.get(n);
+            return frame.nodeValueState.version(nodeIndex(n));
         }).collect(Collectors.toList());
         if (node instanceof MethodInvocationNode){
             ((MethodInvocationNode) node).globalDefs.entrySet().stream()
                     .sorted(Comparator.comparing(e -> e.getKey().name))
                     .map(Map.Entry::getValue).map(Pair::first)
-                    .map(frame.nodeValueState.variableVersionMap::get)
+                    .map(v -> frame.nodeValueState.variableVersion(variableIndex(v)))
                     .forEach(curVersions::add);
         }
         boolean somethingChanged = true;
-        if (frame.nodeValueState.lastParamVersions.containsKey(node)){
-            somethingChanged = !frame.nodeValueState.lastParamVersions.get(node).equals(curVersions);
+        Map<MJNode, List<Integer>> lastParamVersions = frame.nodeValueState.lastParamVersions();
+        if (lastParamVersions.containsKey(node)){
+            somethingChanged = !lastParamVersions.get(node).equals(curVersions);
         }
-        frame.nodeValueState.lastParamVersions.put(node, curVersions);
+        lastParamVersions.put(node, curVersions);
         return somethingChanged;
     }
 
     public boolean evaluate(MJNode node){
+        evaluations++;
         log(() -> "Evaluate node " + node + " -> old value = " + nodeValue(node));
 
         if (node instanceof VariableAccessNode){
             Value newVal = getVariableValue(((VariableAccessNode) node).definition);
             boolean somethingChanged = !newVal.valueEquals(nodeValue(node));
             if (somethingChanged){
-                frame.nodeValueState.nodeVersionMap.put(node, frame.nodeValueState.nodeVersionMap.get(node) + 1);
+                incrementNodeVersion(node);
                 frame.nodeValueState.nodeVersionUpdateCount++;
             }
             nodeValue(node, newVal);
@@ -590,6 +912,7 @@ public class Context {
         if (!paramsChanged){
             return false;
         }
+        recomputations++;
 
         List<MJNode> paramNodes = paramNode(node);
         List<Value> args;
@@ -626,7 +949,7 @@ public class Context {
             nodeValue(node, newValue);
         }
         if (somethingChanged && !gt){
-            frame.nodeValueState.nodeVersionMap.put(node, frame.nodeValueState.nodeVersionMap.get(node) + 1);
+            incrementNodeVersion(node);
            // nodeValueState.nodeVersionUpdateCount++;
         }
         log(() -> "Evaluate node " + node + " -> new value = " + nodeValue(node));
@@ -698,10 +1021,12 @@ public class Context {
                 throw new UnsupportedOperationException(String.format("Setting an input variable (%s)", variable));
             }
         }
-        if (useVar){
-            frame.nodeValueState.variableVersionMap.put(variable, frame.nodeValueState.variableVersionMap.get(variable) + 1);
-        } else {
-            frame.nodeValueState.variableVersionMap.put(variable, frame.nodeValueState.nodeVersionMap.get(node));
+        int index = variableIndex(variable);
+        int oldVersion = frame.nodeValueState.variableVersion(index);
+        int newVersion = useVar ? oldVersion + 1 : frame.nodeValueState.version(nodeIndex(node));
+        frame.nodeValueState.variableVersion(index, newVersion);
+        if (sparseEvaluation && oldVersion != newVersion) {
+            markUsesOutdated(defUseGraph.uses(variable));
         }
         frame.state.set(variable, value);
         return value;
@@ -751,13 +1076,21 @@ public class Context {
 
     public Map<Sec<?>, LeakageAlgorithm.ComputationResult> computeLeakage(LeakageAlgorithm.Algo algo){
         if (leaks == null){
-            leaks = algo.compute(this);
+            leaks = session.run(() -> algo.compute(this));
         }
         return leaks;
     }
 
     public Set<MJNode> nodes(){
-        return frame.nodeValueState.nodeValueMap.keySet();
+        Set<MJNode> nodes = new LinkedHashSet<>();
+        List<MJNode> indexedNodes = programIndex.nodes();
+        for (int i = 0; i < indexedNodes.size(); i++) {
+            MJNode node = indexedNodes.get(i);
+            if (node != null && frame.nodeValueState.value(i) != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
     }
 
     public List<String> variableNames(){
@@ -773,11 +1106,13 @@ public class Context {
             Bit condBit = nodeValue(branch.condition).get(1);
             ModsCreator modsCreator = repl(condBit);
             Mods newMods = modsCreator.apply(this, condBit, bl.create(branch.val ? B.ONE : B.ZERO));
-            if (frame.nodeValueState.modsMap.containsKey(branch)) {
-                frame.nodeValueState.modsMap.put(branch, Mods.empty().add(frame.nodeValueState.modsMap.get(branch)).union(newMods));
+            Map<Branch, Mods> modsMap = frame.nodeValueState.modsMap();
+            if (modsMap.containsKey(branch)) {
+                modsMap.put(branch, Mods.empty().add(modsMap.get(branch)).union(newMods));
             } else {
-                frame.nodeValueState.modsMap.put(branch, newMods);
+                modsMap.put(branch, newMods);
             }
+            invalidateReplaceCache();
         }
     }
 
@@ -785,7 +1120,8 @@ public class Context {
         Optional<Branch> parent =
                 frame.nodeValueState.branchStack.isEmpty() ? Optional.empty() : Optional.of(frame.nodeValueState.branchStack.peek());
         frame.nodeValueState.branchStack.push(branch);
-        frame.nodeValueState.parentBranch.put(branch, parent);
+        frame.nodeValueState.parentBranch().put(branch, parent);
+        invalidateReplaceCache();
     }
 
     public void popBranch(){
@@ -794,10 +1130,12 @@ public class Context {
 
     public void pushMiscMods(Mods mods) {
         additionalMods.push(mods);
+        invalidateReplaceCache();
     }
 
     public void popMiscMods() {
         additionalMods.pop();
+        invalidateReplaceCache();
     }
 
     public void assertAdditionalModsEmpty() {
@@ -840,11 +1178,11 @@ public class Context {
             }
             Optional<Branch> optCur = Optional.ofNullable(branch);
             while (optCur.isPresent()){
-                Mods curMods = frame.nodeValueState.modsMap.get(optCur.get());
+                Mods curMods = frame.nodeValueState.modsMap().get(optCur.get());
                 if (curMods.definedFor(bit)){
                     return curMods.replace(bit);
                 }
-                optCur = frame.nodeValueState.parentBranch.get(optCur.get());
+                optCur = frame.nodeValueState.parentBranch().get(optCur.get());
             }
         }
         return bit;
@@ -863,11 +1201,11 @@ public class Context {
             }
             Optional<Branch> optCur = Optional.ofNullable(branch);
             while (optCur.isPresent()){
-                Mods curMods = frame.nodeValueState.modsMap.get(optCur.get());
+                Mods curMods = frame.nodeValueState.modsMap().get(optCur.get());
                 if (curMods.definedFor(inter)){
                     return curMods.replace(inter);
                 }
-                optCur = frame.nodeValueState.parentBranch.get(optCur.get());
+                optCur = frame.nodeValueState.parentBranch().get(optCur.get());
             }
         }
         return inter;
@@ -887,6 +1225,39 @@ public class Context {
     }
 
     private Value replace(Value value, Branch branch) {
+        if (!inExtendedMode()) {
+            return value;
+        }
+        if (!cacheReplacements) {
+            return replaceBits(value, branch);
+        }
+        Map<Value, Value> cache = replaceCache.computeIfAbsent(branch, b -> new IdentityHashMap<>());
+        Value result = cache.get(value);
+        if (result != null) {
+            replaceCacheHits++;
+            return result;
+        }
+        replaceCacheMisses++;
+        result = replaceBits(value, branch);
+        cache.put(value, result);
+        return result;
+    }
+
+    private void invalidateReplaceCache() {
+        if (!replaceCache.isEmpty()) {
+            replaceCache.clear();
+        }
+    }
+
+    public long getReplaceCacheHits() {
+        return replaceCacheHits;
+    }
+
+    public long getReplaceCacheMisses() {
+        return replaceCacheMisses;
+    }
+
+    private Value replaceBits(Value value, Branch branch) {
         Util.Box<Boolean> replacedABit = new Util.Box<>(false);
         Value newValue = value.stream().map(b -> {
             Bit r = replace(b, branch);
@@ -913,6 +1284,22 @@ public class Context {
         }
     }
 
+    /**
+     * Copies the replacements and weights of the passed bits from the other context, the other context
+     * is not modified
+     */
+    public void copyBitProperties(Context source, Collection<Bit> bits){
+        for (Bit bit : bits) {
+            if (source.replMap.containsKey(bit)) {
+                repl(bit, source.replMap.get(bit));
+            }
+            Double weight = source.weightMap.get(bit);
+            if (weight != null) {
+                weightMap.put(bit, weight);
+            }
+        }
+    }
+
     /**
      * Applies the repl function to get mods
      * @param bit
@@ -975,7 +1362,7 @@ public class Context {
 
     private Bit createChooseWrapBit(Bit chosen, Bit notChoosen) {
         assert !chosen.isConstant();
-        Bit b = bl.create(chosen.val(), ds.create(chosen, notChoosen));
+        Bit b = bl.create(chosen.val(), intern(ds.create(chosen, notChoosen)));
         alternativeBits.add(b);
         return b;
     }
@@ -1038,6 +1425,9 @@ public class Context {
 
     /**
      * merges n into o
+     * <p>
+     * Only used for the re-evaluation of nodes in loop mode, the processing pipeline transforms loops into
+     * recursive methods, so this is not on the hot path of the current analyses
      * @param o
      * @param n
      * @return true if o value equals the merge result
@@ -1109,11 +1499,13 @@ public class Context {
     public void pushNewFrame(MethodInvocationNode callSite, Set<Bit> argumentBits){
         frames.push(new Frame(frame.callPath.push(callSite), argumentBits));
         frame = frames.peek();
+        invalidateReplaceCache();
     }
 
     public void popFrame(){
         frames.pop();
         frame = frames.peek();
+        invalidateReplaceCache();
     }
 
     public InputBits getNewlyIntroducedInputs(){
@@ -1158,10 +1550,64 @@ public class Context {
         return this;
     }
 
+    public Context setSparseEvaluation(boolean sparseEvaluation) {
+        this.sparseEvaluation = sparseEvaluation;
+        return this;
+    }
+
+    public boolean usesSparseEvaluation() {
+        return sparseEvaluation;
+    }
+
+    /**
+     * Cache the results of the replacements of values per branch? Only disabled to compare the results
+     */
+    public Context setCacheReplacements(boolean cacheReplacements) {
+        this.cacheReplacements = cacheReplacements;
+        return this;
+    }
+
+    public Context setIterationStrategy(FixpointIteration.Strategy iterationStrategy) {
+        this.iterationStrategy = iterationStrategy;
+        return this;
+    }
+
+    public FixpointIteration.Strategy getIterationStrategy() {
+        return iterationStrategy;
+    }
+
+    void addStatementVisits(long visits) {
+        statementVisits += visits;
+    }
+
+    public long getStatementVisitCount() {
+        return statementVisits;
+    }
+
+    public long getEvaluationCount() {
+        return evaluations;
+    }
+
+    public long getRecomputationCount() {
+        return recomputations;
+    }
+
     public boolean recordsAlternatives() {
         return recordAlternatives;
     }
 
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean usesReplacements() {
+        return useReplacements;
+    }
+
+    public boolean usesSimplifiedHeuristic() {
+        return useSimplifiedHeuristic;
+    }
+
     public boolean hasAlternatives() {
         return recordAlternatives && alternativeBits.size() > 0;
     }
@@ -1170,6 +1616,7 @@ public class Context {
         frames.clear();
         frames.push(new Frame(new CallPath(), new HashSet<>(), new State(outputState)));
         frame = frames.peek();
+        invalidateReplaceCache();
     }
 
     public void resetFrames() {
@@ -0,0 +1,60 @@
+package nildumu;
+
+import java.util.*;
+
+import static nildumu.Parser.*;
+
+/**
+ * Def-use edges of the SSA form: the nodes that use the value of a node or a variable as a parameter.
+ * <p>
+ * The edges of a node are recorded once, when the node is evaluated for the first time (the SSA resolution
+ * is done at this point), this also covers the bodies of methods that are only reached via calls.
+ */
+class DefUseGraph {
+
+    private final Set<MJNode> registered = new HashSet<>();
+
+    private final Map<MJNode, List<MJNode>> nodeUses = new HashMap<>();
+
+    private final Map<Variable, List<MJNode>> variableUses = new HashMap<>();
+
+    boolean isRegistered(MJNode node) {
+        return registered.contains(node);
+    }
+
+    /**
+     * Records the node as a use of its parameters
+     *
+     * @param paramNodes parameter nodes, as returned by {@link Context#paramNode(MJNode)}
+     */
+    void register(MJNode node, List<MJNode> paramNodes) {
+        if (!registered.add(node)) {
+            return;
+        }
+        for (MJNode param : paramNodes) {
+            if (param instanceof VariableAccessNode && ((VariableAccessNode) param).definingExpression == null) {
+                addUse(variableUses, ((VariableAccessNode) param).definition, node);
+            } else {
+                addUse(nodeUses, param, node);
+            }
+        }
+        if (node instanceof MethodInvocationNode) {
+            ((MethodInvocationNode) node).globalDefs.values().forEach(p -> addUse(variableUses, p.first, node));
+        }
+    }
+
+    private static <T> void addUse(Map<T, List<MJNode>> uses, T def, MJNode node) {
+        List<MJNode> list = uses.computeIfAbsent(def, d -> new ArrayList<>(2));
+        if (!list.contains(node)) {
+            list.add(node);
+        }
+    }
+
+    List<MJNode> uses(MJNode node) {
+        return nodeUses.getOrDefault(node, Collections.emptyList());
+    }
+
+    List<MJNode> uses(Variable variable) {
+        return variableUses.getOrDefault(variable, Collections.emptyList());
+    }
+}
@@ -43,10 +43,152 @@ public class FixpointIteration {
         }
     }
 
+    /**
+     * Strategy that decides the order in which {@link #worklist2} visits the pending statements
+     */
+    public enum Strategy {
+        /**
+         * Pushes the children of every changed statement onto a stack, a statement might be pending multiple times
+         */
+        STACK,
+        /**
+         * Visits the pending statement with the lowest reverse postorder position first,
+         * every statement is pending at most once
+         */
+        PRIORITY
+    }
+
+    /**
+     * Pending statements of the fix point iteration
+     */
+    private interface Worklist {
+
+        void push(Parser.MJNode node);
+
+        Parser.MJNode pop();
+
+        boolean isEmpty();
+    }
+
+    private static class StackWorklist implements Worklist {
+
+        private final Stack<Parser.MJNode> stack = new Stack<>();
+
+        @Override
+        public void push(Parser.MJNode node) {
+            stack.push(node);
+        }
+
+        @Override
+        public Parser.MJNode pop() {
+            return stack.pop();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return stack.isEmpty();
+        }
+    }
+
+    /**
+     * Binary min heap of the reverse postorder positions of the pending statements, ignores statements that
+     * are already pending.
+     * <p/>
+     * The statements form a tree (with the back edges from the end of each loop to its loop statement),
+     * the reverse postorder of this graph is therefore the preorder of the tree.
+     */
+    private static class PriorityWorklist implements Worklist {
+
+        private final Map<Parser.MJNode, Integer> positions = new HashMap<>();
+
+        private final List<Parser.MJNode> nodes = new ArrayList<>();
+
+        private final BitSet pending = new BitSet();
+
+        private int[] heap = new int[16];
+
+        private int size = 0;
+
+        PriorityWorklist(Parser.MJNode root) {
+            Stack<Parser.MJNode> stack = new Stack<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Parser.MJNode node = stack.pop();
+                if (positions.containsKey(node)) {
+                    continue;
+                }
+                positions.put(node, nodes.size());
+                nodes.add(node);
+                List<Parser.MJNode> children = statementChildren(node);
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    stack.push(children.get(i));
+                }
+            }
+        }
+
+        @Override
+        public void push(Parser.MJNode node) {
+            Integer position = positions.get(node);
+            if (position == null) {
+                position = nodes.size();
+                positions.put(node, position);
+                nodes.add(node);
+            }
+            if (pending.get(position)) {
+                return;
+            }
+            pending.set(position);
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            int i = size++;
+            while (i > 0 && heap[(i - 1) / 2] > position) {
+                heap[i] = heap[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            heap[i] = position;
+        }
+
+        @Override
+        public Parser.MJNode pop() {
+            int position = heap[0];
+            int last = heap[--size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= last) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            pending.clear(position);
+            return nodes.get(position);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    private static boolean isVisitedStatement(BaseAST node) {
+        return node instanceof Parser.MJNode && !(node instanceof Parser.ExpressionNode) && !(node instanceof Parser.MethodNode);
+    }
+
+    private static List<Parser.MJNode> statementChildren(Parser.MJNode node) {
+        return node.children().stream().filter(FixpointIteration::isVisitedStatement)
+                .map(c -> (Parser.MJNode) c).collect(Collectors.toList());
+    }
+
     /**
      * Fix point iterates in topological order. Also walks the expressions.
      * <p/>
-     * Visits every node at least once. Uses the worklist algorithm
+     * Visits every node at least once. Uses the worklist algorithm with the {@link Strategy#STACK} strategy
      *  @param nodeVisitor returns true if something changed
      * @param node node to start iterating on
      */
@@ -54,16 +196,35 @@ public class FixpointIteration {
                                  Parser.MJNode node, Set<Parser.StatementNode> statementNodesToOmitOneTime,
                                  Predicate<Parser.BinaryOperatorNode> evalSecondArgument,
                                  Consumer<Parser.BinaryOperatorNode> runAfterEvalSecondArgument){
+        worklist2(Strategy.STACK, nodeVisitor, expressionConsumer, node, statementNodesToOmitOneTime, evalSecondArgument,
+                runAfterEvalSecondArgument);
+    }
+
+    /**
+     * Fix point iterates in topological order. Also walks the expressions.
+     * <p/>
+     * Visits every node at least once. Uses the worklist algorithm
+     *  @param strategy order in which the pending nodes are visited
+     *  @param nodeVisitor returns true if something changed
+     * @param node node to start iterating on
+     * @return number of visited statement nodes
+     */
+    public static long worklist2(Strategy strategy, Parser.NodeVisitor<Boolean> nodeVisitor, Consumer<Parser.ExpressionNode> expressionConsumer,
+                                 Parser.MJNode node, Set<Parser.StatementNode> statementNodesToOmitOneTime,
+                                 Predicate<Parser.BinaryOperatorNode> evalSecondArgument,
+                                 Consumer<Parser.BinaryOperatorNode> runAfterEvalSecondArgument){
         assert !(node instanceof Parser.ExpressionNode);
         Set<Parser.MJNode> visitedBefore = new HashSet<>();
-        Stack<Parser.MJNode> nodesToVisit = new Stack<>();
-        nodesToVisit.add(node);
+        Worklist nodesToVisit = strategy == Strategy.STACK ? new StackWorklist() : new PriorityWorklist(node);
+        nodesToVisit.push(node);
+        long visits = 0;
         while (!nodesToVisit.isEmpty()){
             if (Thread.interrupted()){
                 Thread.currentThread().interrupt();
-                return;
+                return visits;
             }
             Parser.MJNode curNode = nodesToVisit.pop();
+            visits++;
             if (curNode instanceof Parser.WhileStatementNode){
                 for (Parser.VariableAssignmentNode preCondVarAss : ((Parser.WhileStatementNode) curNode).getPreCondVarAss()) {
                     for (BaseAST childNode : preCondVarAss.children()){
@@ -93,21 +254,22 @@ public class FixpointIteration {
             if (somethingChanged || !visitedBefore.contains(curNode)) {
                 visitedBefore.add(curNode);
                 if (curNode instanceof Parser.WhileStatementEndNode){
-                    nodesToVisit.add(((Parser.WhileStatementEndNode) curNode).whileStatement);
+                    nodesToVisit.push(((Parser.WhileStatementEndNode) curNode).whileStatement);
                 } else {
-                    List<BaseAST> children = curNode.children();
-                    List<Parser.MJNode> nodesToAdd = children.stream().filter(c -> {
+                    List<Parser.MJNode> nodesToAdd = statementChildren(curNode).stream().filter(c -> {
                         if (statementNodesToOmitOneTime.contains(c)) {
                             statementNodesToOmitOneTime.remove(c);
                             return false;
                         }
-                        return c instanceof Parser.MJNode && !(c instanceof Parser.ExpressionNode) && !(c instanceof Parser.MethodNode);
-                    }).map(c -> (Parser.MJNode) c).collect(Collectors.toList());
-                    Collections.reverse(nodesToAdd);
-                    nodesToVisit.addAll(nodesToAdd);
+                        return true;
+                    }).collect(Collectors.toList());
+                    for (int i = nodesToAdd.size() - 1; i >= 0; i--) {
+                        nodesToVisit.push(nodesToAdd.get(i));
+                    }
                 }
             }
         }
+        return visits;
     }
 
     /**
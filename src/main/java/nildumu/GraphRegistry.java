@@ -15,9 +15,7 @@ public class GraphRegistry {
 
     private List<Utils.Quadruple<Pair<String, String>, BitGraph, String, Boolean>> bitGraphsPerTopic = new ArrayList<>();
 
-    private static GraphRegistry instance = new GraphRegistry();
-
-    private GraphRegistry(){
+    GraphRegistry(){
     }
 
     public boolean enabled(){
@@ -37,8 +35,11 @@ public class GraphRegistry {
         bitGraphsPerTopic.clear();
     }
 
+    /**
+     * Registry of the current {@link AnalysisSession}
+     */
     public static GraphRegistry get() {
-        return instance;
+        return AnalysisSession.current().getGraphRegistry();
     }
 
     /**
@@ -144,10 +144,17 @@ public class InputBits {
     }
 
     public InputBits map(Function<Bit, Bit> transformer){
-        InputBits inputBits = new InputBits(context);
+        return map(context, transformer);
+    }
+
+    /**
+     * Maps the bits and stores the result and the weights of the new bits in the passed context
+     */
+    public InputBits map(Context targetContext, Function<Bit, Bit> transformer){
+        InputBits inputBits = new InputBits(targetContext);
         bitsPerSec.forEach((k, v) -> inputBits.putAll(k, v.keySet().stream()
                 .map(b -> new InputBit(b.location, b.number,
-                        context.weight(transformer.apply(b.bit), context.weight(b.bit))))
+                        targetContext.weight(transformer.apply(b.bit), context.weight(b.bit))))
                 .collect(Collectors.toSet())));
         return inputBits;
     }
@@ -2,6 +2,7 @@ package nildumu;
 
 import nildumu.intervals.Interval;
 import nildumu.intervals.Intervals;
+import nildumu.util.SparseBitmap;
 import nildumu.util.Util;
 import swp.util.Pair;
 
@@ -603,19 +604,247 @@ public class Lattices {
         DependencySet copy();
     }
 
-    public static class DependencySetImpl extends HashSet<Bit> implements DependencySet {
+    /**
+     * Adaptive dependency set, the bits are kept sorted by their {@link Bit#bitNo}. Tiny sets are stored inline in
+     * fields, medium sets in a sorted {@code long[]} of bit numbers (with a parallel array of bits) and large sets
+     * use a {@link SparseBitmap} over the bit numbers instead of the {@code long[]}.
+     * <p/>
+     * Large sets still keep the array of bits: the bitmap only answers membership and rank queries on bit numbers,
+     * there is no mapping from bit numbers back to bits, so iteration and {@link #get(int)} need the array.
+     */
+    public static class DependencySetImpl extends AbstractSet<Bit> implements DependencySet {
+
+        static final int INLINE_CAPACITY = 3;
+
+        /**
+         * Sets with more elements use a bitmap to find the bits
+         */
+        static final int SORTED_ARRAY_CAPACITY = 64;
+
+        private int size = 0;
+
+        private Bit b0, b1, b2;
+
+        /**
+         * Bits sorted by their number, null while the set is stored inline. Needed for all other sets, as the
+         * bit numbers in {@link #keys} and {@link #bitmap} cannot be mapped back to bits
+         */
+        private Bit[] bits;
+
+        /**
+         * Bit numbers of {@link #bits}, used for medium sized sets
+         */
+        private long[] keys;
+
+        /**
+         * Used instead of {@link #keys} for large sets
+         */
+        private SparseBitmap bitmap;
+
+        /**
+         * Frozen sets are shared between bits (see {@link DependencySetPool}) and cannot be modified,
+         * bits copy them on write
+         */
+        private boolean frozen = false;
+
+        /**
+         * Cached hash code of frozen sets
+         */
+        private int hash = 0;
 
         private DependencySetImpl(Collection<? extends Bit> c) {
-            super(c);
+            if (c instanceof DependencySetImpl) {
+                initFrom((DependencySetImpl) c);
+                return;
+            }
+            if (c.isEmpty()) {
+                return;
+            }
+            Bit[] arr = c.toArray(new Bit[0]);
+            Arrays.sort(arr, BIT_NO_COMPARATOR);
+            int length = 0;
+            for (Bit bit : arr) {
+                if (length == 0 || arr[length - 1].bitNo != bit.bitNo) {
+                    arr[length++] = bit;
+                }
+            }
+            initFromSorted(arr, length);
         }
 
         private DependencySetImpl(Bit bit){
-            this(Collections.singleton(bit));
+            b0 = bit;
+            size = 1;
+        }
+
+        private DependencySetImpl(Bit[] sortedBits, int length) {
+            initFromSorted(sortedBits, length);
+        }
+
+        private void initFrom(DependencySetImpl other) {
+            size = other.size;
+            b0 = other.b0;
+            b1 = other.b1;
+            b2 = other.b2;
+            if (other.bits != null) {
+                bits = Arrays.copyOf(other.bits, other.bits.length);
+                keys = other.keys == null ? null : Arrays.copyOf(other.keys, other.keys.length);
+                bitmap = other.bitmap == null ? null : new SparseBitmap(other.bitmap);
+            }
+        }
+
+        /**
+         * Uses the passed array (without copying it) if it is needed
+         */
+        private void initFromSorted(Bit[] sortedBits, int length) {
+            size = length;
+            if (length <= INLINE_CAPACITY) {
+                b0 = length > 0 ? sortedBits[0] : null;
+                b1 = length > 1 ? sortedBits[1] : null;
+                b2 = length > 2 ? sortedBits[2] : null;
+                return;
+            }
+            bits = sortedBits;
+            long[] bitNos = new long[Math.max(length, sortedBits.length)];
+            for (int i = 0; i < length; i++) {
+                bitNos[i] = sortedBits[i].bitNo;
+            }
+            if (length > SORTED_ARRAY_CAPACITY) {
+                bitmap = new SparseBitmap(bitNos, length);
+            } else {
+                keys = bitNos;
+            }
+        }
+
+        /**
+         * Returns the i-th bit (sorted by the bit numbers)
+         */
+        Bit get(int i) {
+            if (bits != null) {
+                return bits[i];
+            }
+            switch (i) {
+                case 0:
+                    return b0;
+                case 1:
+                    return b1;
+                default:
+                    return b2;
+            }
+        }
+
+        /**
+         * Like {@link Arrays#binarySearch(long[], long)}
+         */
+        private int indexOf(long bitNo) {
+            if (bits == null) {
+                for (int i = 0; i < size; i++) {
+                    long cur = get(i).bitNo;
+                    if (cur == bitNo) {
+                        return i;
+                    }
+                    if (cur > bitNo) {
+                        return -i - 1;
+                    }
+                }
+                return -size - 1;
+            }
+            if (keys != null) {
+                return Arrays.binarySearch(keys, 0, size, bitNo);
+            }
+            return bitmap.indexOf(bitNo);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Bit)) {
+                return false;
+            }
+            long bitNo = ((Bit) o).bitNo;
+            if (bitmap != null) {
+                return bitmap.contains(bitNo);
+            }
+            return indexOf(bitNo) >= 0;
+        }
+
+        /**
+         * Makes this set immutable, so that it can be shared
+         */
+        public DependencySetImpl freeze() {
+            if (!frozen) {
+                hash = computeHashCode();
+                frozen = true;
+            }
+            return this;
+        }
+
+        public boolean isFrozen() {
+            return frozen;
+        }
+
+        private void checkMutable() {
+            if (frozen) {
+                throw new UnsupportedOperationException("Shared dependency sets cannot be modified");
+            }
         }
 
         @Override
         public boolean add(Bit bit) {
-            return super.add(bit);
+            checkMutable();
+            int index = indexOf(bit.bitNo);
+            if (index >= 0) {
+                return false;
+            }
+            insert(-index - 1, bit);
+            return true;
+        }
+
+        private void insert(int index, Bit bit) {
+            if (bits == null) {
+                if (size < INLINE_CAPACITY) {
+                    switch (index) {
+                        case 0:
+                            b2 = b1;
+                            b1 = b0;
+                            b0 = bit;
+                            break;
+                        case 1:
+                            b2 = b1;
+                            b1 = bit;
+                            break;
+                        default:
+                            b2 = bit;
+                    }
+                    size++;
+                    return;
+                }
+                Bit[] newBits = new Bit[INLINE_CAPACITY * 4];
+                keys = new long[newBits.length];
+                for (int i = 0; i < size; i++) {
+                    newBits[i] = get(i);
+                    keys[i] = newBits[i].bitNo;
+                }
+                bits = newBits;
+                b0 = b1 = b2 = null;
+            }
+            if (size == bits.length) {
+                bits = Arrays.copyOf(bits, size * 2);
+                if (keys != null) {
+                    keys = Arrays.copyOf(keys, size * 2);
+                }
+            }
+            System.arraycopy(bits, index, bits, index + 1, size - index);
+            bits[index] = bit;
+            if (keys != null) {
+                System.arraycopy(keys, index, keys, index + 1, size - index);
+                keys[index] = bit.bitNo;
+                if (size + 1 > SORTED_ARRAY_CAPACITY) {
+                    bitmap = new SparseBitmap(keys, size + 1);
+                    keys = null;
+                }
+            } else {
+                bitmap.add(bit.bitNo);
+            }
+            size++;
         }
 
         @Override
@@ -626,7 +855,33 @@ public class Lattices {
         @Override
         public boolean remove(Object o) {
             assert o instanceof Bit && ((Bit) o).val == X;
-            return super.remove(o);
+            checkMutable();
+            int index = indexOf(((Bit) o).bitNo);
+            if (index < 0) {
+                return false;
+            }
+            if (bits == null) {
+                switch (index) {
+                    case 0:
+                        b0 = b1;
+                        b1 = b2;
+                        break;
+                    case 1:
+                        b1 = b2;
+                        break;
+                }
+                b2 = null;
+            } else {
+                System.arraycopy(bits, index + 1, bits, index, size - index - 1);
+                bits[size - 1] = null;
+                if (keys != null) {
+                    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+                } else {
+                    bitmap.remove(((Bit) o).bitNo);
+                }
+            }
+            size--;
+            return true;
         }
 
         @Override
@@ -634,6 +889,47 @@ public class Lattices {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Bit> iterator() {
+            return new Iterator<Bit>() {
+                int i = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return i < size;
+                }
+
+                @Override
+                public Bit next() {
+                    if (i >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return get(i++);
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Consumer<? super Bit> action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(get(i));
+            }
+        }
+
+        @Override
+        public Object[] toArray() {
+            Object[] arr = new Object[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = get(i);
+            }
+            return arr;
+        }
+
         @Override
         public String toString() {
             return DependencySetLattice.get().toString(this);
@@ -645,30 +941,118 @@ public class Lattices {
 
         public Bit getSingleBit(){
             assert size() == 1;
-            return iterator().next();
+            return get(0);
         }
 
         public DependencySet map(Function<Bit, Bit> mapper){
-            return stream().map(b -> {
+            Bit[] mapped = new Bit[size];
+            for (int i = 0; i < size; i++) {
+                Bit b = get(i);
                 Bit c = mapper.apply(b);
                 if (c == null){
                     throw new NullPointerException(b.toString());
                 }
-                return c;
-            }).collect(DependencySetImpl.collector());
+                mapped[i] = c;
+            }
+            return new DependencySetImpl(Arrays.asList(mapped));
         }
 
         @Override
         public boolean equals(Object o) {
-            return (o instanceof DependencySetImpl && super.equals(o)) || (o instanceof EmptyDependencySet && this.isEmpty());
+            if (o == this) {
+                return true;
+            }
+            if (o instanceof EmptyDependencySet) {
+                return isEmpty();
+            }
+            if (!(o instanceof DependencySetImpl)) {
+                return false;
+            }
+            DependencySetImpl other = (DependencySetImpl) o;
+            if (size != other.size || (frozen && other.frozen && hash != other.hash)) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (get(i).bitNo != other.get(i).bitNo) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return frozen ? hash : computeHashCode();
+        }
+
+        private int computeHashCode() {
+            int h = 0;
+            for (int i = 0; i < size; i++) {
+                h += get(i).hashCode();
+            }
+            return h;
         }
 
         @Override
         public DependencySet copy() {
             return new DependencySetImpl(this);
         }
+
+        /**
+         * Union of both sorted sets via a linear merge
+         */
+        static DependencySetImpl union(DependencySetImpl a, DependencySetImpl b) {
+            Bit[] merged = new Bit[a.size + b.size];
+            int i = 0, j = 0, length = 0;
+            while (i < a.size && j < b.size) {
+                Bit x = a.get(i);
+                Bit y = b.get(j);
+                if (x.bitNo < y.bitNo) {
+                    merged[length++] = x;
+                    i++;
+                } else if (x.bitNo > y.bitNo) {
+                    merged[length++] = y;
+                    j++;
+                } else {
+                    merged[length++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            for (; i < a.size; i++) {
+                merged[length++] = a.get(i);
+            }
+            for (; j < b.size; j++) {
+                merged[length++] = b.get(j);
+            }
+            return new DependencySetImpl(merged, length);
+        }
+
+        /**
+         * Intersection of both sorted sets via a linear merge
+         */
+        static DependencySetImpl intersection(DependencySetImpl a, DependencySetImpl b) {
+            Bit[] merged = new Bit[Math.min(a.size, b.size)];
+            int i = 0, j = 0, length = 0;
+            while (i < a.size && j < b.size) {
+                Bit x = a.get(i);
+                Bit y = b.get(j);
+                if (x.bitNo < y.bitNo) {
+                    i++;
+                } else if (x.bitNo > y.bitNo) {
+                    j++;
+                } else {
+                    merged[length++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            return new DependencySetImpl(merged, length);
+        }
     }
 
+    private static final Comparator<Bit> BIT_NO_COMPARATOR = Comparator.comparingLong(b -> b.bitNo);
+
     /**
      * Empty dependency set, used for all bits except of unknown bits.
      */
@@ -734,6 +1118,15 @@ public class Lattices {
         @Deprecated
         @Override
         public DependencySet sup(DependencySet a, DependencySet b) {
+            if (a instanceof DependencySetImpl && b instanceof DependencySetImpl) {
+                return DependencySetImpl.union((DependencySetImpl) a, (DependencySetImpl) b);
+            }
+            if (a instanceof EmptyDependencySet) {
+                return new DependencySetImpl(b);
+            }
+            if (b instanceof EmptyDependencySet) {
+                return new DependencySetImpl(a);
+            }
             return super.sup(a, b);
         }
 
@@ -746,6 +1139,12 @@ public class Lattices {
         @Deprecated
         @Override
         public DependencySet inf(DependencySet a, DependencySet b) {
+            if (a instanceof DependencySetImpl && b instanceof DependencySetImpl) {
+                return DependencySetImpl.intersection((DependencySetImpl) a, (DependencySetImpl) b);
+            }
+            if (a instanceof EmptyDependencySet || b instanceof EmptyDependencySet) {
+                return bot();
+            }
             return super.inf(a, b);
         }
 
@@ -754,6 +1153,61 @@ public class Lattices {
         }
     }
 
+    /**
+     * Interning table for dependency sets: stores every distinct set once (frozen) and shares it between all
+     * bits that have the same dependencies. Bits modify their dependencies copy-on-write.
+     */
+    public static class DependencySetPool {
+
+        private final Map<DependencySet, DependencySetImpl> sets = new HashMap<>();
+
+        private long requests = 0;
+
+        private long hits = 0;
+
+        /**
+         * Returns the shared version of the passed set, the passed set should not be modified afterwards
+         */
+        public DependencySet intern(DependencySet set) {
+            requests++;
+            if (set.isEmpty()) {
+                hits++;
+                return ds.empty();
+            }
+            DependencySetImpl existing = sets.get(set);
+            if (existing != null) {
+                hits++;
+                return existing;
+            }
+            DependencySetImpl impl = (set instanceof DependencySetImpl ? (DependencySetImpl) set : new DependencySetImpl(set)).freeze();
+            sets.put(impl, impl);
+            return impl;
+        }
+
+        /**
+         * Number of distinct sets
+         */
+        public int size() {
+            return sets.size();
+        }
+
+        public long requests() {
+            return requests;
+        }
+
+        /**
+         * Ratio of intern requests that were answered with an already existing set
+         */
+        public double sharingRatio() {
+            return requests == 0 ? 0 : hits / (double) requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("dependency sets: %d distinct, %d requests, sharing ratio %.3f", size(), requests, sharingRatio());
+        }
+    }
+
     public static final DependencySetLattice ds = DependencySetLattice.get();
     public static final B bs = B.U;
     public static final BitLattice bl = BitLattice.get();
@@ -855,21 +1309,30 @@ public class Lattices {
         }
 
         public void walkBits(Bit startBit, Consumer<Bit> consumer, Predicate<Bit> ignoreBit, Set<Bit> alreadyVisitedBits){
-            Stack<Bit> bitsToVisit = new Stack<>();
+            ArrayDeque<Bit> bitsToVisit = new ArrayDeque<>();
             if (ignoreBit.test(startBit)){
                 return;
             }
-            bitsToVisit.push(startBit);
+            bitsToVisit.addLast(startBit);
             while (!bitsToVisit.isEmpty()){
-                Bit cur = bitsToVisit.pop();
-                if (alreadyVisitedBits.contains(cur)){
+                Bit cur = bitsToVisit.pollLast();
+                if (!alreadyVisitedBits.add(cur)){
                     continue;
                 }
                 consumer.accept(cur);
                 if (!ignoreBit.test(cur)){
-                    bitsToVisit.addAll(cur.deps);
+                    if (cur.deps instanceof DependencySetImpl){
+                        DependencySetImpl deps = (DependencySetImpl) cur.deps;
+                        for (int i = 0; i < deps.size; i++) {
+                            Bit dep = deps.get(i);
+                            if (!alreadyVisitedBits.contains(dep)){
+                                bitsToVisit.addLast(dep);
+                            }
+                        }
+                    } else {
+                        bitsToVisit.addAll(cur.deps);
+                    }
                 }
-                alreadyVisitedBits.add(cur);
             }
         }
 
@@ -957,8 +1420,6 @@ public class Lattices {
 
     public static class Bit implements LatticeElement<Bit, BitLattice> {
 
-        private static long NUMBER_OF_BITS = 0;
-
         public static boolean toStringGivesBitNo = false;
 
         private B val;
@@ -977,7 +1438,7 @@ public class Lattices {
         private Bit(B val, DependencySet deps) {
             this.val = val;
             this.deps = deps;
-            this.bitNo = NUMBER_OF_BITS++;
+            this.bitNo = AnalysisSession.current().nextBitNo();
             assert checkInvariant();
         }
 
@@ -1049,6 +1510,10 @@ public class Lattices {
             return this;
         }
 
+        public int valueIndex(){
+            return valueIndex;
+        }
+
         public Value value(){
             return value;
         }
@@ -1073,11 +1538,11 @@ public class Lattices {
         }
 
         public static long getNumberOfCreatedBits(){
-            return NUMBER_OF_BITS;
+            return AnalysisSession.current().getNumberOfCreatedBits();
         }
 
         public static void resetNumberOfCreatedBits(){
-            NUMBER_OF_BITS = 0;
+            AnalysisSession.current().resetNumberOfCreatedBits();
         }
 
         public String uniqueId(){
@@ -1091,6 +1556,12 @@ public class Lattices {
             if (deps instanceof EmptyDependencySet){
                 deps = new DependencySetImpl(newDependency);
             } else {
+                if (isShared(deps)){
+                    if (deps.contains(newDependency)){
+                        return;
+                    }
+                    deps = new DependencySetImpl(deps);
+                }
                 deps.add(newDependency);
             }
         }
@@ -1106,6 +1577,19 @@ public class Lattices {
             }
         }
 
+        /**
+         * Alters the dependencies and interns the resulting set
+         */
+        public void alterDependencies(Function<Bit, Bit> transformer, DependencySetPool pool){
+            if (deps.size() > 0){
+                this.deps = pool.intern(deps.map(transformer));
+            }
+        }
+
+        private static boolean isShared(DependencySet deps){
+            return deps instanceof DependencySetImpl && ((DependencySetImpl) deps).isFrozen();
+        }
+
         public void setVal(B newVal){
             assert bs.greaterEqualsThan(newVal, val);
             this.val = newVal;
@@ -1120,12 +1604,24 @@ public class Lattices {
         }
 
 
+        /**
+         * The copy shares the dependency set with this bit, both copy it on write
+         */
         public Bit copy(){
+            if (deps instanceof DependencySetImpl){
+                return new Bit(val, ((DependencySetImpl) deps).freeze());
+            }
             return new Bit(val, deps.copy());
         }
 
         public void removeXDependency(Bit bit) {
             assert bit.val == X;
+            if (isShared(deps)){
+                if (!deps.contains(bit)){
+                    return;
+                }
+                deps = new DependencySetImpl(deps);
+            }
             deps.remove(bit);
         }
 
@@ -1139,7 +1635,7 @@ public class Lattices {
 
         @Override
         public int hashCode() {
-            return Objects.hash(bitNo);
+            return Long.hashCode(bitNo);
         }
 
         public Set<Bit> calculateReachedBits(Set<Bit> bitsToReach){
@@ -1167,10 +1663,19 @@ public class Lattices {
 
     public static class ValueLattice implements Lattice<Value> {
 
-        public int bitWidth = 32;
-
         private static final ValueLattice lattice = new ValueLattice();
 
+        /**
+         * Bit width of the values in the current {@link AnalysisSession}
+         */
+        public int getBitWidth() {
+            return AnalysisSession.current().bitWidth;
+        }
+
+        public void setBitWidth(int bitWidth) {
+            AnalysisSession.current().bitWidth = bitWidth;
+        }
+
         private static final Value BOT = ValueLattice.get().parse("0bxx");
 
         @Deprecated
@@ -1251,15 +1756,22 @@ public class Lattices {
         }
 
         public <R> List<R> mapBits(Value a, Value b, BiFunction<Bit, Bit, R> transformer) {
+            return mapBits(a, b, transformer, mappedWidth(a, b));
+        }
+
+        /**
+         * Number of bits that {@link #mapBits(Value, Value, BiFunction)} considers
+         */
+        public int mappedWidth(Value a, Value b) {
             int width = Math.max(a.size(), b.size());
             if (!a.hasArbitraryWidth() && !b.hasArbitraryWidth()){
-                width = Math.min(width, bitWidth);
+                width = Math.min(width, getBitWidth());
             }
-            return mapBits(a, b, transformer, width);
+            return width;
         }
 
         public <R> List<R> mapBits(Value a, Value b, BiFunction<Bit, Bit, R> transformer, int width) {
-            List<R> res = new ArrayList<>();
+            List<R> res = new ArrayList<>(width);
             for (int i = 1; i <= width; i++){
                 res.add(transformer.apply(a.get(i), b.get(i)));
             }
@@ -1310,7 +1822,7 @@ public class Lattices {
         public Value(List<Bit> bits) {
             //assert bits.size() > 1;
             this.bits = new ArrayList<>(bits);
-            for (int i = 0; i < Math.min(bits.size(), vl == null ? 1000 : vl.bitWidth); i++) {
+            for (int i = 0; i < Math.min(bits.size(), vl == null ? 1000 : vl.getBitWidth()); i++) {
                 Bit bit = bits.get(i);
                 bit.valueIndex(i + 1);
                 bit.value(this);
@@ -1329,7 +1841,7 @@ public class Lattices {
         }
 
         public static Value combine(List<Value> values) {
-            return values.stream().flatMap(v -> v.withBitCountMultipleOf(ValueLattice.get().bitWidth).bits.stream()).collect(Value.collector());
+            return values.stream().flatMap(v -> v.withBitCountMultipleOf(ValueLattice.get().getBitWidth()).bits.stream()).collect(Value.collector());
         }
 
         /**
@@ -1356,7 +1868,18 @@ public class Lattices {
          * Compares the val and the dependencies of bits
          */
         public boolean valueEquals(Value other){
-            return ValueLattice.get().mapBits(this, other, Bit::valueEquals).stream().allMatch(Boolean::booleanValue);
+            int width = vl.mappedWidth(this, other);
+            for (int i = 1; i <= width; i++) {
+                if (get(i).val != other.get(i).val){
+                    return false;
+                }
+            }
+            for (int i = 0; i < width; i++) {
+                if (!bits.get(i).deps.equals(other.bits.get(i).deps)){
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
@@ -1408,7 +1931,12 @@ public class Lattices {
         }
 
         public boolean isConstant(){
-            return (bits.stream().allMatch(Bit::isConstant) && bits.size() > 0);
+            for (int i = 0; i < bits.size(); i++) {
+                if (!bits.get(i).val.isConstant()) {
+                    return false;
+                }
+            }
+            return bits.size() > 0;
         }
 
         public long asLong(){
@@ -1491,7 +2019,7 @@ public class Lattices {
         }
 
         public String toLiteralString(){
-            if (isConstant() && bits.size() <= vl.bitWidth){
+            if (isConstant() && bits.size() <= vl.getBitWidth()){
                 return Long.toString(asLong());
             }
             List<Bit> reversedBits = new ArrayList<>(bits);
@@ -1532,7 +2060,7 @@ public class Lattices {
         }
 
         public void add(Bit bit){
-            //assert bits.size() <= vl.bitWidth;
+            //assert bits.size() <= vl.getBitWidth();
             bits.add(bit);
         }
 
@@ -1554,7 +2082,7 @@ public class Lattices {
 
         static Value createEmpty(){
             Value val = new Value();
-            for (int i = 0; i < vl.bitWidth; i++) {
+            for (int i = 0; i < vl.getBitWidth(); i++) {
                 val.add(new Bit(X));
             }
             return val;
@@ -1565,7 +2093,13 @@ public class Lattices {
         }
 
         public boolean bitValEquals(Value other) {
-            return vl.mapBits(this, other, (a, b) -> a.val() == b.val()).stream().allMatch(Boolean::booleanValue);
+            int width = vl.mappedWidth(this, other);
+            for (int i = 1; i <= width; i++) {
+                if (get(i).val != other.get(i).val){
+                    return false;
+                }
+            }
+            return true;
         }
 
         public boolean endsWithStar(){
@@ -1601,7 +2135,7 @@ public class Lattices {
 
         public Interval getInterval(){
             if (canHaveInterval() && interval == null) {
-                interval = Interval.forBitWidth(vl.bitWidth);
+                interval = Interval.forBitWidth(vl.getBitWidth());
             }
             return interval;
         }
@@ -1646,8 +2180,8 @@ public class Lattices {
         }
 
         public List<Value> split() {
-            assert bits.size() % vl.bitWidth == 0;
-            return split(bits.size() / vl.bitWidth);
+            assert bits.size() % vl.getBitWidth() == 0;
+            return split(bits.size() / vl.getBitWidth());
         }
 
         public List<Value> split(int partCount) {
@@ -1807,12 +2341,12 @@ public class Lattices {
         }
 
         public AppendOnlyValue append(Value value){
-            return append(value, vl.bitWidth);
+            return append(value, vl.getBitWidth());
         }
 
         public static AppendOnlyValue createEmpty() {
             AppendOnlyValue val = new AppendOnlyValue();
-            for (int i = 0; i < vl.bitWidth; i++) {
+            for (int i = 0; i < vl.getBitWidth(); i++) {
                 val.add(new Bit(E));
             }
             return val;
@@ -1,8 +1,11 @@
 package nildumu;
 
+import nildumu.solver.JavaMaxSATSolver;
 import nildumu.solver.PMSATSolverImpl;
+import nildumu.solver.Solver;
 import nildumu.solver.SolverBasedLeakageAlgorithm;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -13,10 +16,56 @@ import static nildumu.Context.INFTY;
 
 public abstract class LeakageAlgorithm {
 
-    public static Algo usedAlgo = Algo.GRAPHT_PP;
     protected final SourcesAndSinks sourcesAndSinks;
     protected final Function<Lattices.Bit, Double> weights;
 
+    /**
+     * Algorithm used by default in the current {@link AnalysisSession}, e.g. for the reduction of summary graphs
+     */
+    public static Algo getUsedAlgo() {
+        return AnalysisSession.current().usedAlgo;
+    }
+
+    public static void setUsedAlgo(Algo algo) {
+        AnalysisSession.current().usedAlgo = algo;
+    }
+
+    /**
+     * Cache for the results of {@link Algo#compute(SourcesAndSinks, Function)} in the current {@link AnalysisSession},
+     * null if results are not cached
+     */
+    public static LeakageCache getUsedCache() {
+        return AnalysisSession.current().usedCache;
+    }
+
+    public static void setUsedCache(LeakageCache cache) {
+        AnalysisSession.current().usedCache = cache;
+    }
+
+    /**
+     * Does {@link Algo#compute(SourcesAndSinks, Function)} skip the computation if the {@link LeakageBounds} are tight
+     * in the current {@link AnalysisSession}? Enabled by default
+     */
+    public static boolean usesBounds() {
+        return AnalysisSession.current().useBounds;
+    }
+
+    public static void setUseBounds(boolean useBounds) {
+        AnalysisSession.current().useBounds = useBounds;
+    }
+
+    /**
+     * Do the solver based algorithms simplify their formulas with the {@link nildumu.solver.Preprocessor}
+     * in the current {@link AnalysisSession}? Enabled by default
+     */
+    public static boolean usesPreprocessing() {
+        return AnalysisSession.current().usePreprocessing;
+    }
+
+    public static void setUsePreprocessing(boolean usePreprocessing) {
+        AnalysisSession.current().usePreprocessing = usePreprocessing;
+    }
+
     protected LeakageAlgorithm(SourcesAndSinks sourcesAndSinks, Function<Lattices.Bit, Double> weights) {
         this.sourcesAndSinks = sourcesAndSinks;
         this.weights = weights;
@@ -24,12 +73,24 @@ public abstract class LeakageAlgorithm {
 
     public abstract ComputationResult compute();
 
+    /**
+     * Stops a running {@link #compute()} call from another thread if possible, the call then fails
+     * with an exception. Algorithms that cannot be stopped ignore it and run to completion.
+     */
+    public void cancel() {
+    }
+
     /** Factory */
     public enum Algo {
         GRAPHT_PP("JGraphT Preflow-Push", "JGT", 0, MinCut.GraphTPP::new),
+        DINIC("Dinic (array based)", "DIN", 0, MinCut.Dinic::new),
         OPENWBO_GLUCOSE("Open-WBO GL PMSAT", "OWG", "Open-WBO/bin/open-wbo-g", ""),
         OPENWBO_MERGESAT("Open-WBO MS PMSAT", "OWM", "Open-WBO/bin/open-wbo-ms", ""),
-        UWRMAXSAT("UWrMaxSat PMSAT", "UWr", "UWrMaxSat-1.1w/bin/uwrmaxsat", "-m");
+        UWRMAXSAT("UWrMaxSat PMSAT", "UWr", "UWrMaxSat-1.1w/bin/uwrmaxsat", "-m"),
+        JAVA_MAXSAT("Java MaxSAT (in process)", "JMS", JavaMaxSATSolver::new),
+        /** Runs all other capable and available algorithms concurrently and uses the first result */
+        PORTFOLIO("Portfolio of all algorithms", "POR",
+                Algo.SUPPORTS_INTERVALS | Algo.SUPPORTS_ALTERNATIVES | Algo.SUPPORTS_OUTPUT, PortfolioLeakageAlgorithm::new);
 
         public static final int SUPPORTS_INTERVALS    = 0b0001;
         public static final int SUPPORTS_ALTERNATIVES = 0b0010;
@@ -39,19 +100,35 @@ public abstract class LeakageAlgorithm {
         public final String shortName;
         public final int capabilities;
         public final BiFunction<SourcesAndSinks, Function<Lattices.Bit, Double>, LeakageAlgorithm> creator;
+        /** External solver binary, null for algorithms that run in process */
+        private final Path binary;
 
         Algo(String description, String shortName, int capabilities, BiFunction<SourcesAndSinks, Function<Lattices.Bit, Double>, LeakageAlgorithm> creator) {
+            this(description, shortName, capabilities, creator, null);
+        }
+
+        Algo(String description, String shortName, int capabilities, BiFunction<SourcesAndSinks, Function<Lattices.Bit, Double>, LeakageAlgorithm> creator, Path binary) {
             this.description = description;
             this.shortName = shortName;
             this.capabilities = capabilities;
             this.creator = creator;
+            this.binary = binary;
         }
 
         /** Helper for PMSAT based algorithms */
         Algo(String description, String shortName, String binaryPath, String options) {
+            this(description, shortName, () -> new PMSATSolverImpl<>(binaryPath, options, false),
+                    PMSATSolverImpl.binary(binaryPath));
+        }
+
+        /** Helper for solver based algorithms */
+        Algo(String description, String shortName, Supplier<Solver<?>> solverSupplier) {
+            this(description, shortName, solverSupplier, null);
+        }
+
+        Algo(String description, String shortName, Supplier<Solver<?>> solverSupplier, Path binary) {
             this(description, shortName, SUPPORTS_INTERVALS | SUPPORTS_ALTERNATIVES | SUPPORTS_OUTPUT,
-                    (ss, weights) -> new SolverBasedLeakageAlgorithm(ss, weights,
-                            () -> new PMSATSolverImpl<>(binaryPath, options, false)));
+                    (ss, weights) -> new SolverBasedLeakageAlgorithm(ss, weights, solverSupplier), binary);
         }
 
         @Override
@@ -63,14 +140,22 @@ public abstract class LeakageAlgorithm {
             return (capabilities & capability) != 0;
         }
 
+        /**
+         * Is the algorithm usable in this installation? Algorithms that use external solvers require
+         * the solver binaries (see the download_solvers script)
+         */
+        public boolean isAvailable() {
+            return binary == null || binary.toFile().exists();
+        }
+
         public <T> T use(Supplier<T> func) {
-            Algo prev = usedAlgo;
-            usedAlgo = this;
+            Algo prev = getUsedAlgo();
+            setUsedAlgo(this);
             T t;
             try {
                 t = func.get();
             } finally {
-                usedAlgo = prev;
+                setUsedAlgo(prev);
             }
             return t;
         }
@@ -98,15 +183,23 @@ public abstract class LeakageAlgorithm {
         }
 
         public ComputationResult compute(SourcesAndSinks sourcesAndSinks, Function<Lattices.Bit, Double> weights){
-            con = sourcesAndSinks.context;
             if (!hasRequiredCapabilities(sourcesAndSinks.context)) {
                 throw new NildumuError("Algorithm does not have required capabilities");
             }
+            if (usesBounds()) {
+                LeakageBounds bounds = LeakageBounds.compute(sourcesAndSinks, weights);
+                if (bounds.isTight()) {
+                    return bounds.toResult();
+                }
+            }
+            LeakageCache cache = getUsedCache();
+            if (cache != null) {
+                return cache.compute(this, sourcesAndSinks, weights, () -> creator.apply(sourcesAndSinks, weights).compute());
+            }
             return creator.apply(sourcesAndSinks, weights).compute();
         }
 
         public ComputationResult compute(Context context, Lattices.Sec<?> sec){
-            con = context;
             if (sec == context.sl.top()){
                 return new ComputationResult(Collections.emptySet(), 0);
             }
@@ -125,14 +218,21 @@ public abstract class LeakageAlgorithm {
         }
     }
 
-    private static Context con;
-
     public static class ComputationResult {
         public final Set<Lattices.Bit> minCut;
         public final double maxFlow;
+        /**
+         * Is the result derived from tight {@link LeakageBounds} instead of being computed by the algorithm?
+         */
+        public final boolean fromBounds;
 
         public ComputationResult(Set<Lattices.Bit> minCut, double maxFlow) {
+            this(minCut, maxFlow, false);
+        }
+
+        public ComputationResult(Set<Lattices.Bit> minCut, double maxFlow, boolean fromBounds) {
             this.minCut = minCut;
+            this.fromBounds = fromBounds;
             if (maxFlow > INFTY){
                 this.maxFlow = INFTY;
             } else {
@@ -0,0 +1,151 @@
+package nildumu;
+
+import nildumu.intervals.Interval;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static nildumu.Context.INFTY;
+import static nildumu.Lattices.*;
+
+/**
+ * Cheap bounds of the leakage of a {@link LeakageAlgorithm.SourcesAndSinks} problem, that only require a walk
+ * over the bit graph.
+ * <p/>
+ * Only the relevant bits (the bits that lie on a path from a source to a sink) are considered. Cutting all relevant
+ * sources (the output bits) or all relevant sinks (the input bits) blocks all paths, the smaller of both weights is
+ * therefore an upper bound. In interval mode, every output value with an interval can be cut at the cost of its
+ * entropy instead. The leakage is at least the weight of the relevant bits that are sources and sinks at once
+ * and at least the smallest weight of a relevant bit (as at least one bit has to be cut if there is a relevant
+ * bit). The lower bounds are only computed without alternatives and intervals, as these allow cutting paths in
+ * other ways.
+ * <p/>
+ * {@link LeakageAlgorithm.Algo#compute(LeakageAlgorithm.SourcesAndSinks, Function)} skips the exact computation if
+ * the bounds are tight and the upper bound is the weight of a cut, e.g. if no output depends on an input.
+ */
+public class LeakageBounds {
+
+    public final double lower;
+
+    public final double upper;
+
+    /**
+     * Cut that has the weight of the upper bound, null if the upper bound is not the weight of a cut
+     */
+    private final Set<Bit> upperCut;
+
+    private LeakageBounds(double lower, double upper, Set<Bit> upperCut) {
+        this.lower = lower;
+        this.upper = upper;
+        this.upperCut = upperCut;
+    }
+
+    public static LeakageBounds compute(Context context, Sec<?> sec) {
+        if (sec == context.sl.top()) {
+            return new LeakageBounds(0, 0, Collections.emptySet());
+        }
+        return compute(context.sourcesAndSinks(sec), context::weight);
+    }
+
+    public static LeakageBounds compute(LeakageAlgorithm.SourcesAndSinks sourcesAndSinks, Function<Bit, Double> weights) {
+        Context context = sourcesAndSinks.context;
+        BitStore store = BitStore.create(sourcesAndSinks.sources);
+        BitSet relevant = ReducedBitGraph.relevantBits(store,
+                sourcesAndSinks.sources.stream().mapToInt(store::id).toArray(),
+                sourcesAndSinks.sinks.stream().mapToInt(store::id).toArray());
+        if (relevant.isEmpty()) {
+            return new LeakageBounds(0, 0, Collections.emptySet());
+        }
+        Set<Bit> relevantSources = new LinkedHashSet<>();
+        Set<Bit> relevantSinks = new LinkedHashSet<>();
+        double minWeight = INFTY;
+        double sourceAndSinkWeight = 0;
+        for (int id = relevant.nextSetBit(0); id >= 0; id = relevant.nextSetBit(id + 1)) {
+            Bit bit = store.bit(id);
+            boolean source = sourcesAndSinks.sources.contains(bit);
+            boolean sink = sourcesAndSinks.sinks.contains(bit);
+            if (source) {
+                relevantSources.add(bit);
+            }
+            if (sink) {
+                relevantSinks.add(bit);
+            }
+            if (source && sink) {
+                sourceAndSinkWeight = sum(sourceAndSinkWeight, weights.apply(bit));
+            }
+            minWeight = Math.min(minWeight, weights.apply(bit));
+        }
+        double sourceWeight = weightSum(relevantSources, weights);
+        double sinkWeight = weightSum(relevantSinks, weights);
+        Set<Bit> upperCut = sourceWeight <= sinkWeight ? relevantSources : relevantSinks;
+        double upper = Math.min(sourceWeight, sinkWeight);
+        if (context.inIntervalMode()) {
+            double intervalWeight = intervalWeight(store, relevantSources, weights);
+            if (intervalWeight < upper) {
+                upper = intervalWeight;
+                upperCut = null;
+            }
+        }
+        double lower = 0;
+        if (!context.inIntervalMode() && !context.recordsAlternatives() && !context.hasAppendOnlyVariables()) {
+            lower = Math.min(upper, Math.max(sourceAndSinkWeight, minWeight));
+        }
+        return new LeakageBounds(lower, upper, upperCut);
+    }
+
+    /**
+     * Weight of the cut that uses the interval of every output value with an interval if it is cheaper than the bits
+     * of the value. The weight of an interval is the maximum entropy of its values, all values with the same interval
+     * share it
+     */
+    private static double intervalWeight(BitStore store, Set<Bit> relevantSources, Function<Bit, Double> weights) {
+        Map<Interval, Double> bitWeights = new HashMap<>();
+        Map<Interval, Double> entropies = new HashMap<>();
+        double weight = 0;
+        for (Bit bit : relevantSources) {
+            Value value = store.value(store.idOf(bit));
+            if (value != null && value.hasInterval()) {
+                bitWeights.merge(value.getInterval(), weights.apply(bit), LeakageBounds::sum);
+                entropies.merge(value.getInterval(), value.entropy(), Math::max);
+            } else {
+                weight = sum(weight, weights.apply(bit));
+            }
+        }
+        for (Map.Entry<Interval, Double> entry : bitWeights.entrySet()) {
+            weight = sum(weight, Math.min(entry.getValue(), entropies.get(entry.getKey())));
+        }
+        return weight;
+    }
+
+    private static double weightSum(Set<Bit> bits, Function<Bit, Double> weights) {
+        double sum = 0;
+        for (Bit bit : bits) {
+            sum = sum(sum, weights.apply(bit));
+        }
+        return sum;
+    }
+
+    private static double sum(double a, double b) {
+        return a >= INFTY || b >= INFTY ? INFTY : a + b;
+    }
+
+    /**
+     * Do the bounds determine the leakage (and a min cut)?
+     */
+    public boolean isTight() {
+        return lower == upper && upperCut != null;
+    }
+
+    /**
+     * Result that is derived from tight bounds
+     */
+    public LeakageAlgorithm.ComputationResult toResult() {
+        assert isTight();
+        return new LeakageAlgorithm.ComputationResult(upperCut, upper, true);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s, %s]", lower, upper);
+    }
+}
@@ -0,0 +1,297 @@
+package nildumu;
+
+import nildumu.intervals.Interval;
+import nildumu.util.FileCache;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static nildumu.Context.log;
+import static nildumu.Lattices.*;
+
+/**
+ * Stores the results of leakage computations on disk, so that analyses of the same program with different
+ * reporting options do not compute the same flow again. Used by {@link LeakageAlgorithm.Algo#compute(LeakageAlgorithm.SourcesAndSinks, Function)}
+ * if set via {@link LeakageAlgorithm#setUsedCache(LeakageCache)}.
+ * <p/>
+ * A result is stored under the hash of the canonical form of the computation (see {@link Canonical}): the bits
+ * that lie on a path from a source to a sink, together with their values, weights and intervals, numbered in the
+ * order of a walk that starts at the sources and visits the dependencies. Sources and dependencies are visited in
+ * the order of labels that are computed by a Weisfeiler-Lehman style refinement of the bit properties, the
+ * number of a bit only breaks ties between equally labeled bits. Results can therefore be reused by analyses that
+ * create a different number of bits or create them in a different order. The min cut is stored as the canonical
+ * positions of its bits.
+ * <p/>
+ * The cache is bounded by the size of the stored files, the least recently used results are evicted first.
+ */
+public class LeakageCache {
+
+    private static final int VERSION = 1;
+
+    private static final String SUFFIX = ".leakage";
+
+    private final FileCache cache;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxBytes maximum size of all stored results
+     */
+    public LeakageCache(Path directory, long maxBytes) {
+        this.cache = new FileCache(directory, SUFFIX, maxBytes);
+    }
+
+    /**
+     * Canonical form of a leakage computation, independent of the numbers of the bits and of the order in which
+     * the analysis created them.
+     * <p/>
+     * Every relevant bit (a bit on a path from a source to a sink) gets a label that summarizes its properties
+     * and the labels of its dependencies up to a depth of {@link #ROUNDS} (like the Weisfeiler-Lehman refinement).
+     * The bits are numbered in the order of a depth first walk that starts at the sources and visits the bits
+     * ordered by their labels, their numbers only break ties.
+     */
+    static class Canonical {
+
+        private static final int ROUNDS = 4;
+
+        final String key;
+
+        /**
+         * Relevant bits in canonical order
+         */
+        final List<Bit> bits = new ArrayList<>();
+
+        private final BitStore store;
+
+        /**
+         * Canonical position for every store id, -1 for irrelevant bits
+         */
+        private final int[] positions;
+
+        Canonical(LeakageAlgorithm.Algo algo, LeakageAlgorithm.SourcesAndSinks sourcesAndSinks, Function<Bit, Double> weights) {
+            Context context = sourcesAndSinks.context;
+            store = BitStore.create(sourcesAndSinks.sources);
+            int[] sourceIds = sourcesAndSinks.sources.stream().mapToInt(store::id).toArray();
+            BitSet relevant = ReducedBitGraph.relevantBits(store, sourceIds,
+                    sourcesAndSinks.sinks.stream().mapToInt(store::id).toArray());
+            long[] labels = new long[store.size()];
+            for (int id = relevant.nextSetBit(0); id >= 0; id = relevant.nextSetBit(id + 1)) {
+                labels[id] = properties(id, relevant, context, sourcesAndSinks, weights).hashCode();
+            }
+            for (int round = 0; round < ROUNDS; round++) {
+                long[] newLabels = new long[labels.length];
+                for (int id = relevant.nextSetBit(0); id >= 0; id = relevant.nextSetBit(id + 1)) {
+                    long label = labels[id];
+                    for (long depLabel : sortedDepLabels(id, relevant, labels)) {
+                        label = label * 1000003 + depLabel;
+                    }
+                    newLabels[id] = label;
+                }
+                labels = newLabels;
+            }
+            positions = new int[store.size()];
+            Arrays.fill(positions, -1);
+            walk(sourceIds, relevant, labels);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(VERSION);
+                out.writeUTF(algo.name());
+                out.writeBoolean(context.inIntervalMode());
+                out.writeBoolean(context.recordsAlternatives());
+                out.writeDouble(sourcesAndSinks.sourceWeight);
+                out.writeDouble(sourcesAndSinks.sinkWeight);
+                // the flow is bounded by the weights of all sources and sinks
+                writeWeights(out, sourcesAndSinks.sources, weights);
+                writeWeights(out, sourcesAndSinks.sinks, weights);
+                Map<Integer, Integer> values = new HashMap<>();
+                Map<Interval, Integer> intervals = new HashMap<>();
+                out.writeInt(bits.size());
+                for (Bit bit : bits) {
+                    int id = store.idOf(bit);
+                    out.writeUTF(properties(id, relevant, context, sourcesAndSinks, weights));
+                    int valueId = store.valueId(id);
+                    out.writeInt(valueId == -1 ? -1 : values.computeIfAbsent(valueId, v -> values.size()));
+                    Value value = store.value(id);
+                    out.writeInt(value != null && value.hasInterval() && context.inIntervalMode() ?
+                            intervals.computeIfAbsent(value.getInterval(), i -> intervals.size()) : -1);
+                    int[] deps = new int[store.depCount(id)];
+                    int count = 0;
+                    for (int j = 0; j < deps.length; j++) {
+                        if (relevant.get(store.dep(id, j))) {
+                            deps[count++] = positions[store.dep(id, j)];
+                        }
+                    }
+                    Arrays.sort(deps, 0, count);
+                    out.writeInt(count);
+                    for (int j = 0; j < count; j++) {
+                        out.writeInt(deps[j]);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            key = FileCache.hash(bytes.toByteArray());
+        }
+
+        /**
+         * Properties of the bit that do not depend on other bits (besides the number of irrelevant dependencies)
+         */
+        private String properties(int id, BitSet relevant, Context context, LeakageAlgorithm.SourcesAndSinks sourcesAndSinks,
+                                  Function<Bit, Double> weights) {
+            Bit bit = store.bit(id);
+            int irrelevantDeps = 0;
+            for (int j = 0; j < store.depCount(id); j++) {
+                if (!relevant.get(store.dep(id, j))) {
+                    irrelevantDeps++;
+                }
+            }
+            StringBuilder builder = new StringBuilder().append(store.val(id)).append(' ').append(weights.apply(bit))
+                    .append(sourcesAndSinks.sources.contains(bit) ? " source" : "")
+                    .append(sourcesAndSinks.sinks.contains(bit) ? " sink" : "")
+                    .append(context.isAlternativeBit(bit) ? " alternative" : "")
+                    .append(' ').append(irrelevantDeps);
+            Value value = store.value(id);
+            if (value != null) {
+                builder.append(" value ").append(store.valueIndex(id));
+                if (value.hasInterval() && context.inIntervalMode()) {
+                    Interval interval = value.getInterval();
+                    builder.append(" interval ").append(interval.start).append(' ').append(interval.end).append(' ')
+                            .append(value.entropy());
+                }
+            }
+            return builder.toString();
+        }
+
+        private long[] sortedDepLabels(int id, BitSet relevant, long[] labels) {
+            long[] depLabels = new long[store.depCount(id)];
+            int count = 0;
+            for (int j = 0; j < depLabels.length; j++) {
+                if (relevant.get(store.dep(id, j))) {
+                    depLabels[count++] = labels[store.dep(id, j)];
+                }
+            }
+            long[] result = Arrays.copyOf(depLabels, count);
+            Arrays.sort(result);
+            return result;
+        }
+
+        /**
+         * Depth first walk over the relevant bits that assigns the canonical positions
+         */
+        private void walk(int[] sourceIds, BitSet relevant, long[] labels) {
+            Comparator<Integer> order = Comparator.<Integer>comparingLong(id -> labels[id])
+                    .thenComparingLong(id -> store.bit(id).bitNo);
+            Deque<Integer> stack = new ArrayDeque<>();
+            Arrays.stream(sourceIds).boxed().filter(relevant::get).sorted(order.reversed()).forEach(stack::push);
+            List<Integer> deps = new ArrayList<>();
+            while (!stack.isEmpty()) {
+                int id = stack.pop();
+                if (positions[id] != -1) {
+                    continue;
+                }
+                positions[id] = bits.size();
+                bits.add(store.bit(id));
+                deps.clear();
+                for (int j = 0; j < store.depCount(id); j++) {
+                    int dep = store.dep(id, j);
+                    if (relevant.get(dep) && positions[dep] == -1) {
+                        deps.add(dep);
+                    }
+                }
+                deps.sort(order.reversed());
+                deps.forEach(stack::push);
+            }
+        }
+
+        private static void writeWeights(DataOutputStream out, Set<Bit> bits, Function<Bit, Double> weights) throws IOException {
+            double[] sorted = bits.stream().mapToDouble(weights::apply).sorted().toArray();
+            out.writeInt(sorted.length);
+            for (double weight : sorted) {
+                out.writeDouble(weight);
+            }
+        }
+
+        /**
+         * @return canonical position of the bit or -1 if the bit is not relevant
+         */
+        int position(Bit bit) {
+            return store.contains(bit) ? positions[store.idOf(bit)] : -1;
+        }
+    }
+
+    /**
+     * Loads the result of the computation or computes and stores it
+     */
+    public LeakageAlgorithm.ComputationResult compute(LeakageAlgorithm.Algo algo,
+                                                      LeakageAlgorithm.SourcesAndSinks sourcesAndSinks,
+                                                      Function<Bit, Double> weights,
+                                                      Supplier<LeakageAlgorithm.ComputationResult> computation) {
+        Canonical canonical = new Canonical(algo, sourcesAndSinks, weights);
+        Optional<LeakageAlgorithm.ComputationResult> stored = load(canonical);
+        if (stored.isPresent()) {
+            hits.incrementAndGet();
+            return stored.get();
+        }
+        misses.incrementAndGet();
+        LeakageAlgorithm.ComputationResult result = computation.get();
+        try {
+            cache.store(canonical.key, out -> write(out, canonical, result));
+        } catch (IOException e) {
+            log(() -> String.format("Cannot store leakage %s: %s", canonical.key, e));
+        }
+        return result;
+    }
+
+    private Optional<LeakageAlgorithm.ComputationResult> load(Canonical canonical) {
+        try {
+            return cache.load(canonical.key, in -> read(in, canonical));
+        } catch (IOException | RuntimeException e) {
+            log(() -> String.format("Cannot load leakage %s: %s", canonical.key, e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Format: version, max flow, canonical positions of the min cut bits (-1 for bits that do not belong to the
+     * graph, like the artificial bits of the flow based algorithms)
+     */
+    private static void write(DataOutputStream out, Canonical canonical, LeakageAlgorithm.ComputationResult result) throws IOException {
+        out.writeInt(VERSION);
+        out.writeDouble(result.maxFlow);
+        out.writeInt(result.minCut.size());
+        for (Bit bit : result.minCut) {
+            out.writeInt(canonical.position(bit));
+        }
+    }
+
+    private static LeakageAlgorithm.ComputationResult read(DataInputStream in, Canonical canonical) throws IOException {
+        if (in.readInt() != VERSION) {
+            throw new IOException("Unsupported version");
+        }
+        double maxFlow = in.readDouble();
+        int size = in.readInt();
+        Set<Bit> minCut = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            int position = in.readInt();
+            if (position >= canonical.bits.size()) {
+                throw new IOException("Invalid position");
+            }
+            minCut.add(position == -1 ? bl.forceCreateXBit() : canonical.bits.get(position));
+        }
+        return new LeakageAlgorithm.ComputationResult(minCut, maxFlow);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
@@ -5,6 +5,7 @@ import nildumu.typing.Types;
 import swp.lexer.Location;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static nildumu.Parser.*;
@@ -24,8 +25,8 @@ public class LoopTransformer implements StatementVisitor<List<StatementNode>> {
      * Collect the read and written variables of a node
      */
     private static class VariableAccessVisitor implements NodeVisitor<Object> {
-        private final Set<Variable> written = new HashSet<>();
-        private final Set<Variable> accessed = new HashSet<>();
+        private final Set<Variable> written = new LinkedHashSet<>();
+        private final Set<Variable> accessed = new LinkedHashSet<>();
 
         public List<Variable> getWrittenVariables() {
             return Collections.unmodifiableList(new ArrayList<>(written));
@@ -75,7 +76,7 @@ public class LoopTransformer implements StatementVisitor<List<StatementNode>> {
     }
 
     /**
-     * don't pass the output to {@link SSAResolution2} directly, round trip through a string first
+     * Run a {@link NameResolution} before passing the output to {@link SSAResolution2}
      */
     public static void process(ProgramNode program) {
         LoopTransformer resolution = new LoopTransformer(program);
@@ -99,11 +100,14 @@ public class LoopTransformer implements StatementVisitor<List<StatementNode>> {
         return Collections.singletonList(block);
     }
 
+    /**
+     * Creates new nodes for every use, nodes may not be shared between different places in the tree
+     */
     private static class WhileContext {
-        private final ReturnStatementNode returnStatement;
-        private final StatementNode functionCall;
+        private final Supplier<ReturnStatementNode> returnStatement;
+        private final Supplier<StatementNode> functionCall;
 
-        private WhileContext(ReturnStatementNode returnStatement, StatementNode functionCall) {
+        private WhileContext(Supplier<ReturnStatementNode> returnStatement, Supplier<StatementNode> functionCall) {
             this.returnStatement = returnStatement;
             this.functionCall = functionCall;
         }
@@ -125,17 +129,17 @@ public class LoopTransformer implements StatementVisitor<List<StatementNode>> {
 
         ParametersNode parametersNode = new ParametersNode(location,
                 accessedVariables.stream().map(v -> new ParameterNode(location, v.type, v.name)).collect(Collectors.toList()));
-        List<ExpressionNode> arguments = accessedVariables.stream().map(v -> new VariableAccessNode(location, v)).collect(Collectors.toList());
-        ArgumentsNode argNode = new ArgumentsNode(location, arguments);
 
-        MethodInvocationNode invocation = new MethodInvocationNode(location, methodName, argNode);
-        StatementNode invocationAssignment;
-        if (writtenVariables.size() > 0) {
-            invocationAssignment = new MultipleVariableAssignmentNode(location, writtenVariables, new UnpackOperatorNode(invocation));
-        } else {
-            invocationAssignment = new ExpressionStatementNode(invocation);
-        }
-        ReturnStatementNode returnStatement = new ReturnStatementNode(location, writtenVariables.stream().map(v -> new VariableAccessNode(location, v)).collect(Collectors.toList()));
+        Supplier<StatementNode> invocationAssignment = () -> {
+            List<ExpressionNode> arguments = accessedVariables.stream().map(v -> new VariableAccessNode(location, v)).collect(Collectors.toList());
+            MethodInvocationNode invocation = new MethodInvocationNode(location, methodName, new ArgumentsNode(location, arguments));
+            if (writtenVariables.size() > 0) {
+                return new MultipleVariableAssignmentNode(location, writtenVariables, new UnpackOperatorNode(invocation));
+            }
+            return new ExpressionStatementNode(invocation);
+        };
+        Supplier<ReturnStatementNode> returnStatement = () -> new ReturnStatementNode(location,
+                writtenVariables.stream().map(v -> new VariableAccessNode(location, v)).collect(Collectors.toList()));
         whileContexts.push(new WhileContext(returnStatement, invocationAssignment));
 
         visit(whileNode.body);
@@ -144,18 +148,18 @@ public class LoopTransformer implements StatementVisitor<List<StatementNode>> {
         // if (condition) { body; written_vars = f(accessed_vars)} return written_vars
         BlockNode body = new BlockNode(location, asArrayList(
                 new IfStatementNode(location, whileNode.conditionalExpression, new BlockNode(location, concatAsArrayList(whileNode.body.statementNodes,
-                        Collections.singletonList(invocationAssignment))
+                        Collections.singletonList(invocationAssignment.get()))
                 ), new BlockNode(location, Collections.emptyList())),
-                returnStatement)
+                returnStatement.get())
         );
         Type returnType = types.INT;
         if (writtenVariables.size() > 0) {
-            returnType = new Type.TupleType(types, writtenVariables.stream().map(Variable::getType).collect(Collectors.toList()));
+            returnType = types.getOrCreateTupleType(writtenVariables.stream().map(Variable::getType).collect(Collectors.toList()));
         }
         newMethods.add(new Parser.MethodNode(location, methodName, returnType, parametersNode, body,
                 new Parser.GlobalVariablesNode(location, Collections.emptyMap())));
         visitChildrenDiscardReturn(whileNode);
-        return Collections.singletonList(invocationAssignment);
+        return Collections.singletonList(invocationAssignment.get());
     }
 
     @Override
@@ -163,9 +167,9 @@ public class LoopTransformer implements StatementVisitor<List<StatementNode>> {
         WhileContext context = whileContexts.peek();
         switch (loopInterruptionNode.interruption) {
             case BREAK:
-                return Collections.singletonList(context.returnStatement);
+                return Collections.singletonList(context.returnStatement.get());
             case CONTINUE:
-                return Arrays.asList(context.functionCall, context.returnStatement);
+                return Arrays.asList(context.functionCall.get(), context.returnStatement.get());
         }
         return Collections.emptyList();
     }
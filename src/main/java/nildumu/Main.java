@@ -29,7 +29,7 @@ public class Main implements Runnable {
     private String handler = "handler=inlining;maxrec=32;bot=summary";
 
     @Option(names = "--algo", description = "Used leakage computation algorithm, default is GraphT_PP based")
-    private LeakageAlgorithm.Algo algo = LeakageAlgorithm.usedAlgo;
+    private LeakageAlgorithm.Algo algo = LeakageAlgorithm.getUsedAlgo();
 
     @Option(names = "--useSimplifiedEdgeHeuristic", description = "Use the simplified edge selection heuristic, " +
             "ignored if the solver is PMSAT based", negatable = true)
@@ -43,9 +43,30 @@ public class Main implements Runnable {
             description = "Transform plus into bit wise operators in the preprocessing step", defaultValue = "false")
     boolean transformPlus = false;
 
+    @Option(names = "--cache", description = "Folder to cache the results of the leakage computation in, " +
+            "disabled if empty")
+    private String cache = "";
+
+    @Option(names = "--cacheSize", description = "Maximum size of the leakage cache in MB")
+    private long cacheSize = 64;
+
+    @Option(names = "--bounds", description = "Only compute cheap lower and upper bounds of the leakage")
+    private boolean bounds;
+
+    @Option(names = "--useBounds", description = "Skip the leakage computation if the cheap bounds are tight",
+            negatable = true)
+    private boolean useBounds = true;
+
+    @Option(names = "--preprocess", description = "Simplify the formulas of the solver based algorithms before solving them",
+            negatable = true)
+    private boolean preprocess = true;
+
     @Override
     public void run() {
         try {
+            if (!cache.isEmpty()) {
+                LeakageAlgorithm.setUsedCache(new LeakageCache(Paths.get(cache), cacheSize * 1024 * 1024));
+            }
             int opts = (transformPlus ? TRANSFORM_PLUS : 0) | TRANSFORM_LOOPS |
                     (algo.capability(LeakageAlgorithm.Algo.SUPPORTS_ALTERNATIVES) ? RECORD_ALTERNATIVES : 0) |
                     (useSimplifiedEdgeHeuristic ? USE_SIMPLIFIED_HEURISTIC : 0) | (useReplacements ? USE_REPLACEMENTS : 0);
@@ -54,7 +75,17 @@ public class Main implements Runnable {
                                     new BufferedReader(new InputStreamReader(System.in)).lines().collect(Collectors.toList()) :
                                     Files.readAllLines(Paths.get(programPath))),
                             Context.Mode.EXTENDED, MethodInvocationHandler.parse(handler), opts);
-            System.out.println("Leakage: " + context.computeLeakage(algo).get(Lattices.BasicSecLattice.LOW).maxFlow);
+            if (bounds) {
+                System.out.println("Leakage bounds: " + LeakageBounds.compute(context, Lattices.BasicSecLattice.LOW));
+                return;
+            }
+            LeakageAlgorithm.setUseBounds(useBounds);
+            LeakageAlgorithm.setUsePreprocessing(preprocess);
+            LeakageAlgorithm.ComputationResult result = context.computeLeakage(algo).get(Lattices.BasicSecLattice.LOW);
+            System.out.println("Leakage: " + result.maxFlow);
+            if (result.fromBounds) {
+                System.out.println("Derived from tight bounds, the leakage computation has been skipped");
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -1,12 +1,9 @@
 package nildumu;
 
-import nildumu.solver.SolverBasedLeakageAlgorithm;
-import nildumu.solver.PMSATSolverImpl;
-import nildumu.util.DefaultMap;
+import nildumu.util.MaxFlow;
 import org.jgrapht.alg.flow.PushRelabelMFImpl;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.SimpleDirectedWeightedGraph;
-import swp.util.Pair;
 
 import java.util.*;
 import java.util.function.Function;
@@ -26,35 +23,48 @@ public class MinCut {
     public static boolean DEBUG = false;
 
 
-    private static class Vertex {
-        public final Bit bit;
-        public final boolean isStart;
+    private static final int INITIAL_SOURCE = 0;
+    private static final int SOURCE = 1;
+    private static final int INITIAL_SINK = 2;
+    private static final int SINK = 3;
+    /**
+     * Number of artificial vertices, the vertices of the i-th vertex of the {@link ReducedBitGraph} are
+     * {@code SPECIAL_VERTICES + 2 * i} (start) and {@code SPECIAL_VERTICES + 2 * i + 1} (end)
+     */
+    private static final int SPECIAL_VERTICES = 4;
 
-        private Vertex(Bit bit, boolean isStart) {
-            this.bit = bit;
-            this.isStart = isStart;
-        }
+    private static int start(int v) {
+        return SPECIAL_VERTICES + 2 * v;
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(bit, isStart);
-        }
+    private static int end(int v) {
+        return SPECIAL_VERTICES + 2 * v + 1;
+    }
 
-        @Override
-        public boolean equals(Object obj) {
-            return obj.getClass() == this.getClass() && bit.equals(((Vertex)obj).bit) && isStart == ((Vertex)obj).isStart;
-        }
 
-        @Override
-        public String toString() {
-            return bit + "_" + (isStart ? "s" : "e");
-        }
+    /**
+     * Receives the edges of the split vertex graph
+     */
+    @FunctionalInterface
+    interface EdgeConsumer {
+        void accept(int from, int to, double weight);
     }
 
+    /**
+     * Base class for the min-cut based algorithms, the graph contains a start and an end vertex for every vertex
+     * of the {@link ReducedBitGraph}, connected by an edge with the capacity of the vertex
+     */
+    static abstract class SplitVertexAlgorithm extends LeakageAlgorithm {
 
-    public static class GraphTPP extends LeakageAlgorithm {
+        protected ReducedBitGraph graph;
 
-        protected GraphTPP(SourcesAndSinks sourcesAndSinks, Function<Bit, Double> weights) {
+        protected double infty;
+
+        protected int initialSource;
+
+        protected int initialSink;
+
+        protected SplitVertexAlgorithm(SourcesAndSinks sourcesAndSinks, Function<Bit, Double> weights) {
             super(sourcesAndSinks, weights);
             assert !sourcesAndSinks.context.recordsAlternatives();
         }
@@ -73,54 +83,64 @@ public class MinCut {
             return bits.stream().mapToDouble(weights::apply).sum();
         }
 
-        @Override
-        public ComputationResult compute() {
-            SimpleDirectedWeightedGraph<Vertex, DefaultWeightedEdge> graph =
-                    new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
-            Vertex initialSource = new Vertex(bl.forceCreateXBit(), false);
-            Vertex source = new Vertex(bl.forceCreateXBit(), false);
-            Vertex initialSink = new Vertex(bl.forceCreateXBit(), true);
-            Vertex sink = new Vertex(bl.forceCreateXBit(), true);
-            graph.addVertex(source);
-            graph.addVertex(sink);
-            graph.addVertex(initialSource);
-            graph.addVertex(initialSink);
-            double infty = (infty() + Bit.getNumberOfCreatedBits() * 2) * 4;
-            if (sourcesAndSinks.sourceWeight == INFTY){
-                initialSource = source;
-            } else {
-                graph.setEdgeWeight(graph.addEdge(initialSource, source), infty);
+        protected int vertexCount() {
+            return SPECIAL_VERTICES + graph.size() * 2;
+        }
+
+        /**
+         * Creates the reduced graph and chooses the source and the sink of the flow computation
+         */
+        protected void prepare() {
+            BitStore store = BitStore.create(sourcesAndSinks.sources, sourcesAndSinks.sinks::contains);
+            int[] sourceIds = sourcesAndSinks.sources.stream().mapToInt(store::id).toArray();
+            int[] sinkIds = sourcesAndSinks.sinks.stream().mapToInt(store::id).toArray();
+            infty = (infty() + Bit.getNumberOfCreatedBits() * 2) * 4;
+            double[] capacities = store.weights(weights);
+            for (int id = 0; id < capacities.length; id++) {
+                capacities[id] = capacities[id] == INFTY ? infty : 1;
+            }
+            graph = ReducedBitGraph.create(store, sourceIds, sinkIds, capacities, infty);
+            if (DEBUG) {
+                System.out.println(graph);
             }
-            if (sourcesAndSinks.sinkWeight == INFTY){
-                initialSink = sink;
-            } else {
-                graph.setEdgeWeight(graph.addEdge(sink, initialSink), infty);
+            initialSource = sourcesAndSinks.sourceWeight == INFTY ? SOURCE : INITIAL_SOURCE;
+            initialSink = sourcesAndSinks.sinkWeight == INFTY ? SINK : INITIAL_SINK;
+        }
+
+        /**
+         * Passes all edges of the graph to the consumer, requires {@link #prepare()} to be called before
+         */
+        protected void buildGraph(EdgeConsumer edges) {
+            if (initialSource == INITIAL_SOURCE){
+                edges.accept(INITIAL_SOURCE, SOURCE, infty);
             }
-            Map<Bit, Pair<Vertex, Vertex>> bitToNodes =
-                    new DefaultMap<>((map, bit) -> {
-                        Vertex start = new Vertex(bit, true);
-                        Vertex end = new Vertex(bit, false);
-                        graph.addVertex(start);
-                        graph.addVertex(end);
-                        DefaultWeightedEdge edge = graph.addEdge(start, end);
-                        graph.setEdgeWeight(edge, weights.apply(bit) == INFTY ? infty : 1);
-                        return new Pair<>(start, end);
-                    });
-            Set<Bit> alreadyVisited = new HashSet<>();
-            for (Bit bit : sourcesAndSinks.sources){
-                bl.walkBits(bit, b -> {
-                    for (Bit d : b.deps()){
-                        graph.setEdgeWeight(graph.addEdge(bitToNodes.get(b).second, bitToNodes.get(d).first), infty * infty);
-                    }
-                }, sourcesAndSinks.sinks::contains, alreadyVisited);
-                graph.setEdgeWeight(graph.addEdge(source, bitToNodes.get(bit).first), infty * infty);
+            if (initialSink == INITIAL_SINK){
+                edges.accept(SINK, INITIAL_SINK, infty);
             }
-            for (Bit bit : sourcesAndSinks.sinks){
-                graph.setEdgeWeight(graph.addEdge(bitToNodes.get(bit).second, sink), infty * infty);
+            for (int v = 0; v < graph.size(); v++) {
+                edges.accept(start(v), end(v), graph.capacity(v));
+                for (int i = 0; i < graph.successorCount(v); i++) {
+                    edges.accept(end(v), start(graph.successor(v, i)), infty * infty);
+                }
+                if (graph.isSource(v)) {
+                    edges.accept(SOURCE, start(v), infty * infty);
+                }
+                if (graph.isSink(v)) {
+                    edges.accept(end(v), SINK, infty * infty);
+                }
             }
-            PushRelabelMFImpl<Vertex, DefaultWeightedEdge> pp = new PushRelabelMFImpl<Vertex, DefaultWeightedEdge>(graph, 0.5);
-            double maxFlow = pp.calculateMinCut(initialSource, initialSink);
-            Set<Bit> minCut = pp.getCutEdges().stream().map(e -> graph.getEdgeSource(e).bit).collect(Collectors.toSet());
+        }
+
+        /**
+         * Bits that belong to the source vertex of a cut edge
+         */
+        protected List<Bit> bitsForCutEdge(int sourceVertex) {
+            // the cut edges between the artificial vertices do not belong to any real bit
+            return sourceVertex < SPECIAL_VERTICES ? Collections.singletonList(bl.forceCreateXBit())
+                    : graph.bits((sourceVertex - SPECIAL_VERTICES) / 2);
+        }
+
+        protected ComputationResult result(Set<Bit> minCut, double maxFlow) {
             // Problem: if some of the sink nodes or source nodes have weight different than 1, then this should be noted
             double flow = Math.min(Math.round(maxFlow), Math.min(weightSum(sourcesAndSinks.sources), weightSum(sourcesAndSinks.sinks)));
             if (flow > infty / 2){
@@ -130,4 +150,51 @@ public class MinCut {
         }
     }
 
+    public static class GraphTPP extends SplitVertexAlgorithm {
+
+        protected GraphTPP(SourcesAndSinks sourcesAndSinks, Function<Bit, Double> weights) {
+            super(sourcesAndSinks, weights);
+        }
+
+        @Override
+        public ComputationResult compute() {
+            prepare();
+            SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> flowGraph =
+                    new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+            for (int i = 0; i < vertexCount(); i++) {
+                flowGraph.addVertex(i);
+            }
+            buildGraph((from, to, weight) -> flowGraph.setEdgeWeight(flowGraph.addEdge(from, to), weight));
+            PushRelabelMFImpl<Integer, DefaultWeightedEdge> pp = new PushRelabelMFImpl<>(flowGraph, 0.5);
+            double maxFlow = pp.calculateMinCut(initialSource, initialSink);
+            Set<Bit> minCut = pp.getCutEdges().stream().flatMap(e -> bitsForCutEdge(flowGraph.getEdgeSource(e)).stream())
+                    .collect(Collectors.toSet());
+            return result(minCut, maxFlow);
+        }
+    }
+
+    /**
+     * Uses the array based {@link MaxFlow} implementation of Dinic's algorithm, needs far less memory than
+     * {@link GraphTPP} on large graphs
+     */
+    public static class Dinic extends SplitVertexAlgorithm {
+
+        protected Dinic(SourcesAndSinks sourcesAndSinks, Function<Bit, Double> weights) {
+            super(sourcesAndSinks, weights);
+        }
+
+        @Override
+        public ComputationResult compute() {
+            prepare();
+            MaxFlow flow = new MaxFlow(vertexCount(), vertexCount() * 2);
+            buildGraph(flow::addEdge);
+            double maxFlow = flow.compute(initialSource, initialSink);
+            Set<Bit> minCut = new HashSet<>();
+            for (int edge : flow.cutEdges()) {
+                minCut.addAll(bitsForCutEdge(flow.tail(edge)));
+            }
+            return result(minCut, maxFlow);
+        }
+    }
+
 }
@@ -29,7 +29,7 @@ public interface Operator {
     }
 
     static Bit wrapBit(Context c, Bit source) {
-        Bit wrap = bl.create(source.val(), ds.create(source));
+        Bit wrap = bl.create(source.val(), c.intern(ds.create(source)));
         c.repl(wrap, ((con, b, a) -> {
             Bit choose = con.choose(a, b);
             return new Mods(con.notChosen(a, b), choose).add(c.repl(source).apply(con, source, choose));
@@ -270,7 +270,7 @@ public interface Operator {
             if (bitValue.isConstant()) {
                 return bl.create(bitValue);
             }
-            DependencySet dataDeps = computeDataDependencies(x, y, bitValue);
+            DependencySet dataDeps = c.intern(computeDataDependencies(x, y, bitValue));
             Bit r = bl.create(bitValue, dataDeps);
             c.repl(r, computeModificator(x, y, r, dataDeps));
             return r;
@@ -329,7 +329,7 @@ public interface Operator {
             if (bitValue.isConstant()) {
                 return bl.create(bitValue);
             }
-            DependencySet dataDeps = computeDataDependencies(bits, bitValue);
+            DependencySet dataDeps = c.intern(computeDataDependencies(bits, bitValue));
             Bit r = bl.create(bitValue, dataDeps);
             c.repl(r, computeModsCreator(r, dataDeps));
             return r;
@@ -357,7 +357,7 @@ public interface Operator {
                 if (bitValues.get(i).isConstant()){
                     bits.add(bl.create(bitValues.get(i)));
                 } else {
-                    Bit r = bl.create(bitValues.get(i), dataDeps.get(i));
+                    Bit r = bl.create(bitValues.get(i), c.intern(dataDeps.get(i)));
                     bits.add(r);
                     c.repl(r, computeModsCreator(i + 1, r, x, y, bitValues, dataDeps.get(i)));
                 }
@@ -930,10 +930,10 @@ public interface Operator {
             if (bitValue.isConstant()) {
                 return bl.create(bitValue);
             }
-            DependencySet dataDeps = computeDataDependencies(x, y, bitValue);
-            Bit r = bl.create(bitValue, dataDeps);
-            c.repl(r, computeModificator(x, y, r, dataDeps));
-            r.addDependencies(computeControlDeps(c, phi, bitValue, null));
+            DependencySet deps = computeDataDependencies(x, y, bitValue);
+            deps.addAll(computeControlDeps(c, phi, bitValue, null));
+            Bit r = bl.create(bitValue, c.intern(deps));
+            c.repl(r, computeModificator(x, y, r, r.deps()));
             return r;
         }
 
@@ -969,8 +969,10 @@ public interface Operator {
                 }
 
                 public Mods comp(Context c, Bit a){
-                    if (dataDeps.size() == 1){
-                        return c.repl(dataDeps.getSingleBit(), a);
+                    // the dependencies of the result bit might change after its creation (copy-on-write)
+                    DependencySet deps = r.deps();
+                    if (deps.size() == 1){
+                        return c.repl(deps.getSingleBit(), a);
                     }
                     return Mods.empty();
                 }
@@ -1027,10 +1029,10 @@ public interface Operator {
             if (bitValue.isConstant()) {
                 return bl.create(bitValue);
             }
-            DependencySet dataDeps = computeDataDependencies(bits, bitValue);
-            Bit r = bl.create(bitValue, dataDeps);
-            c.repl(r, computeModsCreator(r, dataDeps));
-            r.addDependencies(computeControlDeps(c, currentNode, bitValue, dataDeps));
+            DependencySet deps = computeDataDependencies(bits, bitValue);
+            deps.addAll(computeControlDeps(c, currentNode, bitValue, deps));
+            Bit r = bl.create(bitValue, c.intern(deps));
+            c.repl(r, computeModsCreator(r, r.deps()));
             return r;
         }
 
@@ -1197,7 +1199,7 @@ public interface Operator {
                     return bl.create(add.first.val(), ds.create(add.first.calculateReachedBits(argBits)));
                 }
                 return add.first;
-            }, vl.bitWidth);
+            }, vl.getBitWidth());
         }
 
         Pair<Bit, Bit> fullAdder(Context context, Bit a, Bit b, Bit c) {
@@ -1217,7 +1219,7 @@ public interface Operator {
                 return new Interval(Math.addExact(first.start, second.start),
                         Math.addExact(first.end, second.end));
             } catch (ArithmeticException ex){
-                return Interval.forBitWidth(vl.bitWidth);
+                return Interval.forBitWidth(vl.getBitWidth());
             }
         }
     };
@@ -1306,7 +1308,7 @@ public interface Operator {
                 return new Interval(Math.multiplyExact(first.start, second.start),
                         Math.multiplyExact(first.end, second.end));
             } catch (ArithmeticException ex){
-                return Interval.forBitWidth(vl.bitWidth);
+                return Interval.forBitWidth(vl.getBitWidth());
             }
         }
     };
@@ -156,12 +156,12 @@ public class Parser implements Serializable {
                         Types types = new Types();
                         builder.addRule("program", "use_sec? bit_width lines", asts -> {
                             SecurityLattice<?> secLattice = asts.get(0).children().isEmpty() ? BasicSecLattice.get() : ((ListAST<WrapperNode<SecurityLattice<?>>>) asts.get(0)).get(0).wrapped;
-                            int declaredBitWidth = vl.bitWidth;
+                            int declaredBitWidth = vl.getBitWidth();
                             /*
                              * Calc bit width
                              */
                             List<MJNode> topLevelNodes = asts.get(2).<WrapperNode<List<MJNode>>>as().wrapped;
-                            ProgramNode node = new ProgramNode(new Context(secLattice, vl.bitWidth), types);
+                            ProgramNode node = new ProgramNode(new Context(secLattice, vl.getBitWidth()), types);
                             NodeVisitor visitor = new NodeVisitor<Object>() {
 
                                 @Override
@@ -204,11 +204,11 @@ public class Parser implements Serializable {
                                     return new WrapperNode<>(asts.getStartLocation(), SecurityLattice.forName(asts.get(1).getMatchedString()));
                                 })
                                 .addRule("bit_width", "BIT_WIDTH INTEGER_LITERAL SEMICOLON", asts -> {
-                                    vl.bitWidth = Integer.parseInt(asts.get(1).getMatchedString());
-                                    return new WrapperNode<>(asts.getStartLocation(), vl.bitWidth);
+                                    vl.setBitWidth(Integer.parseInt(asts.get(1).getMatchedString()));
+                                    return new WrapperNode<>(asts.getStartLocation(), vl.getBitWidth());
                                 })
                                 .addRule("bit_width", "", asts -> {
-                                    vl.bitWidth = 32;
+                                    vl.setBitWidth(32);
                                     return new WrapperNode<>(asts.getStartLocation(), 32);
                                 })
                                 .addRule("lines", "line_w_semi lines", asts -> {
@@ -1090,12 +1090,16 @@ public class Parser implements Serializable {
      */
     public static abstract class MJNode extends BaseAST {
 
-        private static int idCounter = 0;
-
         public final Location location;
 
+        /**
+         * Dense index of the node in its program, see {@link Context#nodeIndex(MJNode)}
+         */
+        int index = -1;
+
         protected MJNode(Location location) {
             this.location = location;
+            AnalysisSession.current().nextNodeId();
         }
 
 
@@ -1116,11 +1120,11 @@ public class Parser implements Serializable {
         }
 
         public static void resetIdCounter() {
-            idCounter = 0;
+            AnalysisSession.current().resetNodeIdCounter();
         }
 
         public static int getCurrentIdCount() {
-            return idCounter;
+            return AnalysisSession.current().getNodeIdCount();
         }
 
         public Operator getOperator(Context c) {
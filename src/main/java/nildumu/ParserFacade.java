@@ -90,7 +90,7 @@ class Translator extends LangBaseVisitor<Object> {
                         ? Lattices.BasicSecLattice.get()
                         : (Lattices.SecurityLattice<?>) ctx.use_sec().accept(this);
         accept(ctx.bit_width());
-        Parser.ProgramNode node = new Parser.ProgramNode(new Context(secLattice, vl.bitWidth), types);
+        Parser.ProgramNode node = new Parser.ProgramNode(new Context(secLattice, vl.getBitWidth()), types);
         List<Parser.StatementNode> statements = listOf(ctx.statement_w_semi());
         Parser.StatementNode end_statement = accept(ctx.statement_wo_semi());
         Parser.NodeVisitor visitor = new Parser.NodeVisitor<Object>() {
@@ -144,8 +144,8 @@ class Translator extends LangBaseVisitor<Object> {
 
     @Override
     public Integer visitBit_width(LangParser.Bit_widthContext ctx) {
-        vl.bitWidth = Integer.parseInt(ctx.INTEGER_LITERAL().getText());
-        return vl.bitWidth;
+        vl.setBitWidth(Integer.parseInt(ctx.INTEGER_LITERAL().getText()));
+        return vl.getBitWidth();
     }
 
     @Override
@@ -194,7 +194,7 @@ class Translator extends LangBaseVisitor<Object> {
         Type type = typeNode.type;
         String secLevel = ctx.IDENT() == null ? "h" : ctx.IDENT().getText();
         Lattices.Value value = ctx.INPUT_LITERAL() != null ? vl.parse(ctx.INPUT_LITERAL().getText()) :
-                vl.parse("0b" + java.util.stream.IntStream.range(0, vl.bitWidth).mapToObj(i -> "u")
+                vl.parse("0b" + java.util.stream.IntStream.range(0, vl.getBitWidth()).mapToObj(i -> "u")
                 .collect(Collectors.joining()));
         Parser.IntegerLiteralNode integerLiteralNode = new Parser.IntegerLiteralNode(location(ctx), value);
         if (ctx.mod.getType() == LangParser.TMP_INPUT) {
@@ -0,0 +1,128 @@
+package nildumu;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static nildumu.Context.log;
+
+/**
+ * Runs all other algorithms that are capable of handling the context (and {@link LeakageAlgorithm.Algo#isAvailable()
+ * available}) concurrently and uses the result of the first one that succeeds. All algorithms compute the exact
+ * leakage, the fastest one depends on the program: the flow based algorithms are fast on programs without
+ * alternatives and intervals, the solvers are fast on the others.
+ * <p/>
+ * The other algorithms are cancelled as soon as a result is known (see {@link LeakageAlgorithm#cancel()}),
+ * this kills the processes of external solvers. The flow based algorithms cannot be stopped, they continue
+ * in the background and their results are discarded.
+ * <p/>
+ * The winning algorithm is logged and counted (see {@link #getWins()}).
+ */
+public class PortfolioLeakageAlgorithm extends LeakageAlgorithm {
+
+    private static final Map<Algo, LongAdder> wins = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final Map<Algo, LeakageAlgorithm> algorithms = new ConcurrentHashMap<>();
+
+    private volatile boolean cancelled = false;
+
+    private volatile Algo winner = null;
+
+    public PortfolioLeakageAlgorithm(SourcesAndSinks sourcesAndSinks, Function<Lattices.Bit, Double> weights) {
+        super(sourcesAndSinks, weights);
+    }
+
+    /**
+     * Algorithms that are used for the context
+     */
+    public static List<Algo> algos(Context context) {
+        return Algo.supported(context).stream().filter(a -> a != Algo.PORTFOLIO && a.isAvailable())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ComputationResult compute() {
+        List<Algo> algos = algos(sourcesAndSinks.context);
+        if (algos.isEmpty()) {
+            throw new NildumuError("No algorithm available");
+        }
+        AnalysisSession session = AnalysisSession.current();
+        ExecutorService executor = Executors.newFixedThreadPool(algos.size(), r -> {
+            Thread thread = new Thread(r, "portfolio-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<ComputationResult> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<ComputationResult>, Algo> futures = new HashMap<>();
+        try {
+            for (Algo algo : algos) {
+                LeakageAlgorithm algorithm = algo.creator.apply(sourcesAndSinks, weights);
+                algorithms.put(algo, algorithm);
+                if (cancelled) {
+                    algorithm.cancel();
+                }
+                futures.put(completionService.submit(() -> session.run(algorithm::compute)), algo);
+            }
+            List<Throwable> failures = new ArrayList<>();
+            for (int i = 0; i < algos.size(); i++) {
+                Future<ComputationResult> future = completionService.take();
+                if (cancelled) {
+                    break;
+                }
+                Algo algo = futures.get(future);
+                try {
+                    ComputationResult result = future.get();
+                    winner = algo;
+                    wins.computeIfAbsent(algo, a -> new LongAdder()).increment();
+                    log(() -> String.format("Portfolio: %s won against %s", algo.shortName,
+                            algos.stream().filter(a -> a != algo).map(a -> a.shortName).collect(Collectors.joining(", "))));
+                    return result;
+                } catch (ExecutionException ex) {
+                    log(() -> String.format("Portfolio: %s failed: %s", algo.shortName, ex.getCause()));
+                    failures.add(ex.getCause());
+                }
+            }
+            NildumuError error = new NildumuError(cancelled ? "Portfolio has been cancelled" : "All algorithms failed");
+            failures.forEach(error::addSuppressed);
+            throw error;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new NildumuError("Interrupted while waiting for the algorithms");
+        } finally {
+            algorithms.values().forEach(LeakageAlgorithm::cancel);
+            futures.keySet().forEach(f -> f.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        algorithms.values().forEach(LeakageAlgorithm::cancel);
+    }
+
+    /**
+     * Algorithm that computed the result of the last {@link #compute()} call, null if there is no result
+     */
+    public Algo getWinner() {
+        return winner;
+    }
+
+    /**
+     * Number of wins per algorithm, of all portfolio computations in this JVM
+     */
+    public static Map<Algo, Long> getWins() {
+        Map<Algo, Long> result = new EnumMap<>(Algo.class);
+        wins.forEach((algo, count) -> result.put(algo, count.sum()));
+        return result;
+    }
+
+    public static void resetWins() {
+        wins.clear();
+    }
+}
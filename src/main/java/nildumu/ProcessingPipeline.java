@@ -14,6 +14,25 @@ import static nildumu.ProcessingPipeline.Stage.wrap;
  */
 public class ProcessingPipeline {
 
+    /**
+     * How the program is passed between the stages
+     */
+    public enum Mode {
+        /**
+         * The program node is passed directly to the next stage
+         */
+        IN_MEMORY,
+        /**
+         * Every stage pretty prints its result and the next stage reparses it
+         */
+        TEXT,
+        /**
+         * Like {@link #IN_MEMORY}, but checks after every stage that the pretty printed program
+         * does not change when it is reparsed, useful to debug the transformations
+         */
+        VALIDATE
+    }
+
     @FunctionalInterface
     public interface Stage {
         Parser.ProgramNode process(Parser.ProgramNode program);
@@ -67,7 +86,7 @@ public class ProcessingPipeline {
         return new Stage() {
             @Override
             public Parser.ProgramNode process(Parser.ProgramNode program) {
-                throw new UnsupportedOperationException();
+                return justProcess(program);
             }
 
             @Override
@@ -82,11 +101,63 @@ public class ProcessingPipeline {
     }
 
     public Parser.ProgramNode process(String program, boolean resetCounters) {
-        Parser.ProgramNode programNode = Parser.parse(justProcess(program, resetCounters));
+        return process(program, resetCounters, AnalysisSession.current().pipelineMode);
+    }
+
+    public Parser.ProgramNode process(String program, boolean resetCounters, Mode mode) {
+        Parser.ProgramNode programNode;
+        if (mode == Mode.TEXT) {
+            programNode = Parser.parse(justProcess(program, resetCounters));
+        } else {
+            if (resetCounters) {
+                AnalysisSession.current().resetCounters();
+            }
+            Lattices.ValueLattice.get().setBitWidth(32);
+            programNode = justProcess(Parser.parse(program), mode == Mode.VALIDATE);
+            Lattices.ValueLattice.get().setBitWidth(programNode.context.maxBitWidth);
+        }
         new NameResolution(programNode).resolve();
         return programNode;
     }
 
+    Parser.ProgramNode justProcess(Parser.ProgramNode program) {
+        return justProcess(program, AnalysisSession.current().pipelineMode == Mode.VALIDATE);
+    }
+
+    Parser.ProgramNode justProcess(Parser.ProgramNode program, boolean validate) {
+        for (Stage stage : stages) {
+            // reparsing would set the bit width to the declared one
+            Lattices.ValueLattice.get().setBitWidth(program.context.maxBitWidth);
+            try {
+                program = stage.process(program);
+            } catch (NildumuError | ClassCastException err) {
+                System.err.println("---- prior to state ---");
+                System.err.println(program.toPrettyString());
+                System.err.println("----");
+                throw new NildumuError(err);
+            }
+            if (validate) {
+                validateRoundTrip(program);
+            }
+        }
+        return program;
+    }
+
+    /**
+     * Checks that the pretty printed program can be reparsed and that its printed form is stable afterwards.
+     * The first reparse is allowed to normalize the program (e.g. negative literals become subtractions)
+     */
+    private static void validateRoundTrip(Parser.ProgramNode program) {
+        int bitWidth = Lattices.ValueLattice.get().getBitWidth();
+        String printed = Parser.parse(program.toPrettyString()).toPrettyString();
+        String reparsed = Parser.parse(printed).toPrettyString();
+        Lattices.ValueLattice.get().setBitWidth(bitWidth);
+        if (!printed.equals(reparsed)) {
+            throw new NildumuError(String.format("Program changes when reparsed:%n---- printed ---%n%s%n---- reparsed ---%n%s",
+                    printed, reparsed));
+        }
+    }
+
     String justProcess(String program) {
         return justProcess(program, true);
     }
@@ -94,10 +165,9 @@ public class ProcessingPipeline {
     String justProcess(String program, boolean resetCounters) {
         for (Stage stage : stages) {
             if (resetCounters) {
-                Parser.MJNode.resetIdCounter();
-                Lattices.Bit.resetNumberOfCreatedBits();
+                AnalysisSession.current().resetCounters();
             }
-            Lattices.ValueLattice.get().bitWidth = 32;
+            Lattices.ValueLattice.get().setBitWidth(32);
             try {
                 program = stage.process(program);
             } catch (NildumuError | ClassCastException err) {
@@ -16,8 +16,6 @@ import static nildumu.util.Util.p;
 
 public class Processor {
 
-    public static boolean transformPlus = false;
-
     public static final int TRANSFORM_PLUS           = 0b000001;
     public static final int TRANSFORM_LOOPS          = 0b000010;
     public static final int RECORD_ALTERNATIVES      = 0b000100;
@@ -43,6 +41,7 @@ public class Processor {
     }
 
     public static Context process(ProgramNode node, MethodInvocationHandler handler) {
+        node.context.indexProgram(node);
         handler.setup(node);
         return process(node.context.forceMethodInvocationHandler(handler), node);
     }
@@ -54,16 +53,24 @@ public class Processor {
     public static Context process(ProgramNode node, Context.Mode mode, MethodInvocationHandler handler,
                                   boolean recordAlternatives, boolean useSimplifiedHeuristic, boolean useReplacements) {
         node.context.mode(mode).setRecordAlternatives(recordAlternatives).setUseSimplifiedHeuristic(useSimplifiedHeuristic).setUseReplacements(useReplacements);
+        node.context.indexProgram(node);
         handler.setup(node);
         return process(node.context.forceMethodInvocationHandler(handler), node);
     }
 
+    /**
+     * Analyzes the node in the session of the passed context
+     */
     public static Context process(Context context, MJNode node) {
+        return context.session.run(() -> processInSession(context, node));
+    }
+
+    private static Context processInSession(Context context, MJNode node) {
 
         final Set<StatementNode> statementNodesToOmitOneTime = new HashSet<>();
         final Set<Pair<Sec<?>, Variable>> outputVariables = new HashSet<>();
 
-        FixpointIteration.worklist2(new NodeVisitor<Boolean>() {
+        context.addStatementVisits(FixpointIteration.worklist2(context.getIterationStrategy(), new NodeVisitor<Boolean>() {
 
             /**
              * conditional bits with their assumed value for each conditional statement body
@@ -356,7 +363,7 @@ public class Processor {
                     (b.operator == LexerTerminal.OR && context.nodeValue(b.left).mightBe(false))) {
                 context.popMiscMods();
             }
-        });
+        }));
         for (Pair<Sec<?>, Variable> pair : outputVariables) {
             context.addOutputValue(pair.first, context.getVariableValue(pair.second));
         }
@@ -0,0 +1,413 @@
+package nildumu;
+
+import java.util.*;
+
+import static nildumu.Lattices.Bit;
+
+/**
+ * The part of the bit graph of a {@link BitStore} that is relevant for the flow from the sources to the sinks,
+ * with every bit (or group of bits) as a vertex that has a capacity.
+ * <p>
+ * Only bits that lie on a path from a source to a sink are kept, these are the bits that are reachable from
+ * a source and from which a sink is reachable. On the remaining graph two reductions are applied until
+ * neither of them changes the graph:
+ * <ul>
+ *     <li>chains of bits with a single predecessor and a single successor are collapsed into the
+ *     cheapest bit of the chain</li>
+ *     <li>bits with the same predecessors and the same successors are merged into a single vertex, its
+ *     capacity is the sum of the capacities of the merged bits</li>
+ * </ul>
+ * Both reductions preserve the value of the minimum vertex cut. Sources and sinks are never reduced.
+ */
+public class ReducedBitGraph {
+
+    /**
+     * Key of the neighbourhood of a vertex, used to find parallel vertices
+     */
+    private static class Neighbours {
+        private final int[] preds;
+        private final int[] succs;
+        private final int hash;
+
+        Neighbours(int[] preds, int[] succs) {
+            this.preds = preds;
+            this.succs = succs;
+            this.hash = Arrays.hashCode(preds) * 31 + Arrays.hashCode(succs);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Neighbours)) return false;
+            Neighbours other = (Neighbours) o;
+            return hash == other.hash && Arrays.equals(preds, other.preds) && Arrays.equals(succs, other.succs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final byte SOURCE = 1;
+    private static final byte SINK = 2;
+
+    private final BitStore store;
+
+    private final BitSet relevant;
+
+    private final double infinity;
+
+    private int size;
+
+    private int[][] succs;
+    private int[] succCount;
+    private int[][] preds;
+    private int[] predCount;
+
+    private double[] capacities;
+
+    private byte[] flags;
+
+    private boolean[] alive;
+
+    /**
+     * First store id of the bits that belong to every vertex, the ids are linked via {@link #memberNext}
+     */
+    private int[] memberHead;
+
+    private int[] memberTail;
+
+    private final int[] memberNext;
+
+    private ReducedBitGraph(BitStore store, BitSet relevant, double infinity) {
+        this.store = store;
+        this.relevant = relevant;
+        this.infinity = infinity;
+        this.memberNext = new int[store.size()];
+    }
+
+    /**
+     * Computes the bits that lie on a path from a source to a sink
+     *
+     * @return set of store ids
+     */
+    public static BitSet relevantBits(BitStore store, int[] sourceIds, int[] sinkIds) {
+        int n = store.size();
+        BitSet forward = new BitSet(n);
+        int[] queue = new int[n];
+        int queueEnd = 0;
+        for (int id : sourceIds) {
+            if (!forward.get(id)) {
+                forward.set(id);
+                queue[queueEnd++] = id;
+            }
+        }
+        for (int queueStart = 0; queueStart < queueEnd; queueStart++) {
+            int id = queue[queueStart];
+            for (int i = 0; i < store.depCount(id); i++) {
+                int dep = store.dep(id, i);
+                if (!forward.get(dep)) {
+                    forward.set(dep);
+                    queue[queueEnd++] = dep;
+                }
+            }
+        }
+        // predecessors of the forward reachable bits in CSR style
+        int[] predStart = new int[n + 1];
+        for (int id = forward.nextSetBit(0); id >= 0; id = forward.nextSetBit(id + 1)) {
+            for (int i = 0; i < store.depCount(id); i++) {
+                predStart[store.dep(id, i) + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            predStart[i + 1] += predStart[i];
+        }
+        int[] predList = new int[predStart[n]];
+        int[] next = Arrays.copyOf(predStart, n);
+        for (int id = forward.nextSetBit(0); id >= 0; id = forward.nextSetBit(id + 1)) {
+            for (int i = 0; i < store.depCount(id); i++) {
+                predList[next[store.dep(id, i)]++] = id;
+            }
+        }
+        BitSet relevant = new BitSet(n);
+        queueEnd = 0;
+        for (int id : sinkIds) {
+            if (forward.get(id) && !relevant.get(id)) {
+                relevant.set(id);
+                queue[queueEnd++] = id;
+            }
+        }
+        for (int queueStart = 0; queueStart < queueEnd; queueStart++) {
+            int id = queue[queueStart];
+            for (int i = predStart[id]; i < predStart[id + 1]; i++) {
+                int pred = predList[i];
+                if (!relevant.get(pred)) {
+                    relevant.set(pred);
+                    queue[queueEnd++] = pred;
+                }
+            }
+        }
+        return relevant;
+    }
+
+    /**
+     * Creates the reduced graph
+     *
+     * @param capacities capacity of every bit in the store
+     * @param infinity capacity of uncuttable bits, the sum of capacities is capped at this value
+     */
+    public static ReducedBitGraph create(BitStore store, int[] sourceIds, int[] sinkIds, double[] capacities, double infinity) {
+        ReducedBitGraph graph = new ReducedBitGraph(store, relevantBits(store, sourceIds, sinkIds), infinity);
+        graph.init(sourceIds, sinkIds, capacities);
+        boolean changed = true;
+        while (changed) {
+            changed = graph.collapseChains();
+            changed |= graph.mergeParallel();
+        }
+        graph.compact();
+        return graph;
+    }
+
+    private void init(int[] sourceIds, int[] sinkIds, double[] bitCapacities) {
+        size = relevant.cardinality();
+        int[] storeToVertex = new int[store.size()];
+        memberHead = new int[size];
+        memberTail = new int[size];
+        capacities = new double[size];
+        alive = new boolean[size];
+        flags = new byte[size];
+        int v = 0;
+        for (int id = relevant.nextSetBit(0); id >= 0; id = relevant.nextSetBit(id + 1), v++) {
+            storeToVertex[id] = v;
+            memberHead[v] = id;
+            memberTail[v] = id;
+            memberNext[id] = -1;
+            capacities[v] = Math.min(bitCapacities[id], infinity);
+            alive[v] = true;
+        }
+        for (int id : sourceIds) {
+            if (relevant.get(id)) {
+                flags[storeToVertex[id]] |= SOURCE;
+            }
+        }
+        for (int id : sinkIds) {
+            if (relevant.get(id)) {
+                flags[storeToVertex[id]] |= SINK;
+            }
+        }
+        succs = new int[size][];
+        succCount = new int[size];
+        predCount = new int[size];
+        v = 0;
+        for (int id = relevant.nextSetBit(0); id >= 0; id = relevant.nextSetBit(id + 1), v++) {
+            int[] vertexSuccs = new int[store.depCount(id)];
+            int count = 0;
+            for (int i = 0; i < store.depCount(id); i++) {
+                int dep = store.dep(id, i);
+                if (dep != id && relevant.get(dep)) {
+                    int w = storeToVertex[dep];
+                    vertexSuccs[count++] = w;
+                    predCount[w]++;
+                }
+            }
+            succs[v] = vertexSuccs;
+            succCount[v] = count;
+        }
+        preds = new int[size][];
+        for (v = 0; v < size; v++) {
+            preds[v] = new int[predCount[v]];
+            predCount[v] = 0;
+        }
+        for (v = 0; v < size; v++) {
+            for (int i = 0; i < succCount[v]; i++) {
+                int w = succs[v][i];
+                preds[w][predCount[w]++] = v;
+            }
+        }
+    }
+
+    private boolean isChainVertex(int v) {
+        return alive[v] && flags[v] == 0 && predCount[v] == 1 && succCount[v] == 1;
+    }
+
+    private boolean collapseChains() {
+        boolean changed = false;
+        for (int v = 0; v < size; v++) {
+            if (!isChainVertex(v)) {
+                continue;
+            }
+            int next = succs[v][0];
+            while (next != v && isChainVertex(next) && succs[next][0] != v) {
+                absorbChainSuccessor(v, next);
+                changed = true;
+                next = succs[v][0];
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Removes the single successor of the chain vertex, every path through one of them passes the other,
+     * cutting the cheaper one suffices
+     */
+    private void absorbChainSuccessor(int v, int next) {
+        int after = succs[next][0];
+        int[] afterPreds = preds[after];
+        for (int i = 0; i < predCount[after]; i++) {
+            if (afterPreds[i] == next) {
+                afterPreds[i] = v;
+                break;
+            }
+        }
+        succs[v][0] = after;
+        if (capacities[next] < capacities[v]) {
+            capacities[v] = capacities[next];
+            memberHead[v] = memberHead[next];
+            memberTail[v] = memberTail[next];
+        }
+        alive[next] = false;
+    }
+
+    private boolean mergeParallel() {
+        Map<Neighbours, Integer> representatives = new HashMap<>();
+        boolean changed = false;
+        for (int v = 0; v < size; v++) {
+            if (!alive[v] || flags[v] != 0) {
+                continue;
+            }
+            int[] vertexPreds = Arrays.copyOf(preds[v], predCount[v]);
+            int[] vertexSuccs = Arrays.copyOf(succs[v], succCount[v]);
+            Arrays.sort(vertexPreds);
+            Arrays.sort(vertexSuccs);
+            Integer representative = representatives.putIfAbsent(new Neighbours(vertexPreds, vertexSuccs), v);
+            if (representative != null) {
+                int r = representative;
+                capacities[r] = Math.min(capacities[r] + capacities[v], infinity);
+                memberNext[memberTail[r]] = memberHead[v];
+                memberTail[r] = memberTail[v];
+                alive[v] = false;
+                changed = true;
+            }
+        }
+        if (changed) {
+            for (int v = 0; v < size; v++) {
+                if (alive[v]) {
+                    succCount[v] = removeDead(succs[v], succCount[v]);
+                    predCount[v] = removeDead(preds[v], predCount[v]);
+                }
+            }
+        }
+        return changed;
+    }
+
+    private int removeDead(int[] vertices, int count) {
+        int newCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (alive[vertices[i]]) {
+                vertices[newCount++] = vertices[i];
+            }
+        }
+        return newCount;
+    }
+
+    /**
+     * Renumbers the remaining vertices densely
+     */
+    private void compact() {
+        int[] newIds = new int[size];
+        int newSize = 0;
+        for (int v = 0; v < size; v++) {
+            newIds[v] = alive[v] ? newSize++ : -1;
+        }
+        for (int v = 0; v < size; v++) {
+            int w = newIds[v];
+            if (w == -1) {
+                continue;
+            }
+            int[] vertexSuccs = Arrays.copyOf(succs[v], succCount[v]);
+            for (int i = 0; i < vertexSuccs.length; i++) {
+                vertexSuccs[i] = newIds[vertexSuccs[i]];
+            }
+            succs[w] = vertexSuccs;
+            succCount[w] = vertexSuccs.length;
+            capacities[w] = capacities[v];
+            flags[w] = flags[v];
+            memberHead[w] = memberHead[v];
+            memberTail[w] = memberTail[v];
+        }
+        size = newSize;
+        succs = Arrays.copyOf(succs, size);
+        succCount = Arrays.copyOf(succCount, size);
+        capacities = Arrays.copyOf(capacities, size);
+        flags = Arrays.copyOf(flags, size);
+        memberHead = Arrays.copyOf(memberHead, size);
+        memberTail = null;
+        preds = null;
+        predCount = null;
+        alive = null;
+    }
+
+    public BitStore store() {
+        return store;
+    }
+
+    /**
+     * Is the bit with the passed store id on a path from a source to a sink?
+     */
+    public boolean isRelevant(int id) {
+        return relevant.get(id);
+    }
+
+    /**
+     * Number of vertices
+     */
+    public int size() {
+        return size;
+    }
+
+    public double capacity(int v) {
+        return capacities[v];
+    }
+
+    public int successorCount(int v) {
+        return succCount[v];
+    }
+
+    public int successor(int v, int i) {
+        return succs[v][i];
+    }
+
+    public boolean isSource(int v) {
+        return (flags[v] & SOURCE) != 0;
+    }
+
+    public boolean isSink(int v) {
+        return (flags[v] & SINK) != 0;
+    }
+
+    /**
+     * Bits that have to be cut if the vertex is cut
+     */
+    public List<Bit> bits(int v) {
+        List<Bit> bits = new ArrayList<>(1);
+        for (int id = memberHead[v]; id != -1; id = memberNext[id]) {
+            bits.add(store.bit(id));
+        }
+        return bits;
+    }
+
+    public int edgeCount() {
+        int edges = 0;
+        for (int v = 0; v < size; v++) {
+            edges += succCount[v];
+        }
+        return edges;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReducedBitGraph(bits=%d, relevant=%d, vertices=%d, edges=%d)",
+                store.size(), relevant.cardinality(), size, edgeCount());
+    }
+}
@@ -32,6 +32,11 @@ public class Variable {
 
     private boolean isAppendableInput;
 
+    /**
+     * Dense index of the variable in its program, see {@link Context#variableIndex(Variable)}
+     */
+    int index = -1;
+
     public Variable(String name, Type type, boolean isInput, boolean isOutput, boolean isAppendOnly, boolean hasAppendValue) {
         this.name = name;
         this.type = type;
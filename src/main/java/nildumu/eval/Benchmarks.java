@@ -0,0 +1,350 @@
+package nildumu.eval;
+
+import java.io.IOException;
+import java.lang.management.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import nildumu.*;
+import nildumu.mih.InliningHandler;
+import nildumu.mih.MethodInvocationHandler;
+import nildumu.mih.SummaryHandler;
+import picocli.CommandLine;
+import static picocli.CommandLine.*;
+
+import static nildumu.Processor.*;
+
+/**
+ * In process micro benchmarks of the analysis on the specimen programs (by default the ones in
+ * {@link Evaluation#DEFAULT_SPECIMEN_DIR}), the results are printed as a table on standard out
+ */
+public class Benchmarks {
+
+    enum Benchmark {
+        /**
+         * Heap usage, garbage collections and allocations of the analysis and the leakage computation
+         */
+        HEAP,
+        /**
+         * Time and allocations of the preprocessing pipeline for every {@link ProcessingPipeline.Mode}
+         */
+        PIPELINE,
+        /**
+         * Time of the leakage computation with every solver based {@link LeakageAlgorithm.Algo},
+         * the external solvers are skipped if their binaries are missing
+         */
+        SOLVER,
+        /**
+         * Statement visits, {@link Context#evaluate(Parser.MJNode)} calls, recomputations and replacement cache hits
+         * and misses of the analysis (in loop mode) for every {@link FixpointIteration.Strategy}, with and without
+         * sparse evaluation
+         */
+        ITERATION,
+        /**
+         * Leakage, iterations per method (loops are transformed into methods) and time of the summary handler
+         * for different widening thresholds
+         */
+        WIDENING,
+        /**
+         * Time, allocations and memoization hits and misses (with "memo=true") of the analysis
+         * with the configured handler, meant for recursive programs (like examples/fibonnaci.nd) with inlining
+         */
+        INLINING
+    }
+
+    @Command(description = "Benchmarks for the analysis", showDefaultValues = true, mixinStandardHelpOptions = true)
+    static class Cmd {
+
+        @Parameters(description = "specimen files or folders")
+        private List<Path> specimen = Collections.singletonList(Evaluation.DEFAULT_SPECIMEN_DIR);
+
+        @Option(names = "--benchmark", description = "benchmark to run, one of ${COMPLETION-CANDIDATES}")
+        private Benchmark benchmark = Benchmark.HEAP;
+
+        @Option(names = "--handler", description = "Method invocation handler configuration")
+        private String handler = "handler=inlining;maxrec=32;bot=summary";
+
+        @Option(names = "--summary_handler", description = "Summary handler configuration for the widening benchmark, " +
+                "without the widen property")
+        private String summaryHandler = "handler=summary";
+
+        @Option(names = "--widen", description = "Widening thresholds for the widening benchmark, 0 disables widening")
+        private List<Integer> widen = Arrays.asList(0, 1, 2, 4);
+
+        @Option(names = "--algo", description = "Used leakage computation algorithm")
+        private LeakageAlgorithm.Algo algo = LeakageAlgorithm.Algo.GRAPHT_PP;
+
+        @Option(names = "--runs")
+        private int runs = 3;
+
+        @Option(names = "--excluded_programs")
+        private List<String> excluded = Collections.emptyList();
+
+        @Option(names = "--cache", description = "Folder to cache the results of the leakage computation in, " +
+                "disabled if not set")
+        private Path cache = null;
+
+        @Option(names = "--cache_size", description = "Maximum size of the leakage cache in MB")
+        private long cacheSize = 64;
+    }
+
+    /**
+     * Snapshot of the garbage collector and allocation counters of the JVM
+     */
+    static class GCStats {
+        final long collections;
+        final long collectionMillis;
+        final long allocatedBytes;
+
+        GCStats(long collections, long collectionMillis, long allocatedBytes) {
+            this.collections = collections;
+            this.collectionMillis = collectionMillis;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        static GCStats now() {
+            long collections = 0;
+            long millis = 0;
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                collections += Math.max(0, bean.getCollectionCount());
+                millis += Math.max(0, bean.getCollectionTime());
+            }
+            return new GCStats(collections, millis, allocatedBytesOfCurrentThread());
+        }
+
+        GCStats minus(GCStats other) {
+            return new GCStats(collections - other.collections, collectionMillis - other.collectionMillis,
+                    allocatedBytes - other.allocatedBytes);
+        }
+    }
+
+    /**
+     * @return allocated bytes of the current thread or -1 if the JVM does not support it
+     */
+    static long allocatedBytesOfCurrentThread() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean &&
+                ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    static void resetPeakUsage() {
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    static long peakHeapUsage() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(p -> p.getType() == MemoryType.HEAP)
+                .mapToLong(p -> p.getPeakUsage().getUsed()).sum();
+    }
+
+    static List<Path> collectSpecimen(Cmd cmd) throws IOException {
+        List<Path> programs = new ArrayList<>();
+        for (Path path : cmd.specimen) {
+            if (Files.isDirectory(path)) {
+                programs.addAll(Files.list(path)
+                        .filter(f -> f.toString().endsWith(".nd"))
+                        .sorted().collect(Collectors.toList()));
+            } else {
+                programs.add(path);
+            }
+        }
+        return programs.stream()
+                .filter(p -> cmd.excluded.stream().noneMatch(e -> p.getFileName().toString().startsWith(e)))
+                .collect(Collectors.toList());
+    }
+
+    static Context analyze(Cmd cmd, String program) {
+        int opts = TRANSFORM_LOOPS |
+                (cmd.algo.capability(LeakageAlgorithm.Algo.SUPPORTS_ALTERNATIVES) ? RECORD_ALTERNATIVES : 0);
+        return Processor.process(program, Context.Mode.EXTENDED, MethodInvocationHandler.parse(cmd.handler), opts);
+    }
+
+    static void heap(Cmd cmd, Path path, String program) {
+        for (int run = 0; run < cmd.runs; run++) {
+            System.gc();
+            resetPeakUsage();
+            GCStats start = GCStats.now();
+            long startTime = System.nanoTime();
+            Context context = analyze(cmd, program);
+            GCStats afterAnalysis = GCStats.now();
+            long analysisTime = System.nanoTime() - startTime;
+            double leakage = context.computeLeakage(cmd.algo).get(Lattices.BasicSecLattice.LOW).maxFlow;
+            GCStats afterLeakage = GCStats.now();
+            long leakageTime = System.nanoTime() - startTime - analysisTime;
+            LeakageAlgorithm.SourcesAndSinks sourcesAndSinks = context.sourcesAndSinks(Lattices.BasicSecLattice.LOW);
+            BitStore store = BitStore.create(sourcesAndSinks.sources, sourcesAndSinks.sinks::contains);
+            GCStats analysis = afterAnalysis.minus(start);
+            GCStats computation = afterLeakage.minus(afterAnalysis);
+            System.out.printf("%-30s %2d %10.1f %8d %6d %6d %10.1f %8d %6d %6d %10.1f %10d %10d %10.1f %10.1f %8.3f%n",
+                    path.getFileName(), run, leakage,
+                    analysisTime / 1000000, analysis.collections, analysis.collectionMillis, mb(analysis.allocatedBytes),
+                    leakageTime / 1000000, computation.collections, computation.collectionMillis, mb(computation.allocatedBytes),
+                    Lattices.Bit.getNumberOfCreatedBits(), store.size(), store.estimatedByteSize() / 1024.0, mb(peakHeapUsage()),
+                    context.getDependencySetPool().sharingRatio());
+        }
+    }
+
+    static void pipeline(Cmd cmd, Path path, String program) {
+        for (ProcessingPipeline.Mode mode : ProcessingPipeline.Mode.values()) {
+            for (int run = 0; run < cmd.runs; run++) {
+                GCStats start = GCStats.now();
+                long startTime = System.nanoTime();
+                ProcessingPipeline.create().process(program, true, mode);
+                long time = System.nanoTime() - startTime;
+                GCStats stats = GCStats.now().minus(start);
+                System.out.printf("%-30s %-10s %2d %10.2f %6d %10.1f%n", path.getFileName(), mode, run,
+                        time / 1000000.0, stats.collections, mb(stats.allocatedBytes));
+            }
+        }
+    }
+
+    static void solver(Cmd cmd, Path path, String program) {
+        Context context = Processor.process(program, Context.Mode.EXTENDED, MethodInvocationHandler.parse(cmd.handler),
+                TRANSFORM_LOOPS | RECORD_ALTERNATIVES);
+        for (LeakageAlgorithm.Algo algo : LeakageAlgorithm.Algo.values()) {
+            if (!algo.capability(LeakageAlgorithm.Algo.SUPPORTS_ALTERNATIVES)) {
+                continue;
+            }
+            for (int run = 0; run < cmd.runs; run++) {
+                long startTime = System.nanoTime();
+                String leakage;
+                try {
+                    leakage = String.format("%10.1f", algo.compute(context, Lattices.BasicSecLattice.LOW).maxFlow);
+                } catch (RuntimeException ex) {
+                    leakage = String.format("%10s", "n/a");
+                }
+                System.out.printf("%-30s %-30s %2d %s %10.2f%n", path.getFileName(), algo, run, leakage,
+                        (System.nanoTime() - startTime) / 1000000.0);
+            }
+        }
+    }
+
+    static void iteration(Cmd cmd, Path path, String program) {
+        for (FixpointIteration.Strategy strategy : FixpointIteration.Strategy.values()) {
+            for (boolean sparse : new boolean[]{false, true}) {
+                for (int run = 0; run < cmd.runs; run++) {
+                    GCStats start = GCStats.now();
+                    long startTime = System.nanoTime();
+                    Parser.ProgramNode node = Parser.process(program, false);
+                    node.context.setIterationStrategy(strategy).setSparseEvaluation(sparse);
+                    Context context = Processor.process(node, Context.Mode.LOOP, MethodInvocationHandler.parse(cmd.handler));
+                    long time = System.nanoTime() - startTime;
+                    GCStats stats = GCStats.now().minus(start);
+                    System.out.printf("%-30s %-10s %-6s %2d %10d %10d %10d %10d %10d %10.2f %10.1f%n", path.getFileName(), strategy,
+                            sparse, run, context.getStatementVisitCount(), context.getEvaluationCount(),
+                            context.getRecomputationCount(), context.getReplaceCacheHits(),
+                            context.getReplaceCacheMisses(), time / 1000000.0, mb(stats.allocatedBytes));
+                }
+            }
+        }
+    }
+
+    static void widening(Cmd cmd, Path path, String program) {
+        for (int widen : cmd.widen) {
+            for (int run = 0; run < cmd.runs; run++) {
+                long startTime = System.nanoTime();
+                Parser.ProgramNode node = Parser.process(program, false);
+                SummaryHandler handler = (SummaryHandler) MethodInvocationHandler.parse(cmd.summaryHandler + ";widen=" + widen);
+                Context context = Processor.process(node, Context.Mode.LOOP, handler);
+                String leakage;
+                try {
+                    leakage = String.format("%10.1f", cmd.algo.compute(context, Lattices.BasicSecLattice.LOW).maxFlow);
+                } catch (RuntimeException ex) {
+                    leakage = String.format("%10s", "n/a");
+                }
+                long time = System.nanoTime() - startTime;
+                Map<Parser.MethodNode, Integer> counts = handler.getIterationCounts();
+                System.out.printf("%-30s %5d %2d %s %10d %7d %10.2f %s%n", path.getFileName(), widen, run, leakage,
+                        counts.values().stream().mapToInt(i -> i).sum(), handler.getWidenedMethods().size(),
+                        time / 1000000.0, counts.entrySet().stream().map(e -> e.getKey().name + "=" + e.getValue())
+                                .collect(Collectors.joining(",")));
+            }
+        }
+    }
+
+    static void inlining(Cmd cmd, Path path, String program) {
+        for (int run = 0; run < cmd.runs; run++) {
+            GCStats start = GCStats.now();
+            long startTime = System.nanoTime();
+            MethodInvocationHandler handler = MethodInvocationHandler.parse(cmd.handler);
+            Processor.process(program, Context.Mode.LOOP, handler, TRANSFORM_LOOPS);
+            long time = System.nanoTime() - startTime;
+            GCStats stats = GCStats.now().minus(start);
+            long hits = handler instanceof InliningHandler ? ((InliningHandler) handler).getMemoHits() : 0;
+            long misses = handler instanceof InliningHandler ? ((InliningHandler) handler).getMemoMisses() : 0;
+            System.out.printf("%-30s %2d %10.2f %6d %10.1f %10d %10d %10.2f%n", path.getFileName(), run, time / 1000000.0,
+                    stats.collections, mb(stats.allocatedBytes), hits, misses,
+                    hits + misses == 0 ? 0 : hits / (double) (hits + misses));
+        }
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Cmd cmd = new Cmd();
+        CommandLine commandLine = new CommandLine(cmd);
+        commandLine.registerConverter(LeakageAlgorithm.Algo.class, LeakageAlgorithm.Algo::from);
+        commandLine.parseArgs(args);
+        if (commandLine.isUsageHelpRequested()) {
+            commandLine.usage(System.out);
+            return;
+        }
+        if (cmd.cache != null) {
+            LeakageAlgorithm.setUsedCache(new LeakageCache(cmd.cache, cmd.cacheSize * 1024 * 1024));
+        }
+        switch (cmd.benchmark) {
+            case HEAP:
+                System.out.printf("%-30s %2s %10s %8s %6s %6s %10s %8s %6s %6s %10s %10s %10s %10s %10s %8s%n",
+                        "program", "#", "leakage", "ana ms", "ana gc", "gc ms", "ana MB", "leak ms", "leak gc",
+                        "gc ms", "leak MB", "bits", "store bits", "store KB", "peak MB", "shared");
+                break;
+            case PIPELINE:
+                System.out.printf("%-30s %-10s %2s %10s %6s %10s%n", "program", "mode", "#", "ms", "gc", "MB");
+                break;
+            case SOLVER:
+                System.out.printf("%-30s %-30s %2s %10s %10s%n", "program", "algorithm", "#", "leakage", "ms");
+                break;
+            case ITERATION:
+                System.out.printf("%-30s %-10s %-6s %2s %10s %10s %10s %10s %10s %10s %10s%n", "program", "strategy", "sparse", "#",
+                        "visits", "evals", "recomputed", "repl hits", "repl miss", "ms", "MB");
+                break;
+            case WIDENING:
+                System.out.printf("%-30s %5s %2s %10s %10s %7s %10s %s%n", "program", "widen", "#", "leakage",
+                        "iterations", "widened", "ms", "iterations per method");
+                break;
+            case INLINING:
+                System.out.printf("%-30s %2s %10s %6s %10s %10s %10s %10s%n", "program", "#", "ms", "gc", "MB",
+                        "memo hits", "memo miss", "hit ratio");
+                break;
+        }
+        for (Path path : collectSpecimen(cmd)) {
+            String program = String.join("\n", Files.readAllLines(path));
+            switch (cmd.benchmark) {
+                case HEAP:
+                    heap(cmd, path, program);
+                    break;
+                case PIPELINE:
+                    pipeline(cmd, path, program);
+                    break;
+                case SOLVER:
+                    solver(cmd, path, program);
+                    break;
+                case ITERATION:
+                    iteration(cmd, path, program);
+                    break;
+                case WIDENING:
+                    widening(cmd, path, program);
+                    break;
+                case INLINING:
+                    inlining(cmd, path, program);
+                    break;
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package nildumu.intervals;
 
 import java.util.*;
 
+import nildumu.AnalysisSession;
 import nildumu.Lattices;
 
 import static nildumu.Lattices.vl;
@@ -11,7 +12,6 @@ import static nildumu.Lattices.vl;
  */
 public class Interval {
 
-    private static long counter = 0;
     public final long id;
     public long start;
     public long end;
@@ -19,7 +19,7 @@ public class Interval {
     public final Set<Lattices.Bit> bits;
 
     public Interval(long start, long end) {
-        this.id = counter++;
+        this.id = AnalysisSession.current().nextIntervalId();
         this.start = start;
         this.end = end;
         bits = new HashSet<>();
@@ -53,7 +53,7 @@ public class Interval {
   }
 
   public boolean isDefaultInterval() {
-      return start == - (2 << (vl.bitWidth - 2)) && end == (2 << (vl.bitWidth - 2)) - 1 && bits.isEmpty();
+      return start == - (2 << (vl.getBitWidth() - 2)) && end == (2 << (vl.getBitWidth() - 2)) - 1 && bits.isEmpty();
   }
 
   public Interval merge(Interval y) {
@@ -11,7 +11,7 @@ import static nildumu.Lattices.*;
 public class Intervals {
 
   static long bitVal(long val, int index) {
-    if (index == vl.bitWidth - 1) {
+    if (index == vl.getBitWidth() - 1) {
       return val >= 0 ? 0 : 1;
     }
     return (val & (1 << index)) >> index;
@@ -91,7 +91,7 @@ public class Intervals {
       Map<Integer, Lattices.B> constraints = new HashMap<>();
       if (parts.length == 3) {
         String reversed = new StringBuilder(parts[2]).reverse().toString();
-        IntStream.range(0, vl.bitWidth - 1).forEach(i -> {
+        IntStream.range(0, vl.getBitWidth() - 1).forEach(i -> {
           if (i < reversed.length()) {
             constraints.put(i, bs.parse(reversed.substring(i, i + 1)));
           }
@@ -110,12 +110,12 @@ public class Intervals {
 
     @Override
     public String toString() {
-      return String.format("[%d, %d, {%s}]", start, end, IntStream.range(0, vl.bitWidth)
-              .mapToObj(i -> constrain(vl.bitWidth - i - 1).toString()).collect(Collectors.joining("")));
+      return String.format("[%d, %d, {%s}]", start, end, IntStream.range(0, vl.getBitWidth())
+              .mapToObj(i -> constrain(vl.getBitWidth() - i - 1).toString()).collect(Collectors.joining("")));
     }
 
     public Lattices.B signConstraint() {
-      return constrain(vl.bitWidth - 1);
+      return constrain(vl.getBitWidth() - 1);
     }
 
     public long size() {
@@ -129,7 +129,7 @@ public class Intervals {
     private final List<Lattices.B> constraints;
 
     ListConstraints(Map<Integer, Lattices.B> constraints) {
-      this(IntStream.range(0, vl.bitWidth).mapToObj(i -> constraints.getOrDefault(i, U))
+      this(IntStream.range(0, vl.getBitWidth()).mapToObj(i -> constraints.getOrDefault(i, U))
               .collect(Collectors.toList()));
     }
 
@@ -196,7 +196,7 @@ public class Intervals {
     public long countPatternZero(long b, Constraints constraints) {
       int solution = 0;
       long highestUnequalIndex = constraints.highestBitThatDoesNotMatch(b);
-      for (int i = vl.bitWidth - 1; i >= 0; i--) {
+      for (int i = vl.getBitWidth() - 1; i >= 0; i--) {
         Lattices.B m = constraints.get(i);
         long a = bitVal(b, i);
         if (a == 1 && m == ZERO) {
@@ -1,10 +1,9 @@
 package nildumu.mih;
 
 import nildumu.*;
+import swp.util.Pair;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -15,22 +14,38 @@ import static nildumu.Lattices.B.U;
 import static nildumu.Lattices.bl;
 
 class BasicBotInvocationHandler extends MethodInvocationHandler {
+
+    /**
+     * Consider the input variable declarations too and not only the temporary ones? Required for an over
+     * approximation of methods that contain input variable declarations, like transformed loops
+     */
+    private final boolean allInputs;
+
+    BasicBotInvocationHandler() {
+        this(false);
+    }
+
+    BasicBotInvocationHandler(boolean allInputs) {
+        this.allInputs = allInputs;
+    }
+
     @Override
     public MethodReturnValue analyze(Context c, Parser.MethodInvocationNode callSite, List<Lattices.Value> arguments, Map<Variable, Lattices.AppendOnlyValue> globals) {
-        if (arguments.isEmpty() && callSite.definition.getTmpInputVariableDeclarationsFromAll().isEmpty()) {
+        List<Pair<String, Parser.ExpressionNode>> inputs = inputs(callSite.definition);
+        if (arguments.isEmpty() && inputs.isEmpty()) {
             return new MethodReturnValue(bot(callSite), globals, new InputBits(c));
         }
-        Lattices.Value inputVal = callSite.definition.getTmpInputVariableDeclarationsFromAll().stream()
+        Lattices.Value inputVal = inputs.stream()
                 .map(t -> {
                     Lattices.Value val = IntStream.range(0, c.maxBitWidth).mapToObj(i -> {
                         Lattices.Bit b = bl.create(U);
                         c.weight(b, INFTY);
                         return b;
                     }).collect(Lattices.Value.collector());
-                    c.addInputValue(c.sl.parse(t.secLevel), t.expression, val);
+                    c.addInputValue(c.sl.parse(t.first), t.second, val);
                     return val;
                 }).flatMap(Lattices.Value::stream).collect(Lattices.Value.collector());
-        Lattices.DependencySet set = Stream.concat(arguments.stream().flatMap(Lattices.Value::stream), inputVal.stream()).collect(Lattices.DependencySet.collector());
+        Lattices.DependencySet set = c.intern(Stream.concat(arguments.stream().flatMap(Lattices.Value::stream), inputVal.stream()).collect(Lattices.DependencySet.collector()));
         Map<Variable, Lattices.AppendOnlyValue> newGlobals = globals.entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,
                         m -> m.getValue()
@@ -42,7 +57,53 @@ class BasicBotInvocationHandler extends MethodInvocationHandler {
             return new MethodReturnValue(bot(callSite), newGlobals, new InputBits(c));
         }
         return new MethodReturnValue(IntStream.range(0, callSite.definition.getNumberOfReturnValues())
-                .mapToObj(i -> IntStream.range(0, c.maxBitWidth).mapToObj(i2 -> bl.create(U, set.copy()))
+                .mapToObj(i -> IntStream.range(0, c.maxBitWidth).mapToObj(i2 -> bl.create(U, set))
                         .collect(Lattices.Value.collector())).collect(Collectors.toList()), newGlobals, new InputBits(c));
     }
+
+    /**
+     * Security levels and expressions of the input declarations of the method and of all methods that it calls
+     */
+    private List<Pair<String, Parser.ExpressionNode>> inputs(Parser.MethodNode method) {
+        if (!allInputs) {
+            return method.getTmpInputVariableDeclarationsFromAll().stream()
+                    .map(t -> new Pair<String, Parser.ExpressionNode>(t.secLevel, t.expression)).collect(Collectors.toList());
+        }
+        Set<Parser.MethodNode> visited = new HashSet<>();
+        List<Pair<String, Parser.ExpressionNode>> inputs = new ArrayList<>();
+        Deque<Parser.MethodNode> queue = new ArrayDeque<>(Collections.singleton(method));
+        while (!queue.isEmpty()) {
+            Parser.MethodNode cur = queue.poll();
+            if (!visited.add(cur) || cur.isPredefined()) {
+                continue;
+            }
+            cur.body.accept(new Parser.NodeVisitor<Object>() {
+                @Override
+                public Object visit(Parser.MJNode node) {
+                    visitChildrenDiscardReturn(node);
+                    return null;
+                }
+
+                @Override
+                public Object visit(Parser.InputVariableDeclarationNode inputDecl) {
+                    inputs.add(new Pair<>(inputDecl.secLevel, inputDecl.expression));
+                    return null;
+                }
+
+                @Override
+                public Object visit(Parser.TmpInputVariableDeclarationNode inputDecl) {
+                    inputs.add(new Pair<>(inputDecl.secLevel, inputDecl.expression));
+                    return null;
+                }
+
+                @Override
+                public Object visit(Parser.MethodInvocationNode methodInvocation) {
+                    visitChildrenDiscardReturn(methodInvocation);
+                    queue.add(methodInvocation.definition);
+                    return null;
+                }
+            });
+        }
+        return inputs;
+    }
 }
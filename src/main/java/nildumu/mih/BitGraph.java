@@ -113,7 +113,7 @@ public class BitGraph {
             // update dependencies
             newBits.forEach((old, b) -> {
                 if (!parameterBits.contains(old)) {
-                    b.alterDependencies(newBits::get);
+                    b.alterDependencies(newBits::get, context.getDependencySetPool());
                 }
                 //b.value(old.value());
             });
@@ -147,11 +147,11 @@ public class BitGraph {
     }
 
     public Set<Lattices.Bit> minCutBits(Set<Lattices.Bit> outputBits, Set<Lattices.Bit> inputBits) {
-        return LeakageAlgorithm.usedAlgo.compute(new LeakageAlgorithm.SourcesAndSinks(INFTY, outputBits, INFTY, inputBits, context), context::weight).minCut;
+        return LeakageAlgorithm.getUsedAlgo().compute(new LeakageAlgorithm.SourcesAndSinks(INFTY, outputBits, INFTY, inputBits, context), context::weight).minCut;
     }
 
     public Set<Lattices.Bit> minCutBits(Set<Lattices.Bit> outputBits, Set<Lattices.Bit> inputBits, double outputWeight) {
-        return LeakageAlgorithm.usedAlgo.compute(new LeakageAlgorithm.SourcesAndSinks(INFTY, outputBits, INFTY, inputBits, context), b -> outputBits.contains(b) ? outputWeight : context.weight(b)).minCut;
+        return LeakageAlgorithm.getUsedAlgo().compute(new LeakageAlgorithm.SourcesAndSinks(INFTY, outputBits, INFTY, inputBits, context), b -> outputBits.contains(b) ? outputWeight : context.weight(b)).minCut;
     }
 
     /**
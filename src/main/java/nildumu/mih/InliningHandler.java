@@ -3,14 +3,22 @@ package nildumu.mih;
 import nildumu.*;
 import nildumu.util.DefaultMap;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
+import static nildumu.Lattices.bl;
+
 /**
  * A call string based handler that just inlines a function.
  * If a function was inlined in the current call path more than a defined number of times,
  * then another handler is used to compute a conservative approximation.
+ * <p/>
+ * Optionally ("memo=true") the results are memoized per method, argument abstraction and call string
+ * counters: calls with arguments that have the same constant bits and the same aliasing of the non
+ * constant bits reuse the bit graph of the first call, which is instantiated via
+ * {@link BitGraph#applyToArgs(Context, List, Map)}. The bodies are analysed with fresh argument bits,
+ * therefore the mods of the caller are not applied to them. Methods with globals, inputs or recursion
+ * (this includes loops) are not memoized.
  */
 public class InliningHandler extends MethodInvocationHandler {
 
@@ -18,41 +26,145 @@ public class InliningHandler extends MethodInvocationHandler {
 
     final MethodInvocationHandler botHandler;
 
+    final boolean memoize;
+
     private final DefaultMap<Parser.MethodNode, Integer> methodCallCounter = new DefaultMap<>((map, method) -> 0);
 
+    private final Map<Parser.MethodNode, Boolean> memoizable = new HashMap<>();
+
+    private final Map<List<Object>, BitGraph> memo = new HashMap<>();
+
+    private long memoHits = 0;
+
+    private long memoMisses = 0;
+
     InliningHandler(int maxRec, MethodInvocationHandler botHandler) {
+        this(maxRec, botHandler, false);
+    }
+
+    InliningHandler(int maxRec, MethodInvocationHandler botHandler, boolean memoize) {
         this.maxRec = maxRec;
         this.botHandler = botHandler;
+        this.memoize = memoize;
     }
 
     @Override
     public void setup(Parser.ProgramNode program) {
         botHandler.setup(program);
+        memoizable.clear();
+        memo.clear();
     }
 
     @Override
     public MethodReturnValue analyze(Context c, Parser.MethodInvocationNode callSite, List<Lattices.Value> arguments, Map<Variable, Lattices.AppendOnlyValue> globals) {
         Parser.MethodNode method = callSite.definition;
         if (methodCallCounter.get(method) < maxRec) {
-            methodCallCounter.put(method, methodCallCounter.get(method) + 1);
-            c.pushNewFrame(callSite, arguments);
-            for (int i = 0; i < arguments.size(); i++) {
-                c.setVariableValue(method.parameters.get(i).definition, arguments.get(i));
+            if (memoize && memoizable.computeIfAbsent(method, this::isMemoizable)) {
+                List<Object> key = new ArrayList<>();
+                key.add(method);
+                key.add(methodCallCounter.entrySet().stream().filter(e -> e.getValue() > 0)
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+                key.add(abstractArguments(arguments));
+                BitGraph graph = memo.get(key);
+                if (graph == null) {
+                    memoMisses++;
+                    List<Lattices.Value> parameters = createParameters(arguments);
+                    MethodReturnValue returnValue = inline(c, callSite, parameters, globals);
+                    graph = new BitGraph(c, parameters, returnValue, method, returnValue.inputBits);
+                    memo.put(key, graph);
+                } else {
+                    memoHits++;
+                }
+                return graph.applyToArgs(c, arguments, globals);
+            }
+            return inline(c, callSite, arguments, globals);
+        }
+        return botHandler.analyze(c, callSite, arguments, globals);
+    }
+
+    /**
+     * Only methods without globals, inputs and recursion are memoized: the graphs of recursive methods
+     * (including the transformed loops) grow with every level and are rarely called with the same arguments
+     */
+    private boolean isMemoizable(Parser.MethodNode method) {
+        if (!method.globalDefs.isEmpty() || !method.getTmpInputVariableDeclarationsFromAll().isEmpty()) {
+            return false;
+        }
+        return !reachesRecursion(method, new HashSet<>(), new HashSet<>());
+    }
+
+    private static boolean reachesRecursion(Parser.MethodNode method, Set<Parser.MethodNode> onPath, Set<Parser.MethodNode> finished) {
+        if (onPath.contains(method)) {
+            return true;
+        }
+        if (method.isPredefined() || !finished.add(method)) {
+            return false;
+        }
+        onPath.add(method);
+        for (Parser.MethodNode callee : method.body.accept(new CallGraph.CallFinderNode())) {
+            if (reachesRecursion(callee, onPath, finished)) {
+                return true;
             }
-            globals.forEach((v, a) -> {
-                if (method.globalDefs.containsKey(v)) {
-                    c.setVariableValue(method.globalDefs.get(v).first, a);
+        }
+        onPath.remove(method);
+        return false;
+    }
+
+    private MethodReturnValue inline(Context c, Parser.MethodInvocationNode callSite, List<Lattices.Value> arguments, Map<Variable, Lattices.AppendOnlyValue> globals) {
+        Parser.MethodNode method = callSite.definition;
+        methodCallCounter.put(method, methodCallCounter.get(method) + 1);
+        c.pushNewFrame(callSite, arguments);
+        for (int i = 0; i < arguments.size(); i++) {
+            c.setVariableValue(method.parameters.get(i).definition, arguments.get(i));
+        }
+        globals.forEach((v, a) -> {
+            if (method.globalDefs.containsKey(v)) {
+                c.setVariableValue(method.globalDefs.get(v).first, a);
+            }
+        });
+        Processor.process(c, method.body);
+        Lattices.Value ret = c.getReturnValue();
+        Map<Variable, Lattices.AppendOnlyValue> globalVals = method.globalDefs.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                e -> c.getVariableValue(e.getValue().second).asAppendOnly()));
+        InputBits inputBits = c.getNewlyIntroducedInputs();
+        c.popFrame();
+        methodCallCounter.put(method, methodCallCounter.get(method) - 1);
+        return new MethodReturnValue(ret.split(callSite.definition.getNumberOfReturnValues()), globalVals, inputBits);
+    }
+
+    /**
+     * Abstraction of the arguments: the values of all bits and the aliasing of the non constant bits
+     */
+    private static List<Object> abstractArguments(List<Lattices.Value> arguments) {
+        Map<Lattices.Bit, Integer> ids = new IdentityHashMap<>();
+        List<Object> abstraction = new ArrayList<>();
+        for (Lattices.Value argument : arguments) {
+            abstraction.add(argument.size());
+            argument.forEach(b -> {
+                abstraction.add(b.val());
+                if (!b.isConstant()) {
+                    abstraction.add(ids.computeIfAbsent(b, x -> ids.size()));
                 }
             });
-            Processor.process(c, method.body);
-            Lattices.Value ret = c.getReturnValue();
-            Map<Variable, Lattices.AppendOnlyValue> globalVals = method.globalDefs.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
-                    e -> c.getVariableValue(e.getValue().second).asAppendOnly()));
-            InputBits inputBits = c.getNewlyIntroducedInputs();
-            c.popFrame();
-            methodCallCounter.put(method, methodCallCounter.get(method) - 1);
-            return new MethodReturnValue(ret.split(callSite.definition.getNumberOfReturnValues()), globalVals, inputBits);
         }
-        return botHandler.analyze(c, callSite, arguments, globals);
+        return abstraction;
+    }
+
+    /**
+     * Fresh bits without dependencies for the arguments, aliased bits stay aliased
+     */
+    private static List<Lattices.Value> createParameters(List<Lattices.Value> arguments) {
+        Map<Lattices.Bit, Lattices.Bit> freshBits = new IdentityHashMap<>();
+        return arguments.stream()
+                .map(a -> a.map(b -> freshBits.computeIfAbsent(b, x -> bl.create(x.val()))))
+                .collect(Collectors.toList());
+    }
+
+    public long getMemoHits() {
+        return memoHits;
+    }
+
+    public long getMemoMisses() {
+        return memoMisses;
     }
 }
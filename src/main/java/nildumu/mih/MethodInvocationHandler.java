@@ -110,8 +110,9 @@ public abstract class MethodInvocationHandler {
         register("basic", s -> {
         }, ps -> new BasicBotInvocationHandler());
         examplePropLines.add("handler=basic");
-        register("inlining", s -> s.add("maxrec", "2").add("bot", "summary"), ps -> {
-            return new InliningHandler(Integer.parseInt(ps.getProperty("maxrec")), parse(ps.getProperty("bot")));
+        register("inlining", s -> s.add("maxrec", "2").add("bot", "summary").add("memo", "false"), ps -> {
+            return new InliningHandler(Integer.parseInt(ps.getProperty("maxrec")), parse(ps.getProperty("bot")),
+                    Boolean.parseBoolean(ps.getProperty("memo")));
         });
         examplePropLines.add("handler=inlining;maxrec=5;bot=summary");
         examplePropLines.add("handler=inlining;maxrec=2;bot={handler=summary;bot=inlining}");
@@ -121,12 +122,19 @@ public abstract class MethodInvocationHandler {
                         .add("mode", "auto")
                         .add("reduction", "mincut")
                         .add("csmaxrec", "0")
+                        .add("widen", "0")
+                        .add("parallel", "0")
+                        .add("store", "")
+                        .add("store_size", "64")
                         .add("dot", "");
         register("summary", propSchemeCreator, ps -> {
             Path dotFolder = ps.getProperty("dot").equals("") ? null : Paths.get(ps.getProperty("dot"));
             return new SummaryHandler(ps.getProperty("mode").equals("coind") ? Integer.parseInt(ps.getProperty("maxiter")) : Integer.MAX_VALUE,
                     ps.getProperty("mode").equals("ind") ? SummaryHandler.Mode.INDUCTION : (ps.getProperty("mode").equals("auto") ? SummaryHandler.Mode.AUTO : SummaryHandler.Mode.COINDUCTION),
-                    parse(ps.getProperty("bot")), dotFolder, Reduction.valueOf(ps.getProperty("reduction").toUpperCase()), Integer.parseInt(ps.getProperty("csmaxrec")));
+                    parse(ps.getProperty("bot")), dotFolder, Reduction.valueOf(ps.getProperty("reduction").toUpperCase()), Integer.parseInt(ps.getProperty("csmaxrec")),
+                    Integer.parseInt(ps.getProperty("widen")), Integer.parseInt(ps.getProperty("parallel")),
+                    ps.getProperty("store").equals("") ? null :
+                            new SummaryStore(Paths.get(ps.getProperty("store")), Long.parseLong(ps.getProperty("store_size")) * 1024 * 1024));
         });
         examplePropLines.add("handler=summary;bot=basic;reduction=basic");
         examplePropLines.add("handler=summary;bot=basic;reduction=mincut");
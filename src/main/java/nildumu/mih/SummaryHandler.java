@@ -6,6 +6,9 @@ import nildumu.util.Util;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -16,6 +19,7 @@ import static nildumu.Context.log;
 import static nildumu.Lattices.B.U;
 import static nildumu.Lattices.bl;
 import static nildumu.Lattices.ds;
+import static nildumu.Lattices.vl;
 import static nildumu.util.Util.*;
 
 /**
@@ -40,6 +44,19 @@ import static nildumu.util.Util.*;
  * depend upon ("reduction=basic").
  * And improved version ("reduction=mincut") includes the minimal cut bits of the bit graph from
  * the return to the parameter bits, assuming that the return bits have infinite weights.
+ * <p/>
+ * Widening ("widen" property) replaces the summary of a method that has been analysed more than
+ * the configured number of times with the over approximation of the basic handler: all return
+ * bits are unknown and depend on all parameter bits. This bounds the number of iterations for
+ * loops, as they are transformed into recursive methods. By default it is disabled ("widen=0").
+ * <p/>
+ * The summaries of strongly connected components of the call graph that do not depend on each other
+ * can be computed concurrently ("parallel" property, number of threads). Each component is analysed
+ * in its own context and iterated till its summaries are stable. The maximum number of iterations
+ * applies per component in this mode. By default the summaries are computed sequentially ("parallel=0").
+ * <p/>
+ * The summaries can be kept on disk and reused by later analyses ("store" property, directory of the
+ * {@link SummaryStore}, "store_size" property, maximum size of the store in MB).
  */
 public class SummaryHandler extends MethodInvocationHandler {
 
@@ -64,12 +81,60 @@ public class SummaryHandler extends MethodInvocationHandler {
 
     final int callStringMaxRec;
 
+    /**
+     * Number of analyses of a method after which its summary is widened, widening is disabled if &lt;= 0
+     */
+    final int widenAfter;
+
+    /**
+     * Number of threads that compute the summaries of independent strongly connected components of the call
+     * graph concurrently, the summaries are computed sequentially if &lt;= 0
+     */
+    final int parallelism;
+
+    /**
+     * Store for the summaries of previous analyses, might be null
+     */
+    final SummaryStore store;
+
+    /**
+     * Keys of the methods in the {@link #store} during the last setup
+     */
+    private Map<Parser.MethodNode, String> storeKeys = Collections.emptyMap();
+
+    /**
+     * Size of the range of bit numbers that is reserved for the analysis of each component in parallel mode
+     */
+    private static final long BIT_NUMBERS_PER_COMPONENT = 1L << 40;
+
     Map<Parser.MethodNode, BitGraph> methodGraphs;
 
+    /**
+     * Number of analyses per method during the last setup
+     */
+    private final Map<Parser.MethodNode, Integer> iterationCounts = new LinkedHashMap<>();
+
+    private final Set<Parser.MethodNode> widenedMethods = new LinkedHashSet<>();
+
     CallGraph callGraph;
 
     public SummaryHandler(int maxIterations, Mode mode, MethodInvocationHandler botHandler, Path dotFolder, Reduction reductionMode, int callStringMaxRec) {
+        this(maxIterations, mode, botHandler, dotFolder, reductionMode, callStringMaxRec, 0);
+    }
+
+    public SummaryHandler(int maxIterations, Mode mode, MethodInvocationHandler botHandler, Path dotFolder, Reduction reductionMode, int callStringMaxRec, int widenAfter) {
+        this(maxIterations, mode, botHandler, dotFolder, reductionMode, callStringMaxRec, widenAfter, 0);
+    }
+
+    public SummaryHandler(int maxIterations, Mode mode, MethodInvocationHandler botHandler, Path dotFolder, Reduction reductionMode, int callStringMaxRec, int widenAfter, int parallelism) {
+        this(maxIterations, mode, botHandler, dotFolder, reductionMode, callStringMaxRec, widenAfter, parallelism, null);
+    }
+
+    public SummaryHandler(int maxIterations, Mode mode, MethodInvocationHandler botHandler, Path dotFolder, Reduction reductionMode, int callStringMaxRec, int widenAfter, int parallelism, SummaryStore store) {
         this.maxIterations = maxIterations;
+        this.widenAfter = widenAfter;
+        this.parallelism = parallelism;
+        this.store = store;
         this.mode = mode;
         this.reductionMode = reductionMode;
         this.callStringMaxRec = callStringMaxRec;
@@ -86,48 +151,236 @@ public class SummaryHandler extends MethodInvocationHandler {
         if (_mode == Mode.AUTO) {
             _mode = Mode.INDUCTION;
         }
-        List<CallGraph.CallNode> nodes = new ArrayList<>();
         Mode usedMode = _mode;
-        Context c = program.context;
-        Map<Parser.MethodNode, Parser.MethodInvocationNode> callSites = new DefaultMap<>((map, method) -> {
+        iterationCounts.clear();
+        widenedMethods.clear();
+        if (store != null) {
+            String configuration = storeConfiguration(program.context, usedMode);
+            storeKeys = callGraph.mainNode.calledCallNodesAndSelf().stream().filter(n -> !n.isMainNode)
+                    .collect(Collectors.toMap(n -> n.method, n -> SummaryStore.key(callGraph, n.method, configuration)));
+        }
+        if (parallelism > 0) {
+            methodGraphs = parallelSetup(program, usedMode);
+        } else {
+            Iteration iteration = new Iteration(program, program.context, usedMode);
+            program.context.withoutAlternativeRecording(con -> {
+                methodGraphs = callGraph.worklist(iteration::analyse, iteration::bot,
+                        node -> node.getCallers().stream().filter(n -> !n.isMainNode).collect(Collectors.toSet()),
+                        iteration.state, SummaryHandler::changed)
+                        .entrySet().stream().collect(Collectors.toMap(e -> e.getKey().method, e -> e.getValue().value));
+            });
+            iteration.storeGraphs();
+            iteration.addCounts();
+        }
+        Context.log(() -> "Finish setup");
+    }
+
+    /**
+     * Everything besides the methods that influences the summaries in the {@link #store}
+     */
+    private String storeConfiguration(Context context, Mode usedMode) {
+        return String.format("bit_width=%d;context=%s;replacements=%s;simplified=%s;algo=%s;mode=%s;maxiter=%d;bot=%s;reduction=%s;csmaxrec=%d;widen=%d",
+                context.maxBitWidth, context.getMode(), context.usesReplacements(), context.usesSimplifiedHeuristic(),
+                LeakageAlgorithm.getUsedAlgo(), usedMode, maxIterations, botHandler.getClass().getName(), reductionMode,
+                callStringMaxRec, widenAfter);
+    }
+
+    private static boolean changed(PrintHistory.ReduceResult<BitGraph> f, PrintHistory.ReduceResult<BitGraph> s) {
+        return !s.addedAStarBit && !areSummaryGraphsEqual(f.value, s.value); // print history is ignored here
+    }
+
+    /**
+     * Computes the summaries of the strongly connected components of the call graph concurrently, a component
+     * is analysed after all components that contain its callees.
+     * <p/>
+     * Each component is analysed in its own {@link AnalysisSession} with its own context and its own range
+     * of bit numbers, the results therefore do not depend on the scheduling. The summaries are imported into
+     * the context of the program afterwards.
+     */
+    private Map<Parser.MethodNode, BitGraph> parallelSetup(Parser.ProgramNode program, Mode usedMode) {
+        List<List<CallGraph.CallNode>> components = callGraph.stronglyConnectedComponents().stream()
+                .filter(c -> !c.get(0).isMainNode).collect(Collectors.toList());
+        AnalysisSession session = AnalysisSession.current();
+        long firstBitNo = session.getNumberOfCreatedBits();
+        Map<CallGraph.CallNode, CompletableFuture<Iteration>> futures = new HashMap<>();
+        List<CompletableFuture<Iteration>> componentFutures = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (int i = 0; i < components.size(); i++) {
+                List<CallGraph.CallNode> component = components.get(i);
+                AnalysisSession componentSession = session.fork(firstBitNo + (i + 1) * BIT_NUMBERS_PER_COMPONENT);
+                Map<CallGraph.CallNode, CompletableFuture<Iteration>> calleeFutures = component.stream()
+                        .flatMap(n -> n.callees.stream()).filter(n -> !component.contains(n)).distinct()
+                        .collect(Collectors.toMap(n -> n, futures::get));
+                CompletableFuture<Iteration> future = CompletableFuture.allOf(calleeFutures.values().toArray(new CompletableFuture<?>[0]))
+                        .thenApplyAsync(v -> componentSession.run(() -> analyseComponent(program, usedMode, component, calleeFutures)), pool);
+                component.forEach(n -> futures.put(n, future));
+                componentFutures.add(future);
+            }
+            Map<Parser.MethodNode, BitGraph> graphs = new HashMap<>();
+            for (int i = 0; i < components.size(); i++) {
+                Iteration iteration = join(componentFutures.get(i));
+                for (CallGraph.CallNode node : components.get(i)) {
+                    graphs.put(node.method, importGraph(program.context, iteration.context, iteration.state.get(node).value));
+                }
+                iteration.addCounts();
+            }
+            return graphs;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Iteration analyseComponent(Parser.ProgramNode program, Mode usedMode, List<CallGraph.CallNode> component,
+                                       Map<CallGraph.CallNode, CompletableFuture<Iteration>> calleeFutures) {
+        log(() -> String.format("Setup: Analyse component %s", component));
+        Iteration iteration = new Iteration(program, program.context.fork(), usedMode);
+        calleeFutures.forEach((callee, future) -> {
+            Iteration calleeIteration = join(future);
+            iteration.state.put(callee, new PrintHistory.ReduceResult<>(
+                    importGraph(iteration.context, calleeIteration.context, calleeIteration.state.get(callee).value)));
+        });
+        callGraph.worklist(component, iteration::analyse, iteration::bot,
+                node -> node.getCallers().stream().filter(component::contains).collect(Collectors.toSet()),
+                iteration.state, SummaryHandler::changed);
+        iteration.storeGraphs();
+        return iteration;
+    }
+
+    private static Iteration join(CompletableFuture<Iteration> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Makes a graph that has been computed in another context usable in the target context: the replacements
+     * and weights of its bits are copied and its input bits are bound to the target context
+     */
+    BitGraph importGraph(Context target, Context source, BitGraph graph) {
+        Set<Lattices.Bit> bits = new HashSet<>(graph.parameterBits);
+        vl.walkBits(Stream.concat(graph.inputBits.getBits().stream(), graph.methodReturnValue.getCombinedValue().stream())
+                .collect(Collectors.toSet()), bits::add);
+        target.copyBitProperties(source, bits);
+        InputBits inputBits = graph.inputBits.map(target, b -> b);
+        MethodReturnValue returnValue = new MethodReturnValue(graph.methodReturnValue.values, graph.methodReturnValue.globals,
+                graph.methodReturnValue.inputBits.map(target, b -> b));
+        return new BitGraph(target, graph.parameters, returnValue, graph.methodNode, inputBits);
+    }
+
+    /**
+     * Fix point iteration over the whole call graph or over a strongly connected component of it, with its
+     * own context
+     */
+    private class Iteration {
+
+        final Parser.ProgramNode program;
+
+        final Context context;
+
+        final Mode usedMode;
+
+        final Map<Parser.MethodNode, Parser.MethodInvocationNode> callSites = new DefaultMap<>((map, method) -> {
             Parser.MethodInvocationNode callSite = new Parser.MethodInvocationNode(method.location, method.name, null, null);
             callSite.definition = method;
             return callSite;
         });
-        Map<CallGraph.CallNode, PrintHistory.ReduceResult<BitGraph>> state = new HashMap<>();
+
+        final Map<CallGraph.CallNode, PrintHistory.ReduceResult<BitGraph>> state = new HashMap<>();
+
+        final Map<Parser.MethodNode, BitGraph> topGraphs = new HashMap<>();
+
+        final Map<CallGraph.CallNode, PrintHistory.HistoryEntry> history = new HashMap<>();
+
+        final Map<Parser.MethodNode, Integer> iterationCounts = new LinkedHashMap<>();
+
+        final Set<Parser.MethodNode> widenedMethods = new LinkedHashSet<>();
+
+        /**
+         * Methods whose summaries are loaded from the store and are therefore already final
+         */
+        final Set<Parser.MethodNode> loadedMethods = new HashSet<>();
+
         // bitGraph.parameters do not change
-        MethodInvocationHandler handler = createHandler(m -> state.get(callGraph.callNode(m)).value);
-        Util.Box<Integer> iteration = new Util.Box<>(0);
-        Map<CallGraph.CallNode, PrintHistory.HistoryEntry> history = new HashMap<>();
-        c.withoutAlternativeRecording(con -> {
-            methodGraphs = callGraph.worklist((node, s) -> {
-                        if (node.isMainNode || iteration.val > maxIterations) {
-                            return s.get(node);
-                        }
-                        nodes.add(node);
-                        log(() -> String.format("Setup: Analyse %s", node.method.name));
-                        iteration.val += 1;
-                        BitGraph graph = methodIteration(program.context, callSites.get(node.method), handler, s.get(node).value.parameters);
-                        String name = String.format("%3d %s", iteration.val, node.method.name);
-                        GraphRegistry.get().store("summary", name, graph, "", true);
-                        BitGraph reducedGraph = reduce(c, graph);
-                        PrintHistory.HistoryEntry newHist = PrintHistory.HistoryEntry.create(reducedGraph, history.containsKey(node) ? Optional.of(history.get(node)) : Optional.empty());
-                        PrintHistory.ReduceResult<BitGraph> furtherReducedGraph = reduceGlobals(node, reducedGraph, newHist, c);
-                        history.put(node, PrintHistory.HistoryEntry.create(furtherReducedGraph.value, newHist.prev));
-                        GraphRegistry.get().store("summary", name + " [reduced]", furtherReducedGraph.value, "", false);
-                        return furtherReducedGraph;
-                    }, node -> {
-                        BitGraph graph = bot(program, node.method, callSites, usedMode);
-                        String name = String.format("%3d %s", iteration.val, node.method.name);
-                        GraphRegistry.get().store("summary", name, graph, "", false);
-                        return new PrintHistory.ReduceResult<>(graph);
+        final MethodInvocationHandler handler = createHandler(m -> state.get(callGraph.callNode(m)).value);
+
+        int iteration = 0;
+
+        Iteration(Parser.ProgramNode program, Context context, Mode usedMode) {
+            this.program = program;
+            this.context = context;
+            this.usedMode = usedMode;
+        }
+
+        PrintHistory.ReduceResult<BitGraph> analyse(CallGraph.CallNode node, Map<CallGraph.CallNode, PrintHistory.ReduceResult<BitGraph>> s) {
+            if (node.isMainNode || iteration > maxIterations || loadedMethods.contains(node.method)) {
+                return s.get(node);
+            }
+            int analyses = iterationCounts.merge(node.method, 1, Integer::sum);
+            if (widenAfter > 0 && analyses > widenAfter) {
+                log(() -> String.format("Setup: Widen %s", node.method.name));
+                widenedMethods.add(node.method);
+                // the same graph is returned in every later iteration, therefore the callers stabilize
+                return new PrintHistory.ReduceResult<>(topGraphs.computeIfAbsent(node.method,
+                        m -> top(program, context, m, callSites)));
+            }
+            log(() -> String.format("Setup: Analyse %s", node.method.name));
+            iteration += 1;
+            BitGraph graph = methodIteration(context, callSites.get(node.method), handler, s.get(node).value.parameters);
+            String name = String.format("%3d %s", iteration, node.method.name);
+            GraphRegistry.get().store("summary", name, graph, "", true);
+            BitGraph reducedGraph = reduce(context, graph);
+            PrintHistory.HistoryEntry newHist = PrintHistory.HistoryEntry.create(reducedGraph, history.containsKey(node) ? Optional.of(history.get(node)) : Optional.empty());
+            PrintHistory.ReduceResult<BitGraph> furtherReducedGraph = reduceGlobals(node, reducedGraph, newHist, context);
+            history.put(node, PrintHistory.HistoryEntry.create(furtherReducedGraph.value, newHist.prev));
+            GraphRegistry.get().store("summary", name + " [reduced]", furtherReducedGraph.value, "", false);
+            return furtherReducedGraph;
+        }
+
+        PrintHistory.ReduceResult<BitGraph> bot(CallGraph.CallNode node) {
+            if (store != null && !node.isMainNode) {
+                Optional<BitGraph> stored = store.load(storeKeys.get(node.method), context, node.method);
+                if (stored.isPresent()) {
+                    log(() -> String.format("Setup: Load %s", node.method.name));
+                    loadedMethods.add(node.method);
+                    return new PrintHistory.ReduceResult<>(stored.get());
+                }
+            }
+            BitGraph graph = SummaryHandler.this.bot(program, context, node.method, callSites, usedMode);
+            String name = String.format("%3d %s", iteration, node.method.name);
+            GraphRegistry.get().store("summary", name, graph, "", false);
+            return new PrintHistory.ReduceResult<>(graph);
+        }
+
+        /**
+         * Stores the summaries of all analysed methods
+         */
+        void storeGraphs() {
+            if (store != null) {
+                state.forEach((node, graph) -> {
+                    if (!node.isMainNode && !loadedMethods.contains(node.method) && iterationCounts.containsKey(node.method)) {
+                        store.store(storeKeys.get(node.method), graph.value);
                     }
-                    , node -> node.getCallers().stream().filter(n -> !n.isMainNode).collect(Collectors.toSet()),
-                    state, (f, s) -> {
-                        return !s.addedAStarBit && !areSummaryGraphsEqual(f.value, s.value); // print history is ignored here
-                    }).entrySet().stream().collect(Collectors.toMap(e -> e.getKey().method, e -> e.getValue().value));
-        });
-        Context.log(() -> "Finish setup");
+                });
+            }
+        }
+
+        /**
+         * Adds the number of analyses and the widened methods to the ones of the handler
+         */
+        void addCounts() {
+            iterationCounts.forEach((m, c) -> SummaryHandler.this.iterationCounts.merge(m, c, Integer::sum));
+            SummaryHandler.this.widenedMethods.addAll(widenedMethods);
+        }
     }
 
     /**
@@ -176,15 +429,56 @@ public class SummaryHandler extends MethodInvocationHandler {
     }
 
 
-    BitGraph bot(Parser.ProgramNode program, Parser.MethodNode method, Map<Parser.MethodNode, Parser.MethodInvocationNode> callSites, Mode usedMode) {
+    BitGraph bot(Parser.ProgramNode program, Context context, Parser.MethodNode method, Map<Parser.MethodNode, Parser.MethodInvocationNode> callSites, Mode usedMode) {
         List<Lattices.Value> parameters = generateParameters(program, method);
         if (usedMode == Mode.COINDUCTION) {
-            MethodReturnValue returnValue = botHandler.analyze(program.context, callSites.get(method), parameters, new HashMap<>());
-            return new BitGraph(program.context, parameters, returnValue, method, new InputBits(program.context));
+            MethodReturnValue returnValue = botHandler.analyze(context, callSites.get(method), parameters, new HashMap<>());
+            return new BitGraph(context, parameters, returnValue, method, new InputBits(context));
         }
         // TODO: problem with input bits?
-        return new BitGraph(program.context, parameters, new MethodReturnValue(createUnknownValue(program, method.getNumberOfReturnValues()),
-                new HashMap<>(), new InputBits(program.context)), method, new InputBits(program.context));
+        return new BitGraph(context, parameters, new MethodReturnValue(createUnknownValue(program, method.getNumberOfReturnValues()),
+                new HashMap<>(), new InputBits(context)), method, new InputBits(context));
+    }
+
+    /**
+     * Over approximation of the summary of the method, used for widening
+     */
+    BitGraph top(Parser.ProgramNode program, Context context, Parser.MethodNode method, Map<Parser.MethodNode, Parser.MethodInvocationNode> callSites) {
+        List<Lattices.Value> parameters = generateParameters(program, method);
+        Map<Variable, Lattices.AppendOnlyValue> globals = method.globalDefs.keySet().stream()
+                .collect(Collectors.toMap(v -> v, v -> Lattices.AppendOnlyValue.createEmpty()));
+        Parser.MethodInvocationNode callSite = callSites.get(method);
+        // the input bits that the bot handler creates for all inputs of the method (and its callees) have to be
+        // part of the summary, they are otherwise not introduced at the call sites and the summary under approximates
+        context.resetFrames();
+        context.pushNewFrame(callSite, parameters.stream().flatMap(Lattices.Value::stream).collect(Collectors.toSet()));
+        MethodReturnValue returnValue = new BasicBotInvocationHandler(true).analyze(context, callSite, parameters, globals);
+        InputBits inputBits = context.getNewlyIntroducedInputs();
+        context.popFrame();
+        return new BitGraph(context, parameters, new MethodReturnValue(returnValue.values, returnValue.globals, inputBits),
+                method, inputBits);
+    }
+
+    /**
+     * Returns the number of analyses of each method during the last setup, loops are transformed into methods
+     * before the analysis (see {@link LoopTransformer})
+     */
+    public Map<Parser.MethodNode, Integer> getIterationCounts() {
+        return Collections.unmodifiableMap(iterationCounts);
+    }
+
+    /**
+     * Returns the methods whose summaries have been widened during the last setup
+     */
+    public Set<Parser.MethodNode> getWidenedMethods() {
+        return Collections.unmodifiableSet(widenedMethods);
+    }
+
+    /**
+     * Returns the store for the summaries or null if summaries are not stored
+     */
+    public SummaryStore getStore() {
+        return store;
     }
 
     List<Lattices.Value> generateParameters(Parser.ProgramNode program, Parser.MethodNode method) {
@@ -281,7 +575,7 @@ public class SummaryHandler extends MethodInvocationHandler {
         bitGraph.parameterBits.forEach(b -> newBits.put(b, b));
         // update the control dependencies
         newBits.forEach((o, b) -> {
-            b.alterDependencies(newBits::get);
+            b.alterDependencies(newBits::get, context.getDependencySetPool());
         });
         MethodReturnValue ret = bitGraph.methodReturnValue.map(newBits::get);
         zip(ret.values, bitGraph.returnValues, (v1, v2) -> v1.node(v2.node()));
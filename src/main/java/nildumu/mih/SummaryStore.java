@@ -0,0 +1,263 @@
+package nildumu.mih;
+
+import nildumu.*;
+import nildumu.util.FileCache;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static nildumu.Context.log;
+import static nildumu.Lattices.*;
+
+/**
+ * Stores the reduced summaries of methods on disk, so that they can be reused by later analyses.
+ * <p/>
+ * A summary is stored under the hash of the method, its transitive callees (see {@link #key(CallGraph, Parser.MethodNode, String)}),
+ * the bit width and the configuration of the analysis. Only the bits of the summary are stored: the parameter bits,
+ * the return bits, the bits of the append only globals and the dependencies between them, together with their
+ * weights. Summaries that introduce input bits are not stored.
+ * <p/>
+ * The store is bounded by the size of the stored files, the least recently used summaries are evicted first.
+ * Summaries are recomputed if the files cannot be read or written.
+ */
+public class SummaryStore {
+
+    private static final int VERSION = 1;
+
+    private static final String SUFFIX = ".summary";
+
+    private final FileCache cache;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxBytes maximum size of all stored summaries
+     */
+    public SummaryStore(Path directory, long maxBytes) {
+        this.cache = new FileCache(directory, SUFFIX, maxBytes);
+    }
+
+    /**
+     * Canonical key of the summary of a method: the names of the method and of its transitive callees are
+     * replaced by their position in the breadth first traversal of the calls, therefore renamed copies of
+     * methods share their summaries
+     *
+     * @param configuration everything besides the methods that influences the summary
+     */
+    public static String key(CallGraph callGraph, Parser.MethodNode method, String configuration) {
+        List<Parser.MethodNode> methods = new ArrayList<>();
+        Map<String, String> names = new HashMap<>();
+        Map<Parser.MethodNode, String> texts = new HashMap<>();
+        Deque<Parser.MethodNode> queue = new ArrayDeque<>();
+        queue.add(method);
+        names.put(method.name, "m0");
+        methods.add(method);
+        while (!queue.isEmpty()) {
+            Parser.MethodNode cur = queue.poll();
+            String text = cur.toPrettyString("", " ");
+            texts.put(cur, text);
+            callGraph.callNode(cur).callees.stream()
+                    .sorted(Comparator.comparingInt((CallGraph.CallNode n) -> firstCall(text, n.method.name))
+                            .thenComparing(n -> n.method.name))
+                    .filter(n -> !names.containsKey(n.method.name))
+                    .forEach(n -> {
+                        names.put(n.method.name, "m" + names.size());
+                        methods.add(n.method);
+                        queue.add(n.method);
+                    });
+        }
+        StringBuilder builder = new StringBuilder(configuration).append('\n');
+        for (Parser.MethodNode m : methods) {
+            builder.append(rename(texts.get(m), names)).append('\n');
+        }
+        return FileCache.hash(builder.toString());
+    }
+
+    private static int firstCall(String text, String name) {
+        Matcher matcher = Pattern.compile("\\b" + Pattern.quote(name) + "\\s*\\(").matcher(text);
+        return matcher.find() ? matcher.start() : Integer.MAX_VALUE;
+    }
+
+    private static String rename(String text, Map<String, String> names) {
+        Matcher matcher = Pattern.compile("\\b([A-Za-z_$][A-Za-z0-9_$]*)(\\s*\\()").matcher(text);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find()) {
+            String name = names.getOrDefault(matcher.group(1), matcher.group(1));
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(name + matcher.group(2)));
+        }
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Summaries with input bits cannot be stored, as their input bits are tied to the call paths of the program
+     */
+    public static boolean isStorable(BitGraph graph) {
+        return graph.inputBits.getBits().isEmpty();
+    }
+
+    /**
+     * Loads the summary of the method and creates its bits in the passed context
+     *
+     * @return the summary or empty if the store does not contain it
+     */
+    public Optional<BitGraph> load(String key, Context context, Parser.MethodNode method) {
+        try {
+            Optional<BitGraph> graph = cache.load(key, in -> read(in, context, method));
+            (graph.isPresent() ? hits : misses).incrementAndGet();
+            return graph;
+        } catch (IOException | RuntimeException e) {
+            log(() -> String.format("Cannot load summary %s of %s: %s", key, method.name, e));
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the summary if it is {@link #isStorable(BitGraph) storable} and evicts the least recently used
+     * summaries if the store is too large afterwards
+     */
+    public void store(String key, BitGraph graph) {
+        if (!isStorable(graph)) {
+            return;
+        }
+        try {
+            cache.store(key, out -> write(out, graph));
+        } catch (IOException e) {
+            log(() -> String.format("Cannot store summary %s: %s", key, e));
+        }
+    }
+
+    /**
+     * Format: version, bit widths of the parameters, bits (value, weight and dependencies), return values and
+     * append only globals. Bits are referenced by their number: the parameter bits come first (in the order of
+     * the parameters) and are followed by the other bits
+     */
+    void write(DataOutputStream out, BitGraph graph) throws IOException {
+        Map<Bit, Integer> ids = new HashMap<>();
+        out.writeInt(VERSION);
+        out.writeInt(graph.parameters.size());
+        for (Value parameter : graph.parameters) {
+            out.writeInt(parameter.size());
+            parameter.forEach(b -> ids.put(b, ids.size()));
+        }
+        List<Bit> bits = new ArrayList<>();
+        vl.walkBits(Stream.concat(graph.methodReturnValue.values.stream(), graph.methodReturnValue.globals.values().stream())
+                .flatMap(Value::stream).collect(Collectors.toSet()), b -> {
+            if (!ids.containsKey(b)) {
+                ids.put(b, ids.size());
+                bits.add(b);
+            }
+        });
+        out.writeInt(bits.size());
+        for (Bit bit : bits) {
+            out.writeByte(bit.val().ordinal());
+            out.writeDouble(graph.context.weight(bit));
+            out.writeInt(bit.deps().size());
+            for (Bit dep : bit.deps()) {
+                out.writeInt(ids.get(dep));
+            }
+        }
+        out.writeInt(graph.methodReturnValue.values.size());
+        for (Value value : graph.methodReturnValue.values) {
+            writeValue(out, value, ids);
+        }
+        List<Variable> globals = graph.methodReturnValue.globals.keySet().stream()
+                .sorted(Comparator.comparing(v -> v.name)).collect(Collectors.toList());
+        out.writeInt(globals.size());
+        for (Variable global : globals) {
+            out.writeUTF(global.name);
+            writeValue(out, graph.methodReturnValue.globals.get(global), ids);
+        }
+    }
+
+    private void writeValue(DataOutputStream out, Value value, Map<Bit, Integer> ids) throws IOException {
+        out.writeInt(value.size());
+        for (Bit bit : value) {
+            out.writeInt(ids.get(bit));
+        }
+    }
+
+    BitGraph read(DataInputStream in, Context context, Parser.MethodNode method) throws IOException {
+        if (in.readInt() != VERSION) {
+            throw new IOException("Unsupported version");
+        }
+        int parameterCount = in.readInt();
+        if (parameterCount != method.parameters.size()) {
+            throw new IOException("Wrong number of parameters");
+        }
+        List<Bit> bits = new ArrayList<>();
+        List<Value> parameters = new ArrayList<>();
+        for (int i = 0; i < parameterCount; i++) {
+            int width = in.readInt();
+            List<Bit> parameterBits = new ArrayList<>();
+            for (int j = 0; j < width; j++) {
+                parameterBits.add(bl.create(B.U));
+            }
+            bits.addAll(parameterBits);
+            parameters.add(new Value(parameterBits));
+        }
+        int bitCount = in.readInt();
+        List<int[]> deps = new ArrayList<>();
+        for (int i = 0; i < bitCount; i++) {
+            B val = B.values()[in.readByte()];
+            double weight = in.readDouble();
+            int[] bitDeps = new int[in.readInt()];
+            for (int j = 0; j < bitDeps.length; j++) {
+                bitDeps[j] = in.readInt();
+            }
+            Bit bit = bl.create(val, ds.empty());
+            context.weight(bit, weight);
+            bits.add(bit);
+            deps.add(bitDeps);
+        }
+        int firstBit = bits.size() - bitCount;
+        for (int i = 0; i < bitCount; i++) {
+            Bit bit = bits.get(firstBit + i);
+            bit.addDependencies(Arrays.stream(deps.get(i)).mapToObj(bits::get).collect(Collectors.toList()));
+        }
+        List<Value> returnValues = new ArrayList<>();
+        int returnCount = in.readInt();
+        for (int i = 0; i < returnCount; i++) {
+            returnValues.add(readValue(in, bits));
+        }
+        Map<String, Variable> variables = method.globalDefs.keySet().stream().collect(Collectors.toMap(v -> v.name, v -> v));
+        Map<Variable, AppendOnlyValue> globals = new HashMap<>();
+        int globalCount = in.readInt();
+        for (int i = 0; i < globalCount; i++) {
+            Variable variable = variables.get(in.readUTF());
+            if (variable == null) {
+                throw new IOException("Unknown global variable");
+            }
+            globals.put(variable, readValue(in, bits).asAppendOnly());
+        }
+        InputBits inputBits = new InputBits(context);
+        return new BitGraph(context, parameters, new MethodInvocationHandler.MethodReturnValue(returnValues, globals, inputBits),
+                method, inputBits);
+    }
+
+    private Value readValue(DataInputStream in, List<Bit> bits) throws IOException {
+        int size = in.readInt();
+        List<Bit> valueBits = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            valueBits.add(bits.get(in.readInt()));
+        }
+        return new Value(valueBits);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
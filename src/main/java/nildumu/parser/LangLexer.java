@@ -0,0 +1,293 @@
+// Generated from Lang.g4 by ANTLR 4.9.2
+package nildumu.parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class LangLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.9.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		COMMENT=1, WS=2, INPUT=3, TMP_INPUT=4, OUTPUT=5, APPEND_ONLY=6, INT=7, 
+		VAR=8, RETURN=9, IF=10, WHILE=11, ELSE=12, TRUE=13, FALSE=14, VOID=15, 
+		USE_SEC=16, BIT_WIDTH=17, PHI=18, TILDE=19, BREAK=20, CONTINUE=21, LOWER_EQUALS=22, 
+		GREATER_EQUALS=23, MODULO=24, PLUS=25, MINUS=26, DIVIDE=27, MULTIPLY=28, 
+		COLON_EQUAL=29, EQUAL_SIGN=30, EQUALS=31, UNEQUALS=32, INVERT=33, LOWER=34, 
+		GREATER=35, AND=36, OR=37, BAND=38, BOR=39, XOR=40, LEFT_SHIFT=41, RIGHT_SHIFT=42, 
+		LPAREN=43, RPAREN=44, LBRACKET=45, LBBRACKET=46, RBRACKET=47, RBBRACKET=48, 
+		ARROW=49, APPEND=50, SEMI=51, INTEGER_LITERAL=52, INPUT_LITERAL=53, IDENT=54, 
+		LCURLY=55, RCURLY=56, COLON=57, COMMA=58, DOT=59, ANY=60;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"BLOCK_COMMENT", "LINE_COMMENT", "COMMENT", "WS", "INPUT", "TMP_INPUT", 
+			"OUTPUT", "APPEND_ONLY", "INT", "VAR", "RETURN", "IF", "WHILE", "ELSE", 
+			"TRUE", "FALSE", "VOID", "USE_SEC", "BIT_WIDTH", "PHI", "TILDE", "BREAK", 
+			"CONTINUE", "LOWER_EQUALS", "GREATER_EQUALS", "MODULO", "PLUS", "MINUS", 
+			"DIVIDE", "MULTIPLY", "COLON_EQUAL", "EQUAL_SIGN", "EQUALS", "UNEQUALS", 
+			"INVERT", "LOWER", "GREATER", "AND", "OR", "BAND", "BOR", "XOR", "LEFT_SHIFT", 
+			"RIGHT_SHIFT", "LPAREN", "RPAREN", "LBRACKET", "LBBRACKET", "RBRACKET", 
+			"RBBRACKET", "ARROW", "APPEND", "SEMI", "INTEGER_LITERAL", "INPUT_LITERAL", 
+			"IDENT", "LCURLY", "RCURLY", "COLON", "COMMA", "DOT", "ANY"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, "'input'", "'tmp_input'", "'output'", "'append_only'", 
+			null, "'var'", "'return'", "'if'", "'while'", "'else'", "'true'", "'false'", 
+			"'void'", "'use_sec'", "'bit_width'", "'phi'", "'~'", "'break'", "'continue'", 
+			"'<='", "'>='", "'%'", "'+'", "'-'", "'/'", "'*'", "':='", "'='", "'=='", 
+			"'!='", "'!'", "'<'", "'>'", "'&&'", "'||'", "'&'", "'|'", "'^'", "'<<'", 
+			"'>>'", "'('", "')'", "'['", "'[['", "']'", "']]'", "'->'", "'@'", null, 
+			null, null, null, "'{'", "'}'", "':'", "','", "'.'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "COMMENT", "WS", "INPUT", "TMP_INPUT", "OUTPUT", "APPEND_ONLY", 
+			"INT", "VAR", "RETURN", "IF", "WHILE", "ELSE", "TRUE", "FALSE", "VOID", 
+			"USE_SEC", "BIT_WIDTH", "PHI", "TILDE", "BREAK", "CONTINUE", "LOWER_EQUALS", 
+			"GREATER_EQUALS", "MODULO", "PLUS", "MINUS", "DIVIDE", "MULTIPLY", "COLON_EQUAL", 
+			"EQUAL_SIGN", "EQUALS", "UNEQUALS", "INVERT", "LOWER", "GREATER", "AND", 
+			"OR", "BAND", "BOR", "XOR", "LEFT_SHIFT", "RIGHT_SHIFT", "LPAREN", "RPAREN", 
+			"LBRACKET", "LBBRACKET", "RBRACKET", "RBBRACKET", "ARROW", "APPEND", 
+			"SEMI", "INTEGER_LITERAL", "INPUT_LITERAL", "IDENT", "LCURLY", "RCURLY", 
+			"COLON", "COMMA", "DOT", "ANY"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public LangLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Lang.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2>\u01b7\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\3\2\3\2\3\2\3\2\7\2\u0084\n\2\f\2\16\2\u0087\13\2\3\2\3\2"+
+		"\3\2\3\3\3\3\3\3\3\3\3\3\3\4\7\4\u0092\n\4\f\4\16\4\u0095\13\4\3\4\3\4"+
+		"\5\4\u0099\n\4\3\4\7\4\u009c\n\4\f\4\16\4\u009f\13\4\3\4\3\4\3\5\6\5\u00a4"+
+		"\n\5\r\5\16\5\u00a5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3"+
+		"\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t"+
+		"\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\5\n\u00ce\n\n\3\n\3\n\3\n\3\n\3\13\3"+
+		"\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\16\3\16\3\16\3"+
+		"\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\21\3"+
+		"\21\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3"+
+		"\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3"+
+		"\25\3\25\3\25\3\25\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3"+
+		"\30\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\32\3\32\3\32\3\33\3"+
+		"\33\3\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37\3 \3 \3 \3!\3!\3\"\3\"\3\""+
+		"\3#\3#\3#\3$\3$\3%\3%\3&\3&\3\'\3\'\3\'\3(\3(\3(\3)\3)\3*\3*\3+\3+\3,"+
+		"\3,\3,\3-\3-\3-\3.\3.\3/\3/\3\60\3\60\3\61\3\61\3\61\3\62\3\62\3\63\3"+
+		"\63\3\63\3\64\3\64\3\64\3\65\3\65\3\66\5\66\u016b\n\66\3\66\3\66\5\66"+
+		"\u016f\n\66\3\66\6\66\u0172\n\66\r\66\16\66\u0173\3\67\3\67\7\67\u0178"+
+		"\n\67\f\67\16\67\u017b\13\67\3\67\5\67\u017e\n\67\3\67\3\67\3\67\3\67"+
+		"\3\67\3\67\6\67\u0186\n\67\r\67\16\67\u0187\3\67\5\67\u018b\n\67\7\67"+
+		"\u018d\n\67\f\67\16\67\u0190\13\67\5\67\u0192\n\67\38\38\38\38\38\38\6"+
+		"8\u019a\n8\r8\168\u019b\38\58\u019f\n8\68\u01a1\n8\r8\168\u01a2\39\39"+
+		"\79\u01a7\n9\f9\169\u01aa\139\3:\3:\3;\3;\3<\3<\3=\3=\3>\3>\3?\3?\3\u0085"+
+		"\2@\3\2\5\2\7\3\t\4\13\5\r\6\17\7\21\b\23\t\25\n\27\13\31\f\33\r\35\16"+
+		"\37\17!\20#\21%\22\'\23)\24+\25-\26/\27\61\30\63\31\65\32\67\339\34;\35"+
+		"=\36?\37A C!E\"G#I$K%M&O\'Q(S)U*W+Y,[-]._/a\60c\61e\62g\63i\64k\65m\66"+
+		"o\67q8s9u:w;y<{=}>\3\2\f\4\2\f\f\17\17\3\2\f\f\5\2\13\13\16\17\"\"\3\2"+
+		"cc\3\2\63;\3\2\62;\4\2\62\63gg\5\2\62\63wwzz\5\2C\\aac|\6\2\62;C\\aac"+
+		"|\2\u01c8\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2"+
+		"\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2"+
+		"\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2"+
+		"\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2"+
+		"\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2"+
+		"\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2"+
+		"K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3"+
+		"\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2"+
+		"\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2"+
+		"q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3"+
+		"\2\2\2\3\177\3\2\2\2\5\u008b\3\2\2\2\7\u0093\3\2\2\2\t\u00a3\3\2\2\2\13"+
+		"\u00a9\3\2\2\2\r\u00af\3\2\2\2\17\u00b9\3\2\2\2\21\u00c0\3\2\2\2\23\u00cd"+
+		"\3\2\2\2\25\u00d3\3\2\2\2\27\u00d7\3\2\2\2\31\u00de\3\2\2\2\33\u00e1\3"+
+		"\2\2\2\35\u00e7\3\2\2\2\37\u00ec\3\2\2\2!\u00f1\3\2\2\2#\u00f7\3\2\2\2"+
+		"%\u00fc\3\2\2\2\'\u0104\3\2\2\2)\u010e\3\2\2\2+\u0112\3\2\2\2-\u0114\3"+
+		"\2\2\2/\u011a\3\2\2\2\61\u0123\3\2\2\2\63\u0126\3\2\2\2\65\u0129\3\2\2"+
+		"\2\67\u012b\3\2\2\29\u012d\3\2\2\2;\u012f\3\2\2\2=\u0131\3\2\2\2?\u0133"+
+		"\3\2\2\2A\u0136\3\2\2\2C\u0138\3\2\2\2E\u013b\3\2\2\2G\u013e\3\2\2\2I"+
+		"\u0140\3\2\2\2K\u0142\3\2\2\2M\u0144\3\2\2\2O\u0147\3\2\2\2Q\u014a\3\2"+
+		"\2\2S\u014c\3\2\2\2U\u014e\3\2\2\2W\u0150\3\2\2\2Y\u0153\3\2\2\2[\u0156"+
+		"\3\2\2\2]\u0158\3\2\2\2_\u015a\3\2\2\2a\u015c\3\2\2\2c\u015f\3\2\2\2e"+
+		"\u0161\3\2\2\2g\u0164\3\2\2\2i\u0167\3\2\2\2k\u0171\3\2\2\2m\u0191\3\2"+
+		"\2\2o\u0193\3\2\2\2q\u01a4\3\2\2\2s\u01ab\3\2\2\2u\u01ad\3\2\2\2w\u01af"+
+		"\3\2\2\2y\u01b1\3\2\2\2{\u01b3\3\2\2\2}\u01b5\3\2\2\2\177\u0080\7\61\2"+
+		"\2\u0080\u0081\7,\2\2\u0081\u0085\3\2\2\2\u0082\u0084\13\2\2\2\u0083\u0082"+
+		"\3\2\2\2\u0084\u0087\3\2\2\2\u0085\u0086\3\2\2\2\u0085\u0083\3\2\2\2\u0086"+
+		"\u0088\3\2\2\2\u0087\u0085\3\2\2\2\u0088\u0089\7,\2\2\u0089\u008a\7\61"+
+		"\2\2\u008a\4\3\2\2\2\u008b\u008c\7\61\2\2\u008c\u008d\7\61\2\2\u008d\u008e"+
+		"\3\2\2\2\u008e\u008f\n\2\2\2\u008f\6\3\2\2\2\u0090\u0092\t\3\2\2\u0091"+
+		"\u0090\3\2\2\2\u0092\u0095\3\2\2\2\u0093\u0091\3\2\2\2\u0093\u0094\3\2"+
+		"\2\2\u0094\u0098\3\2\2\2\u0095\u0093\3\2\2\2\u0096\u0099\5\3\2\2\u0097"+
+		"\u0099\5\5\3\2\u0098\u0096\3\2\2\2\u0098\u0097\3\2\2\2\u0099\u009d\3\2"+
+		"\2\2\u009a\u009c\t\3\2\2\u009b\u009a\3\2\2\2\u009c\u009f\3\2\2\2\u009d"+
+		"\u009b\3\2\2\2\u009d\u009e\3\2\2\2\u009e\u00a0\3\2\2\2\u009f\u009d\3\2"+
+		"\2\2\u00a0\u00a1\b\4\2\2\u00a1\b\3\2\2\2\u00a2\u00a4\t\4\2\2\u00a3\u00a2"+
+		"\3\2\2\2\u00a4\u00a5\3\2\2\2\u00a5\u00a3\3\2\2\2\u00a5\u00a6\3\2\2\2\u00a6"+
+		"\u00a7\3\2\2\2\u00a7\u00a8\b\5\2\2\u00a8\n\3\2\2\2\u00a9\u00aa\7k\2\2"+
+		"\u00aa\u00ab\7p\2\2\u00ab\u00ac\7r\2\2\u00ac\u00ad\7w\2\2\u00ad\u00ae"+
+		"\7v\2\2\u00ae\f\3\2\2\2\u00af\u00b0\7v\2\2\u00b0\u00b1\7o\2\2\u00b1\u00b2"+
+		"\7r\2\2\u00b2\u00b3\7a\2\2\u00b3\u00b4\7k\2\2\u00b4\u00b5\7p\2\2\u00b5"+
+		"\u00b6\7r\2\2\u00b6\u00b7\7w\2\2\u00b7\u00b8\7v\2\2\u00b8\16\3\2\2\2\u00b9"+
+		"\u00ba\7q\2\2\u00ba\u00bb\7w\2\2\u00bb\u00bc\7v\2\2\u00bc\u00bd\7r\2\2"+
+		"\u00bd\u00be\7w\2\2\u00be\u00bf\7v\2\2\u00bf\20\3\2\2\2\u00c0\u00c1\7"+
+		"c\2\2\u00c1\u00c2\7r\2\2\u00c2\u00c3\7r\2\2\u00c3\u00c4\7g\2\2\u00c4\u00c5"+
+		"\7p\2\2\u00c5\u00c6\7f\2\2\u00c6\u00c7\7a\2\2\u00c7\u00c8\7q\2\2\u00c8"+
+		"\u00c9\7p\2\2\u00c9\u00ca\7n\2\2\u00ca\u00cb\7{\2\2\u00cb\22\3\2\2\2\u00cc"+
+		"\u00ce\t\5\2\2\u00cd\u00cc\3\2\2\2\u00cd\u00ce\3\2\2\2\u00ce\u00cf\3\2"+
+		"\2\2\u00cf\u00d0\7k\2\2\u00d0\u00d1\7p\2\2\u00d1\u00d2\7v\2\2\u00d2\24"+
+		"\3\2\2\2\u00d3\u00d4\7x\2\2\u00d4\u00d5\7c\2\2\u00d5\u00d6\7t\2\2\u00d6"+
+		"\26\3\2\2\2\u00d7\u00d8\7t\2\2\u00d8\u00d9\7g\2\2\u00d9\u00da\7v\2\2\u00da"+
+		"\u00db\7w\2\2\u00db\u00dc\7t\2\2\u00dc\u00dd\7p\2\2\u00dd\30\3\2\2\2\u00de"+
+		"\u00df\7k\2\2\u00df\u00e0\7h\2\2\u00e0\32\3\2\2\2\u00e1\u00e2\7y\2\2\u00e2"+
+		"\u00e3\7j\2\2\u00e3\u00e4\7k\2\2\u00e4\u00e5\7n\2\2\u00e5\u00e6\7g\2\2"+
+		"\u00e6\34\3\2\2\2\u00e7\u00e8\7g\2\2\u00e8\u00e9\7n\2\2\u00e9\u00ea\7"+
+		"u\2\2\u00ea\u00eb\7g\2\2\u00eb\36\3\2\2\2\u00ec\u00ed\7v\2\2\u00ed\u00ee"+
+		"\7t\2\2\u00ee\u00ef\7w\2\2\u00ef\u00f0\7g\2\2\u00f0 \3\2\2\2\u00f1\u00f2"+
+		"\7h\2\2\u00f2\u00f3\7c\2\2\u00f3\u00f4\7n\2\2\u00f4\u00f5\7u\2\2\u00f5"+
+		"\u00f6\7g\2\2\u00f6\"\3\2\2\2\u00f7\u00f8\7x\2\2\u00f8\u00f9\7q\2\2\u00f9"+
+		"\u00fa\7k\2\2\u00fa\u00fb\7f\2\2\u00fb$\3\2\2\2\u00fc\u00fd\7w\2\2\u00fd"+
+		"\u00fe\7u\2\2\u00fe\u00ff\7g\2\2\u00ff\u0100\7a\2\2\u0100\u0101\7u\2\2"+
+		"\u0101\u0102\7g\2\2\u0102\u0103\7e\2\2\u0103&\3\2\2\2\u0104\u0105\7d\2"+
+		"\2\u0105\u0106\7k\2\2\u0106\u0107\7v\2\2\u0107\u0108\7a\2\2\u0108\u0109"+
+		"\7y\2\2\u0109\u010a\7k\2\2\u010a\u010b\7f\2\2\u010b\u010c\7v\2\2\u010c"+
+		"\u010d\7j\2\2\u010d(\3\2\2\2\u010e\u010f\7r\2\2\u010f\u0110\7j\2\2\u0110"+
+		"\u0111\7k\2\2\u0111*\3\2\2\2\u0112\u0113\7\u0080\2\2\u0113,\3\2\2\2\u0114"+
+		"\u0115\7d\2\2\u0115\u0116\7t\2\2\u0116\u0117\7g\2\2\u0117\u0118\7c\2\2"+
+		"\u0118\u0119\7m\2\2\u0119.\3\2\2\2\u011a\u011b\7e\2\2\u011b\u011c\7q\2"+
+		"\2\u011c\u011d\7p\2\2\u011d\u011e\7v\2\2\u011e\u011f\7k\2\2\u011f\u0120"+
+		"\7p\2\2\u0120\u0121\7w\2\2\u0121\u0122\7g\2\2\u0122\60\3\2\2\2\u0123\u0124"+
+		"\7>\2\2\u0124\u0125\7?\2\2\u0125\62\3\2\2\2\u0126\u0127\7@\2\2\u0127\u0128"+
+		"\7?\2\2\u0128\64\3\2\2\2\u0129\u012a\7\'\2\2\u012a\66\3\2\2\2\u012b\u012c"+
+		"\7-\2\2\u012c8\3\2\2\2\u012d\u012e\7/\2\2\u012e:\3\2\2\2\u012f\u0130\7"+
+		"\61\2\2\u0130<\3\2\2\2\u0131\u0132\7,\2\2\u0132>\3\2\2\2\u0133\u0134\7"+
+		"<\2\2\u0134\u0135\7?\2\2\u0135@\3\2\2\2\u0136\u0137\7?\2\2\u0137B\3\2"+
+		"\2\2\u0138\u0139\7?\2\2\u0139\u013a\7?\2\2\u013aD\3\2\2\2\u013b\u013c"+
+		"\7#\2\2\u013c\u013d\7?\2\2\u013dF\3\2\2\2\u013e\u013f\7#\2\2\u013fH\3"+
+		"\2\2\2\u0140\u0141\7>\2\2\u0141J\3\2\2\2\u0142\u0143\7@\2\2\u0143L\3\2"+
+		"\2\2\u0144\u0145\7(\2\2\u0145\u0146\7(\2\2\u0146N\3\2\2\2\u0147\u0148"+
+		"\7~\2\2\u0148\u0149\7~\2\2\u0149P\3\2\2\2\u014a\u014b\7(\2\2\u014bR\3"+
+		"\2\2\2\u014c\u014d\7~\2\2\u014dT\3\2\2\2\u014e\u014f\7`\2\2\u014fV\3\2"+
+		"\2\2\u0150\u0151\7>\2\2\u0151\u0152\7>\2\2\u0152X\3\2\2\2\u0153\u0154"+
+		"\7@\2\2\u0154\u0155\7@\2\2\u0155Z\3\2\2\2\u0156\u0157\7*\2\2\u0157\\\3"+
+		"\2\2\2\u0158\u0159\7+\2\2\u0159^\3\2\2\2\u015a\u015b\7]\2\2\u015b`\3\2"+
+		"\2\2\u015c\u015d\7]\2\2\u015d\u015e\7]\2\2\u015eb\3\2\2\2\u015f\u0160"+
+		"\7_\2\2\u0160d\3\2\2\2\u0161\u0162\7_\2\2\u0162\u0163\7_\2\2\u0163f\3"+
+		"\2\2\2\u0164\u0165\7/\2\2\u0165\u0166\7@\2\2\u0166h\3\2\2\2\u0167\u0168"+
+		"\7B\2\2\u0168j\3\2\2\2\u0169\u016b\5\t\5\2\u016a\u0169\3\2\2\2\u016a\u016b"+
+		"\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u0172\7=\2\2\u016d\u016f\5\t\5\2\u016e"+
+		"\u016d\3\2\2\2\u016e\u016f\3\2\2\2\u016f\u0170\3\2\2\2\u0170\u0172\7\f"+
+		"\2\2\u0171\u016a\3\2\2\2\u0171\u016e\3\2\2\2\u0172\u0173\3\2\2\2\u0173"+
+		"\u0171\3\2\2\2\u0173\u0174\3\2\2\2\u0174l\3\2\2\2\u0175\u0179\t\6\2\2"+
+		"\u0176\u0178\t\7\2\2\u0177\u0176\3\2\2\2\u0178\u017b\3\2\2\2\u0179\u0177"+
+		"\3\2\2\2\u0179\u017a\3\2\2\2\u017a\u017e\3\2\2\2\u017b\u0179\3\2\2\2\u017c"+
+		"\u017e\7\62\2\2\u017d\u0175\3\2\2\2\u017d\u017c\3\2\2\2\u017e\u0192\3"+
+		"\2\2\2\u017f\u0180\7\62\2\2\u0180\u0181\7d\2\2\u0181\u018e\3\2\2\2\u0182"+
+		"\u018a\t\b\2\2\u0183\u0185\7}\2\2\u0184\u0186\t\7\2\2\u0185\u0184\3\2"+
+		"\2\2\u0186\u0187\3\2\2\2\u0187\u0185\3\2\2\2\u0187\u0188\3\2\2\2\u0188"+
+		"\u0189\3\2\2\2\u0189\u018b\7\177\2\2\u018a\u0183\3\2\2\2\u018a\u018b\3"+
+		"\2\2\2\u018b\u018d\3\2\2\2\u018c\u0182\3\2\2\2\u018d\u0190\3\2\2\2\u018e"+
+		"\u018c\3\2\2\2\u018e\u018f\3\2\2\2\u018f\u0192\3\2\2\2\u0190\u018e\3\2"+
+		"\2\2\u0191\u017d\3\2\2\2\u0191\u017f\3\2\2\2\u0192n\3\2\2\2\u0193\u0194"+
+		"\7\62\2\2\u0194\u0195\7d\2\2\u0195\u01a0\3\2\2\2\u0196\u019e\t\t\2\2\u0197"+
+		"\u0199\7}\2\2\u0198\u019a\t\7\2\2\u0199\u0198\3\2\2\2\u019a\u019b\3\2"+
+		"\2\2\u019b\u0199\3\2\2\2\u019b\u019c\3\2\2\2\u019c\u019d\3\2\2\2\u019d"+
+		"\u019f\7\177\2\2\u019e\u0197\3\2\2\2\u019e\u019f\3\2\2\2\u019f\u01a1\3"+
+		"\2\2\2\u01a0\u0196\3\2\2\2\u01a1\u01a2\3\2\2\2\u01a2\u01a0\3\2\2\2\u01a2"+
+		"\u01a3\3\2\2\2\u01a3p\3\2\2\2\u01a4\u01a8\t\n\2\2\u01a5\u01a7\t\13\2\2"+
+		"\u01a6\u01a5\3\2\2\2\u01a7\u01aa\3\2\2\2\u01a8\u01a6\3\2\2\2\u01a8\u01a9"+
+		"\3\2\2\2\u01a9r\3\2\2\2\u01aa\u01a8\3\2\2\2\u01ab\u01ac\7}\2\2\u01act"+
+		"\3\2\2\2\u01ad\u01ae\7\177\2\2\u01aev\3\2\2\2\u01af\u01b0\7<\2\2\u01b0"+
+		"x\3\2\2\2\u01b1\u01b2\7.\2\2\u01b2z\3\2\2\2\u01b3\u01b4\7\60\2\2\u01b4"+
+		"|\3\2\2\2\u01b5\u01b6\13\2\2\2\u01b6~\3\2\2\2\27\2\u0085\u0093\u0098\u009d"+
+		"\u00a5\u00cd\u016a\u016e\u0171\u0173\u0179\u017d\u0187\u018a\u018e\u0191"+
+		"\u019b\u019e\u01a2\u01a8\3\2\3\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,486 @@
+// Generated from Lang.g4 by ANTLR 4.9.2
+package nildumu.parser;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link LangParser}.
+ */
+public interface LangListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link LangParser#file}.
+	 * @param ctx the parse tree
+	 */
+	void enterFile(LangParser.FileContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#file}.
+	 * @param ctx the parse tree
+	 */
+	void exitFile(LangParser.FileContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#use_sec}.
+	 * @param ctx the parse tree
+	 */
+	void enterUse_sec(LangParser.Use_secContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#use_sec}.
+	 * @param ctx the parse tree
+	 */
+	void exitUse_sec(LangParser.Use_secContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#bit_width}.
+	 * @param ctx the parse tree
+	 */
+	void enterBit_width(LangParser.Bit_widthContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#bit_width}.
+	 * @param ctx the parse tree
+	 */
+	void exitBit_width(LangParser.Bit_widthContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code break}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterBreak(LangParser.BreakContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code break}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitBreak(LangParser.BreakContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code continue}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterContinue(LangParser.ContinueContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code continue}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitContinue(LangParser.ContinueContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code inputdecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterInputdecl(LangParser.InputdeclContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code inputdecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitInputdecl(LangParser.InputdeclContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code vardecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterVardecl(LangParser.VardeclContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code vardecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitVardecl(LangParser.VardeclContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code appenddecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterAppenddecl(LangParser.AppenddeclContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code appenddecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitAppenddecl(LangParser.AppenddeclContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code IGNORE}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterIGNORE(LangParser.IGNOREContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code IGNORE}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitIGNORE(LangParser.IGNOREContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code return_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterReturn_statement(LangParser.Return_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code return_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitReturn_statement(LangParser.Return_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code array_assignment_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterArray_assignment_statement(LangParser.Array_assignment_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code array_assignment_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitArray_assignment_statement(LangParser.Array_assignment_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expression_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpression_statement(LangParser.Expression_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expression_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpression_statement(LangParser.Expression_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code while_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterWhile_statement(LangParser.While_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code while_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitWhile_statement(LangParser.While_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code if_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterIf_statement(LangParser.If_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code if_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitIf_statement(LangParser.If_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code block_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterBlock_statement(LangParser.Block_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code block_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitBlock_statement(LangParser.Block_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#statement_w_semi}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatement_w_semi(LangParser.Statement_w_semiContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#statement_w_semi}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatement_w_semi(LangParser.Statement_w_semiContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#statement_wo_semi}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatement_wo_semi(LangParser.Statement_wo_semiContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#statement_wo_semi}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatement_wo_semi(LangParser.Statement_wo_semiContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#statements}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatements(LangParser.StatementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#statements}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatements(LangParser.StatementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#method}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethod(LangParser.MethodContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#method}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethod(LangParser.MethodContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#parameters}.
+	 * @param ctx the parse tree
+	 */
+	void enterParameters(LangParser.ParametersContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#parameters}.
+	 * @param ctx the parse tree
+	 */
+	void exitParameters(LangParser.ParametersContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#parameter}.
+	 * @param ctx the parse tree
+	 */
+	void enterParameter(LangParser.ParameterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#parameter}.
+	 * @param ctx the parse tree
+	 */
+	void exitParameter(LangParser.ParameterContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code single_assignment}
+	 * labeled alternative in {@link LangParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void enterSingle_assignment(LangParser.Single_assignmentContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code single_assignment}
+	 * labeled alternative in {@link LangParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void exitSingle_assignment(LangParser.Single_assignmentContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code multiple_assignment}
+	 * labeled alternative in {@link LangParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultiple_assignment(LangParser.Multiple_assignmentContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code multiple_assignment}
+	 * labeled alternative in {@link LangParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultiple_assignment(LangParser.Multiple_assignmentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#block}.
+	 * @param ctx the parse tree
+	 */
+	void enterBlock(LangParser.BlockContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#block}.
+	 * @param ctx the parse tree
+	 */
+	void exitBlock(LangParser.BlockContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#assignments}.
+	 * @param ctx the parse tree
+	 */
+	void enterAssignments(LangParser.AssignmentsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#assignments}.
+	 * @param ctx the parse tree
+	 */
+	void exitAssignments(LangParser.AssignmentsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpression(LangParser.ExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpression(LangParser.ExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#primary_expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrimary_expression(LangParser.Primary_expressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#primary_expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrimary_expression(LangParser.Primary_expressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#method_invocation}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethod_invocation(LangParser.Method_invocationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#method_invocation}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethod_invocation(LangParser.Method_invocationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#phi}.
+	 * @param ctx the parse tree
+	 */
+	void enterPhi(LangParser.PhiContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#phi}.
+	 * @param ctx the parse tree
+	 */
+	void exitPhi(LangParser.PhiContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#arguments}.
+	 * @param ctx the parse tree
+	 */
+	void enterArguments(LangParser.ArgumentsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#arguments}.
+	 * @param ctx the parse tree
+	 */
+	void exitArguments(LangParser.ArgumentsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#unpack}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnpack(LangParser.UnpackContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#unpack}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnpack(LangParser.UnpackContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#tuple_expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterTuple_expression(LangParser.Tuple_expressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#tuple_expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitTuple_expression(LangParser.Tuple_expressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#array_expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterArray_expression(LangParser.Array_expressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#array_expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitArray_expression(LangParser.Array_expressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#tuple_inner}.
+	 * @param ctx the parse tree
+	 */
+	void enterTuple_inner(LangParser.Tuple_innerContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#tuple_inner}.
+	 * @param ctx the parse tree
+	 */
+	void exitTuple_inner(LangParser.Tuple_innerContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#tuple_element}.
+	 * @param ctx the parse tree
+	 */
+	void enterTuple_element(LangParser.Tuple_elementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#tuple_element}.
+	 * @param ctx the parse tree
+	 */
+	void exitTuple_element(LangParser.Tuple_elementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#var_access}.
+	 * @param ctx the parse tree
+	 */
+	void enterVar_access(LangParser.Var_accessContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#var_access}.
+	 * @param ctx the parse tree
+	 */
+	void exitVar_access(LangParser.Var_accessContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#literal}.
+	 * @param ctx the parse tree
+	 */
+	void enterLiteral(LangParser.LiteralContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#literal}.
+	 * @param ctx the parse tree
+	 */
+	void exitLiteral(LangParser.LiteralContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#globals}.
+	 * @param ctx the parse tree
+	 */
+	void enterGlobals(LangParser.GlobalsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#globals}.
+	 * @param ctx the parse tree
+	 */
+	void exitGlobals(LangParser.GlobalsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#global}.
+	 * @param ctx the parse tree
+	 */
+	void enterGlobal(LangParser.GlobalContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#global}.
+	 * @param ctx the parse tree
+	 */
+	void exitGlobal(LangParser.GlobalContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LangParser#ident}.
+	 * @param ctx the parse tree
+	 */
+	void enterIdent(LangParser.IdentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LangParser#ident}.
+	 * @param ctx the parse tree
+	 */
+	void exitIdent(LangParser.IdentContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code baseTypeInt}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterBaseTypeInt(LangParser.BaseTypeIntContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code baseTypeInt}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitBaseTypeInt(LangParser.BaseTypeIntContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code baseTypeVar}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterBaseTypeVar(LangParser.BaseTypeVarContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code baseTypeVar}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitBaseTypeVar(LangParser.BaseTypeVarContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code array_type}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterArray_type(LangParser.Array_typeContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code array_type}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitArray_type(LangParser.Array_typeContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code tuple_type}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterTuple_type(LangParser.Tuple_typeContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code tuple_type}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitTuple_type(LangParser.Tuple_typeContext ctx);
+}
\ No newline at end of file
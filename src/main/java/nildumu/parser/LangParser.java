@@ -0,0 +1,3729 @@
+// Generated from Lang.g4 by ANTLR 4.9.2
+package nildumu.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class LangParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.9.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		COMMENT=1, WS=2, INPUT=3, TMP_INPUT=4, OUTPUT=5, APPEND_ONLY=6, INT=7, 
+		VAR=8, RETURN=9, IF=10, WHILE=11, ELSE=12, TRUE=13, FALSE=14, VOID=15, 
+		USE_SEC=16, BIT_WIDTH=17, PHI=18, TILDE=19, BREAK=20, CONTINUE=21, LOWER_EQUALS=22, 
+		GREATER_EQUALS=23, MODULO=24, PLUS=25, MINUS=26, DIVIDE=27, MULTIPLY=28, 
+		COLON_EQUAL=29, EQUAL_SIGN=30, EQUALS=31, UNEQUALS=32, INVERT=33, LOWER=34, 
+		GREATER=35, AND=36, OR=37, BAND=38, BOR=39, XOR=40, LEFT_SHIFT=41, RIGHT_SHIFT=42, 
+		LPAREN=43, RPAREN=44, LBRACKET=45, LBBRACKET=46, RBRACKET=47, RBBRACKET=48, 
+		ARROW=49, APPEND=50, SEMI=51, INTEGER_LITERAL=52, INPUT_LITERAL=53, IDENT=54, 
+		LCURLY=55, RCURLY=56, COLON=57, COMMA=58, DOT=59, ANY=60;
+	public static final int
+		RULE_file = 0, RULE_use_sec = 1, RULE_bit_width = 2, RULE_normal_statement = 3, 
+		RULE_control_statement = 4, RULE_statement_w_semi = 5, RULE_statement_wo_semi = 6, 
+		RULE_statements = 7, RULE_method = 8, RULE_parameters = 9, RULE_parameter = 10, 
+		RULE_assignment = 11, RULE_block = 12, RULE_assignments = 13, RULE_expression = 14, 
+		RULE_primary_expression = 15, RULE_method_invocation = 16, RULE_phi = 17, 
+		RULE_arguments = 18, RULE_unpack = 19, RULE_tuple_expression = 20, RULE_array_expression = 21, 
+		RULE_tuple_inner = 22, RULE_tuple_element = 23, RULE_var_access = 24, 
+		RULE_literal = 25, RULE_globals = 26, RULE_global = 27, RULE_ident = 28, 
+		RULE_type = 29;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"file", "use_sec", "bit_width", "normal_statement", "control_statement", 
+			"statement_w_semi", "statement_wo_semi", "statements", "method", "parameters", 
+			"parameter", "assignment", "block", "assignments", "expression", "primary_expression", 
+			"method_invocation", "phi", "arguments", "unpack", "tuple_expression", 
+			"array_expression", "tuple_inner", "tuple_element", "var_access", "literal", 
+			"globals", "global", "ident", "type"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, "'input'", "'tmp_input'", "'output'", "'append_only'", 
+			null, "'var'", "'return'", "'if'", "'while'", "'else'", "'true'", "'false'", 
+			"'void'", "'use_sec'", "'bit_width'", "'phi'", "'~'", "'break'", "'continue'", 
+			"'<='", "'>='", "'%'", "'+'", "'-'", "'/'", "'*'", "':='", "'='", "'=='", 
+			"'!='", "'!'", "'<'", "'>'", "'&&'", "'||'", "'&'", "'|'", "'^'", "'<<'", 
+			"'>>'", "'('", "')'", "'['", "'[['", "']'", "']]'", "'->'", "'@'", null, 
+			null, null, null, "'{'", "'}'", "':'", "','", "'.'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "COMMENT", "WS", "INPUT", "TMP_INPUT", "OUTPUT", "APPEND_ONLY", 
+			"INT", "VAR", "RETURN", "IF", "WHILE", "ELSE", "TRUE", "FALSE", "VOID", 
+			"USE_SEC", "BIT_WIDTH", "PHI", "TILDE", "BREAK", "CONTINUE", "LOWER_EQUALS", 
+			"GREATER_EQUALS", "MODULO", "PLUS", "MINUS", "DIVIDE", "MULTIPLY", "COLON_EQUAL", 
+			"EQUAL_SIGN", "EQUALS", "UNEQUALS", "INVERT", "LOWER", "GREATER", "AND", 
+			"OR", "BAND", "BOR", "XOR", "LEFT_SHIFT", "RIGHT_SHIFT", "LPAREN", "RPAREN", 
+			"LBRACKET", "LBBRACKET", "RBRACKET", "RBBRACKET", "ARROW", "APPEND", 
+			"SEMI", "INTEGER_LITERAL", "INPUT_LITERAL", "IDENT", "LCURLY", "RCURLY", 
+			"COLON", "COMMA", "DOT", "ANY"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Lang.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+
+	  private int loopDepth = 0;
+	  private boolean inMethod = false;
+
+	public LangParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class FileContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(LangParser.EOF, 0); }
+		public List<TerminalNode> SEMI() { return getTokens(LangParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(LangParser.SEMI, i);
+		}
+		public Use_secContext use_sec() {
+			return getRuleContext(Use_secContext.class,0);
+		}
+		public Bit_widthContext bit_width() {
+			return getRuleContext(Bit_widthContext.class,0);
+		}
+		public List<Statement_w_semiContext> statement_w_semi() {
+			return getRuleContexts(Statement_w_semiContext.class);
+		}
+		public Statement_w_semiContext statement_w_semi(int i) {
+			return getRuleContext(Statement_w_semiContext.class,i);
+		}
+		public Statement_wo_semiContext statement_wo_semi() {
+			return getRuleContext(Statement_wo_semiContext.class,0);
+		}
+		public List<MethodContext> method() {
+			return getRuleContexts(MethodContext.class);
+		}
+		public MethodContext method(int i) {
+			return getRuleContext(MethodContext.class,i);
+		}
+		public FileContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_file; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterFile(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitFile(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitFile(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FileContext file() throws RecognitionException {
+		FileContext _localctx = new FileContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_file);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(63);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(60);
+					match(SEMI);
+					}
+					} 
+				}
+				setState(65);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
+			}
+			setState(67);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+			case 1:
+				{
+				setState(66);
+				use_sec();
+				}
+				break;
+			}
+			setState(70);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			case 1:
+				{
+				setState(69);
+				bit_width();
+				}
+				break;
+			}
+			setState(79);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,5,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(77);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+					case 1:
+						{
+						{
+						setState(72);
+						method();
+						setState(74);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+						case 1:
+							{
+							setState(73);
+							match(SEMI);
+							}
+							break;
+						}
+						}
+						}
+						break;
+					case 2:
+						{
+						setState(76);
+						statement_w_semi();
+						}
+						break;
+					}
+					} 
+				}
+				setState(81);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,5,_ctx);
+			}
+			setState(83);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
+			case 1:
+				{
+				setState(82);
+				statement_wo_semi();
+				}
+				break;
+			}
+			setState(85);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Use_secContext extends ParserRuleContext {
+		public TerminalNode USE_SEC() { return getToken(LangParser.USE_SEC, 0); }
+		public TerminalNode IDENT() { return getToken(LangParser.IDENT, 0); }
+		public TerminalNode SEMI() { return getToken(LangParser.SEMI, 0); }
+		public Use_secContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_use_sec; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterUse_sec(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitUse_sec(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitUse_sec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Use_secContext use_sec() throws RecognitionException {
+		Use_secContext _localctx = new Use_secContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_use_sec);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(87);
+			match(USE_SEC);
+			setState(88);
+			match(IDENT);
+			setState(89);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Bit_widthContext extends ParserRuleContext {
+		public TerminalNode BIT_WIDTH() { return getToken(LangParser.BIT_WIDTH, 0); }
+		public TerminalNode INTEGER_LITERAL() { return getToken(LangParser.INTEGER_LITERAL, 0); }
+		public TerminalNode SEMI() { return getToken(LangParser.SEMI, 0); }
+		public Bit_widthContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bit_width; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterBit_width(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitBit_width(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitBit_width(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Bit_widthContext bit_width() throws RecognitionException {
+		Bit_widthContext _localctx = new Bit_widthContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_bit_width);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(91);
+			match(BIT_WIDTH);
+			setState(92);
+			match(INTEGER_LITERAL);
+			setState(93);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Normal_statementContext extends ParserRuleContext {
+		public Normal_statementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_normal_statement; }
+	 
+		public Normal_statementContext() { }
+		public void copyFrom(Normal_statementContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class InputdeclContext extends Normal_statementContext {
+		public Token mod;
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public TerminalNode INPUT() { return getToken(LangParser.INPUT, 0); }
+		public TerminalNode TMP_INPUT() { return getToken(LangParser.TMP_INPUT, 0); }
+		public TerminalNode IDENT() { return getToken(LangParser.IDENT, 0); }
+		public TerminalNode INPUT_LITERAL() { return getToken(LangParser.INPUT_LITERAL, 0); }
+		public TerminalNode EQUAL_SIGN() { return getToken(LangParser.EQUAL_SIGN, 0); }
+		public TerminalNode COLON_EQUAL() { return getToken(LangParser.COLON_EQUAL, 0); }
+		public InputdeclContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterInputdecl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitInputdecl(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitInputdecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class Array_assignment_statementContext extends Normal_statementContext {
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public TerminalNode LBRACKET() { return getToken(LangParser.LBRACKET, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode RBRACKET() { return getToken(LangParser.RBRACKET, 0); }
+		public TerminalNode EQUAL_SIGN() { return getToken(LangParser.EQUAL_SIGN, 0); }
+		public Array_assignment_statementContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterArray_assignment_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitArray_assignment_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitArray_assignment_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BreakContext extends Normal_statementContext {
+		public TerminalNode BREAK() { return getToken(LangParser.BREAK, 0); }
+		public BreakContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterBreak(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitBreak(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitBreak(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ContinueContext extends Normal_statementContext {
+		public TerminalNode CONTINUE() { return getToken(LangParser.CONTINUE, 0); }
+		public ContinueContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterContinue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitContinue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitContinue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class AppenddeclContext extends Normal_statementContext {
+		public TerminalNode APPEND_ONLY() { return getToken(LangParser.APPEND_ONLY, 0); }
+		public TerminalNode INT() { return getToken(LangParser.INT, 0); }
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public TerminalNode IDENT() { return getToken(LangParser.IDENT, 0); }
+		public TerminalNode INPUT() { return getToken(LangParser.INPUT, 0); }
+		public AppenddeclContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterAppenddecl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitAppenddecl(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitAppenddecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class Expression_statementContext extends Normal_statementContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public Expression_statementContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterExpression_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitExpression_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitExpression_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class VardeclContext extends Normal_statementContext {
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public TerminalNode OUTPUT() { return getToken(LangParser.OUTPUT, 0); }
+		public TerminalNode EQUAL_SIGN() { return getToken(LangParser.EQUAL_SIGN, 0); }
+		public TerminalNode COLON_EQUAL() { return getToken(LangParser.COLON_EQUAL, 0); }
+		public PhiContext phi() {
+			return getRuleContext(PhiContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode IDENT() { return getToken(LangParser.IDENT, 0); }
+		public VardeclContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterVardecl(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitVardecl(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitVardecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class IGNOREContext extends Normal_statementContext {
+		public AssignmentContext assignment() {
+			return getRuleContext(AssignmentContext.class,0);
+		}
+		public IGNOREContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterIGNORE(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitIGNORE(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitIGNORE(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class Return_statementContext extends Normal_statementContext {
+		public TerminalNode RETURN() { return getToken(LangParser.RETURN, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(LangParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(LangParser.COMMA, i);
+		}
+		public Return_statementContext(Normal_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterReturn_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitReturn_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitReturn_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Normal_statementContext normal_statement() throws RecognitionException {
+		Normal_statementContext _localctx = new Normal_statementContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_normal_statement);
+		int _la;
+		try {
+			setState(154);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
+			case 1:
+				_localctx = new BreakContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(95);
+				if (!(loopDepth > 0)) throw new FailedPredicateException(this, "loopDepth > 0");
+				setState(96);
+				match(BREAK);
+				}
+				break;
+			case 2:
+				_localctx = new ContinueContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(97);
+				if (!(loopDepth > 0)) throw new FailedPredicateException(this, "loopDepth > 0");
+				setState(98);
+				match(CONTINUE);
+				}
+				break;
+			case 3:
+				_localctx = new InputdeclContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(100);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==IDENT) {
+					{
+					setState(99);
+					match(IDENT);
+					}
+				}
+
+				setState(102);
+				((InputdeclContext)_localctx).mod = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !(_la==INPUT || _la==TMP_INPUT) ) {
+					((InputdeclContext)_localctx).mod = (Token)_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(103);
+				type(0);
+				setState(104);
+				ident();
+				setState(107);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COLON_EQUAL || _la==EQUAL_SIGN) {
+					{
+					setState(105);
+					_la = _input.LA(1);
+					if ( !(_la==COLON_EQUAL || _la==EQUAL_SIGN) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(106);
+					match(INPUT_LITERAL);
+					}
+				}
+
+				}
+				break;
+			case 4:
+				_localctx = new VardeclContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(113);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==OUTPUT || _la==IDENT) {
+					{
+					setState(110);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==IDENT) {
+						{
+						setState(109);
+						match(IDENT);
+						}
+					}
+
+					setState(112);
+					match(OUTPUT);
+					}
+				}
+
+				setState(115);
+				type(0);
+				setState(116);
+				ident();
+				setState(122);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COLON_EQUAL || _la==EQUAL_SIGN) {
+					{
+					setState(117);
+					_la = _input.LA(1);
+					if ( !(_la==COLON_EQUAL || _la==EQUAL_SIGN) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(120);
+					_errHandler.sync(this);
+					switch (_input.LA(1)) {
+					case PHI:
+						{
+						setState(118);
+						phi();
+						}
+						break;
+					case INPUT:
+					case OUTPUT:
+					case TRUE:
+					case FALSE:
+					case TILDE:
+					case MINUS:
+					case INVERT:
+					case LPAREN:
+					case LBRACKET:
+					case INTEGER_LITERAL:
+					case IDENT:
+					case LCURLY:
+						{
+						setState(119);
+						expression(0);
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					}
+				}
+
+				}
+				break;
+			case 5:
+				_localctx = new AppenddeclContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(125);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==IDENT) {
+					{
+					setState(124);
+					match(IDENT);
+					}
+				}
+
+				setState(128);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==INPUT) {
+					{
+					setState(127);
+					match(INPUT);
+					}
+				}
+
+				setState(130);
+				match(APPEND_ONLY);
+				setState(131);
+				match(INT);
+				setState(132);
+				ident();
+				}
+				break;
+			case 6:
+				_localctx = new IGNOREContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(133);
+				assignment();
+				}
+				break;
+			case 7:
+				_localctx = new Return_statementContext(_localctx);
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(134);
+				if (!(inMethod)) throw new FailedPredicateException(this, "inMethod");
+				setState(135);
+				match(RETURN);
+				setState(144);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INPUT) | (1L << OUTPUT) | (1L << TRUE) | (1L << FALSE) | (1L << TILDE) | (1L << MINUS) | (1L << INVERT) | (1L << LPAREN) | (1L << LBRACKET) | (1L << INTEGER_LITERAL) | (1L << IDENT) | (1L << LCURLY))) != 0)) {
+					{
+					setState(136);
+					expression(0);
+					setState(141);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(137);
+						match(COMMA);
+						setState(138);
+						expression(0);
+						}
+						}
+						setState(143);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				}
+				break;
+			case 8:
+				_localctx = new Array_assignment_statementContext(_localctx);
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(146);
+				ident();
+				setState(147);
+				match(LBRACKET);
+				setState(148);
+				expression(0);
+				setState(149);
+				match(RBRACKET);
+				setState(150);
+				match(EQUAL_SIGN);
+				setState(151);
+				expression(0);
+				}
+				break;
+			case 9:
+				_localctx = new Expression_statementContext(_localctx);
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(153);
+				expression(0);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Control_statementContext extends ParserRuleContext {
+		public Control_statementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_control_statement; }
+	 
+		public Control_statementContext() { }
+		public void copyFrom(Control_statementContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class If_statementContext extends Control_statementContext {
+		public TerminalNode IF() { return getToken(LangParser.IF, 0); }
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public List<BlockContext> block() {
+			return getRuleContexts(BlockContext.class);
+		}
+		public BlockContext block(int i) {
+			return getRuleContext(BlockContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(LangParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(LangParser.SEMI, i);
+		}
+		public TerminalNode ELSE() { return getToken(LangParser.ELSE, 0); }
+		public If_statementContext(Control_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterIf_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitIf_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitIf_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class While_statementContext extends Control_statementContext {
+		public TerminalNode WHILE() { return getToken(LangParser.WHILE, 0); }
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public Statement_w_semiContext statement_w_semi() {
+			return getRuleContext(Statement_w_semiContext.class,0);
+		}
+		public TerminalNode LBBRACKET() { return getToken(LangParser.LBBRACKET, 0); }
+		public AssignmentsContext assignments() {
+			return getRuleContext(AssignmentsContext.class,0);
+		}
+		public TerminalNode RBBRACKET() { return getToken(LangParser.RBBRACKET, 0); }
+		public While_statementContext(Control_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterWhile_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitWhile_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitWhile_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class Block_statementContext extends Control_statementContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public Block_statementContext(Control_statementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterBlock_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitBlock_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitBlock_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Control_statementContext control_statement() throws RecognitionException {
+		Control_statementContext _localctx = new Control_statementContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_control_statement);
+		int _la;
+		try {
+			setState(189);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case WHILE:
+				_localctx = new While_statementContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				loopDepth++;
+				setState(157);
+				match(WHILE);
+				setState(162);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LBBRACKET) {
+					{
+					setState(158);
+					match(LBBRACKET);
+					setState(159);
+					assignments();
+					setState(160);
+					match(RBBRACKET);
+					}
+				}
+
+				setState(164);
+				match(LPAREN);
+				setState(165);
+				expression(0);
+				setState(166);
+				match(RPAREN);
+				setState(167);
+				statement_w_semi();
+				loopDepth--;
+				}
+				break;
+			case IF:
+				_localctx = new If_statementContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(170);
+				match(IF);
+				setState(171);
+				match(LPAREN);
+				setState(172);
+				expression(0);
+				setState(173);
+				match(RPAREN);
+				setState(175);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==SEMI) {
+					{
+					setState(174);
+					match(SEMI);
+					}
+				}
+
+				setState(177);
+				block();
+				setState(179);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+				case 1:
+					{
+					setState(178);
+					match(SEMI);
+					}
+					break;
+				}
+				setState(186);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+				case 1:
+					{
+					setState(181);
+					match(ELSE);
+					setState(183);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==SEMI) {
+						{
+						setState(182);
+						match(SEMI);
+						}
+					}
+
+					setState(185);
+					block();
+					}
+					break;
+				}
+				}
+				break;
+			case LCURLY:
+				_localctx = new Block_statementContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(188);
+				block();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Statement_w_semiContext extends ParserRuleContext {
+		public Control_statementContext control_statement() {
+			return getRuleContext(Control_statementContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(LangParser.SEMI, 0); }
+		public Normal_statementContext normal_statement() {
+			return getRuleContext(Normal_statementContext.class,0);
+		}
+		public Statement_w_semiContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement_w_semi; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterStatement_w_semi(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitStatement_w_semi(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitStatement_w_semi(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Statement_w_semiContext statement_w_semi() throws RecognitionException {
+		Statement_w_semiContext _localctx = new Statement_w_semiContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_statement_w_semi);
+		try {
+			setState(198);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(191);
+				control_statement();
+				setState(193);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+				case 1:
+					{
+					setState(192);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(195);
+				normal_statement();
+				setState(196);
+				match(SEMI);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Statement_wo_semiContext extends ParserRuleContext {
+		public Control_statementContext control_statement() {
+			return getRuleContext(Control_statementContext.class,0);
+		}
+		public Normal_statementContext normal_statement() {
+			return getRuleContext(Normal_statementContext.class,0);
+		}
+		public Statement_wo_semiContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement_wo_semi; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterStatement_wo_semi(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitStatement_wo_semi(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitStatement_wo_semi(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Statement_wo_semiContext statement_wo_semi() throws RecognitionException {
+		Statement_wo_semiContext _localctx = new Statement_wo_semiContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_statement_wo_semi);
+		try {
+			setState(202);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(200);
+				control_statement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(201);
+				normal_statement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementsContext extends ParserRuleContext {
+		public Statement_wo_semiContext statement_wo_semi() {
+			return getRuleContext(Statement_wo_semiContext.class,0);
+		}
+		public List<Statement_w_semiContext> statement_w_semi() {
+			return getRuleContexts(Statement_w_semiContext.class);
+		}
+		public Statement_w_semiContext statement_w_semi(int i) {
+			return getRuleContext(Statement_w_semiContext.class,i);
+		}
+		public TerminalNode SEMI() { return getToken(LangParser.SEMI, 0); }
+		public StatementsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statements; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterStatements(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitStatements(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitStatements(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementsContext statements() throws RecognitionException {
+		StatementsContext _localctx = new StatementsContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_statements);
+		try {
+			int _alt;
+			setState(215);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(205); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(204);
+						statement_w_semi();
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(207); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				setState(209);
+				statement_wo_semi();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(211);
+				statement_wo_semi();
+				setState(213);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+				case 1:
+					{
+					setState(212);
+					match(SEMI);
+					}
+					break;
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodContext extends ParserRuleContext {
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public GlobalsContext globals() {
+			return getRuleContext(GlobalsContext.class,0);
+		}
+		public ParametersContext parameters() {
+			return getRuleContext(ParametersContext.class,0);
+		}
+		public MethodContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_method; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterMethod(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitMethod(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitMethod(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodContext method() throws RecognitionException {
+		MethodContext _localctx = new MethodContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_method);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(218); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(217);
+				type(0);
+				}
+				}
+				setState(220); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INT) | (1L << VAR) | (1L << LPAREN))) != 0) );
+			setState(222);
+			ident();
+			setState(224);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LBBRACKET) {
+				{
+				setState(223);
+				globals();
+				}
+			}
+
+			setState(226);
+			match(LPAREN);
+			setState(228);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INT) | (1L << VAR) | (1L << LPAREN))) != 0)) {
+				{
+				setState(227);
+				parameters();
+				}
+			}
+
+			setState(230);
+			match(RPAREN);
+			inMethod = true;
+			setState(232);
+			block();
+			inMethod = false;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParametersContext extends ParserRuleContext {
+		public List<ParameterContext> parameter() {
+			return getRuleContexts(ParameterContext.class);
+		}
+		public ParameterContext parameter(int i) {
+			return getRuleContext(ParameterContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(LangParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(LangParser.COMMA, i);
+		}
+		public ParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitParameters(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParametersContext parameters() throws RecognitionException {
+		ParametersContext _localctx = new ParametersContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_parameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(235);
+			parameter();
+			setState(240);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(236);
+				match(COMMA);
+				setState(237);
+				parameter();
+				}
+				}
+				setState(242);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParameterContext extends ParserRuleContext {
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public ParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitParameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParameterContext parameter() throws RecognitionException {
+		ParameterContext _localctx = new ParameterContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_parameter);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(243);
+			type(0);
+			setState(244);
+			ident();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentContext extends ParserRuleContext {
+		public AssignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignment; }
+	 
+		public AssignmentContext() { }
+		public void copyFrom(AssignmentContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class Single_assignmentContext extends AssignmentContext {
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public TerminalNode EQUAL_SIGN() { return getToken(LangParser.EQUAL_SIGN, 0); }
+		public TerminalNode COLON_EQUAL() { return getToken(LangParser.COLON_EQUAL, 0); }
+		public PhiContext phi() {
+			return getRuleContext(PhiContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public UnpackContext unpack() {
+			return getRuleContext(UnpackContext.class,0);
+		}
+		public Single_assignmentContext(AssignmentContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterSingle_assignment(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitSingle_assignment(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitSingle_assignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class Multiple_assignmentContext extends AssignmentContext {
+		public TerminalNode EQUAL_SIGN() { return getToken(LangParser.EQUAL_SIGN, 0); }
+		public TerminalNode COLON_EQUAL() { return getToken(LangParser.COLON_EQUAL, 0); }
+		public List<IdentContext> ident() {
+			return getRuleContexts(IdentContext.class);
+		}
+		public IdentContext ident(int i) {
+			return getRuleContext(IdentContext.class,i);
+		}
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public UnpackContext unpack() {
+			return getRuleContext(UnpackContext.class,0);
+		}
+		public Method_invocationContext method_invocation() {
+			return getRuleContext(Method_invocationContext.class,0);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(LangParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(LangParser.COMMA, i);
+		}
+		public Multiple_assignmentContext(AssignmentContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterMultiple_assignment(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitMultiple_assignment(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitMultiple_assignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentContext assignment() throws RecognitionException {
+		AssignmentContext _localctx = new AssignmentContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_assignment);
+		int _la;
+		try {
+			setState(278);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			case 1:
+				_localctx = new Single_assignmentContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(246);
+				ident();
+				setState(247);
+				_la = _input.LA(1);
+				if ( !(_la==COLON_EQUAL || _la==EQUAL_SIGN) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(251);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case PHI:
+					{
+					setState(248);
+					phi();
+					}
+					break;
+				case INPUT:
+				case OUTPUT:
+				case TRUE:
+				case FALSE:
+				case TILDE:
+				case MINUS:
+				case INVERT:
+				case LPAREN:
+				case LBRACKET:
+				case INTEGER_LITERAL:
+				case IDENT:
+				case LCURLY:
+					{
+					setState(249);
+					expression(0);
+					}
+					break;
+				case MULTIPLY:
+					{
+					setState(250);
+					unpack();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			case 2:
+				_localctx = new Multiple_assignmentContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(271);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case INPUT:
+				case OUTPUT:
+				case IDENT:
+					{
+					setState(253);
+					ident();
+					setState(256); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
+						{
+						setState(254);
+						match(COMMA);
+						setState(255);
+						ident();
+						}
+						}
+						setState(258); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( _la==COMMA );
+					}
+					break;
+				case LPAREN:
+					{
+					setState(260);
+					match(LPAREN);
+					setState(261);
+					ident();
+					setState(266);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(262);
+						match(COMMA);
+						setState(263);
+						ident();
+						}
+						}
+						setState(268);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(269);
+					match(RPAREN);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(273);
+				_la = _input.LA(1);
+				if ( !(_la==COLON_EQUAL || _la==EQUAL_SIGN) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(276);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case MULTIPLY:
+					{
+					setState(274);
+					unpack();
+					}
+					break;
+				case INPUT:
+				case OUTPUT:
+				case IDENT:
+					{
+					setState(275);
+					method_invocation();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockContext extends ParserRuleContext {
+		public TerminalNode LCURLY() { return getToken(LangParser.LCURLY, 0); }
+		public TerminalNode RCURLY() { return getToken(LangParser.RCURLY, 0); }
+		public List<TerminalNode> SEMI() { return getTokens(LangParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(LangParser.SEMI, i);
+		}
+		public StatementsContext statements() {
+			return getRuleContext(StatementsContext.class,0);
+		}
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_block);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(280);
+			match(LCURLY);
+			setState(284);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(281);
+					match(SEMI);
+					}
+					} 
+				}
+				setState(286);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+			}
+			setState(288);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+			case 1:
+				{
+				setState(287);
+				statements();
+				}
+				break;
+			}
+			setState(293);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==SEMI) {
+				{
+				{
+				setState(290);
+				match(SEMI);
+				}
+				}
+				setState(295);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(296);
+			match(RCURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentsContext extends ParserRuleContext {
+		public List<AssignmentContext> assignment() {
+			return getRuleContexts(AssignmentContext.class);
+		}
+		public AssignmentContext assignment(int i) {
+			return getRuleContext(AssignmentContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(LangParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(LangParser.SEMI, i);
+		}
+		public AssignmentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterAssignments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitAssignments(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitAssignments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentsContext assignments() throws RecognitionException {
+		AssignmentsContext _localctx = new AssignmentsContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_assignments);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(309);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INPUT) | (1L << OUTPUT) | (1L << LPAREN) | (1L << IDENT))) != 0)) {
+				{
+				setState(298);
+				assignment();
+				setState(303);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(299);
+						match(SEMI);
+						setState(300);
+						assignment();
+						}
+						} 
+					}
+					setState(305);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+				}
+				setState(307);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==SEMI) {
+					{
+					setState(306);
+					match(SEMI);
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext un;
+		public ExpressionContext l;
+		public Token place_int;
+		public Token op;
+		public ExpressionContext r;
+		public Token select_int;
+		public Primary_expressionContext primary_expression() {
+			return getRuleContext(Primary_expressionContext.class,0);
+		}
+		public TerminalNode INTEGER_LITERAL() { return getToken(LangParser.INTEGER_LITERAL, 0); }
+		public TerminalNode DOT() { return getToken(LangParser.DOT, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode RBRACKET() { return getToken(LangParser.RBRACKET, 0); }
+		public TerminalNode LBRACKET() { return getToken(LangParser.LBRACKET, 0); }
+		public TerminalNode INVERT() { return getToken(LangParser.INVERT, 0); }
+		public TerminalNode MINUS() { return getToken(LangParser.MINUS, 0); }
+		public TerminalNode TILDE() { return getToken(LangParser.TILDE, 0); }
+		public TerminalNode MULTIPLY() { return getToken(LangParser.MULTIPLY, 0); }
+		public TerminalNode DIVIDE() { return getToken(LangParser.DIVIDE, 0); }
+		public TerminalNode MODULO() { return getToken(LangParser.MODULO, 0); }
+		public TerminalNode PLUS() { return getToken(LangParser.PLUS, 0); }
+		public TerminalNode LEFT_SHIFT() { return getToken(LangParser.LEFT_SHIFT, 0); }
+		public TerminalNode RIGHT_SHIFT() { return getToken(LangParser.RIGHT_SHIFT, 0); }
+		public TerminalNode APPEND() { return getToken(LangParser.APPEND, 0); }
+		public TerminalNode GREATER() { return getToken(LangParser.GREATER, 0); }
+		public TerminalNode GREATER_EQUALS() { return getToken(LangParser.GREATER_EQUALS, 0); }
+		public TerminalNode LOWER_EQUALS() { return getToken(LangParser.LOWER_EQUALS, 0); }
+		public TerminalNode LOWER() { return getToken(LangParser.LOWER, 0); }
+		public TerminalNode UNEQUALS() { return getToken(LangParser.UNEQUALS, 0); }
+		public TerminalNode EQUALS() { return getToken(LangParser.EQUALS, 0); }
+		public TerminalNode EQUAL_SIGN() { return getToken(LangParser.EQUAL_SIGN, 0); }
+		public TerminalNode BAND() { return getToken(LangParser.BAND, 0); }
+		public TerminalNode XOR() { return getToken(LangParser.XOR, 0); }
+		public TerminalNode BOR() { return getToken(LangParser.BOR, 0); }
+		public TerminalNode AND() { return getToken(LangParser.AND, 0); }
+		public TerminalNode OR() { return getToken(LangParser.OR, 0); }
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 28;
+		enterRecursionRule(_localctx, 28, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(322);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
+			case 1:
+				{
+				setState(312);
+				primary_expression();
+				}
+				break;
+			case 2:
+				{
+				setState(313);
+				((ExpressionContext)_localctx).place_int = match(INTEGER_LITERAL);
+				setState(314);
+				((ExpressionContext)_localctx).op = match(DOT);
+				setState(315);
+				((ExpressionContext)_localctx).un = expression(16);
+				}
+				break;
+			case 3:
+				{
+				setState(316);
+				((ExpressionContext)_localctx).op = match(LBRACKET);
+				setState(317);
+				((ExpressionContext)_localctx).place_int = match(INTEGER_LITERAL);
+				setState(318);
+				match(RBRACKET);
+				setState(319);
+				((ExpressionContext)_localctx).un = expression(15);
+				}
+				break;
+			case 4:
+				{
+				setState(320);
+				((ExpressionContext)_localctx).op = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << TILDE) | (1L << MINUS) | (1L << INVERT))) != 0)) ) {
+					((ExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(321);
+				((ExpressionContext)_localctx).un = expression(12);
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(367);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,48,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(365);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(324);
+						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
+						setState(325);
+						((ExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MODULO) | (1L << DIVIDE) | (1L << MULTIPLY))) != 0)) ) {
+							((ExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(326);
+						((ExpressionContext)_localctx).r = expression(12);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(327);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(328);
+						((ExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==PLUS || _la==MINUS) ) {
+							((ExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(329);
+						((ExpressionContext)_localctx).r = expression(11);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(330);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(331);
+						((ExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==LEFT_SHIFT || _la==RIGHT_SHIFT) ) {
+							((ExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(332);
+						((ExpressionContext)_localctx).r = expression(10);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(333);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(334);
+						((ExpressionContext)_localctx).op = match(APPEND);
+						setState(335);
+						((ExpressionContext)_localctx).r = expression(9);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(336);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(337);
+						((ExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LOWER_EQUALS) | (1L << GREATER_EQUALS) | (1L << LOWER) | (1L << GREATER))) != 0)) ) {
+							((ExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(338);
+						((ExpressionContext)_localctx).r = expression(8);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(339);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(340);
+						((ExpressionContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQUAL_SIGN) | (1L << EQUALS) | (1L << UNEQUALS))) != 0)) ) {
+							((ExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(341);
+						((ExpressionContext)_localctx).r = expression(7);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(342);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(343);
+						((ExpressionContext)_localctx).op = match(BAND);
+						setState(344);
+						((ExpressionContext)_localctx).r = expression(6);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(345);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(346);
+						((ExpressionContext)_localctx).op = match(XOR);
+						setState(347);
+						((ExpressionContext)_localctx).r = expression(5);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(348);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(349);
+						((ExpressionContext)_localctx).op = match(BOR);
+						setState(350);
+						((ExpressionContext)_localctx).r = expression(4);
+						}
+						break;
+					case 10:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(351);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(352);
+						((ExpressionContext)_localctx).op = match(AND);
+						setState(353);
+						((ExpressionContext)_localctx).r = expression(3);
+						}
+						break;
+					case 11:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(354);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(355);
+						((ExpressionContext)_localctx).op = match(OR);
+						setState(356);
+						((ExpressionContext)_localctx).r = expression(2);
+						}
+						break;
+					case 12:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.un = _prevctx;
+						_localctx.un = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(357);
+						if (!(precpred(_ctx, 14))) throw new FailedPredicateException(this, "precpred(_ctx, 14)");
+						setState(358);
+						((ExpressionContext)_localctx).op = match(DOT);
+						setState(359);
+						((ExpressionContext)_localctx).select_int = match(INTEGER_LITERAL);
+						}
+						break;
+					case 13:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(360);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(361);
+						((ExpressionContext)_localctx).op = match(LBRACKET);
+						setState(362);
+						((ExpressionContext)_localctx).r = expression(0);
+						setState(363);
+						((ExpressionContext)_localctx).select_int = match(RBRACKET);
+						}
+						break;
+					}
+					} 
+				}
+				setState(369);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,48,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class Primary_expressionContext extends ParserRuleContext {
+		public Method_invocationContext method_invocation() {
+			return getRuleContext(Method_invocationContext.class,0);
+		}
+		public Var_accessContext var_access() {
+			return getRuleContext(Var_accessContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public Tuple_expressionContext tuple_expression() {
+			return getRuleContext(Tuple_expressionContext.class,0);
+		}
+		public Array_expressionContext array_expression() {
+			return getRuleContext(Array_expressionContext.class,0);
+		}
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public Primary_expressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primary_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterPrimary_expression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitPrimary_expression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitPrimary_expression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Primary_expressionContext primary_expression() throws RecognitionException {
+		Primary_expressionContext _localctx = new Primary_expressionContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_primary_expression);
+		try {
+			setState(379);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(370);
+				method_invocation();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(371);
+				var_access();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(372);
+				match(LPAREN);
+				setState(373);
+				expression(0);
+				setState(374);
+				match(RPAREN);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(376);
+				tuple_expression();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(377);
+				array_expression();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(378);
+				literal();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Method_invocationContext extends ParserRuleContext {
+		public IdentContext name;
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public GlobalsContext globals() {
+			return getRuleContext(GlobalsContext.class,0);
+		}
+		public Method_invocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_method_invocation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterMethod_invocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitMethod_invocation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitMethod_invocation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Method_invocationContext method_invocation() throws RecognitionException {
+		Method_invocationContext _localctx = new Method_invocationContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_method_invocation);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(381);
+			((Method_invocationContext)_localctx).name = ident();
+			setState(383);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LBBRACKET) {
+				{
+				setState(382);
+				globals();
+				}
+			}
+
+			setState(385);
+			match(LPAREN);
+			setState(386);
+			arguments();
+			setState(387);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PhiContext extends ParserRuleContext {
+		public TerminalNode PHI() { return getToken(LangParser.PHI, 0); }
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public List<IdentContext> ident() {
+			return getRuleContexts(IdentContext.class);
+		}
+		public IdentContext ident(int i) {
+			return getRuleContext(IdentContext.class,i);
+		}
+		public TerminalNode COMMA() { return getToken(LangParser.COMMA, 0); }
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public PhiContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_phi; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterPhi(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitPhi(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitPhi(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PhiContext phi() throws RecognitionException {
+		PhiContext _localctx = new PhiContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_phi);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(389);
+			match(PHI);
+			setState(390);
+			match(LPAREN);
+			setState(391);
+			ident();
+			setState(392);
+			match(COMMA);
+			setState(393);
+			ident();
+			setState(394);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArgumentsContext extends ParserRuleContext {
+		public List<Tuple_elementContext> tuple_element() {
+			return getRuleContexts(Tuple_elementContext.class);
+		}
+		public Tuple_elementContext tuple_element(int i) {
+			return getRuleContext(Tuple_elementContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(LangParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(LangParser.COMMA, i);
+		}
+		public ArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitArguments(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArgumentsContext arguments() throws RecognitionException {
+		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_arguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(404);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INPUT) | (1L << OUTPUT) | (1L << TRUE) | (1L << FALSE) | (1L << TILDE) | (1L << MINUS) | (1L << MULTIPLY) | (1L << INVERT) | (1L << LPAREN) | (1L << LBRACKET) | (1L << INTEGER_LITERAL) | (1L << IDENT) | (1L << LCURLY))) != 0)) {
+				{
+				setState(396);
+				tuple_element();
+				setState(401);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(397);
+					match(COMMA);
+					setState(398);
+					tuple_element();
+					}
+					}
+					setState(403);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnpackContext extends ParserRuleContext {
+		public TerminalNode MULTIPLY() { return getToken(LangParser.MULTIPLY, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public UnpackContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unpack; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterUnpack(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitUnpack(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitUnpack(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnpackContext unpack() throws RecognitionException {
+		UnpackContext _localctx = new UnpackContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_unpack);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(406);
+			match(MULTIPLY);
+			setState(407);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Tuple_expressionContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public Tuple_innerContext tuple_inner() {
+			return getRuleContext(Tuple_innerContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public Tuple_expressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_tuple_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterTuple_expression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitTuple_expression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitTuple_expression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Tuple_expressionContext tuple_expression() throws RecognitionException {
+		Tuple_expressionContext _localctx = new Tuple_expressionContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_tuple_expression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(409);
+			match(LPAREN);
+			setState(410);
+			tuple_inner();
+			setState(411);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Array_expressionContext extends ParserRuleContext {
+		public TerminalNode LCURLY() { return getToken(LangParser.LCURLY, 0); }
+		public Tuple_innerContext tuple_inner() {
+			return getRuleContext(Tuple_innerContext.class,0);
+		}
+		public TerminalNode RCURLY() { return getToken(LangParser.RCURLY, 0); }
+		public Array_expressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_array_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterArray_expression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitArray_expression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitArray_expression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Array_expressionContext array_expression() throws RecognitionException {
+		Array_expressionContext _localctx = new Array_expressionContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_array_expression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(413);
+			match(LCURLY);
+			setState(414);
+			tuple_inner();
+			setState(415);
+			match(RCURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Tuple_innerContext extends ParserRuleContext {
+		public List<Tuple_elementContext> tuple_element() {
+			return getRuleContexts(Tuple_elementContext.class);
+		}
+		public Tuple_elementContext tuple_element(int i) {
+			return getRuleContext(Tuple_elementContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(LangParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(LangParser.COMMA, i);
+		}
+		public Tuple_innerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_tuple_inner; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterTuple_inner(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitTuple_inner(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitTuple_inner(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Tuple_innerContext tuple_inner() throws RecognitionException {
+		Tuple_innerContext _localctx = new Tuple_innerContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_tuple_inner);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(428);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INPUT) | (1L << OUTPUT) | (1L << TRUE) | (1L << FALSE) | (1L << TILDE) | (1L << MINUS) | (1L << MULTIPLY) | (1L << INVERT) | (1L << LPAREN) | (1L << LBRACKET) | (1L << INTEGER_LITERAL) | (1L << IDENT) | (1L << LCURLY))) != 0)) {
+				{
+				setState(417);
+				tuple_element();
+				setState(426);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
+				case 1:
+					{
+					setState(422);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(418);
+						match(COMMA);
+						setState(419);
+						tuple_element();
+						}
+						}
+						setState(424);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+					break;
+				case 2:
+					{
+					setState(425);
+					match(COMMA);
+					}
+					break;
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Tuple_elementContext extends ParserRuleContext {
+		public UnpackContext unpack() {
+			return getRuleContext(UnpackContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public Tuple_elementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_tuple_element; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterTuple_element(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitTuple_element(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitTuple_element(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Tuple_elementContext tuple_element() throws RecognitionException {
+		Tuple_elementContext _localctx = new Tuple_elementContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_tuple_element);
+		try {
+			setState(432);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case MULTIPLY:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(430);
+				unpack();
+				}
+				break;
+			case INPUT:
+			case OUTPUT:
+			case TRUE:
+			case FALSE:
+			case TILDE:
+			case MINUS:
+			case INVERT:
+			case LPAREN:
+			case LBRACKET:
+			case INTEGER_LITERAL:
+			case IDENT:
+			case LCURLY:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(431);
+				expression(0);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Var_accessContext extends ParserRuleContext {
+		public IdentContext ident() {
+			return getRuleContext(IdentContext.class,0);
+		}
+		public Var_accessContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_var_access; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterVar_access(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitVar_access(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitVar_access(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Var_accessContext var_access() throws RecognitionException {
+		Var_accessContext _localctx = new Var_accessContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_var_access);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(434);
+			ident();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LiteralContext extends ParserRuleContext {
+		public TerminalNode INTEGER_LITERAL() { return getToken(LangParser.INTEGER_LITERAL, 0); }
+		public TerminalNode TRUE() { return getToken(LangParser.TRUE, 0); }
+		public TerminalNode FALSE() { return getToken(LangParser.FALSE, 0); }
+		public LiteralContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literal; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterLiteral(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitLiteral(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitLiteral(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LiteralContext literal() throws RecognitionException {
+		LiteralContext _localctx = new LiteralContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_literal);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(436);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << TRUE) | (1L << FALSE) | (1L << INTEGER_LITERAL))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GlobalsContext extends ParserRuleContext {
+		public TerminalNode LBBRACKET() { return getToken(LangParser.LBBRACKET, 0); }
+		public TerminalNode RBBRACKET() { return getToken(LangParser.RBBRACKET, 0); }
+		public List<GlobalContext> global() {
+			return getRuleContexts(GlobalContext.class);
+		}
+		public GlobalContext global(int i) {
+			return getRuleContext(GlobalContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(LangParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(LangParser.COMMA, i);
+		}
+		public GlobalsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_globals; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterGlobals(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitGlobals(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitGlobals(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GlobalsContext globals() throws RecognitionException {
+		GlobalsContext _localctx = new GlobalsContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_globals);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(438);
+			match(LBBRACKET);
+			setState(447);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INPUT) | (1L << OUTPUT) | (1L << IDENT))) != 0)) {
+				{
+				setState(439);
+				global();
+				setState(444);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(440);
+					match(COMMA);
+					setState(441);
+					global();
+					}
+					}
+					setState(446);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(449);
+			match(RBBRACKET);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GlobalContext extends ParserRuleContext {
+		public List<IdentContext> ident() {
+			return getRuleContexts(IdentContext.class);
+		}
+		public IdentContext ident(int i) {
+			return getRuleContext(IdentContext.class,i);
+		}
+		public List<TerminalNode> ARROW() { return getTokens(LangParser.ARROW); }
+		public TerminalNode ARROW(int i) {
+			return getToken(LangParser.ARROW, i);
+		}
+		public GlobalContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_global; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterGlobal(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitGlobal(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitGlobal(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GlobalContext global() throws RecognitionException {
+		GlobalContext _localctx = new GlobalContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_global);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(451);
+			ident();
+			setState(452);
+			match(ARROW);
+			setState(453);
+			ident();
+			setState(454);
+			match(ARROW);
+			setState(455);
+			ident();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentContext extends ParserRuleContext {
+		public TerminalNode IDENT() { return getToken(LangParser.IDENT, 0); }
+		public TerminalNode INPUT() { return getToken(LangParser.INPUT, 0); }
+		public TerminalNode OUTPUT() { return getToken(LangParser.OUTPUT, 0); }
+		public IdentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ident; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterIdent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitIdent(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitIdent(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IdentContext ident() throws RecognitionException {
+		IdentContext _localctx = new IdentContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_ident);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(457);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INPUT) | (1L << OUTPUT) | (1L << IDENT))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+	 
+		public TypeContext() { }
+		public void copyFrom(TypeContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class BaseTypeIntContext extends TypeContext {
+		public TerminalNode INT() { return getToken(LangParser.INT, 0); }
+		public BaseTypeIntContext(TypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterBaseTypeInt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitBaseTypeInt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitBaseTypeInt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BaseTypeVarContext extends TypeContext {
+		public TerminalNode VAR() { return getToken(LangParser.VAR, 0); }
+		public BaseTypeVarContext(TypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterBaseTypeVar(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitBaseTypeVar(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitBaseTypeVar(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class Array_typeContext extends TypeContext {
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode LBRACKET() { return getToken(LangParser.LBRACKET, 0); }
+		public TerminalNode INTEGER_LITERAL() { return getToken(LangParser.INTEGER_LITERAL, 0); }
+		public TerminalNode RBRACKET() { return getToken(LangParser.RBRACKET, 0); }
+		public Array_typeContext(TypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterArray_type(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitArray_type(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitArray_type(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class Tuple_typeContext extends TypeContext {
+		public TerminalNode LPAREN() { return getToken(LangParser.LPAREN, 0); }
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(LangParser.RPAREN, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(LangParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(LangParser.COMMA, i);
+		}
+		public Tuple_typeContext(TypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).enterTuple_type(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof LangListener ) ((LangListener)listener).exitTuple_type(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LangVisitor ) return ((LangVisitor<? extends T>)visitor).visitTuple_type(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		return type(0);
+	}
+
+	private TypeContext type(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		TypeContext _localctx = new TypeContext(_ctx, _parentState);
+		TypeContext _prevctx = _localctx;
+		int _startState = 58;
+		enterRecursionRule(_localctx, 58, RULE_type, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(473);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case VAR:
+				{
+				_localctx = new BaseTypeVarContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(460);
+				match(VAR);
+				}
+				break;
+			case INT:
+				{
+				_localctx = new BaseTypeIntContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(461);
+				match(INT);
+				}
+				break;
+			case LPAREN:
+				{
+				_localctx = new Tuple_typeContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(462);
+				match(LPAREN);
+				setState(463);
+				type(0);
+				setState(468);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(464);
+					match(COMMA);
+					setState(465);
+					type(0);
+					}
+					}
+					setState(470);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(471);
+				match(RPAREN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(481);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new Array_typeContext(new TypeContext(_parentctx, _parentState));
+					pushNewRecursionContext(_localctx, _startState, RULE_type);
+					setState(475);
+					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+					setState(476);
+					match(LBRACKET);
+					setState(477);
+					match(INTEGER_LITERAL);
+					setState(478);
+					match(RBRACKET);
+					}
+					} 
+				}
+				setState(483);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 3:
+			return normal_statement_sempred((Normal_statementContext)_localctx, predIndex);
+		case 14:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		case 29:
+			return type_sempred((TypeContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean normal_statement_sempred(Normal_statementContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return loopDepth > 0;
+		case 1:
+			return loopDepth > 0;
+		case 2:
+			return inMethod;
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return precpred(_ctx, 11);
+		case 4:
+			return precpred(_ctx, 10);
+		case 5:
+			return precpred(_ctx, 9);
+		case 6:
+			return precpred(_ctx, 8);
+		case 7:
+			return precpred(_ctx, 7);
+		case 8:
+			return precpred(_ctx, 6);
+		case 9:
+			return precpred(_ctx, 5);
+		case 10:
+			return precpred(_ctx, 4);
+		case 11:
+			return precpred(_ctx, 3);
+		case 12:
+			return precpred(_ctx, 2);
+		case 13:
+			return precpred(_ctx, 1);
+		case 14:
+			return precpred(_ctx, 14);
+		case 15:
+			return precpred(_ctx, 13);
+		}
+		return true;
+	}
+	private boolean type_sempred(TypeContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 16:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3>\u01e7\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\3\2\7\2@"+
+		"\n\2\f\2\16\2C\13\2\3\2\5\2F\n\2\3\2\5\2I\n\2\3\2\3\2\5\2M\n\2\3\2\7\2"+
+		"P\n\2\f\2\16\2S\13\2\3\2\5\2V\n\2\3\2\3\2\3\3\3\3\3\3\3\3\3\4\3\4\3\4"+
+		"\3\4\3\5\3\5\3\5\3\5\3\5\5\5g\n\5\3\5\3\5\3\5\3\5\3\5\5\5n\n\5\3\5\5\5"+
+		"q\n\5\3\5\5\5t\n\5\3\5\3\5\3\5\3\5\3\5\5\5{\n\5\5\5}\n\5\3\5\5\5\u0080"+
+		"\n\5\3\5\5\5\u0083\n\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\7\5\u008e\n"+
+		"\5\f\5\16\5\u0091\13\5\5\5\u0093\n\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\5"+
+		"\5\u009d\n\5\3\6\3\6\3\6\3\6\3\6\3\6\5\6\u00a5\n\6\3\6\3\6\3\6\3\6\3\6"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\5\6\u00b2\n\6\3\6\3\6\5\6\u00b6\n\6\3\6\3\6\5"+
+		"\6\u00ba\n\6\3\6\5\6\u00bd\n\6\3\6\5\6\u00c0\n\6\3\7\3\7\5\7\u00c4\n\7"+
+		"\3\7\3\7\3\7\5\7\u00c9\n\7\3\b\3\b\5\b\u00cd\n\b\3\t\6\t\u00d0\n\t\r\t"+
+		"\16\t\u00d1\3\t\3\t\3\t\3\t\5\t\u00d8\n\t\5\t\u00da\n\t\3\n\6\n\u00dd"+
+		"\n\n\r\n\16\n\u00de\3\n\3\n\5\n\u00e3\n\n\3\n\3\n\5\n\u00e7\n\n\3\n\3"+
+		"\n\3\n\3\n\3\n\3\13\3\13\3\13\7\13\u00f1\n\13\f\13\16\13\u00f4\13\13\3"+
+		"\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\5\r\u00fe\n\r\3\r\3\r\3\r\6\r\u0103\n\r"+
+		"\r\r\16\r\u0104\3\r\3\r\3\r\3\r\7\r\u010b\n\r\f\r\16\r\u010e\13\r\3\r"+
+		"\3\r\5\r\u0112\n\r\3\r\3\r\3\r\5\r\u0117\n\r\5\r\u0119\n\r\3\16\3\16\7"+
+		"\16\u011d\n\16\f\16\16\16\u0120\13\16\3\16\5\16\u0123\n\16\3\16\7\16\u0126"+
+		"\n\16\f\16\16\16\u0129\13\16\3\16\3\16\3\17\3\17\3\17\7\17\u0130\n\17"+
+		"\f\17\16\17\u0133\13\17\3\17\5\17\u0136\n\17\5\17\u0138\n\17\3\20\3\20"+
+		"\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\5\20\u0145\n\20\3\20\3\20"+
+		"\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20"+
+		"\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20"+
+		"\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\7\20\u0170\n\20"+
+		"\f\20\16\20\u0173\13\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5"+
+		"\21\u017e\n\21\3\22\3\22\5\22\u0182\n\22\3\22\3\22\3\22\3\22\3\23\3\23"+
+		"\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\7\24\u0192\n\24\f\24\16\24\u0195"+
+		"\13\24\5\24\u0197\n\24\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\27\3\27\3"+
+		"\27\3\27\3\30\3\30\3\30\7\30\u01a7\n\30\f\30\16\30\u01aa\13\30\3\30\5"+
+		"\30\u01ad\n\30\5\30\u01af\n\30\3\31\3\31\5\31\u01b3\n\31\3\32\3\32\3\33"+
+		"\3\33\3\34\3\34\3\34\3\34\7\34\u01bd\n\34\f\34\16\34\u01c0\13\34\5\34"+
+		"\u01c2\n\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\3\37\7\37\u01d5\n\37\f\37\16\37\u01d8\13\37\3\37"+
+		"\3\37\5\37\u01dc\n\37\3\37\3\37\3\37\3\37\7\37\u01e2\n\37\f\37\16\37\u01e5"+
+		"\13\37\3\37\2\4\36< \2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60"+
+		"\62\64\668:<\2\f\3\2\5\6\3\2\37 \5\2\25\25\34\34##\4\2\32\32\35\36\3\2"+
+		"\33\34\3\2+,\4\2\30\31$%\3\2 \"\4\2\17\20\66\66\5\2\5\5\7\788\2\u0221"+
+		"\2A\3\2\2\2\4Y\3\2\2\2\6]\3\2\2\2\b\u009c\3\2\2\2\n\u00bf\3\2\2\2\f\u00c8"+
+		"\3\2\2\2\16\u00cc\3\2\2\2\20\u00d9\3\2\2\2\22\u00dc\3\2\2\2\24\u00ed\3"+
+		"\2\2\2\26\u00f5\3\2\2\2\30\u0118\3\2\2\2\32\u011a\3\2\2\2\34\u0137\3\2"+
+		"\2\2\36\u0144\3\2\2\2 \u017d\3\2\2\2\"\u017f\3\2\2\2$\u0187\3\2\2\2&\u0196"+
+		"\3\2\2\2(\u0198\3\2\2\2*\u019b\3\2\2\2,\u019f\3\2\2\2.\u01ae\3\2\2\2\60"+
+		"\u01b2\3\2\2\2\62\u01b4\3\2\2\2\64\u01b6\3\2\2\2\66\u01b8\3\2\2\28\u01c5"+
+		"\3\2\2\2:\u01cb\3\2\2\2<\u01db\3\2\2\2>@\7\65\2\2?>\3\2\2\2@C\3\2\2\2"+
+		"A?\3\2\2\2AB\3\2\2\2BE\3\2\2\2CA\3\2\2\2DF\5\4\3\2ED\3\2\2\2EF\3\2\2\2"+
+		"FH\3\2\2\2GI\5\6\4\2HG\3\2\2\2HI\3\2\2\2IQ\3\2\2\2JL\5\22\n\2KM\7\65\2"+
+		"\2LK\3\2\2\2LM\3\2\2\2MP\3\2\2\2NP\5\f\7\2OJ\3\2\2\2ON\3\2\2\2PS\3\2\2"+
+		"\2QO\3\2\2\2QR\3\2\2\2RU\3\2\2\2SQ\3\2\2\2TV\5\16\b\2UT\3\2\2\2UV\3\2"+
+		"\2\2VW\3\2\2\2WX\7\2\2\3X\3\3\2\2\2YZ\7\22\2\2Z[\78\2\2[\\\7\65\2\2\\"+
+		"\5\3\2\2\2]^\7\23\2\2^_\7\66\2\2_`\7\65\2\2`\7\3\2\2\2ab\6\5\2\2b\u009d"+
+		"\7\26\2\2cd\6\5\3\2d\u009d\7\27\2\2eg\78\2\2fe\3\2\2\2fg\3\2\2\2gh\3\2"+
+		"\2\2hi\t\2\2\2ij\5<\37\2jm\5:\36\2kl\t\3\2\2ln\7\67\2\2mk\3\2\2\2mn\3"+
+		"\2\2\2n\u009d\3\2\2\2oq\78\2\2po\3\2\2\2pq\3\2\2\2qr\3\2\2\2rt\7\7\2\2"+
+		"sp\3\2\2\2st\3\2\2\2tu\3\2\2\2uv\5<\37\2v|\5:\36\2wz\t\3\2\2x{\5$\23\2"+
+		"y{\5\36\20\2zx\3\2\2\2zy\3\2\2\2{}\3\2\2\2|w\3\2\2\2|}\3\2\2\2}\u009d"+
+		"\3\2\2\2~\u0080\78\2\2\177~\3\2\2\2\177\u0080\3\2\2\2\u0080\u0082\3\2"+
+		"\2\2\u0081\u0083\7\5\2\2\u0082\u0081\3\2\2\2\u0082\u0083\3\2\2\2\u0083"+
+		"\u0084\3\2\2\2\u0084\u0085\7\b\2\2\u0085\u0086\7\t\2\2\u0086\u009d\5:"+
+		"\36\2\u0087\u009d\5\30\r\2\u0088\u0089\6\5\4\2\u0089\u0092\7\13\2\2\u008a"+
+		"\u008f\5\36\20\2\u008b\u008c\7<\2\2\u008c\u008e\5\36\20\2\u008d\u008b"+
+		"\3\2\2\2\u008e\u0091\3\2\2\2\u008f\u008d\3\2\2\2\u008f\u0090\3\2\2\2\u0090"+
+		"\u0093\3\2\2\2\u0091\u008f\3\2\2\2\u0092\u008a\3\2\2\2\u0092\u0093\3\2"+
+		"\2\2\u0093\u009d\3\2\2\2\u0094\u0095\5:\36\2\u0095\u0096\7/\2\2\u0096"+
+		"\u0097\5\36\20\2\u0097\u0098\7\61\2\2\u0098\u0099\7 \2\2\u0099\u009a\5"+
+		"\36\20\2\u009a\u009d\3\2\2\2\u009b\u009d\5\36\20\2\u009ca\3\2\2\2\u009c"+
+		"c\3\2\2\2\u009cf\3\2\2\2\u009cs\3\2\2\2\u009c\177\3\2\2\2\u009c\u0087"+
+		"\3\2\2\2\u009c\u0088\3\2\2\2\u009c\u0094\3\2\2\2\u009c\u009b\3\2\2\2\u009d"+
+		"\t\3\2\2\2\u009e\u009f\b\6\1\2\u009f\u00a4\7\r\2\2\u00a0\u00a1\7\60\2"+
+		"\2\u00a1\u00a2\5\34\17\2\u00a2\u00a3\7\62\2\2\u00a3\u00a5\3\2\2\2\u00a4"+
+		"\u00a0\3\2\2\2\u00a4\u00a5\3\2\2\2\u00a5\u00a6\3\2\2\2\u00a6\u00a7\7-"+
+		"\2\2\u00a7\u00a8\5\36\20\2\u00a8\u00a9\7.\2\2\u00a9\u00aa\5\f\7\2\u00aa"+
+		"\u00ab\b\6\1\2\u00ab\u00c0\3\2\2\2\u00ac\u00ad\7\f\2\2\u00ad\u00ae\7-"+
+		"\2\2\u00ae\u00af\5\36\20\2\u00af\u00b1\7.\2\2\u00b0\u00b2\7\65\2\2\u00b1"+
+		"\u00b0\3\2\2\2\u00b1\u00b2\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3\u00b5\5\32"+
+		"\16\2\u00b4\u00b6\7\65\2\2\u00b5\u00b4\3\2\2\2\u00b5\u00b6\3\2\2\2\u00b6"+
+		"\u00bc\3\2\2\2\u00b7\u00b9\7\16\2\2\u00b8\u00ba\7\65\2\2\u00b9\u00b8\3"+
+		"\2\2\2\u00b9\u00ba\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb\u00bd\5\32\16\2\u00bc"+
+		"\u00b7\3\2\2\2\u00bc\u00bd\3\2\2\2\u00bd\u00c0\3\2\2\2\u00be\u00c0\5\32"+
+		"\16\2\u00bf\u009e\3\2\2\2\u00bf\u00ac\3\2\2\2\u00bf\u00be\3\2\2\2\u00c0"+
+		"\13\3\2\2\2\u00c1\u00c3\5\n\6\2\u00c2\u00c4\7\65\2\2\u00c3\u00c2\3\2\2"+
+		"\2\u00c3\u00c4\3\2\2\2\u00c4\u00c9\3\2\2\2\u00c5\u00c6\5\b\5\2\u00c6\u00c7"+
+		"\7\65\2\2\u00c7\u00c9\3\2\2\2\u00c8\u00c1\3\2\2\2\u00c8\u00c5\3\2\2\2"+
+		"\u00c9\r\3\2\2\2\u00ca\u00cd\5\n\6\2\u00cb\u00cd\5\b\5\2\u00cc\u00ca\3"+
+		"\2\2\2\u00cc\u00cb\3\2\2\2\u00cd\17\3\2\2\2\u00ce\u00d0\5\f\7\2\u00cf"+
+		"\u00ce\3\2\2\2\u00d0\u00d1\3\2\2\2\u00d1\u00cf\3\2\2\2\u00d1\u00d2\3\2"+
+		"\2\2\u00d2\u00d3\3\2\2\2\u00d3\u00d4\5\16\b\2\u00d4\u00da\3\2\2\2\u00d5"+
+		"\u00d7\5\16\b\2\u00d6\u00d8\7\65\2\2\u00d7\u00d6\3\2\2\2\u00d7\u00d8\3"+
+		"\2\2\2\u00d8\u00da\3\2\2\2\u00d9\u00cf\3\2\2\2\u00d9\u00d5\3\2\2\2\u00da"+
+		"\21\3\2\2\2\u00db\u00dd\5<\37\2\u00dc\u00db\3\2\2\2\u00dd\u00de\3\2\2"+
+		"\2\u00de\u00dc\3\2\2\2\u00de\u00df\3\2\2\2\u00df\u00e0\3\2\2\2\u00e0\u00e2"+
+		"\5:\36\2\u00e1\u00e3\5\66\34\2\u00e2\u00e1\3\2\2\2\u00e2\u00e3\3\2\2\2"+
+		"\u00e3\u00e4\3\2\2\2\u00e4\u00e6\7-\2\2\u00e5\u00e7\5\24\13\2\u00e6\u00e5"+
+		"\3\2\2\2\u00e6\u00e7\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00e9\7.\2\2\u00e9"+
+		"\u00ea\b\n\1\2\u00ea\u00eb\5\32\16\2\u00eb\u00ec\b\n\1\2\u00ec\23\3\2"+
+		"\2\2\u00ed\u00f2\5\26\f\2\u00ee\u00ef\7<\2\2\u00ef\u00f1\5\26\f\2\u00f0"+
+		"\u00ee\3\2\2\2\u00f1\u00f4\3\2\2\2\u00f2\u00f0\3\2\2\2\u00f2\u00f3\3\2"+
+		"\2\2\u00f3\25\3\2\2\2\u00f4\u00f2\3\2\2\2\u00f5\u00f6\5<\37\2\u00f6\u00f7"+
+		"\5:\36\2\u00f7\27\3\2\2\2\u00f8\u00f9\5:\36\2\u00f9\u00fd\t\3\2\2\u00fa"+
+		"\u00fe\5$\23\2\u00fb\u00fe\5\36\20\2\u00fc\u00fe\5(\25\2\u00fd\u00fa\3"+
+		"\2\2\2\u00fd\u00fb\3\2\2\2\u00fd\u00fc\3\2\2\2\u00fe\u0119\3\2\2\2\u00ff"+
+		"\u0102\5:\36\2\u0100\u0101\7<\2\2\u0101\u0103\5:\36\2\u0102\u0100\3\2"+
+		"\2\2\u0103\u0104\3\2\2\2\u0104\u0102\3\2\2\2\u0104\u0105\3\2\2\2\u0105"+
+		"\u0112\3\2\2\2\u0106\u0107\7-\2\2\u0107\u010c\5:\36\2\u0108\u0109\7<\2"+
+		"\2\u0109\u010b\5:\36\2\u010a\u0108\3\2\2\2\u010b\u010e\3\2\2\2\u010c\u010a"+
+		"\3\2\2\2\u010c\u010d\3\2\2\2\u010d\u010f\3\2\2\2\u010e\u010c\3\2\2\2\u010f"+
+		"\u0110\7.\2\2\u0110\u0112\3\2\2\2\u0111\u00ff\3\2\2\2\u0111\u0106\3\2"+
+		"\2\2\u0112\u0113\3\2\2\2\u0113\u0116\t\3\2\2\u0114\u0117\5(\25\2\u0115"+
+		"\u0117\5\"\22\2\u0116\u0114\3\2\2\2\u0116\u0115\3\2\2\2\u0117\u0119\3"+
+		"\2\2\2\u0118\u00f8\3\2\2\2\u0118\u0111\3\2\2\2\u0119\31\3\2\2\2\u011a"+
+		"\u011e\79\2\2\u011b\u011d\7\65\2\2\u011c\u011b\3\2\2\2\u011d\u0120\3\2"+
+		"\2\2\u011e\u011c\3\2\2\2\u011e\u011f\3\2\2\2\u011f\u0122\3\2\2\2\u0120"+
+		"\u011e\3\2\2\2\u0121\u0123\5\20\t\2\u0122\u0121\3\2\2\2\u0122\u0123\3"+
+		"\2\2\2\u0123\u0127\3\2\2\2\u0124\u0126\7\65\2\2\u0125\u0124\3\2\2\2\u0126"+
+		"\u0129\3\2\2\2\u0127\u0125\3\2\2\2\u0127\u0128\3\2\2\2\u0128\u012a\3\2"+
+		"\2\2\u0129\u0127\3\2\2\2\u012a\u012b\7:\2\2\u012b\33\3\2\2\2\u012c\u0131"+
+		"\5\30\r\2\u012d\u012e\7\65\2\2\u012e\u0130\5\30\r\2\u012f\u012d\3\2\2"+
+		"\2\u0130\u0133\3\2\2\2\u0131\u012f\3\2\2\2\u0131\u0132\3\2\2\2\u0132\u0135"+
+		"\3\2\2\2\u0133\u0131\3\2\2\2\u0134\u0136\7\65\2\2\u0135\u0134\3\2\2\2"+
+		"\u0135\u0136\3\2\2\2\u0136\u0138\3\2\2\2\u0137\u012c\3\2\2\2\u0137\u0138"+
+		"\3\2\2\2\u0138\35\3\2\2\2\u0139\u013a\b\20\1\2\u013a\u0145\5 \21\2\u013b"+
+		"\u013c\7\66\2\2\u013c\u013d\7=\2\2\u013d\u0145\5\36\20\22\u013e\u013f"+
+		"\7/\2\2\u013f\u0140\7\66\2\2\u0140\u0141\7\61\2\2\u0141\u0145\5\36\20"+
+		"\21\u0142\u0143\t\4\2\2\u0143\u0145\5\36\20\16\u0144\u0139\3\2\2\2\u0144"+
+		"\u013b\3\2\2\2\u0144\u013e\3\2\2\2\u0144\u0142\3\2\2\2\u0145\u0171\3\2"+
+		"\2\2\u0146\u0147\f\r\2\2\u0147\u0148\t\5\2\2\u0148\u0170\5\36\20\16\u0149"+
+		"\u014a\f\f\2\2\u014a\u014b\t\6\2\2\u014b\u0170\5\36\20\r\u014c\u014d\f"+
+		"\13\2\2\u014d\u014e\t\7\2\2\u014e\u0170\5\36\20\f\u014f\u0150\f\n\2\2"+
+		"\u0150\u0151\7\64\2\2\u0151\u0170\5\36\20\13\u0152\u0153\f\t\2\2\u0153"+
+		"\u0154\t\b\2\2\u0154\u0170\5\36\20\n\u0155\u0156\f\b\2\2\u0156\u0157\t"+
+		"\t\2\2\u0157\u0170\5\36\20\t\u0158\u0159\f\7\2\2\u0159\u015a\7(\2\2\u015a"+
+		"\u0170\5\36\20\b\u015b\u015c\f\6\2\2\u015c\u015d\7*\2\2\u015d\u0170\5"+
+		"\36\20\7\u015e\u015f\f\5\2\2\u015f\u0160\7)\2\2\u0160\u0170\5\36\20\6"+
+		"\u0161\u0162\f\4\2\2\u0162\u0163\7&\2\2\u0163\u0170\5\36\20\5\u0164\u0165"+
+		"\f\3\2\2\u0165\u0166\7\'\2\2\u0166\u0170\5\36\20\4\u0167\u0168\f\20\2"+
+		"\2\u0168\u0169\7=\2\2\u0169\u0170\7\66\2\2\u016a\u016b\f\17\2\2\u016b"+
+		"\u016c\7/\2\2\u016c\u016d\5\36\20\2\u016d\u016e\7\61\2\2\u016e\u0170\3"+
+		"\2\2\2\u016f\u0146\3\2\2\2\u016f\u0149\3\2\2\2\u016f\u014c\3\2\2\2\u016f"+
+		"\u014f\3\2\2\2\u016f\u0152\3\2\2\2\u016f\u0155\3\2\2\2\u016f\u0158\3\2"+
+		"\2\2\u016f\u015b\3\2\2\2\u016f\u015e\3\2\2\2\u016f\u0161\3\2\2\2\u016f"+
+		"\u0164\3\2\2\2\u016f\u0167\3\2\2\2\u016f\u016a\3\2\2\2\u0170\u0173\3\2"+
+		"\2\2\u0171\u016f\3\2\2\2\u0171\u0172\3\2\2\2\u0172\37\3\2\2\2\u0173\u0171"+
+		"\3\2\2\2\u0174\u017e\5\"\22\2\u0175\u017e\5\62\32\2\u0176\u0177\7-\2\2"+
+		"\u0177\u0178\5\36\20\2\u0178\u0179\7.\2\2\u0179\u017e\3\2\2\2\u017a\u017e"+
+		"\5*\26\2\u017b\u017e\5,\27\2\u017c\u017e\5\64\33\2\u017d\u0174\3\2\2\2"+
+		"\u017d\u0175\3\2\2\2\u017d\u0176\3\2\2\2\u017d\u017a\3\2\2\2\u017d\u017b"+
+		"\3\2\2\2\u017d\u017c\3\2\2\2\u017e!\3\2\2\2\u017f\u0181\5:\36\2\u0180"+
+		"\u0182\5\66\34\2\u0181\u0180\3\2\2\2\u0181\u0182\3\2\2\2\u0182\u0183\3"+
+		"\2\2\2\u0183\u0184\7-\2\2\u0184\u0185\5&\24\2\u0185\u0186\7.\2\2\u0186"+
+		"#\3\2\2\2\u0187\u0188\7\24\2\2\u0188\u0189\7-\2\2\u0189\u018a\5:\36\2"+
+		"\u018a\u018b\7<\2\2\u018b\u018c\5:\36\2\u018c\u018d\7.\2\2\u018d%\3\2"+
+		"\2\2\u018e\u0193\5\60\31\2\u018f\u0190\7<\2\2\u0190\u0192\5\60\31\2\u0191"+
+		"\u018f\3\2\2\2\u0192\u0195\3\2\2\2\u0193\u0191\3\2\2\2\u0193\u0194\3\2"+
+		"\2\2\u0194\u0197\3\2\2\2\u0195\u0193\3\2\2\2\u0196\u018e\3\2\2\2\u0196"+
+		"\u0197\3\2\2\2\u0197\'\3\2\2\2\u0198\u0199\7\36\2\2\u0199\u019a\5\36\20"+
+		"\2\u019a)\3\2\2\2\u019b\u019c\7-\2\2\u019c\u019d\5.\30\2\u019d\u019e\7"+
+		".\2\2\u019e+\3\2\2\2\u019f\u01a0\79\2\2\u01a0\u01a1\5.\30\2\u01a1\u01a2"+
+		"\7:\2\2\u01a2-\3\2\2\2\u01a3\u01ac\5\60\31\2\u01a4\u01a5\7<\2\2\u01a5"+
+		"\u01a7\5\60\31\2\u01a6\u01a4\3\2\2\2\u01a7\u01aa\3\2\2\2\u01a8\u01a6\3"+
+		"\2\2\2\u01a8\u01a9\3\2\2\2\u01a9\u01ad\3\2\2\2\u01aa\u01a8\3\2\2\2\u01ab"+
+		"\u01ad\7<\2\2\u01ac\u01a8\3\2\2\2\u01ac\u01ab\3\2\2\2\u01ad\u01af\3\2"+
+		"\2\2\u01ae\u01a3\3\2\2\2\u01ae\u01af\3\2\2\2\u01af/\3\2\2\2\u01b0\u01b3"+
+		"\5(\25\2\u01b1\u01b3\5\36\20\2\u01b2\u01b0\3\2\2\2\u01b2\u01b1\3\2\2\2"+
+		"\u01b3\61\3\2\2\2\u01b4\u01b5\5:\36\2\u01b5\63\3\2\2\2\u01b6\u01b7\t\n"+
+		"\2\2\u01b7\65\3\2\2\2\u01b8\u01c1\7\60\2\2\u01b9\u01be\58\35\2\u01ba\u01bb"+
+		"\7<\2\2\u01bb\u01bd\58\35\2\u01bc\u01ba\3\2\2\2\u01bd\u01c0\3\2\2\2\u01be"+
+		"\u01bc\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf\u01c2\3\2\2\2\u01c0\u01be\3\2"+
+		"\2\2\u01c1\u01b9\3\2\2\2\u01c1\u01c2\3\2\2\2\u01c2\u01c3\3\2\2\2\u01c3"+
+		"\u01c4\7\62\2\2\u01c4\67\3\2\2\2\u01c5\u01c6\5:\36\2\u01c6\u01c7\7\63"+
+		"\2\2\u01c7\u01c8\5:\36\2\u01c8\u01c9\7\63\2\2\u01c9\u01ca\5:\36\2\u01ca"+
+		"9\3\2\2\2\u01cb\u01cc\t\13\2\2\u01cc;\3\2\2\2\u01cd\u01ce\b\37\1\2\u01ce"+
+		"\u01dc\7\n\2\2\u01cf\u01dc\7\t\2\2\u01d0\u01d1\7-\2\2\u01d1\u01d6\5<\37"+
+		"\2\u01d2\u01d3\7<\2\2\u01d3\u01d5\5<\37\2\u01d4\u01d2\3\2\2\2\u01d5\u01d8"+
+		"\3\2\2\2\u01d6\u01d4\3\2\2\2\u01d6\u01d7\3\2\2\2\u01d7\u01d9\3\2\2\2\u01d8"+
+		"\u01d6\3\2\2\2\u01d9\u01da\7.\2\2\u01da\u01dc\3\2\2\2\u01db\u01cd\3\2"+
+		"\2\2\u01db\u01cf\3\2\2\2\u01db\u01d0\3\2\2\2\u01dc\u01e3\3\2\2\2\u01dd"+
+		"\u01de\f\4\2\2\u01de\u01df\7/\2\2\u01df\u01e0\7\66\2\2\u01e0\u01e2\7\61"+
+		"\2\2\u01e1\u01dd\3\2\2\2\u01e2\u01e5\3\2\2\2\u01e3\u01e1\3\2\2\2\u01e3"+
+		"\u01e4\3\2\2\2\u01e4=\3\2\2\2\u01e5\u01e3\3\2\2\2@AEHLOQUfmpsz|\177\u0082"+
+		"\u008f\u0092\u009c\u00a4\u00b1\u00b5\u00b9\u00bc\u00bf\u00c3\u00c8\u00cc"+
+		"\u00d1\u00d7\u00d9\u00de\u00e2\u00e6\u00f2\u00fd\u0104\u010c\u0111\u0116"+
+		"\u0118\u011e\u0122\u0127\u0131\u0135\u0137\u0144\u016f\u0171\u017d\u0181"+
+		"\u0193\u0196\u01a8\u01ac\u01ae\u01b2\u01be\u01c1\u01d6\u01db\u01e3";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
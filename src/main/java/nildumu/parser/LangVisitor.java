@@ -0,0 +1,295 @@
+// Generated from Lang.g4 by ANTLR 4.9.2
+package nildumu.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link LangParser}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface LangVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link LangParser#file}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFile(LangParser.FileContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#use_sec}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUse_sec(LangParser.Use_secContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#bit_width}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBit_width(LangParser.Bit_widthContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code break}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBreak(LangParser.BreakContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code continue}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitContinue(LangParser.ContinueContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code inputdecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInputdecl(LangParser.InputdeclContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code vardecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVardecl(LangParser.VardeclContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code appenddecl}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAppenddecl(LangParser.AppenddeclContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code IGNORE}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIGNORE(LangParser.IGNOREContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code return_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitReturn_statement(LangParser.Return_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code array_assignment_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArray_assignment_statement(LangParser.Array_assignment_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code expression_statement}
+	 * labeled alternative in {@link LangParser#normal_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExpression_statement(LangParser.Expression_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code while_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhile_statement(LangParser.While_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code if_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIf_statement(LangParser.If_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code block_statement}
+	 * labeled alternative in {@link LangParser#control_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBlock_statement(LangParser.Block_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#statement_w_semi}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStatement_w_semi(LangParser.Statement_w_semiContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#statement_wo_semi}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStatement_wo_semi(LangParser.Statement_wo_semiContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#statements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStatements(LangParser.StatementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#method}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMethod(LangParser.MethodContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#parameters}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParameters(LangParser.ParametersContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#parameter}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParameter(LangParser.ParameterContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code single_assignment}
+	 * labeled alternative in {@link LangParser#assignment}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSingle_assignment(LangParser.Single_assignmentContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code multiple_assignment}
+	 * labeled alternative in {@link LangParser#assignment}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMultiple_assignment(LangParser.Multiple_assignmentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#block}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBlock(LangParser.BlockContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#assignments}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAssignments(LangParser.AssignmentsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExpression(LangParser.ExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#primary_expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrimary_expression(LangParser.Primary_expressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#method_invocation}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMethod_invocation(LangParser.Method_invocationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#phi}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPhi(LangParser.PhiContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#arguments}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArguments(LangParser.ArgumentsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#unpack}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnpack(LangParser.UnpackContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#tuple_expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTuple_expression(LangParser.Tuple_expressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#array_expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArray_expression(LangParser.Array_expressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#tuple_inner}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTuple_inner(LangParser.Tuple_innerContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#tuple_element}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTuple_element(LangParser.Tuple_elementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#var_access}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVar_access(LangParser.Var_accessContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#literal}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLiteral(LangParser.LiteralContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#globals}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGlobals(LangParser.GlobalsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#global}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGlobal(LangParser.GlobalContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LangParser#ident}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIdent(LangParser.IdentContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code baseTypeInt}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBaseTypeInt(LangParser.BaseTypeIntContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code baseTypeVar}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBaseTypeVar(LangParser.BaseTypeVarContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code array_type}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArray_type(LangParser.Array_typeContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code tuple_type}
+	 * labeled alternative in {@link LangParser#type}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTuple_type(LangParser.Tuple_typeContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+package nildumu.solver;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+/**
+ * Partial weighted MaxSAT formula that only consists of primitive arrays: the clauses are stored in DIMACS
+ * style (positive and negative variable ids, each clause is terminated by {@code 0}) in a growable arena,
+ * the weights of the variables are stored in an array indexed by the variable id.
+ * <p/>
+ * The weight of a variable is the cost of setting it to true, infinitely weighted variables must not be
+ * true. Variables are numbered from 1 on, ids that are never used are allowed.
+ */
+public class Formula {
+
+    private int[] arena = new int[1024];
+
+    private int arenaSize = 0;
+
+    private int clauseCount = 0;
+
+    private int clauseStart = 0;
+
+    private int maxClauseLength = 0;
+
+    private int variableCount = 0;
+
+    private double[] weights = new double[64];
+
+    private final BitSet weighted = new BitSet();
+
+    private final BitSet infinitelyWeighted = new BitSet();
+
+    private double weightSum = 0;
+
+    private boolean hasNonIntegerWeight = false;
+
+    private IntFunction<String> names = id -> "x" + id;
+
+    /**
+     * Appends a literal to the current clause
+     */
+    public Formula add(int literal) {
+        assert literal != 0;
+        if (arenaSize == arena.length) {
+            arena = Arrays.copyOf(arena, arena.length * 2);
+        }
+        arena[arenaSize++] = literal;
+        variableCount = Math.max(variableCount, Math.abs(literal));
+        return this;
+    }
+
+    /**
+     * Terminates the current clause
+     */
+    public Formula end() {
+        if (arenaSize == arena.length) {
+            arena = Arrays.copyOf(arena, arena.length * 2);
+        }
+        maxClauseLength = Math.max(maxClauseLength, arenaSize - clauseStart);
+        arena[arenaSize++] = 0;
+        clauseStart = arenaSize;
+        clauseCount++;
+        return this;
+    }
+
+    public Formula addClause(int... literals) {
+        for (int literal : literals) {
+            add(literal);
+        }
+        return end();
+    }
+
+    /**
+     * Adds the clause {@code a → b}
+     */
+    public Formula addImplication(int a, int b) {
+        return add(-a).add(b).end();
+    }
+
+    public Formula addUnit(int literal) {
+        return add(literal).end();
+    }
+
+    public void weight(int var, double weight) {
+        assert weight >= 0;
+        checkUnweighted(var);
+        ensureVariable(var);
+        weighted.set(var);
+        weights[var] = weight;
+        weightSum += weight;
+        if (Math.ceil(weight) != weight) {
+            hasNonIntegerWeight = true;
+        }
+    }
+
+    public void infiniteWeight(int var) {
+        checkUnweighted(var);
+        ensureVariable(var);
+        infinitelyWeighted.set(var);
+    }
+
+    private void checkUnweighted(int var) {
+        if (weighted.get(var) || infinitelyWeighted.get(var)) {
+            throw new UnsupportedOperationException(String.format("Setting weight of %s twice", name(var)));
+        }
+    }
+
+    private void ensureVariable(int var) {
+        assert var > 0;
+        variableCount = Math.max(variableCount, var);
+        if (var >= weights.length) {
+            weights = Arrays.copyOf(weights, Math.max(var + 1, weights.length * 2));
+        }
+    }
+
+    /**
+     * Clauses, each terminated by {@code 0}, only the first {@link #arenaSize()} entries are used
+     */
+    public int[] arena() {
+        return arena;
+    }
+
+    public int arenaSize() {
+        return arenaSize;
+    }
+
+    public int clauseCount() {
+        return clauseCount;
+    }
+
+    public int maxClauseLength() {
+        return maxClauseLength;
+    }
+
+    /**
+     * Largest used variable id
+     */
+    public int variableCount() {
+        return variableCount;
+    }
+
+    /**
+     * @return weight of the variable, 0 for unweighted and infinitely weighted variables
+     */
+    public double weight(int var) {
+        return var < weights.length ? weights[var] : 0;
+    }
+
+    public boolean isWeighted(int var) {
+        return weighted.get(var);
+    }
+
+    public boolean isInfinitelyWeighted(int var) {
+        return infinitelyWeighted.get(var);
+    }
+
+    /**
+     * Variables with a finite weight
+     */
+    public BitSet weighted() {
+        return weighted;
+    }
+
+    public BitSet infinitelyWeighted() {
+        return infinitelyWeighted;
+    }
+
+    /**
+     * Sum of all finite weights
+     */
+    public double weightSum() {
+        return weightSum;
+    }
+
+    public boolean hasNonIntegerWeight() {
+        return hasNonIntegerWeight;
+    }
+
+    /**
+     * Weight of the model (indexed by variable id), infinite if an infinitely weighted variable is true
+     */
+    public double weight(boolean[] model) {
+        for (int var = infinitelyWeighted.nextSetBit(0); var >= 0; var = infinitelyWeighted.nextSetBit(var + 1)) {
+            if (model[var]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+        double weight = 0;
+        for (int var = weighted.nextSetBit(0); var >= 0; var = weighted.nextSetBit(var + 1)) {
+            if (model[var]) {
+                weight += weights[var];
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Sets the names of the variables, only used for the human readable output
+     */
+    public void names(IntFunction<String> names) {
+        this.names = names;
+    }
+
+    public String name(int var) {
+        return names.apply(var);
+    }
+}
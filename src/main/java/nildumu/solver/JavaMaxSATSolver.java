@@ -0,0 +1,738 @@
+package nildumu.solver;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Partial weighted MaxSAT solver that runs in process, an alternative to the external solver binaries
+ * used via {@link PMSATSolverImpl}.
+ * <p>
+ * Uses the core guided OLL algorithm on top of a small CDCL core: the weighted variables are assumed to be
+ * false, every unsatisfiable core of these assumptions raises the lower bound by its minimal weight and is
+ * relaxed with an incrementally built totalizer, which allows one more variable of the core to be true at
+ * the cost of the minimal weight. The first model that satisfies all remaining assumptions is optimal.
+ * Learned clauses stay valid between the iterations, the core is therefore reused for all of them.
+ * <p>
+ * Only minimization is supported, infinitely weighted variables get a weight that is larger than
+ * the sum of all other weights.
+ */
+public class JavaMaxSATSolver<V> extends Solver<V> {
+
+    /**
+     * Remaining weights below this value are considered to be zero
+     */
+    private static final double EPSILON = 1e-9;
+
+    private static final int TRIM_ROUNDS = 3;
+
+    public JavaMaxSATSolver() {
+        super(false);
+    }
+
+    /**
+     * Relaxation of a core: the output literal {@code k} is true if at least {@code k} of the input literals
+     * are true, the outputs are only created up to the currently needed bound
+     */
+    private static final class Totalizer {
+        private final Totalizer left;
+        private final Totalizer right;
+        private final int size;
+        private int[] outputs;
+
+        Totalizer(int[] lits, int from, int to) {
+            size = to - from;
+            if (size == 1) {
+                left = null;
+                right = null;
+                outputs = new int[]{lits[from]};
+            } else {
+                int middle = (from + to) / 2;
+                left = new Totalizer(lits, from, middle);
+                right = new Totalizer(lits, middle, to);
+                outputs = new int[0];
+            }
+        }
+
+        /**
+         * Creates the outputs up to the bound
+         */
+        void extend(Core core, int bound) {
+            int target = Math.min(bound, size);
+            int built = outputs.length;
+            if (built >= target) {
+                return;
+            }
+            left.extend(core, target);
+            right.extend(core, target);
+            outputs = Arrays.copyOf(outputs, target);
+            for (int k = built; k < target; k++) {
+                outputs[k] = 2 * core.newVar();
+            }
+            // at least i inputs of the left and j inputs of the right node imply at least i + j inputs
+            for (int i = 0; i <= left.outputs.length; i++) {
+                for (int j = 0; j <= right.outputs.length; j++) {
+                    int sum = i + j;
+                    if (sum <= built || sum > target) {
+                        continue;
+                    }
+                    int[] clause = new int[(i > 0 ? 1 : 0) + (j > 0 ? 1 : 0) + 1];
+                    int c = 0;
+                    if (i > 0) {
+                        clause[c++] = left.outputs[i - 1] ^ 1;
+                    }
+                    if (j > 0) {
+                        clause[c++] = right.outputs[j - 1] ^ 1;
+                    }
+                    clause[c] = outputs[sum - 1];
+                    core.addClause(clause);
+                }
+            }
+        }
+
+        /**
+         * Literal that is true if at least k inputs are true
+         */
+        int output(int k) {
+            return outputs[k - 1];
+        }
+    }
+
+    @Override
+    public Optional<boolean[]> solve(Formula formula) {
+        try {
+            return optimize(formula);
+        } catch (CancellationException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<boolean[]> optimize(Formula formula) {
+        int n = formula.variableCount();
+        Core core = new Core(n, this::isCancelled);
+        int[] arena = formula.arena();
+        int[] lits = new int[formula.maxClauseLength()];
+        int size = 0;
+        for (int i = 0; i < formula.arenaSize(); i++) {
+            if (arena[i] == 0) {
+                core.addClause(lits, size);
+                size = 0;
+            } else {
+                lits[size++] = Core.lit(arena[i]);
+            }
+        }
+        // assumption literal → remaining weight
+        Map<Integer, Double> softs = new LinkedHashMap<>();
+        double weightSum = 0;
+        BitSet weighted = formula.weighted();
+        for (int var = weighted.nextSetBit(0); var >= 0; var = weighted.nextSetBit(var + 1)) {
+            if (formula.weight(var) > 0) {
+                softs.put(2 * var + 1, formula.weight(var));
+                weightSum += formula.weight(var);
+            }
+        }
+        BitSet infinite = formula.infinitelyWeighted();
+        for (int var = infinite.nextSetBit(0); var >= 0; var = infinite.nextSetBit(var + 1)) {
+            softs.put(2 * var + 1, weightSum + 1);
+        }
+        // assumption literal (negated output) → totalizer and bound of the output
+        Map<Integer, Totalizer> relaxations = new HashMap<>();
+        Map<Integer, Integer> relaxationBounds = new HashMap<>();
+        // the first model is an upper bound, it is often already optimal
+        int[] conflict = core.solve(new int[0]);
+        if (conflict != null) {
+            return Optional.empty();
+        }
+        boolean[] best = core.model(n);
+        double upperBound = formula.weight(best);
+        double lowerBound = 0;
+        while (lowerBound < upperBound - EPSILON) {
+            int[] assumptions = softs.keySet().stream().mapToInt(Integer::intValue).toArray();
+            conflict = core.solve(assumptions);
+            if (conflict == null) {
+                best = core.model(n);
+                break;
+            }
+            conflict = trim(core, conflict);
+            double minWeight = Arrays.stream(conflict).mapToDouble(softs::get).min().getAsDouble();
+            lowerBound += minWeight;
+            for (int lit : conflict) {
+                double remaining = softs.get(lit) - minWeight;
+                if (remaining <= EPSILON) {
+                    softs.remove(lit);
+                } else {
+                    softs.put(lit, remaining);
+                }
+                Totalizer totalizer = relaxations.get(lit);
+                if (totalizer != null) {
+                    int bound = relaxationBounds.get(lit) + 1;
+                    if (bound <= totalizer.size) {
+                        totalizer.extend(core, bound);
+                        addRelaxation(softs, relaxations, relaxationBounds, totalizer, bound, minWeight);
+                    }
+                }
+            }
+            if (conflict.length > 1) {
+                int[] violated = new int[conflict.length];
+                for (int i = 0; i < conflict.length; i++) {
+                    violated[i] = conflict[i] ^ 1;
+                }
+                Totalizer totalizer = new Totalizer(violated, 0, violated.length);
+                totalizer.extend(core, 2);
+                addRelaxation(softs, relaxations, relaxationBounds, totalizer, 2, minWeight);
+            }
+        }
+        return Optional.of(best);
+    }
+
+    /**
+     * Shrinks the core by solving with only its assumptions, as long as this makes it smaller
+     */
+    private static int[] trim(Core core, int[] conflict) {
+        for (int i = 0; i < TRIM_ROUNDS; i++) {
+            int[] smaller = core.solve(conflict);
+            if (smaller == null || smaller.length >= conflict.length) {
+                break;
+            }
+            conflict = smaller;
+        }
+        return conflict;
+    }
+
+    private static void addRelaxation(Map<Integer, Double> softs, Map<Integer, Totalizer> relaxations,
+                                      Map<Integer, Integer> relaxationBounds, Totalizer totalizer, int bound, double weight) {
+        int lit = totalizer.output(bound) ^ 1;
+        softs.merge(lit, weight, Double::sum);
+        relaxations.put(lit, totalizer);
+        relaxationBounds.put(lit, bound);
+    }
+
+    /**
+     * CDCL core with two watched literals, VSIDS, phase saving, Luby restarts and assumptions.
+     * <p>
+     * Literals are encoded as {@code 2 * var} (positive) and {@code 2 * var + 1} (negative).
+     */
+    private static final class Core {
+
+        private static final int NO_REASON = -1;
+
+        private static final int RESTART_BASE = 100;
+
+        private static final int SAT = 1;
+        private static final int UNSAT = 0;
+        private static final int RESTART = -1;
+
+        private int n;
+
+        private final List<int[]> clauses = new ArrayList<>();
+
+        private int[][] watches;
+        private int[] watchCount;
+
+        /**
+         * 1 (true), -1 (false) or 0 (unassigned) for every variable
+         */
+        private byte[] assigns;
+        private int[] levels;
+        private int[] reasons;
+        private boolean[] phases;
+        private boolean[] seen;
+
+        private int[] trail;
+        private int trailSize = 0;
+        private int propagated = 0;
+        private int[] trailLimits = new int[16];
+        private int decisionLevel = 0;
+
+        private double[] activity;
+        private double activityIncrement = 1;
+        private int[] heap;
+        private int[] heapIndex;
+        private int heapSize = 0;
+
+        /**
+         * Assumption literals that are responsible for the last unsatisfiable result
+         */
+        private int[] finalConflict;
+
+        private boolean ok = true;
+
+        /**
+         * Checked on every restart
+         */
+        private final BooleanSupplier cancelled;
+
+        Core(int n, BooleanSupplier cancelled) {
+            this.cancelled = cancelled;
+            int capacity = n + 1;
+            watches = new int[2 * capacity][];
+            watchCount = new int[2 * capacity];
+            assigns = new byte[capacity];
+            levels = new int[capacity];
+            reasons = new int[capacity];
+            phases = new boolean[capacity];
+            seen = new boolean[capacity];
+            trail = new int[capacity];
+            activity = new double[capacity];
+            heap = new int[capacity];
+            heapIndex = new int[capacity];
+            Arrays.fill(heapIndex, -1);
+            for (int v = 1; v <= n; v++) {
+                this.n = v;
+                heapInsert(v);
+            }
+        }
+
+        static int lit(int dimacs) {
+            return dimacs > 0 ? 2 * dimacs : -2 * dimacs + 1;
+        }
+
+        /**
+         * Creates a new variable
+         */
+        int newVar() {
+            int v = ++n;
+            if (v == assigns.length) {
+                int capacity = assigns.length * 2;
+                watches = Arrays.copyOf(watches, 2 * capacity);
+                watchCount = Arrays.copyOf(watchCount, 2 * capacity);
+                assigns = Arrays.copyOf(assigns, capacity);
+                levels = Arrays.copyOf(levels, capacity);
+                reasons = Arrays.copyOf(reasons, capacity);
+                phases = Arrays.copyOf(phases, capacity);
+                seen = Arrays.copyOf(seen, capacity);
+                trail = Arrays.copyOf(trail, capacity);
+                activity = Arrays.copyOf(activity, capacity);
+                heap = Arrays.copyOf(heap, capacity);
+                heapIndex = Arrays.copyOf(heapIndex, capacity);
+            }
+            heapIndex[v] = -1;
+            heapInsert(v);
+            return v;
+        }
+
+        /**
+         * Values of the first n variables in the current (complete) assignment
+         */
+        boolean[] model(int n) {
+            boolean[] model = new boolean[n + 1];
+            for (int v = 1; v <= n; v++) {
+                model[v] = assigns[v] == 1;
+            }
+            return model;
+        }
+
+        /**
+         * @return 1 (true), -1 (false) or 0 (unassigned)
+         */
+        private int value(int lit) {
+            int value = assigns[lit >> 1];
+            return (lit & 1) == 0 ? value : -value;
+        }
+
+        private void watch(int lit, int clause) {
+            if (watches[lit] == null) {
+                watches[lit] = new int[4];
+            } else if (watchCount[lit] == watches[lit].length) {
+                watches[lit] = Arrays.copyOf(watches[lit], watchCount[lit] * 2);
+            }
+            watches[lit][watchCount[lit]++] = clause;
+        }
+
+        /**
+         * Adds a clause on decision level 0
+         */
+        void addClause(int[] clauseLits) {
+            addClause(clauseLits, clauseLits.length);
+        }
+
+        /**
+         * Adds the first {@code length} literals of the array as a clause on decision level 0
+         */
+        void addClause(int[] clauseLits, int length) {
+            cancelUntil(0);
+            if (!ok) {
+                return;
+            }
+            int[] lits = new int[length];
+            int size = 0;
+            for (int k = 0; k < length; k++) {
+                int lit = clauseLits[k];
+                int value = value(lit);
+                if (value == 1) {
+                    return;
+                }
+                if (value == -1) {
+                    continue;
+                }
+                boolean duplicate = false;
+                for (int i = 0; i < size; i++) {
+                    if (lits[i] == (lit ^ 1)) {
+                        return;
+                    }
+                    duplicate |= lits[i] == lit;
+                }
+                if (!duplicate) {
+                    lits[size++] = lit;
+                }
+            }
+            if (size == 0) {
+                ok = false;
+            } else if (size == 1) {
+                enqueue(lits[0], NO_REASON);
+                ok = propagate() == null;
+            } else {
+                int[] clause = Arrays.copyOf(lits, size);
+                watch(clause[0], clauses.size());
+                watch(clause[1], clauses.size());
+                clauses.add(clause);
+            }
+        }
+
+        private void enqueue(int lit, int reason) {
+            int v = lit >> 1;
+            assigns[v] = (byte) ((lit & 1) == 0 ? 1 : -1);
+            levels[v] = decisionLevel;
+            reasons[v] = reason;
+            trail[trailSize++] = lit;
+        }
+
+        /**
+         * @return conflicting clause or null
+         */
+        private int[] propagate() {
+            while (propagated < trailSize) {
+                int falseLit = trail[propagated++] ^ 1;
+                int[] ws = watches[falseLit];
+                int size = watchCount[falseLit];
+                int i = 0;
+                int j = 0;
+                while (i < size) {
+                    int ci = ws[i++];
+                    int[] c = clauses.get(ci);
+                    if (c[0] == falseLit) {
+                        c[0] = c[1];
+                        c[1] = falseLit;
+                    }
+                    if (value(c[0]) == 1) {
+                        ws[j++] = ci;
+                        continue;
+                    }
+                    boolean moved = false;
+                    for (int k = 2; k < c.length; k++) {
+                        if (value(c[k]) != -1) {
+                            c[1] = c[k];
+                            c[k] = falseLit;
+                            watch(c[1], ci);
+                            moved = true;
+                            break;
+                        }
+                    }
+                    if (moved) {
+                        continue;
+                    }
+                    ws[j++] = ci;
+                    if (value(c[0]) == -1) {
+                        while (i < size) {
+                            ws[j++] = ws[i++];
+                        }
+                        watchCount[falseLit] = j;
+                        propagated = trailSize;
+                        return c;
+                    }
+                    enqueue(c[0], ci);
+                }
+                watchCount[falseLit] = j;
+            }
+            return null;
+        }
+
+        /**
+         * First UIP conflict analysis
+         *
+         * @return learned clause, the asserting literal is at index 0, the literal with the highest
+         * remaining level at index 1
+         */
+        private int[] analyze(int[] conflict) {
+            int[] learnt = new int[8];
+            int size = 1;
+            int pathCount = 0;
+            int p = -1;
+            int index = trailSize - 1;
+            int[] clause = conflict;
+            do {
+                for (int i = p == -1 ? 0 : 1; i < clause.length; i++) {
+                    int q = clause[i];
+                    int v = q >> 1;
+                    if (!seen[v] && levels[v] > 0) {
+                        seen[v] = true;
+                        bumpActivity(v);
+                        if (levels[v] >= decisionLevel) {
+                            pathCount++;
+                        } else {
+                            if (size == learnt.length) {
+                                learnt = Arrays.copyOf(learnt, size * 2);
+                            }
+                            learnt[size++] = q;
+                        }
+                    }
+                }
+                while (!seen[trail[index] >> 1]) {
+                    index--;
+                }
+                p = trail[index--];
+                seen[p >> 1] = false;
+                pathCount--;
+                if (pathCount > 0) {
+                    clause = clauses.get(reasons[p >> 1]);
+                }
+            } while (pathCount > 0);
+            learnt[0] = p ^ 1;
+            int maxIndex = 1;
+            for (int i = 1; i < size; i++) {
+                seen[learnt[i] >> 1] = false;
+                if (levels[learnt[i] >> 1] > levels[learnt[maxIndex] >> 1]) {
+                    maxIndex = i;
+                }
+            }
+            if (size > 1) {
+                int tmp = learnt[1];
+                learnt[1] = learnt[maxIndex];
+                learnt[maxIndex] = tmp;
+            }
+            return Arrays.copyOf(learnt, size);
+        }
+
+        /**
+         * Collects the assumptions that imply the negation of the passed assumption literal
+         */
+        private int[] analyzeFinal(int assumption) {
+            List<Integer> result = new ArrayList<>();
+            result.add(assumption);
+            int var = assumption >> 1;
+            if (levels[var] == 0) {
+                return new int[]{assumption};
+            }
+            seen[var] = true;
+            for (int t = trailSize - 1; t >= trailLimits[0]; t--) {
+                int v = trail[t] >> 1;
+                if (!seen[v]) {
+                    continue;
+                }
+                if (reasons[v] == NO_REASON) {
+                    // decisions are assumptions while assumptions are still decided
+                    if (v != var) {
+                        result.add(trail[t]);
+                    }
+                } else {
+                    int[] clause = clauses.get(reasons[v]);
+                    for (int i = 1; i < clause.length; i++) {
+                        if (levels[clause[i] >> 1] > 0) {
+                            seen[clause[i] >> 1] = true;
+                        }
+                    }
+                }
+                seen[v] = false;
+            }
+            return result.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private void cancelUntil(int level) {
+            if (decisionLevel <= level) {
+                return;
+            }
+            for (int t = trailSize - 1; t >= trailLimits[level]; t--) {
+                int lit = trail[t];
+                int v = lit >> 1;
+                phases[v] = (lit & 1) == 0;
+                assigns[v] = 0;
+                if (heapIndex[v] == -1) {
+                    heapInsert(v);
+                }
+            }
+            trailSize = trailLimits[level];
+            propagated = trailSize;
+            decisionLevel = level;
+        }
+
+        private int pickBranchLiteral() {
+            while (heapSize > 0) {
+                int v = heapRemoveMax();
+                if (assigns[v] == 0) {
+                    return phases[v] ? 2 * v : 2 * v + 1;
+                }
+            }
+            return -1;
+        }
+
+        private void newDecisionLevel() {
+            if (decisionLevel == trailLimits.length) {
+                trailLimits = Arrays.copyOf(trailLimits, decisionLevel * 2);
+            }
+            trailLimits[decisionLevel++] = trailSize;
+        }
+
+        /**
+         * Searches for a model that satisfies all assumptions
+         *
+         * @return null if a model has been found, otherwise the assumptions that cannot be satisfied together
+         * (an empty array if the clauses are unsatisfiable on their own)
+         * @throws CancellationException if the solver has been cancelled
+         */
+        int[] solve(int[] assumptions) {
+            cancelUntil(0);
+            if (!ok) {
+                return new int[0];
+            }
+            finalConflict = null;
+            for (int restart = 0; ; restart++) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException();
+                }
+                int result = search((long) (luby(restart) * RESTART_BASE), assumptions);
+                if (result == SAT) {
+                    return null;
+                }
+                if (result == UNSAT) {
+                    return finalConflict == null ? new int[0] : finalConflict;
+                }
+            }
+        }
+
+        private int search(long conflictLimit, int[] assumptions) {
+            long conflicts = 0;
+            while (true) {
+                int[] conflict = propagate();
+                if (conflict != null) {
+                    conflicts++;
+                    if (decisionLevel == 0) {
+                        ok = false;
+                        return UNSAT;
+                    }
+                    int[] learnt = analyze(conflict);
+                    cancelUntil(learnt.length == 1 ? 0 : levels[learnt[1] >> 1]);
+                    if (learnt.length == 1) {
+                        enqueue(learnt[0], NO_REASON);
+                    } else {
+                        int ci = clauses.size();
+                        clauses.add(learnt);
+                        watch(learnt[0], ci);
+                        watch(learnt[1], ci);
+                        enqueue(learnt[0], ci);
+                    }
+                    activityIncrement /= 0.95;
+                } else {
+                    if (conflicts >= conflictLimit) {
+                        cancelUntil(0);
+                        return RESTART;
+                    }
+                    int next = -1;
+                    while (decisionLevel < assumptions.length) {
+                        int assumption = assumptions[decisionLevel];
+                        int value = value(assumption);
+                        if (value == 1) {
+                            // already satisfied, use an empty decision level
+                            newDecisionLevel();
+                        } else if (value == -1) {
+                            finalConflict = analyzeFinal(assumption);
+                            return UNSAT;
+                        } else {
+                            next = assumption;
+                            break;
+                        }
+                    }
+                    if (next == -1) {
+                        next = pickBranchLiteral();
+                        if (next == -1) {
+                            return SAT;
+                        }
+                    }
+                    newDecisionLevel();
+                    enqueue(next, NO_REASON);
+                }
+            }
+        }
+
+        private void bumpActivity(int v) {
+            if ((activity[v] += activityIncrement) > 1e100) {
+                for (int i = 1; i <= n; i++) {
+                    activity[i] *= 1e-100;
+                }
+                activityIncrement *= 1e-100;
+            }
+            if (heapIndex[v] != -1) {
+                heapUp(heapIndex[v]);
+            }
+        }
+
+        private void heapInsert(int v) {
+            heap[heapSize] = v;
+            heapIndex[v] = heapSize;
+            heapUp(heapSize++);
+        }
+
+        private int heapRemoveMax() {
+            int max = heap[0];
+            heapIndex[max] = -1;
+            heapSize--;
+            if (heapSize > 0) {
+                heap[0] = heap[heapSize];
+                heapIndex[heap[0]] = 0;
+                heapDown(0);
+            }
+            return max;
+        }
+
+        private void heapUp(int i) {
+            int v = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (activity[heap[parent]] >= activity[v]) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                heapIndex[heap[i]] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            heapIndex[v] = i;
+        }
+
+        private void heapDown(int i) {
+            int v = heap[i];
+            while (2 * i + 1 < heapSize) {
+                int child = 2 * i + 1;
+                if (child + 1 < heapSize && activity[heap[child + 1]] > activity[heap[child]]) {
+                    child++;
+                }
+                if (activity[heap[child]] <= activity[v]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                heapIndex[heap[i]] = i;
+                i = child;
+            }
+            heap[i] = v;
+            heapIndex[v] = i;
+        }
+
+        /**
+         * Luby sequence (1, 1, 2, 1, 1, 2, 4, …)
+         */
+        private static double luby(int i) {
+            int size = 1;
+            int seq = 0;
+            while (size < i + 1) {
+                seq++;
+                size = 2 * size + 1;
+            }
+            int x = i;
+            while (size - 1 != x) {
+                size = (size - 1) >> 1;
+                seq--;
+                x = x % size;
+            }
+            return Math.pow(2, seq);
+        }
+    }
+}
@@ -2,94 +2,22 @@ package nildumu.solver;
 
 import nildumu.util.Util;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
-import static nildumu.util.Util.enumerate;
-
 /**
  * Allows to create partial max sat formulas and solve them, creates output in the WDIMACS format
  */
 public abstract class PMSATSolver<V> extends Solver<V> {
 
-    /**
-     * Variables to int with weights (default is 0)
-     */
-    static class Variables<T> {
-        private final Map<T, Integer> valToVar;
-        private final List<T> varToVal;
-        private final Map<T, Double> weights;
-        private final Set<T> infiniteWeightVars;
-        private boolean hasNonIntegerWeight = false;
-
-        private double weightSum;
-
-        public Variables() {
-            varToVal = new ArrayList<>();
-            weights = new HashMap<>();
-            valToVar = new HashMap<>();
-            weightSum = 0;
-            infiniteWeightVars = new HashSet<>();
-            varToVal.add(null);
-        }
-
-        public int val(T var){
-            if (!valToVar.containsKey(var)){
-                valToVar.put(var, valToVar.size() + 1);
-                varToVal.add(var);
-            }
-            return valToVar.get(var);
-        }
-
-        public T var(int val){
-            return varToVal.get(val);
-        }
-
-        public void weight(T var, double weight){
-            assert weight > 0;
-            if (weights.containsKey(var)){
-                throw new UnsupportedOperationException(String.format("Setting weight of %s twice", var));
-            }
-            weights.put(var, weight);
-            weightSum += weight;
-            if (Math.ceil(weight) != weight){
-                hasNonIntegerWeight = true;
-            }
-        }
-
-        public double weight(T var){
-            return weights.getOrDefault(var, 0.0);
-        }
-
-        public double getWeightSum(){
-            return weightSum;
-        }
-
-        public int size() {
-            return valToVar.size();
-        }
-
-        public void addInfinetlyWeighted(T var){
-            infiniteWeightVars.add(var);
-        }
-
-        public double getTopWeight(double multiplier){
-            return (infiniteWeightVars.size() + 1) * (weightSum + 1) * multiplier + 1;
-        }
-    }
-
     /**
      * Round the weights up, for solvers that do only support integer weights
      */
     private final boolean roundUp;
 
-    private final List<int[]> clauses;
-
-    private final Variables<V> variables;
-
     /**
      * Creates a new instance
      *
@@ -100,94 +28,71 @@ public abstract class PMSATSolver<V> extends Solver<V> {
     public PMSATSolver(boolean maximize, boolean roundUp) {
         super(maximize);
         this.roundUp = roundUp;
-        clauses = new ArrayList<>();
-        variables = new Variables<>();
-    }
-
-    @Override
-    public void addOrImplication(V a, V... oredVariables) {
-        int[] clause = new int[oredVariables.length + 1];
-        clause[0] = -variables.val(a);
-        for (int i = 0; i < oredVariables.length; i++) {
-            clause[i + 1] = variables.val(oredVariables[i]);
-        }
-        clauses.add(clause);
-    }
-
-    @Override
-    public void addAndImplication(V a, V... andedVariables) {
-        for (V andedVariable : andedVariables) {
-            addOrImplication(a, andedVariable);
-        }
-    }
-
-    @Override
-    public void addSingleClause(V a) {
-        clauses.add(new int[]{variables.val(a)});
-    }
-
-    @Override
-    public void addWeight(V var, double weight) {
-        variables.weight(var, weight);
     }
 
-    @Override
-    public void addInfiniteWeight(V var) {
-        variables.addInfinetlyWeighted(var);
+    private static double topWeight(Formula formula, double multiplier){
+        return (formula.infinitelyWeighted().cardinality() + 1) * (formula.weightSum() + 1) * multiplier + 1;
     }
 
-    long getInfiteWeight(double multiplier){
-        return (long)Math.ceil(variables.getWeightSum() * multiplier) + 1;
+    private static long infiniteWeight(Formula formula, double multiplier){
+        return (long)Math.ceil(formula.weightSum() * multiplier) + 1;
     }
 
-    @Override
-    public void writeInHumanReadableFormat(OutputStreamWriter writer) throws IOException {
-        double multiplier = roundUp ? calculateWeightMultiplier() : 1;
-        writer.write(String.format("p wcnf %d %d %s\n",
-                variables.size(), clauses.size() + variables.weights.size(), formatWeight(variables.getTopWeight(multiplier))));
-        for (int[] clause : clauses) {
-            writer.write(String.format("%10d %10f", (long) Math.ceil(variables.getTopWeight(multiplier)), variables.getTopWeight(1)));
-            for (int i : clause) {
-                writer.write(" " + formatVal(i));
+    /**
+     * Writes the formula in the WDIMACS format, the hard clause weight is computed once and the clauses are
+     * encoded directly from the arena of the formula into the buffer of the passed writer.
+     * Variables with a weight of zero are not written.
+     */
+    void writeInWDIMACSFormat(Formula formula, WDIMACSWriter writer) throws IOException {
+        double multiplier = roundUp ? calculateWeightMultiplier(formula) : 1;
+        double topWeight = topWeight(formula, multiplier);
+        BitSet weighted = formula.weighted();
+        BitSet infinite = formula.infinitelyWeighted();
+        int softCount = 0;
+        for (int var = weighted.nextSetBit(0); var >= 0; var = weighted.nextSetBit(var + 1)) {
+            if (formula.weight(var) > 0) {
+                softCount++;
             }
-            writer.write(" 0\n");
         }
-        for (Map.Entry<V, Double> weightPair : variables.weights.entrySet()) {
-            writer.write(String.format("%10s %10f ¬%s\n", formatWeight(weightPair.getValue() * multiplier), weightPair.getValue(), weightPair.getKey()));
+        writer.write("p wcnf ").write(formula.variableCount()).write((byte) ' ')
+                .write(formula.clauseCount() + softCount + infinite.cardinality()).write((byte) ' ')
+                .write(formatWeight(topWeight)).write((byte) '\n');
+        long hardWeight = (long) Math.ceil(topWeight);
+        int[] arena = formula.arena();
+        int start = 0;
+        for (int i = 0; i < formula.arenaSize(); i++) {
+            if (arena[i] == 0) {
+                writer.write(hardWeight).writeClause(arena, start, i);
+                start = i + 1;
+            }
         }
-        for (V var : variables.infiniteWeightVars) {
-            writer.write(String.format("%d %s", getInfiteWeight(multiplier),
-                    maximize ? var : ("¬" + var)));
+        for (int var = weighted.nextSetBit(0); var >= 0; var = weighted.nextSetBit(var + 1)) {
+            if (formula.weight(var) > 0) {
+                writeWeight(writer, formula.weight(var) * multiplier);
+                writer.write((byte) ' ').write(-var).write(" 0\n");
+            }
+        }
+        long infiniteWeight = infiniteWeight(formula, multiplier);
+        for (int var = infinite.nextSetBit(0); var >= 0; var = infinite.nextSetBit(var + 1)) {
+            writer.write(infiniteWeight).write((byte) ' ').write(maximize ? var : -var).write(" 0\n");
         }
         writer.flush();
     }
 
-    private String formatVal(int val){
-        if (val < 0){
-            return "¬" + formatVal(-val);
-        }
-        return variables.var(val).toString();
+    void writeInWDIMACSFormat(Formula formula, OutputStream out) throws IOException {
+        writeInWDIMACSFormat(formula, new WDIMACSWriter(out));
     }
 
-    void writeInWDIMACSFormat(OutputStreamWriter writer) throws IOException {
-        double multiplier = roundUp ? calculateWeightMultiplier() : 1;
-        writer.write(String.format("p wcnf %d %d %s\n",
-                variables.size(), clauses.size() + variables.weights.size(), formatWeight(variables.getTopWeight(multiplier))));
-        for (int[] clause : clauses) {
-            writer.write((long) Math.ceil(variables.getTopWeight(multiplier)) + "");
-            for (int i : clause) {
-                writer.write(" " + i);
-            }
-            writer.write(" 0\n");
-        }
-        for (Map.Entry<V, Double> weightPair : variables.weights.entrySet()) {
-            writer.write(String.format("%s %d 0\n", formatWeight(weightPair.getValue() * multiplier), -variables.val(weightPair.getKey())));
-        }
-        for (V var : variables.infiniteWeightVars) {
-            writer.write(String.format("%d %d 0\n", getInfiteWeight(multiplier),
-                    (maximize ? variables.val(var) : -variables.val(var))));
+    void writeInWDIMACSFormat(OutputStream out) throws IOException {
+        writeInWDIMACSFormat(formula, out);
+    }
+
+    private void writeWeight(WDIMACSWriter writer, double weight) throws IOException {
+        if (roundUp) {
+            writer.write((long) Math.ceil(weight));
+        } else {
+            writer.write(Double.toString(weight));
         }
-        writer.flush();
     }
 
     private String formatWeight(double weight){
@@ -198,63 +103,117 @@ public abstract class PMSATSolver<V> extends Solver<V> {
     }
 
 
-    public Optional<Result<V>> parse(InputStreamReader reader){
-        BufferedReader buf = new BufferedReader(reader);
-        List<V> trueVariables = new ArrayList<>();
-        List<V> falseVariables = new ArrayList<>();
-        String line;
-        try {
-            while ((line = buf.readLine()) != null) {
-                if (line.startsWith("s UNKNOWN")){
-                    return Optional.empty();
+    /**
+     * Parses the output of the solver, reads the model from the first {@code v} line without splitting it into
+     * strings
+     *
+     * @return the model or empty if the solver reported an unknown result or the output contains no {@code v} line
+     */
+    public Optional<boolean[]> parse(Formula formula, InputStream input){
+        boolean[] model = new boolean[formula.variableCount() + 1];
+        try (InputStream in = input) {
+            byte[] buffer = new byte[1 << 16];
+            int length = 0;
+            int position = 0;
+            boolean lineStart = true;
+            boolean inModel = false;
+            boolean sawModel = false;
+            boolean skipLine = false;
+            int sign = 1;
+            int val = 0;
+            boolean inNumber = false;
+            byte[] unknown = "s UNKNOWN".getBytes(StandardCharsets.US_ASCII);
+            int unknownMatched = -1;
+            while (true) {
+                if (position == length) {
+                    length = in.read(buffer);
+                    position = 0;
+                    if (length <= 0) {
+                        break;
+                    }
                 }
-                if (line.startsWith("v ")){
-                    for (String str : line.substring(2).split(" ")){
-                        if (str.isEmpty()){
-                            continue;
-                        }
-                        int val = Integer.parseInt(str);
-                        if (val > 0 && !maximize){
-                            if (val >= variables.varToVal.size()){
-                                continue;
-                            }
-                            trueVariables.add(variables.var(Math.abs(val)));
-                        } else {
-                            if (-val >= variables.varToVal.size()){
-                                continue;
-                            }
-                            falseVariables.add(variables.var(Math.abs(val)));
+                byte b = buffer[position++];
+                if (b == '\n') {
+                    if (inModel) {
+                        break;
+                    }
+                    lineStart = true;
+                    continue;
+                }
+                if (lineStart) {
+                    lineStart = false;
+                    inModel = b == 'v';
+                    sawModel |= inModel;
+                    unknownMatched = b == 's' ? 1 : -1;
+                    skipLine = !inModel && unknownMatched == -1;
+                    continue;
+                }
+                if (skipLine) {
+                    continue;
+                }
+                if (unknownMatched != -1) {
+                    if (b == unknown[unknownMatched]) {
+                        if (++unknownMatched == unknown.length) {
+                            return Optional.empty();
                         }
+                    } else {
+                        skipLine = true;
                     }
-                    break;
+                    continue;
+                }
+                if (b == '-') {
+                    sign = -1;
+                } else if (b >= '0' && b <= '9') {
+                    val = val * 10 + (b - '0');
+                    inNumber = true;
+                } else if (inNumber) {
+                    addModelValue(sign * val, model);
+                    sign = 1;
+                    val = 0;
+                    inNumber = false;
                 }
             }
+            if (inModel && inNumber) {
+                addModelValue(sign * val, model);
+            }
+            if (!sawModel) {
+                return Optional.empty();
+            }
         } catch (IOException ex){
             return Optional.empty();
         }
-        try {
-            reader.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+        return Optional.of(model);
+    }
+
+    private void addModelValue(int val, boolean[] model) {
+        if (val > 0 && !maximize && val < model.length){
+            model[val] = true;
         }
-        double multiplier = roundUp ? calculateWeightMultiplier() : 1;
-        double weight = trueVariables.stream().mapToDouble(variables::weight).map(i -> i / multiplier).sum();
-        return Optional.of(new Result<>(trueVariables, falseVariables,
-                                        weight > variables.getWeightSum() * multiplier ? Double.POSITIVE_INFINITY : weight));
     }
 
     @Override
-    public Optional<Result<V>> solve() {
-        return parse(solveAndRead());
+    public Optional<boolean[]> solve(Formula formula) {
+        InputStream output = solveAndRead(formula);
+        if (output == null) {
+            return Optional.empty();
+        }
+        Optional<boolean[]> result = parse(formula, output);
+        // the output of a killed solver might be incomplete
+        return isCancelled() ? Optional.empty() : result;
     }
 
-    public abstract InputStreamReader solveAndRead();
+    /**
+     * Passes the formula to the solver
+     *
+     * @return output of the solver or {@code null} if the solver could not be run
+     */
+    public abstract InputStream solveAndRead(Formula formula);
 
     /**
      * Calculate the number with which the weights are multiplied before being passed to the solver.
      * Only used if the solver rounds up, by default uses ⌈1 / (log2(2^32) - log2((2^32) - 1))⌉ = 24
      */
-    public double calculateWeightMultiplier(){
-        return variables.hasNonIntegerWeight ? Math.ceil(1 / (Util.log2(Math.pow(2, 32)) - Util.log2(Math.pow(2, 32) - 1))) : 1;
+    public double calculateWeightMultiplier(Formula formula){
+        return formula.hasNonIntegerWeight() ? Math.ceil(1 / (Util.log2(Math.pow(2, 32)) - Util.log2(Math.pow(2, 32) - 1))) : 1;
     }
 }
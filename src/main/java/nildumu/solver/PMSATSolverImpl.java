@@ -2,11 +2,9 @@ package nildumu.solver;
 
 import nildumu.util.InputStreamWithActionOnClose;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -19,6 +17,11 @@ public class PMSATSolverImpl<V> extends PMSATSolver<V> {
     private final Path binary;
     private final String options;
 
+    /**
+     * The running solver process, if any
+     */
+    private volatile Process process;
+
     /**
      * Creates a new instance
      *
@@ -34,35 +37,61 @@ public class PMSATSolverImpl<V> extends PMSATSolver<V> {
     }
 
     public PMSATSolverImpl(String binaryPathInSolversFolder, String options, boolean maximize) {
-        this(Paths.get(String.format("dist/solvers/%s", binaryPathInSolversFolder)), options, maximize);
+        this(binary(binaryPathInSolversFolder), options, maximize);
+    }
+
+    public static Path binary(String binaryPathInSolversFolder) {
+        return Paths.get(String.format("dist/solvers/%s", binaryPathInSolversFolder));
     }
 
+    /**
+     * Starts the solver and streams the formula into its standard input while the solver is already running,
+     * no temporary file is created
+     */
     @Override
-    public InputStreamReader solveAndRead() {
-        File file;
-        try {
-            file = Files.createTempFile("pmsat", "wdimacs").toFile();
-            file.deleteOnExit();
-            writeInWDIMACSFormat(new FileWriter(file));
-        } catch (IOException e) {
-            e.printStackTrace();
-            System.err.println("Cannot write into tmp file");
-            return null;
-        }
+    public InputStream solveAndRead(Formula formula) {
         String message = "Unable to run solver, be sure to run the download_solvers script";
+        Process proc;
         try {
             List<String> params = new ArrayList<>();
             params.add(binary.toString());
             if (options.length() > 0) {
                 params.addAll(Arrays.asList(options.split(" ")));
             }
-            params.add(file.getAbsolutePath());
-            Process proc = new ProcessBuilder().command(params.toArray(new String[0])).start();
-            return new InputStreamReader(new InputStreamWithActionOnClose(proc.getInputStream(), file::delete));
+            proc = new ProcessBuilder().command(params.toArray(new String[0])).start();
+            process = proc;
+            if (isCancelled()) {
+                // cancelled before the process has been started
+                proc.destroyForcibly();
+            }
         } catch (IOException ex){
             System.err.println(ex.getMessage());
             System.err.println(message);
+            return null;
+        }
+        Thread writer = new Thread(() -> {
+            try (OutputStream in = proc.getOutputStream()) {
+                writeInWDIMACSFormat(formula, in);
+            } catch (IOException e) {
+                System.err.println("Cannot pass the formula to the solver: " + e.getMessage());
+                // the solver only got a part of the formula, its model is therefore meaningless
+                cancel();
+            }
+        }, "pmsat-writer");
+        writer.setDaemon(true);
+        writer.start();
+        return new InputStreamWithActionOnClose(proc.getInputStream(), proc::destroy);
+    }
+
+    /**
+     * Kills the solver process, its output is then truncated
+     */
+    @Override
+    public void cancel() {
+        super.cancel();
+        Process proc = process;
+        if (proc != null) {
+            proc.destroyForcibly();
         }
-        return null;
     }
 }
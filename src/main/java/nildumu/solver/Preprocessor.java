@@ -0,0 +1,587 @@
+package nildumu.solver;
+
+import java.util.*;
+
+/**
+ * Simplifies a {@link Formula} before it is passed to a solver backend and maps the models of the simplified
+ * formula back to the original one (see {@link Solver#solvePreprocessed(Formula)}).
+ * <p/>
+ * The formulas of the {@link SolverBasedLeakageAlgorithm} contain many implication chains (bits with a single
+ * dependency), unit clauses for every source and variables that only occur in one polarity. The preprocessor
+ * applies the following steps until none of them changes the formula:
+ * <ul>
+ *     <li>unit propagation</li>
+ *     <li>equivalent literal substitution: literals that imply each other via binary clauses (strongly connected
+ *     components of the implication graph) are replaced by a single representative, that gets the weights of all
+ *     of them. Components with weighted variables of both polarities are not substituted, as their weights
+ *     cannot be combined.</li>
+ *     <li>subsumption: clauses that contain all literals of another clause are removed</li>
+ *     <li>pure literal elimination: unweighted variables that only occur positively are set to true, variables
+ *     that only occur negatively are set to false (which costs nothing for weighted variables too)</li>
+ * </ul>
+ * All steps preserve the optimal weight. The variables of the simplified formula are numbered densely,
+ * weighted variables that do not occur in any clause are dropped (they are false in every optimal model).
+ */
+public class Preprocessor {
+
+    /**
+     * Sizes of the formula before and after the preprocessing and the number of simplifications per step
+     */
+    public static class Statistics {
+        public int variablesBefore;
+        public int variablesAfter;
+        public int clausesBefore;
+        public int clausesAfter;
+        public int literalsBefore;
+        public int literalsAfter;
+        public int units;
+        public int equivalences;
+        public int subsumed;
+        public int pure;
+
+        @Override
+        public String toString() {
+            return String.format("variables %d -> %d, clauses %d -> %d, literals %d -> %d " +
+                            "(%d units, %d equivalent, %d subsumed, %d pure)",
+                    variablesBefore, variablesAfter, clausesBefore, clausesAfter, literalsBefore, literalsAfter,
+                    units, equivalences, subsumed, pure);
+        }
+    }
+
+    private final Formula formula;
+
+    private final int n;
+
+    /**
+     * Clauses with sorted literals, null for removed clauses
+     */
+    private int[][] clauses;
+
+    /**
+     * 1 (true), -1 (false) or 0 (unassigned) for every variable
+     */
+    private final byte[] assignment;
+
+    /**
+     * Literal that the variable has been replaced with, 0 if the variable has not been replaced
+     */
+    private final int[] replacement;
+
+    private final double[] weights;
+
+    private final boolean[] infinite;
+
+    private boolean unsatisfiable = false;
+
+    private Formula reduced;
+
+    /**
+     * Id in the reduced formula for every original variable, 0 if the variable does not occur in it
+     */
+    private int[] reducedIds;
+
+    private final Statistics statistics = new Statistics();
+
+    public Preprocessor(Formula formula) {
+        this.formula = formula;
+        this.n = formula.variableCount();
+        this.assignment = new byte[n + 1];
+        this.replacement = new int[n + 1];
+        this.weights = new double[n + 1];
+        this.infinite = new boolean[n + 1];
+        for (int var = 1; var <= n; var++) {
+            weights[var] = formula.weight(var);
+            infinite[var] = formula.isInfinitelyWeighted(var);
+        }
+        List<int[]> clauseList = new ArrayList<>(formula.clauseCount());
+        int[] arena = formula.arena();
+        int start = 0;
+        for (int i = 0; i < formula.arenaSize(); i++) {
+            if (arena[i] == 0) {
+                int[] clause = normalize(Arrays.copyOfRange(arena, start, i));
+                if (clause != null) {
+                    clauseList.add(clause);
+                }
+                start = i + 1;
+            }
+        }
+        clauses = clauseList.toArray(new int[0][]);
+        statistics.clausesBefore = formula.clauseCount();
+        statistics.literalsBefore = formula.arenaSize() - formula.clauseCount();
+        statistics.variablesBefore = countVariables();
+    }
+
+    /**
+     * Sorts the literals and removes duplicates
+     *
+     * @return null if the clause is a tautology
+     */
+    private static int[] normalize(int[] clause) {
+        Arrays.sort(clause);
+        int size = 0;
+        for (int i = 0; i < clause.length; i++) {
+            if (size > 0 && clause[size - 1] == clause[i]) {
+                continue;
+            }
+            clause[size++] = clause[i];
+        }
+        for (int i = 0; i < size; i++) {
+            if (clause[i] < 0 && Arrays.binarySearch(clause, 0, size, -clause[i]) >= 0) {
+                return null;
+            }
+        }
+        return size == clause.length ? clause : Arrays.copyOf(clause, size);
+    }
+
+    /**
+     * Simplifies the formula
+     *
+     * @return false if the formula is unsatisfiable
+     */
+    public boolean run() {
+        boolean changed = true;
+        while (changed && !unsatisfiable) {
+            changed = propagateUnits();
+            changed |= !unsatisfiable && substituteEquivalences();
+            changed |= !unsatisfiable && subsume();
+            changed |= !unsatisfiable && eliminatePure();
+        }
+        if (unsatisfiable) {
+            return false;
+        }
+        compact();
+        return true;
+    }
+
+    private static int index(int literal) {
+        return literal > 0 ? 2 * literal : -2 * literal + 1;
+    }
+
+    /**
+     * Clause indices for every literal (see {@link #index(int)})
+     */
+    private int[][] occurrences() {
+        int[] counts = new int[2 * n + 2];
+        for (int[] clause : clauses) {
+            if (clause != null) {
+                for (int literal : clause) {
+                    counts[index(literal)]++;
+                }
+            }
+        }
+        int[][] occurrences = new int[2 * n + 2][];
+        for (int i = 0; i < occurrences.length; i++) {
+            occurrences[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int c = 0; c < clauses.length; c++) {
+            if (clauses[c] != null) {
+                for (int literal : clauses[c]) {
+                    occurrences[index(literal)][counts[index(literal)]++] = c;
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    private void assign(int literal) {
+        assignment[Math.abs(literal)] = (byte) (literal > 0 ? 1 : -1);
+    }
+
+    /**
+     * @return 1 (true), -1 (false) or 0 (unassigned)
+     */
+    private int value(int literal) {
+        int value = assignment[Math.abs(literal)];
+        return literal > 0 ? value : -value;
+    }
+
+    private boolean propagateUnits() {
+        int[][] occurrences = occurrences();
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int[] clause : clauses) {
+            if (clause != null && clause.length == 1) {
+                queue.add(clause[0]);
+            }
+        }
+        boolean changed = false;
+        while (!queue.isEmpty()) {
+            int literal = queue.poll();
+            if (value(literal) == 1) {
+                continue;
+            }
+            if (value(literal) == -1) {
+                unsatisfiable = true;
+                return true;
+            }
+            assign(literal);
+            statistics.units++;
+            changed = true;
+            for (int c : occurrences[index(literal)]) {
+                clauses[c] = null;
+            }
+            for (int c : occurrences[index(-literal)]) {
+                int[] clause = clauses[c];
+                if (clause == null) {
+                    continue;
+                }
+                int[] shortened = new int[clause.length - 1];
+                int size = 0;
+                for (int l : clause) {
+                    if (l != -literal) {
+                        shortened[size++] = l;
+                    }
+                }
+                if (size == 0) {
+                    unsatisfiable = true;
+                    return true;
+                }
+                clauses[c] = shortened;
+                if (size == 1) {
+                    queue.add(shortened[0]);
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Replaces the literals of every strongly connected component of the binary implication graph by a
+     * representative
+     */
+    private boolean substituteEquivalences() {
+        int[] components = binaryImplicationComponents();
+        // component → literals
+        Map<Integer, List<Integer>> members = new HashMap<>();
+        for (int var = 1; var <= n; var++) {
+            if (components[index(var)] != -1 && components[index(var)] == components[index(-var)]) {
+                unsatisfiable = true;
+                return true;
+            }
+            for (int literal : new int[]{var, -var}) {
+                int component = components[index(literal)];
+                if (component != -1) {
+                    members.computeIfAbsent(component, c -> new ArrayList<>()).add(literal);
+                }
+            }
+        }
+        int[] mapping = new int[n + 1];
+        boolean changed = false;
+        for (List<Integer> literals : members.values()) {
+            if (literals.size() < 2) {
+                continue;
+            }
+            // the representative is the smallest weighted (or otherwise smallest) variable, both components of
+            // a mirrored pair contain the same variables, only the one with its positive literal is used
+            int rep = literals.get(0);
+            for (int literal : literals) {
+                if (isPreferred(Math.abs(literal), Math.abs(rep))) {
+                    rep = literal;
+                }
+            }
+            if (rep < 0) {
+                continue;
+            }
+            boolean positiveWeighted = false;
+            boolean negativeWeighted = false;
+            for (int literal : literals) {
+                if (isWeighted(Math.abs(literal))) {
+                    positiveWeighted |= literal > 0;
+                    negativeWeighted |= literal < 0;
+                }
+            }
+            if (positiveWeighted && negativeWeighted) {
+                continue;
+            }
+            for (int literal : literals) {
+                int var = Math.abs(literal);
+                if (var == rep) {
+                    continue;
+                }
+                // literal ≡ rep, therefore var ≡ rep if literal is positive and var ≡ ¬rep otherwise
+                mapping[var] = literal > 0 ? rep : -rep;
+                replacement[var] = mapping[var];
+                if (infinite[var]) {
+                    infinite[rep] = true;
+                }
+                weights[rep] += weights[var];
+                weights[var] = 0;
+                infinite[var] = false;
+                statistics.equivalences++;
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return false;
+        }
+        for (int c = 0; c < clauses.length; c++) {
+            int[] clause = clauses[c];
+            if (clause == null) {
+                continue;
+            }
+            boolean replaced = false;
+            for (int i = 0; i < clause.length; i++) {
+                int var = Math.abs(clause[i]);
+                if (mapping[var] != 0) {
+                    clause[i] = clause[i] > 0 ? mapping[var] : -mapping[var];
+                    replaced = true;
+                }
+            }
+            if (replaced) {
+                clauses[c] = normalize(clause);
+            }
+        }
+        return true;
+    }
+
+    private boolean isPreferred(int var, int other) {
+        return isWeighted(var) != isWeighted(other) ? isWeighted(var) : var < other;
+    }
+
+    private boolean isWeighted(int var) {
+        return weights[var] > 0 || infinite[var];
+    }
+
+    /**
+     * Strongly connected components (Tarjan's algorithm, iterative) of the graph with an edge {@code ¬a → b}
+     * and {@code ¬b → a} for every binary clause {@code a ∨ b}
+     *
+     * @return component for every literal index, -1 for literals that do not occur in binary clauses
+     */
+    private int[] binaryImplicationComponents() {
+        int nodes = 2 * n + 2;
+        int[] degree = new int[nodes + 1];
+        for (int[] clause : clauses) {
+            if (clause != null && clause.length == 2) {
+                degree[index(-clause[0])]++;
+                degree[index(-clause[1])]++;
+            }
+        }
+        int[] edgeStart = new int[nodes + 1];
+        for (int i = 0; i < nodes; i++) {
+            edgeStart[i + 1] = edgeStart[i] + degree[i];
+        }
+        int[] edges = new int[edgeStart[nodes]];
+        int[] fill = Arrays.copyOf(edgeStart, nodes);
+        for (int[] clause : clauses) {
+            if (clause != null && clause.length == 2) {
+                edges[fill[index(-clause[0])]++] = index(clause[1]);
+                edges[fill[index(-clause[1])]++] = index(clause[0]);
+            }
+        }
+        int[] components = new int[nodes];
+        Arrays.fill(components, -1);
+        int[] indices = new int[nodes];
+        Arrays.fill(indices, -1);
+        int[] lowLinks = new int[nodes];
+        boolean[] onStack = new boolean[nodes];
+        int[] stack = new int[nodes];
+        int stackSize = 0;
+        int[] callStack = new int[nodes];
+        int[] edgePositions = new int[nodes];
+        int counter = 0;
+        int componentCount = 0;
+        for (int root = 2; root < nodes; root++) {
+            if (indices[root] != -1 || edgeStart[root] == edgeStart[root + 1] && edgeStart[root ^ 1] == edgeStart[(root ^ 1) + 1]) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth++] = root;
+            indices[root] = lowLinks[root] = counter++;
+            edgePositions[root] = edgeStart[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int node = callStack[depth - 1];
+                if (edgePositions[node] < edgeStart[node + 1]) {
+                    int next = edges[edgePositions[node]++];
+                    if (indices[next] == -1) {
+                        indices[next] = lowLinks[next] = counter++;
+                        edgePositions[next] = edgeStart[next];
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                        callStack[depth++] = next;
+                    } else if (onStack[next]) {
+                        lowLinks[node] = Math.min(lowLinks[node], indices[next]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[node]);
+                }
+                if (lowLinks[node] == indices[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        components[member] = componentCount;
+                    } while (member != node);
+                    componentCount++;
+                }
+            }
+        }
+        return components;
+    }
+
+    /**
+     * Removes every clause that is a superset of another clause
+     */
+    private boolean subsume() {
+        int[][] occurrences = occurrences();
+        Integer[] order = new Integer[clauses.length];
+        for (int c = 0; c < clauses.length; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, Comparator.comparingInt(c -> clauses[c] == null ? 0 : clauses[c].length));
+        boolean changed = false;
+        for (int c : order) {
+            int[] clause = clauses[c];
+            if (clause == null) {
+                continue;
+            }
+            int rarest = clause[0];
+            for (int literal : clause) {
+                if (occurrences[index(literal)].length < occurrences[index(rarest)].length) {
+                    rarest = literal;
+                }
+            }
+            for (int d : occurrences[index(rarest)]) {
+                if (d != c && clauses[d] != null && clauses[d].length >= clause.length && isSubset(clause, clauses[d])) {
+                    clauses[d] = null;
+                    statistics.subsumed++;
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Are all literals of the sorted clause a contained in the sorted clause b?
+     */
+    private static boolean isSubset(int[] a, int[] b) {
+        int j = 0;
+        for (int literal : a) {
+            while (j < b.length && b[j] < literal) {
+                j++;
+            }
+            if (j == b.length || b[j] != literal) {
+                return false;
+            }
+            j++;
+        }
+        return true;
+    }
+
+    private boolean eliminatePure() {
+        int[][] occurrences = occurrences();
+        boolean changed = false;
+        for (int var = 1; var <= n; var++) {
+            int positive = occurrences[index(var)].length;
+            int negative = occurrences[index(-var)].length;
+            int literal;
+            if (positive > 0 && negative == 0 && !isWeighted(var)) {
+                literal = var;
+            } else if (negative > 0 && positive == 0) {
+                literal = -var;
+            } else {
+                continue;
+            }
+            assign(literal);
+            for (int c : occurrences[index(literal)]) {
+                clauses[c] = null;
+            }
+            statistics.pure++;
+            changed = true;
+        }
+        return changed;
+    }
+
+    private int countVariables() {
+        boolean[] used = new boolean[n + 1];
+        int count = 0;
+        for (int[] clause : clauses) {
+            if (clause != null) {
+                for (int literal : clause) {
+                    if (!used[Math.abs(literal)]) {
+                        used[Math.abs(literal)] = true;
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates the reduced formula with densely numbered variables
+     */
+    private void compact() {
+        reducedIds = new int[n + 1];
+        List<Integer> originals = new ArrayList<>();
+        originals.add(0);
+        reduced = new Formula();
+        for (int[] clause : clauses) {
+            if (clause == null) {
+                continue;
+            }
+            for (int literal : clause) {
+                int var = Math.abs(literal);
+                if (reducedIds[var] == 0) {
+                    reducedIds[var] = originals.size();
+                    originals.add(var);
+                }
+                reduced.add(literal > 0 ? reducedIds[var] : -reducedIds[var]);
+            }
+            reduced.end();
+        }
+        for (int id = 1; id < originals.size(); id++) {
+            int var = originals.get(id);
+            if (infinite[var]) {
+                reduced.infiniteWeight(id);
+            } else if (weights[var] > 0) {
+                reduced.weight(id, weights[var]);
+            }
+        }
+        reduced.names(id -> formula.name(originals.get(id)));
+        statistics.clausesAfter = reduced.clauseCount();
+        statistics.literalsAfter = reduced.arenaSize() - reduced.clauseCount();
+        statistics.variablesAfter = originals.size() - 1;
+    }
+
+    /**
+     * Simplified formula, only valid after a successful {@link #run()}
+     */
+    public Formula getReduced() {
+        return reduced;
+    }
+
+    /**
+     * Maps a model of the reduced formula to a model of the original formula
+     */
+    public boolean[] model(boolean[] reducedModel) {
+        boolean[] model = new boolean[n + 1];
+        for (int var = 1; var <= n; var++) {
+            model[var] = value(var, reducedModel);
+        }
+        return model;
+    }
+
+    private boolean value(int var, boolean[] reducedModel) {
+        if (assignment[var] != 0) {
+            return assignment[var] == 1;
+        }
+        if (replacement[var] != 0) {
+            int rep = replacement[var];
+            return value(Math.abs(rep), reducedModel) == rep > 0;
+        }
+        // variables that occur in no clause are false, which is optimal for weighted variables
+        return reducedIds[var] != 0 && reducedModel[reducedIds[var]];
+    }
+
+    public Statistics getStatistics() {
+        return statistics;
+    }
+}
@@ -2,10 +2,16 @@ package nildumu.solver;
 
 import java.io.IOException;
 import java.io.OutputStreamWriter;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
-/** Abstract solver interface */
+import static nildumu.Context.log;
+
+/**
+ * Abstract solver interface.
+ * <p/>
+ * Solvers work on {@link Formula}s, the methods that take variables of type {@code V} build a formula
+ * for the solver and map the variables to ids.
+ */
 public abstract class Solver<V> {
 
 
@@ -24,23 +30,143 @@ public abstract class Solver<V> {
 
     final boolean maximize;
 
+    private volatile boolean cancelled = false;
+
+    private final Map<V, Integer> varToId = new HashMap<>();
+
+    private final List<V> idToVar = new ArrayList<>();
+
+    /**
+     * Formula that is built by the methods that take variables
+     */
+    final Formula formula = new Formula();
+
     protected Solver(boolean maximize) {
         this.maximize = maximize;
+        idToVar.add(null);
+        formula.names(id -> String.valueOf(idToVar.get(id)));
+    }
+
+    /**
+     * Stops the solver, a running or later call of {@link #solve()} returns early with an empty result
+     * (solvers that cannot be stopped just run to completion). Can be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    int id(V var) {
+        Integer id = varToId.get(var);
+        if (id == null) {
+            id = idToVar.size();
+            varToId.put(var, id);
+            idToVar.add(var);
+        }
+        return id;
+    }
+
+    V var(int id) {
+        return idToVar.get(id);
+    }
+
+    public void addOrImplication(V a, V... oredVariables) {
+        formula.add(-id(a));
+        for (V oredVariable : oredVariables) {
+            formula.add(id(oredVariable));
+        }
+        formula.end();
+    }
+
+    public void addAndImplication(V a, V... andedVariables) {
+        for (V andedVariable : andedVariables) {
+            addOrImplication(a, andedVariable);
+        }
     }
 
-    public abstract void addOrImplication(V a, V... oredVariables);
+    public void addSingleClause(V a) {
+        formula.addUnit(id(a));
+    }
 
-    public abstract void addAndImplication(V a, V... andedVariables);
+    public void addWeight(V var, double weight) {
+        formula.weight(id(var), weight);
+    }
 
-    public abstract void addSingleClause(V a);
+    public void addInfiniteWeight(V var) {
+        formula.infiniteWeight(id(var));
+    }
 
-    public abstract void addWeight(V var, double weight);
+    /**
+     * Solves the formula that has been built by the methods of this solver
+     */
+    public Optional<Result<V>> solve() {
+        return solve(formula).map(model -> {
+            List<V> trueVariables = new ArrayList<>();
+            List<V> falseVariables = new ArrayList<>();
+            for (int id = 1; id < idToVar.size(); id++) {
+                (model[id] ? trueVariables : falseVariables).add(idToVar.get(id));
+            }
+            return new Result<>(trueVariables, falseVariables, formula.weight(model));
+        });
+    }
 
-    public abstract void addInfiniteWeight(V var);
+    /**
+     * Solves the passed formula
+     *
+     * @return the optimal assignment indexed by variable id (with at least {@link Formula#variableCount()} + 1
+     * entries) or empty if the formula is unsatisfiable, the solver failed or has been cancelled
+     */
+    public abstract Optional<boolean[]> solve(Formula formula);
+
+    /**
+     * Simplifies the formula with the {@link Preprocessor} (and logs its statistics), solves the simplified formula
+     * and maps its model back, see {@link #solve(Formula)}. The solver is not called if the simplified formula
+     * has no clauses
+     */
+    public Optional<boolean[]> solvePreprocessed(Formula formula) {
+        Preprocessor preprocessor = new Preprocessor(formula);
+        boolean satisfiable = preprocessor.run();
+        log(() -> "Preprocessing: " + preprocessor.getStatistics());
+        if (!satisfiable) {
+            return Optional.empty();
+        }
+        Formula reduced = preprocessor.getReduced();
+        if (reduced.clauseCount() == 0) {
+            return Optional.of(preprocessor.model(new boolean[1]));
+        }
+        return solve(reduced).map(preprocessor::model);
+    }
 
-    public abstract Optional<Result<V>> solve();
+    public void writeInHumanReadableFormat(OutputStreamWriter writer) throws IOException {
+        writeInHumanReadableFormat(formula, writer);
+    }
 
-    public abstract void writeInHumanReadableFormat(OutputStreamWriter writer) throws IOException;
+    public void writeInHumanReadableFormat(Formula formula, OutputStreamWriter writer) throws IOException {
+        int[] arena = formula.arena();
+        StringBuilder builder = new StringBuilder("hard:");
+        for (int i = 0; i < formula.arenaSize(); i++) {
+            int lit = arena[i];
+            if (lit == 0) {
+                writer.write(builder.append("\n").toString());
+                builder.setLength(0);
+                builder.append("hard:");
+            } else {
+                builder.append(" ").append(lit < 0 ? "¬" : "").append(formula.name(Math.abs(lit)));
+            }
+        }
+        BitSet weighted = formula.weighted();
+        for (int var = weighted.nextSetBit(0); var >= 0; var = weighted.nextSetBit(var + 1)) {
+            writer.write(String.format("%10f ¬%s\n", formula.weight(var), formula.name(var)));
+        }
+        BitSet infinite = formula.infinitelyWeighted();
+        for (int var = infinite.nextSetBit(0); var >= 0; var = infinite.nextSetBit(var + 1)) {
+            writer.write(String.format("inf %s%s\n", maximize ? "" : "¬", formula.name(var)));
+        }
+        writer.flush();
+    }
 
     public void printInHumanReadableFormat(){
         try {
@@ -1,26 +1,29 @@
 package nildumu.solver;
 
+import nildumu.BitStore;
 import nildumu.Context;
 import nildumu.Lattices;
 import nildumu.LeakageAlgorithm;
+import nildumu.NildumuError;
+import nildumu.ReducedBitGraph;
 import nildumu.intervals.Interval;
 
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import static nildumu.Lattices.bl;
-
 /**
  * Solver based leakage calculation, uses a minimizing solver
+ * <p/>
+ * The formula is built directly as a {@link Formula}: the variables of a bit are numbered by the id of the bit
+ * in the {@link BitStore} and the {@link Type} of the variable (see {@link #var(int, Type)}), the variables of
+ * the intervals follow after the variables of all bits.
  */
 public class SolverBasedLeakageAlgorithm extends LeakageAlgorithm {
 
     private static enum Type {
-        IS_INTERVAL("inter"),
-        INTERVAL("i"),
-        DEPENDENCIES("r"),
         BIT("c"),
+        DEPENDENCIES("r"),
         EITHER("d");
 
         private final String abbr;
@@ -35,42 +38,19 @@ public class SolverBasedLeakageAlgorithm extends LeakageAlgorithm {
         }
     }
 
-    public static class Variable {
-        final Lattices.Bit bit;
-        final Type type;
-
-        private Variable(Lattices.Bit bit, Type type) {
-            this.bit = bit;
-            this.type = type;
-        }
+    private static final Type[] TYPES = Type.values();
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Variable variable = (Variable) o;
-            return bit.equals(variable.bit) &&
-                    type == variable.type;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(bit, type);
-        }
+    private final Supplier<Solver<?>> solverSupplier;
 
-        @Override
-        public String toString() {
-            return bit + "[" + type + "]";
-        }
-    }
+    private final boolean inIntervalMode;
 
-    private final Supplier<Solver<Variable>> solverSupplier;
+    private volatile Solver<?> solver;
 
-    private final boolean inIntervalMode;
+    private volatile boolean cancelled = false;
 
     public SolverBasedLeakageAlgorithm(SourcesAndSinks sourcesAndSinks,
                                        Function<Lattices.Bit, Double> weights,
-                                       Supplier<Solver<Variable>> solverSupplier) {
+                                       Supplier<Solver<?>> solverSupplier) {
         super(sourcesAndSinks, weights);
         this.solverSupplier = solverSupplier;
         this.inIntervalMode = sourcesAndSinks.context.inIntervalMode();
@@ -78,92 +58,130 @@ public class SolverBasedLeakageAlgorithm extends LeakageAlgorithm {
 
     @Override
     public ComputationResult compute() {
-        Solver<Variable> solver = solverSupplier.get();
+        Solver<?> solver = solverSupplier.get();
         assert !solver.maximize;
-        Set<Lattices.Bit> alreadyVisited = new HashSet<>();
-        Set<Lattices.Value> values = new HashSet<>();
-
-        Map<Interval, Variable> interToVar = new HashMap<>();
-        Map<Variable, Interval> varToInter = new HashMap<>();
-        Map<Interval, Double> interToWeight = new HashMap<>();
-        for (Lattices.Bit bit : sourcesAndSinks.sources){
-            bl.walkBits(bit, b -> {
-                List<Variable> vars = new ArrayList<>(3);
-                //if (weights.apply(b) != Context.INFTY || bit.hasDependencies()){
-                    vars.add(v(b, Type.BIT));
-                    if (b.isConstant()){
-                        return;
-                    }
-                    if (b.hasDependencies()) {
-                        vars.add(v(b, Type.DEPENDENCIES));
-                    } else if (!sourcesAndSinks.sinks.contains(b)){
-                        return;
-                    }
-                //}
-                if (b.value() != null && b.value().hasInterval() && inIntervalMode) {
-                    Interval interval = b.value().getInterval();
-                    if (!interToVar.containsKey(interval)) {
-                        Lattices.Bit x = bl.forceCreateXBit();
-                        x.value(new Lattices.Value().description(interval.toString())).valueIndex(1);
-                        Variable var = v(x, Type.IS_INTERVAL);
-                        interToVar.put(interval, var);
-                        varToInter.put(var, interval);
-                        interToWeight.put(interval, b.value().entropy());
+        this.solver = solver;
+        if (cancelled) {
+            solver.cancel();
+        }
+        BitStore store = BitStore.create(sourcesAndSinks.sources);
+        // bits that cannot reach a sink can always be satisfied without any costs
+        BitSet relevant = ReducedBitGraph.relevantBits(store,
+                sourcesAndSinks.sources.stream().mapToInt(store::id).toArray(),
+                sourcesAndSinks.sinks.stream().mapToInt(store::id).toArray());
+        Formula formula = new Formula();
+        int firstIntervalVar = var(store.size(), TYPES[0]);
+        Map<Interval, Integer> interToVar = new HashMap<>();
+        List<Interval> intervals = new ArrayList<>();
+        double[] intervalWeights = new double[4];
+        formula.names(var -> var < firstIntervalVar ?
+                store.bit((var - 1) / TYPES.length) + "[" + TYPES[(var - 1) % TYPES.length] + "]" :
+                intervals.get(var - firstIntervalVar) + "[inter]");
+        for (int i = 0; i < store.visitedCount(); i++) {
+            int id = store.visited(i);
+            if (!relevant.get(id) || store.isConstant(id)) {
+                continue;
+            }
+            Lattices.Bit b = store.bit(id);
+            boolean hasDeps = store.depCount(id) > 0;
+            if (!hasDeps && !sourcesAndSinks.sinks.contains(b)){
+                continue;
+            }
+            formula.add(-var(id, Type.EITHER)).add(var(id, Type.BIT));
+            if (hasDeps) {
+                formula.add(var(id, Type.DEPENDENCIES));
+            }
+            Lattices.Value value = store.value(id);
+            if (value != null && value.hasInterval() && inIntervalMode) {
+                Interval interval = value.getInterval();
+                Integer intervalVar = interToVar.get(interval);
+                if (intervalVar == null) {
+                    intervalVar = firstIntervalVar + intervals.size();
+                    interToVar.put(interval, intervalVar);
+                    if (intervals.size() == intervalWeights.length) {
+                        intervalWeights = Arrays.copyOf(intervalWeights, intervalWeights.length * 2);
                     }
-                    vars.add(interToVar.get(interval));
+                    intervalWeights[intervals.size()] = value.entropy();
+                    intervals.add(interval);
                 }
-                solver.addOrImplication(v(b, Type.EITHER), vars.toArray(new Variable[0]));
-                Variable bdBit = v(b, Type.DEPENDENCIES);
-                for (Lattices.Bit dep : b.deps()) {
-                    if (sourcesAndSinks.context.isAlternativeBit(dep)) {
-                        solver.addOrImplication(bdBit, dep.deps().stream().map(d -> v(d, Type.EITHER)).toArray(Variable[]::new));
-                    } else {
-                        solver.addOrImplication(bdBit, v(dep, Type.EITHER));
-                    }
+                formula.add(intervalVar);
+            }
+            formula.end();
+            int bdBit = var(id, Type.DEPENDENCIES);
+            for (int j = 0; j < store.depCount(id); j++) {
+                int dep = store.dep(id, j);
+                if (!relevant.get(dep)) {
+                    continue;
                 }
-                if (b.value() != null){
-                    values.add(b.value());
+                if (sourcesAndSinks.context.isAlternativeBit(store.bit(dep))) {
+                    boolean trivial = false;
+                    for (int k = 0; k < store.depCount(dep); k++) {
+                        trivial |= !relevant.get(store.dep(dep, k));
+                    }
+                    if (!trivial) {
+                        formula.add(-bdBit);
+                        for (int k = 0; k < store.depCount(dep); k++) {
+                            formula.add(var(store.dep(dep, k), Type.EITHER));
+                        }
+                        formula.end();
+                    }
+                } else {
+                    formula.addImplication(bdBit, var(dep, Type.EITHER));
                 }
-            }, b -> false, alreadyVisited);
+            }
         }
         for (Lattices.Bit bit : sourcesAndSinks.sources){
-            solver.addSingleClause(v(bit, Type.EITHER));
+            int id = store.idOf(bit);
+            if (relevant.get(id)) {
+                formula.addUnit(var(id, Type.EITHER));
+            }
         }
-        alreadyVisited.addAll(sourcesAndSinks.sinks);
-        alreadyVisited.addAll(sourcesAndSinks.sources);
-        for (Lattices.Bit bit : alreadyVisited){
-            double weight = weights.apply(bit);
+        // bits that are not relevant do not occur in any clause, they are therefore never part of the min cut
+        for (int id = relevant.nextSetBit(0); id >= 0; id = relevant.nextSetBit(id + 1)) {
+            double weight = weights.apply(store.bit(id));
             if (weight == Context.INFTY){
-                solver.addInfiniteWeight(v(bit, Type.BIT));
+                formula.infiniteWeight(var(id, Type.BIT));
             } else {
-                solver.addWeight(v(bit, Type.BIT), weight);
+                formula.weight(var(id, Type.BIT), weight);
             }
         }
-        for (Map.Entry<Interval, Variable> entry : interToVar.entrySet()) {
-            solver.addWeight(entry.getValue(), interToWeight.get(entry.getKey()));
+        for (int i = 0; i < intervals.size(); i++) {
+            formula.weight(firstIntervalVar + i, intervalWeights[i]);
         }
 
-        Solver.Result<Variable> result = solver.solve().get();
+        boolean[] model = (usesPreprocessing() ? solver.solvePreprocessed(formula) : solver.solve(formula)).orElseThrow(() -> new NildumuError(solver.isCancelled() ?
+                "Solver has been cancelled" : "Solver did not find a solution"));
 
         Set<Lattices.Bit> consideredBits = new HashSet<>();
-        Set<Interval> consideredIntervals = new HashSet<>();
         double weight = 0;
-        for (Variable trueVariable : result.trueVariables) {
-            switch (trueVariable.type){
-                case IS_INTERVAL:
-                    Interval interval = varToInter.get(trueVariable);
-                    weight += interToWeight.get(interval);
-                    consideredIntervals.add(interval);
-                    break;
-                case BIT:
-                    weight += weights.apply(trueVariable.bit);
-                    consideredBits.add(trueVariable.bit);
+        for (int id = relevant.nextSetBit(0); id >= 0; id = relevant.nextSetBit(id + 1)) {
+            if (model[var(id, Type.BIT)]) {
+                Lattices.Bit bit = store.bit(id);
+                weight += weights.apply(bit);
+                consideredBits.add(bit);
+            }
+        }
+        for (int i = 0; i < intervals.size(); i++) {
+            if (model[firstIntervalVar + i]) {
+                weight += intervalWeights[i];
             }
         }
         return new ComputationResult(consideredBits, weight);
     }
 
-    private static Variable v(Lattices.Bit bit, Type type){
-        return new Variable(bit, type);
+    @Override
+    public void cancel() {
+        cancelled = true;
+        Solver<?> solver = this.solver;
+        if (solver != null) {
+            solver.cancel();
+        }
+    }
+
+    /**
+     * Id of the variable of the given type for the bit with the passed store id
+     */
+    private static int var(int id, Type type){
+        return id * TYPES.length + type.ordinal() + 1;
     }
 }
@@ -0,0 +1,105 @@
+package nildumu.solver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes WDIMACS formulas into an output stream, encodes numbers directly into a reusable byte buffer
+ * without creating intermediate strings
+ */
+class WDIMACSWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Longest decimal representation of a long, including the sign */
+    private static final int MAX_LONG_LENGTH = 20;
+
+    private final OutputStream out;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int position = 0;
+
+    WDIMACSWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    WDIMACSWriter write(byte[] bytes) throws IOException {
+        if (position + bytes.length > buffer.length) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return this;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    WDIMACSWriter write(String str) throws IOException {
+        for (int i = 0; i < str.length(); i++) {
+            write((byte) str.charAt(i));
+        }
+        return this;
+    }
+
+    WDIMACSWriter write(byte b) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = b;
+        return this;
+    }
+
+    WDIMACSWriter write(long number) throws IOException {
+        if (position + MAX_LONG_LENGTH > buffer.length) {
+            flushBuffer();
+        }
+        if (number == Long.MIN_VALUE) {
+            return write(Long.toString(number));
+        }
+        if (number < 0) {
+            buffer[position++] = '-';
+            number = -number;
+        }
+        int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + number % 10);
+            number /= 10;
+        } while (number != 0);
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+        return this;
+    }
+
+    /**
+     * Writes the literals of the clause, followed by the terminating {@code 0} and a new line
+     */
+    WDIMACSWriter writeClause(int[] clause) throws IOException {
+        return writeClause(clause, 0, clause.length);
+    }
+
+    /**
+     * Writes the literals {@code [from, to)} of the array as a clause
+     */
+    WDIMACSWriter writeClause(int[] literals, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            write((byte) ' ').write(literals[i]);
+        }
+        return write((byte) ' ').write((byte) '0').write((byte) '\n');
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+}
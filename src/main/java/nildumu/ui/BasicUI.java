@@ -359,12 +359,18 @@ public class BasicUI {
         for (LeakageAlgorithm.Algo algo : LeakageAlgorithm.Algo.values()) {
             minCutAlgoComboBox.addItem(algo);
         }
-        minCutAlgoComboBox.setSelectedItem(LeakageAlgorithm.Algo.valueOf(getVarContent("lastMinCutAlgo", LeakageAlgorithm.usedAlgo.name())));
+        minCutAlgoComboBox.setSelectedItem(LeakageAlgorithm.Algo.valueOf(getVarContent("lastMinCutAlgo", LeakageAlgorithm.getUsedAlgo().name())));
         minCutAlgoComboBox.addActionListener(a -> {
             LeakageAlgorithm.Algo algo = (LeakageAlgorithm.Algo) minCutAlgoComboBox.getSelectedItem();
             setVarContent("lastMinCutAlgo", algo.name());
-            LeakageAlgorithm.usedAlgo = algo;
+            LeakageAlgorithm.setUsedAlgo(algo);
         });
+        // the leakage cache is configured in the config file only ("leakageCache" folder and size in MB)
+        String leakageCache = getVarContent("leakageCache", "");
+        if (!leakageCache.isEmpty()) {
+            LeakageAlgorithm.setUsedCache(new LeakageCache(Paths.get(leakageCache),
+                    Long.parseLong(getVarContent("leakageCacheSize", "64")) * 1024 * 1024));
+        }
         processRefreshTimer = new ResponsiveTimer(() -> {
             parseRefreshTimer.abort();
             processAndUpdate(inputArea.getText());
@@ -488,7 +494,7 @@ public class BasicUI {
                 opts |= Processor.TRANSFORM_PLUS;
             }
             opts |= Processor.TRANSFORM_LOOPS;
-            if (LeakageAlgorithm.usedAlgo.capability(LeakageAlgorithm.Algo.SUPPORTS_ALTERNATIVES)) {
+            if (LeakageAlgorithm.getUsedAlgo().capability(LeakageAlgorithm.Algo.SUPPORTS_ALTERNATIVES)) {
                 opts |= Processor.RECORD_ALTERNATIVES;
             }
             opts |= Processor.USE_REPLACEMENTS;
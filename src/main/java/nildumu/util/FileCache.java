@@ -0,0 +1,140 @@
+package nildumu.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A directory of binary files that are addressed by a key, bounded by the size of the files.
+ * <p/>
+ * The modification time of a file is its last use, the least recently used files are evicted first.
+ * Files are written to a temporary file first and moved into place afterwards, concurrent readers
+ * therefore never see partially written files.
+ */
+public class FileCache {
+
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private final Path directory;
+
+    private final String suffix;
+
+    private final long maxBytes;
+
+    /**
+     * @param suffix suffix of the files, other files in the directory are ignored
+     * @param maxBytes maximum size of all files
+     */
+    public FileCache(Path directory, String suffix, long maxBytes) {
+        this.directory = directory;
+        this.suffix = suffix;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * SHA-256 hash of the string, in hex
+     */
+    public static String hash(String str) {
+        return hash(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the file of the key and marks it as used
+     *
+     * @return empty if there is no file for the key
+     */
+    public <T> Optional<T> load(String key, Reader<T> reader) throws IOException {
+        Path file = file(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        T result;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            result = reader.read(in);
+        } catch (NoSuchFileException e) {
+            // evicted concurrently
+            return Optional.empty();
+        }
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        return Optional.of(result);
+    }
+
+    /**
+     * Writes the file of the key and evicts the least recently used files if the cache is too large afterwards
+     */
+    public void store(String key, Writer writer) throws IOException {
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                writer.write(out);
+            }
+            Files.move(tmp, file(key), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        evict();
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key + suffix);
+    }
+
+    private synchronized void evict() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(p -> p.toString().endsWith(suffix)).collect(Collectors.toList());
+        }
+        Map<Path, Long> sizes = new HashMap<>();
+        Map<Path, Long> times = new HashMap<>();
+        long size = 0;
+        for (Path file : files) {
+            try {
+                sizes.put(file, Files.size(file));
+                times.put(file, Files.getLastModifiedTime(file).toMillis());
+                size += sizes.get(file);
+            } catch (NoSuchFileException e) {
+                // evicted concurrently
+            }
+        }
+        List<Path> leastRecentlyUsedFirst = sizes.keySet().stream()
+                .sorted(Comparator.comparingLong(times::get)).collect(Collectors.toList());
+        for (Path file : leastRecentlyUsedFirst) {
+            if (size <= maxBytes) {
+                break;
+            }
+            Files.deleteIfExists(file);
+            size -= sizes.get(file);
+        }
+    }
+}
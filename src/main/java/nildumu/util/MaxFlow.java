@@ -0,0 +1,247 @@
+package nildumu.util;
+
+import java.util.Arrays;
+
+/**
+ * Maximum flow and minimum cut computation with Dinic's algorithm on primitive arrays.
+ * <p>
+ * The edges are collected first (with {@link #addEdge(int, int, double)}), {@link #compute(int, int)}
+ * then builds a compressed sparse row representation of the residual graph, in which every edge
+ * is followed by its reverse arc. Both the level graph search and the search for blocking flows
+ * are iterative, long dependency chains therefore do not overflow the stack.
+ */
+public class MaxFlow {
+
+    /**
+     * Residual capacities below this value are considered to be zero
+     */
+    private static final double EPSILON = 0.5;
+
+    private final int vertices;
+
+    private int[] tails;
+    private int[] heads;
+    private double[] capacities;
+    private int edgeCount = 0;
+
+    /**
+     * Index of the first arc of every vertex (and the total number of arcs at the end)
+     */
+    private int[] firstArc;
+    private int[] arcHead;
+    private double[] arcResidual;
+    /**
+     * Index of the reverse arc
+     */
+    private int[] arcReverse;
+    /**
+     * Arc for every edge
+     */
+    private int[] edgeArc;
+
+    private int[] level;
+
+    private boolean computed = false;
+
+    public MaxFlow(int vertices, int expectedEdges) {
+        this.vertices = vertices;
+        int capacity = Math.max(4, expectedEdges);
+        tails = new int[capacity];
+        heads = new int[capacity];
+        capacities = new double[capacity];
+    }
+
+    /**
+     * Adds a directed edge
+     *
+     * @return index of the edge
+     */
+    public int addEdge(int from, int to, double capacity) {
+        assert !computed && from != to && from < vertices && to < vertices;
+        if (edgeCount == tails.length) {
+            int newCapacity = edgeCount * 2;
+            tails = Arrays.copyOf(tails, newCapacity);
+            heads = Arrays.copyOf(heads, newCapacity);
+            capacities = Arrays.copyOf(capacities, newCapacity);
+        }
+        tails[edgeCount] = from;
+        heads[edgeCount] = to;
+        capacities[edgeCount] = capacity;
+        return edgeCount++;
+    }
+
+    public int vertexCount() {
+        return vertices;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    public int tail(int edge) {
+        return tails[edge];
+    }
+
+    public int head(int edge) {
+        return heads[edge];
+    }
+
+    private void buildResidualGraph() {
+        firstArc = new int[vertices + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            firstArc[tails[e] + 1]++;
+            firstArc[heads[e] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            firstArc[v + 1] += firstArc[v];
+        }
+        int arcs = edgeCount * 2;
+        arcHead = new int[arcs];
+        arcResidual = new double[arcs];
+        arcReverse = new int[arcs];
+        edgeArc = new int[edgeCount];
+        int[] next = Arrays.copyOf(firstArc, vertices);
+        for (int e = 0; e < edgeCount; e++) {
+            int forward = next[tails[e]]++;
+            int backward = next[heads[e]]++;
+            arcHead[forward] = heads[e];
+            arcResidual[forward] = capacities[e];
+            arcReverse[forward] = backward;
+            arcHead[backward] = tails[e];
+            arcResidual[backward] = 0;
+            arcReverse[backward] = forward;
+            edgeArc[e] = forward;
+        }
+        // the edge list is no longer needed besides the end points
+        capacities = null;
+    }
+
+    /**
+     * Breadth first search from the source over the arcs with residual capacity
+     *
+     * @return has the sink been reached?
+     */
+    private boolean computeLevels(int source, int sink, int[] queue) {
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int queueStart = 0;
+        int queueEnd = 0;
+        queue[queueEnd++] = source;
+        while (queueStart < queueEnd) {
+            int v = queue[queueStart++];
+            for (int arc = firstArc[v]; arc < firstArc[v + 1]; arc++) {
+                int w = arcHead[arc];
+                if (level[w] == -1 && arcResidual[arc] >= EPSILON) {
+                    level[w] = level[v] + 1;
+                    queue[queueEnd++] = w;
+                }
+            }
+        }
+        return level[sink] != -1;
+    }
+
+    /**
+     * Pushes a blocking flow through the level graph
+     */
+    private double blockingFlow(int source, int sink, int[] currentArc, int[] path) {
+        System.arraycopy(firstArc, 0, currentArc, 0, vertices);
+        double flow = 0;
+        int depth = 0;
+        int v = source;
+        while (true) {
+            if (v == sink) {
+                double bottleneck = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < depth; i++) {
+                    bottleneck = Math.min(bottleneck, arcResidual[path[i]]);
+                }
+                int firstSaturated = -1;
+                for (int i = 0; i < depth; i++) {
+                    int arc = path[i];
+                    arcResidual[arc] -= bottleneck;
+                    arcResidual[arcReverse[arc]] += bottleneck;
+                    if (firstSaturated == -1 && arcResidual[arc] < EPSILON) {
+                        firstSaturated = i;
+                    }
+                }
+                flow += bottleneck;
+                // continue from the tail of the first saturated arc
+                depth = firstSaturated;
+                v = depth == 0 ? source : arcHead[path[depth - 1]];
+                continue;
+            }
+            int arc = currentArc[v];
+            int end = firstArc[v + 1];
+            while (arc < end && (arcResidual[arc] < EPSILON || level[arcHead[arc]] != level[v] + 1)) {
+                arc++;
+            }
+            currentArc[v] = arc;
+            if (arc < end) {
+                path[depth++] = arc;
+                v = arcHead[arc];
+            } else {
+                // dead end, remove the vertex from the level graph
+                level[v] = -1;
+                if (depth == 0) {
+                    return flow;
+                }
+                depth--;
+                v = depth == 0 ? source : arcHead[path[depth - 1]];
+                currentArc[v]++;
+            }
+        }
+    }
+
+    /**
+     * Computes the maximum flow from the source to the sink, can only be called once
+     */
+    public double compute(int source, int sink) {
+        assert !computed;
+        computed = true;
+        buildResidualGraph();
+        level = new int[vertices];
+        int[] queue = new int[vertices];
+        int[] currentArc = new int[vertices];
+        int[] path = new int[vertices];
+        double flow = 0;
+        while (computeLevels(source, sink, queue)) {
+            flow += blockingFlow(source, sink, currentArc, path);
+        }
+        computeLevels(source, sink, queue);
+        return flow;
+    }
+
+    /**
+     * Is the vertex on the source side of the minimum cut, i.e. is it reachable from the source in the
+     * residual graph after the computation?
+     */
+    public boolean isOnSourceSide(int vertex) {
+        assert computed;
+        return level[vertex] != -1;
+    }
+
+    /**
+     * Edges from the source side to the sink side of the minimum cut
+     */
+    public int[] cutEdges() {
+        assert computed;
+        int[] cut = new int[8];
+        int size = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (isOnSourceSide(tails[e]) && !isOnSourceSide(heads[e])) {
+                if (size == cut.length) {
+                    cut = Arrays.copyOf(cut, size * 2);
+                }
+                cut[size++] = e;
+            }
+        }
+        return Arrays.copyOf(cut, size);
+    }
+
+    /**
+     * Flow on the edge after the computation
+     */
+    public double flow(int edge) {
+        assert computed;
+        return arcResidual[arcReverse[edgeArc[edge]]];
+    }
+}
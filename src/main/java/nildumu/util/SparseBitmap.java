@@ -0,0 +1,134 @@
+package nildumu.util;
+
+import java.util.Arrays;
+
+/**
+ * Compressed bitmap over long keys: only the non empty 64 bit words are stored (sorted by their position)
+ * together with the number of set bits in front of each word. This allows to compute the rank of a key
+ * (its index in the sorted sequence of all keys) with a binary search and a single popcount.
+ */
+public class SparseBitmap {
+
+    /**
+     * Word number ({@code key >>> 6}) of every stored word, sorted
+     */
+    private long[] wordNos;
+    private long[] words;
+    /**
+     * Number of set bits in all words in front of the i-th word
+     */
+    private int[] ranks;
+    private int wordCount = 0;
+    private int size = 0;
+
+    /**
+     * Creates a bitmap from the first {@code length} elements of the sorted and duplicate free keys
+     */
+    public SparseBitmap(long[] sortedKeys, int length) {
+        wordNos = new long[Math.max(4, length / 4)];
+        words = new long[wordNos.length];
+        ranks = new int[wordNos.length];
+        for (int i = 0; i < length; i++) {
+            long wordNo = sortedKeys[i] >>> 6;
+            if (wordCount == 0 || wordNos[wordCount - 1] != wordNo) {
+                ensureCapacity(wordCount + 1);
+                wordNos[wordCount] = wordNo;
+                words[wordCount] = 0;
+                ranks[wordCount] = size;
+                wordCount++;
+            }
+            words[wordCount - 1] |= 1L << sortedKeys[i];
+            size++;
+        }
+    }
+
+    public SparseBitmap(SparseBitmap other) {
+        this.wordNos = Arrays.copyOf(other.wordNos, other.wordNos.length);
+        this.words = Arrays.copyOf(other.words, other.words.length);
+        this.ranks = Arrays.copyOf(other.ranks, other.ranks.length);
+        this.wordCount = other.wordCount;
+        this.size = other.size;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > wordNos.length) {
+            int capacity = Math.max(required, wordNos.length * 2);
+            wordNos = Arrays.copyOf(wordNos, capacity);
+            words = Arrays.copyOf(words, capacity);
+            ranks = Arrays.copyOf(ranks, capacity);
+        }
+    }
+
+    /**
+     * Like {@link Arrays#binarySearch(long[], long)}: the rank of the key if it is contained,
+     * {@code -(insertion point) - 1} otherwise
+     */
+    public int indexOf(long key) {
+        int wordIndex = Arrays.binarySearch(wordNos, 0, wordCount, key >>> 6);
+        if (wordIndex < 0) {
+            int insertion = -wordIndex - 1;
+            return -(insertion == wordCount ? size : ranks[insertion]) - 1;
+        }
+        long word = words[wordIndex];
+        long mask = 1L << key;
+        int rank = ranks[wordIndex] + Long.bitCount(word & (mask - 1));
+        return (word & mask) != 0 ? rank : -rank - 1;
+    }
+
+    public boolean contains(long key) {
+        int wordIndex = Arrays.binarySearch(wordNos, 0, wordCount, key >>> 6);
+        return wordIndex >= 0 && (words[wordIndex] & (1L << key)) != 0;
+    }
+
+    /**
+     * @return true if the key was not already present
+     */
+    public boolean add(long key) {
+        int wordIndex = Arrays.binarySearch(wordNos, 0, wordCount, key >>> 6);
+        if (wordIndex < 0) {
+            wordIndex = -wordIndex - 1;
+            ensureCapacity(wordCount + 1);
+            System.arraycopy(wordNos, wordIndex, wordNos, wordIndex + 1, wordCount - wordIndex);
+            System.arraycopy(words, wordIndex, words, wordIndex + 1, wordCount - wordIndex);
+            System.arraycopy(ranks, wordIndex, ranks, wordIndex + 1, wordCount - wordIndex);
+            wordNos[wordIndex] = key >>> 6;
+            words[wordIndex] = 0;
+            ranks[wordIndex] = wordIndex == wordCount ? size : ranks[wordIndex + 1];
+            wordCount++;
+        } else if ((words[wordIndex] & (1L << key)) != 0) {
+            return false;
+        }
+        words[wordIndex] |= 1L << key;
+        for (int i = wordIndex + 1; i < wordCount; i++) {
+            ranks[i]++;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * @return true if the key was present
+     */
+    public boolean remove(long key) {
+        int wordIndex = Arrays.binarySearch(wordNos, 0, wordCount, key >>> 6);
+        if (wordIndex < 0 || (words[wordIndex] & (1L << key)) == 0) {
+            return false;
+        }
+        words[wordIndex] &= ~(1L << key);
+        for (int i = wordIndex + 1; i < wordCount; i++) {
+            ranks[i]--;
+        }
+        if (words[wordIndex] == 0) {
+            System.arraycopy(wordNos, wordIndex + 1, wordNos, wordIndex, wordCount - wordIndex - 1);
+            System.arraycopy(words, wordIndex + 1, words, wordIndex, wordCount - wordIndex - 1);
+            System.arraycopy(ranks, wordIndex + 1, ranks, wordIndex, wordCount - wordIndex - 1);
+            wordCount--;
+        }
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -91,7 +91,7 @@ public class Util {
             vals.add(0, !one);
         }
         vals.add(!one);
-        while (vals.size() < vl.bitWidth) {
+        while (vals.size() < vl.getBitWidth()) {
             vals.add(!one);
         }
         Collections.reverse(vals);
@@ -150,17 +150,34 @@ public class Util {
         }
     }
 
+    /**
+     * Indentation level of the log output of the current thread, see {@link #withIndentedStream(Supplier)}
+     */
+    private static final ThreadLocal<Integer> indentation = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * Indents the log output (see {@link nildumu.Context#log(Supplier)}) of the function. The indentation is
+     * per thread, {@link System#out} is not replaced, as concurrently running functions would otherwise
+     * restore the wrong stream
+     */
     public static <R> R withIndentedStream(Supplier<R> func) {
-        PrintStream out = System.out;
-        System.setOut(new PrintStream(System.out){
+        indentation.set(indentation.get() + 1);
+        try {
+            return func.get();
+        } finally {
+            indentation.set(indentation.get() - 1);
+        }
+    }
 
-            @Override
-            public void println(String x) {
-                super.println("\t" + x);
-            }
-        });
-        R res = func.get();
-        System.setOut(out);
-        return res;
+    public static String indent(String str) {
+        int level = indentation.get();
+        if (level == 0) {
+            return str;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < level; i++) {
+            builder.append('\t');
+        }
+        return builder.append(str).toString();
     }
 }
@@ -0,0 +1,69 @@
+package nildumu;
+
+import nildumu.mih.MethodInvocationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static nildumu.Lattices.BasicSecLattice.LOW;
+import static nildumu.Processor.USE_REPLACEMENTS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that analyses in different sessions do not influence each other
+ */
+public class AnalysisSessionTest {
+
+    private static final List<String> PROGRAMS = Arrays.asList(
+            "bit_width 3; h input int h = 0buuu; l output int o = h;",
+            "bit_width 5; h input int h = 0buuuuu; l output int o = h & 0b00011;",
+            "h input int h = 0b0u; int x = 0; while (h == 0) { x = x + 1; } l output int o = x;",
+            "int f(int x) { return x + 1; } h input int h = 0buu; l output int o = f(h);");
+
+    private static double leakage(String program) {
+        Context context = Processor.process(program, Context.Mode.LOOP,
+                MethodInvocationHandler.parse("handler=inlining;maxrec=5;bot=summary"), USE_REPLACEMENTS);
+        return context.computeLeakage(LeakageAlgorithm.Algo.GRAPHT_PP).get(LOW).maxFlow;
+    }
+
+    @Test
+    public void testStateIsPerSession() {
+        AnalysisSession first = new AnalysisSession();
+        AnalysisSession second = new AnalysisSession();
+        first.run(() -> Parser.parse("bit_width 3; int x = 1;"));
+        long bitsOfSecond = second.run(() -> {
+            Parser.parse("bit_width 7; int x = 1;");
+            return Lattices.Bit.getNumberOfCreatedBits();
+        });
+        assertEquals(3, first.getBitWidth());
+        assertEquals(7, second.getBitWidth());
+        assertEquals(bitsOfSecond, second.getNumberOfCreatedBits());
+        first.run(() -> LeakageAlgorithm.setUsedAlgo(LeakageAlgorithm.Algo.OPENWBO_GLUCOSE));
+        assertEquals(LeakageAlgorithm.Algo.GRAPHT_PP, second.run(LeakageAlgorithm::getUsedAlgo));
+        assertEquals(LeakageAlgorithm.Algo.GRAPHT_PP, LeakageAlgorithm.getUsedAlgo());
+    }
+
+    @Test
+    public void testConcurrentAnalyses() throws Exception {
+        Map<String, Double> expected = new HashMap<>();
+        for (String program : PROGRAMS) {
+            expected.put(program, new AnalysisSession().run(() -> leakage(program)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Double>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                for (String program : PROGRAMS) {
+                    futures.add(executor.submit(() -> new AnalysisSession().run(() -> leakage(program))));
+                }
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                String program = PROGRAMS.get(i % PROGRAMS.size());
+                assertEquals(expected.get(program), futures.get(i).get(), program);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -44,7 +44,7 @@ public class ContextMatcher {
     }
 
     public ContextMatcher useSingleMCAlgo() {
-        return use(LeakageAlgorithm.usedAlgo);
+        return use(LeakageAlgorithm.getUsedAlgo());
     }
 
     public ContextMatcher val(String variable, long value){
@@ -0,0 +1,90 @@
+package nildumu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static nildumu.Lattices.bl;
+import static nildumu.Lattices.ds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the adaptive dependency sets (inline, sorted array and bitmap representation) and their interning
+ */
+public class DependencySetTest {
+
+    private List<Lattices.Bit> createBits(int number){
+        return IntStream.range(0, number).mapToObj(i -> bl.create(Lattices.B.U)).collect(Collectors.toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 4, 64, 65, 300})
+    public void testAddAndContains(int number){
+        List<Lattices.Bit> bits = createBits(number);
+        Lattices.DependencySet set = ds.bot();
+        List<Lattices.Bit> reversed = new ArrayList<>(bits);
+        Collections.reverse(reversed);
+        reversed.forEach(set::add);
+        reversed.forEach(set::add);
+        assertEquals(number, set.size());
+        assertEquals(new HashSet<>(bits), new HashSet<>(set));
+        assertEquals(bits, new ArrayList<>(set), "iteration is sorted by the bit number");
+        bits.forEach(b -> assertTrue(set.contains(b)));
+        assertFalse(set.contains(bl.create(Lattices.B.U)));
+        assertEquals(set, ds.create(bits));
+        assertEquals(new HashSet<>(bits).hashCode(), set.hashCode());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 10, 200})
+    public void testSupAndInf(int number){
+        List<Lattices.Bit> bits = createBits(number);
+        Lattices.DependencySet even = ds.create(IntStream.range(0, number).filter(i -> i % 2 == 0)
+                .mapToObj(bits::get).collect(Collectors.toList()));
+        Lattices.DependencySet lower = ds.create(bits.subList(0, number / 2));
+        Set<Lattices.Bit> expectedSup = new HashSet<>(even);
+        expectedSup.addAll(lower);
+        Set<Lattices.Bit> expectedInf = new HashSet<>(even);
+        expectedInf.retainAll(lower);
+        assertEquals(expectedSup, new HashSet<>(ds.sup(even, lower)));
+        assertEquals(expectedInf, new HashSet<>(ds.inf(even, lower)));
+        assertEquals(even, ds.sup(even, ds.empty()));
+        assertTrue(ds.inf(even, ds.empty()).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 5, 100})
+    public void testRemoveXBits(int number){
+        List<Lattices.Bit> bits = IntStream.range(0, number).mapToObj(i -> bl.forceCreateXBit())
+                .collect(Collectors.toList());
+        Lattices.DependencySet set = ds.create(bits);
+        for (int i = 0; i < number; i += 2) {
+            assertTrue(set.remove(bits.get(i)));
+        }
+        assertEquals(IntStream.range(0, number).filter(i -> i % 2 == 1).mapToObj(bits::get)
+                .collect(Collectors.toList()), new ArrayList<>(set));
+    }
+
+    @Test
+    public void testInterningAndCopyOnWrite(){
+        List<Lattices.Bit> bits = createBits(5);
+        Lattices.DependencySetPool pool = new Lattices.DependencySetPool();
+        Lattices.DependencySet shared = pool.intern(ds.create(bits.subList(0, 3)));
+        assertSame(shared, pool.intern(ds.create(bits.get(2), bits.get(1), bits.get(0))));
+        Lattices.Bit a = bl.create(Lattices.B.U, shared);
+        Lattices.Bit b = a.copy();
+        assertSame(a.deps(), b.deps());
+        b.addDependency(bits.get(4));
+        assertEquals(3, a.deps().size());
+        assertEquals(4, b.deps().size());
+        assertSame(shared, a.deps());
+        assertEquals(0.5, pool.sharingRatio());
+    }
+}
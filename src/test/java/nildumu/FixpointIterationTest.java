@@ -0,0 +1,58 @@
+package nildumu;
+
+import nildumu.mih.MethodInvocationHandler;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the iteration strategies of the fix point iteration and the sparse with the version based evaluation
+ */
+public class FixpointIterationTest {
+
+    private static final String[] PROGRAMS = {
+            "h input int h = 0b0u; l output int o = h;",
+            "h input int h = 0bu; int x = 0; if (h == 0) { x = 1; } else { x = 2; } l output int o = x;",
+            "h input int h = 0b0u; int x = 0; while (h == 0){ x = x + 1; } l output int o = x;",
+            "h input int h = 0bu; int x = 0; int i = 0; while (i < 10) { int j = 0; " +
+                    "while (j < 3) { x = x + (h & j); j = j + 1; } i = i + 1; } l output int o = x;",
+            "int fib(int a) { int r = 1; if (a > 1) { r = fib(a - 1) + fib(a - 2); } return r; }" +
+                    "h input int h = 0bu; l output int o = fib(h);"
+    };
+
+    private static Context process(String program, FixpointIteration.Strategy strategy) {
+        return process(program, strategy, true);
+    }
+
+    private static Context process(String program, FixpointIteration.Strategy strategy, boolean sparse) {
+        Parser.ProgramNode node = Parser.process(program);
+        node.context.setIterationStrategy(strategy).setSparseEvaluation(sparse);
+        return Processor.process(node, Context.Mode.LOOP,
+                MethodInvocationHandler.parse("handler=inlining;maxrec=5;bot=summary"));
+    }
+
+    private static double leakage(Context context) {
+        return context.computeLeakage(LeakageAlgorithm.Algo.GRAPHT_PP).get(Lattices.BasicSecLattice.LOW).maxFlow;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4})
+    public void testPriorityStrategyIsEquivalent(int program) {
+        Context stack = process(PROGRAMS[program], FixpointIteration.Strategy.STACK);
+        Context priority = process(PROGRAMS[program], FixpointIteration.Strategy.PRIORITY);
+        assertEquals(leakage(stack), leakage(priority));
+        assertTrue(priority.getStatementVisitCount() > 0);
+        assertTrue(priority.getStatementVisitCount() <= stack.getStatementVisitCount());
+        assertTrue(priority.getEvaluationCount() <= stack.getEvaluationCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4})
+    public void testSparseEvaluationIsEquivalent(int program) {
+        Context versions = process(PROGRAMS[program], FixpointIteration.Strategy.STACK, false);
+        Context sparse = process(PROGRAMS[program], FixpointIteration.Strategy.STACK, true);
+        assertEquals(leakage(versions), leakage(sparse));
+        assertEquals(versions.getRecomputationCount(), sparse.getRecomputationCount());
+    }
+}
@@ -1,13 +1,20 @@
 package nildumu;
 
+import nildumu.mih.InliningHandler;
 import nildumu.mih.MethodInvocationHandler;
+import nildumu.mih.SummaryHandler;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.stream.Stream;
 
@@ -21,16 +28,6 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class FunctionTests {
 
-    @BeforeAll
-    public static void setUp() {
-        Processor.transformPlus = true;
-    }
-
-    @AfterAll
-    public static void tearDown() {
-        Processor.transformPlus = false;
-    }
-
     @ParameterizedTest
     @ValueSource(strings = {"int bla1r(int blub){ return blub; }", "int bla(){}", "int bla1(int blub){}"})
     public void testFunctionDefinition(String program) {
@@ -468,6 +465,77 @@ l output int o = fib(h);
                 "l output int o = f(h);", "handler=summary;csmaxrec=0").leaks(4).run();
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "'int mix(int a, int b){ int r = (a & b) | (a ^ (b >> 1)); if (r > 100) { r = r - 1; } return r; } " +
+                    "h input int h = 0bu{16}; int x = mix(h, 0b0101); x = mix(x, 0b0101); x = mix(x, 0b0101); " +
+                    "l output int o = x;', 'true'",
+            "'int id(int a){ return a; } int two(int a){ return id(a) + id(a); } " +
+                    "h input int h = 0bu{8}; l output int o = two(h) | two(h & 0b0111);', 'true'",
+            "'int fib(int a){ int r = 1; if (a > 1){ r = fib(a - 1) + fib(a - 2); } return r; } " +
+                    "h input int h = 0b0uuu; l output int o = fib(h);', 'false'"
+    })
+    public void testInliningMemoization(String program, boolean expectHits) {
+        MethodInvocationHandler memoizing = MethodInvocationHandler.parse("handler=inlining;maxrec=5;bot=summary;memo=true");
+        assertEquals(leakage(program, MethodInvocationHandler.parse("handler=inlining;maxrec=5;bot=summary")),
+                leakage(program, memoizing));
+        assertEquals(expectHits, ((InliningHandler) memoizing).getMemoHits() > 0);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'int f(int a){ return a & 0b0011; } int g(int a){ return a | 0b0100; } int h(int a){ return f(a) + g(a); } " +
+                    "h input int s = 0bu{8}; l output int o = h(s) ^ f(s >> 2) ^ g(s);'",
+            "'int even(int a){ int r = 0; if (a > 0){ r = odd(a - 1); } return r; } " +
+                    "int odd(int a){ int r = 1; if (a > 0){ r = even(a - 1); } return r; } int low(int a){ return a & 0b0001; } " +
+                    "h input int s = 0bu{8}; l output int o = even(s) + low(s);'",
+            "'int count(int a){ int r = 0; while (a > 0){ a = a - 1; r = r + 1; } return r; } " +
+                    "int noise(){ h input int n = 0bu{4}; return n; } " +
+                    "h input int s = 0bu{8}; l output int o = count(s & 0b0111) + (noise() & s);'"
+    })
+    public void testParallelSummaries(String program) {
+        for (String handler : Arrays.asList("handler=summary", "handler=summary;csmaxrec=2", "handler=summary;widen=1")) {
+            assertEquals(leakage(program, MethodInvocationHandler.parse(handler)),
+                    leakage(program, MethodInvocationHandler.parse(handler + ";parallel=4")), handler);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'int f(int a){ return a & 0b0011; } int g(int a){ return f(a) | 0b0100; } " +
+                    "h input int s = 0bu{8}; l output int o = g(s) ^ f(s >> 2);', 2",
+            "'int count(int a){ int r = 0; while (a > 0){ a = a - 1; r = r + 1; } return r; } " +
+                    "h input int s = 0bu{8}; l output int o = count(s & 0b0111);', 2",
+            "'int even(int a){ int r = 0; if (a > 0){ r = odd(a - 1); } return r; } " +
+                    "int odd(int a){ int r = 1; if (a > 0){ r = even(a - 1); } return r; } " +
+                    "h input int s = 0bu{8}; l output int o = even(s);', 2"
+    })
+    public void testSummaryStore(String program, int methods, @TempDir Path directory) throws IOException {
+        String handler = "handler=summary;store=" + directory;
+        double leakage = leakage(program, MethodInvocationHandler.parse("handler=summary"));
+        SummaryHandler first = (SummaryHandler) MethodInvocationHandler.parse(handler);
+        assertEquals(leakage, leakage(program, first));
+        assertEquals(0, first.getStore().getHits());
+        SummaryHandler second = (SummaryHandler) MethodInvocationHandler.parse(handler);
+        assertEquals(leakage, leakage(program, second));
+        assertEquals(methods, second.getStore().getHits());
+        assertEquals(0, second.getStore().getMisses());
+        // the store is keyed by the bodies of the methods and not by their names
+        SummaryHandler renamed = (SummaryHandler) MethodInvocationHandler.parse(handler);
+        assertEquals(leakage, leakage(program.replace("f(", "first(").replace("count(", "c("), renamed));
+        assertEquals(methods, renamed.getStore().getHits());
+        // a too small store evicts all summaries
+        leakage(program, MethodInvocationHandler.parse(handler + ";store_size=0;widen=3"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.filter(f -> f.toString().endsWith(".summary")).count());
+        }
+    }
+
+    private static double leakage(String program, MethodInvocationHandler handler) {
+        return process(program, Context.Mode.LOOP, handler, USE_REPLACEMENTS)
+                .computeLeakage(LeakageAlgorithm.Algo.GRAPHT_PP).get(Lattices.BasicSecLattice.LOW).maxFlow;
+    }
+
     static ContextMatcher parse(String program){
         return parse(program, MethodInvocationHandler.createDefault());
     }
@@ -0,0 +1,83 @@
+package nildumu;
+
+import nildumu.mih.MethodInvocationHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static nildumu.Lattices.BasicSecLattice.LOW;
+import static nildumu.Processor.RECORD_ALTERNATIVES;
+import static nildumu.Processor.TRANSFORM_LOOPS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeakageBoundsTest {
+
+    private static final String[] PROGRAMS = {
+            "h input int h = 0buu; l output int o = 0;",
+            "h input int h = 0buu; l output int o = h;",
+            "h input int h = 0buuu; l output int o = h & 0b011;",
+            "h input int h = 0buuuu; l output int o = h == 0;",
+            "h input int h = 0buuuu; h input int h2 = 0buu; l output int o = (h + h2) & 0b11;",
+            "bit_width 4; h input int h = 0buuuu; int x = 0; if (h < 3) { x = h; } l output int o = x;"};
+
+    /**
+     * Only checked in the basic mode, the interval mode does not support them with summaries
+     */
+    private static final String[] LOOP_PROGRAMS = {
+            "h input int h = 0buuu; int x = 0; while (h == 0) { x = x + 1; } l output int o = x;",
+            "int f(int x) { if (x == 0) { return 1; } return f(x - 1); } h input int h = 0buu; l output int o = f(h);"};
+
+    private static Context process(String program, Context.Mode mode, int opts) {
+        return Processor.process(program, mode, MethodInvocationHandler.parse("handler=summary"), TRANSFORM_LOOPS | opts);
+    }
+
+    private static void assertBounds(Context context, LeakageAlgorithm.Algo algo) {
+        LeakageBounds bounds = LeakageBounds.compute(context, LOW);
+        boolean prev = LeakageAlgorithm.usesBounds();
+        LeakageAlgorithm.setUseBounds(false);
+        try {
+            double leakage = algo.compute(context, LOW).maxFlow;
+            assertTrue(bounds.lower <= leakage && leakage <= bounds.upper,
+                    String.format("%s should contain %s", bounds, leakage));
+            if (bounds.isTight()) {
+                assertEquals(leakage, bounds.upper);
+            }
+        } finally {
+            LeakageAlgorithm.setUseBounds(prev);
+        }
+    }
+
+    @Test
+    public void testSoundness() {
+        for (String program : PROGRAMS) {
+            assertBounds(process(program, Context.Mode.LOOP, 0), LeakageAlgorithm.Algo.GRAPHT_PP);
+            LeakageAlgorithm.Algo.JAVA_MAXSAT.use(() -> {
+                assertBounds(process(program, Context.Mode.EXTENDED, RECORD_ALTERNATIVES), LeakageAlgorithm.Algo.JAVA_MAXSAT);
+                assertBounds(process(program, Context.Mode.INTERVAL, 0), LeakageAlgorithm.Algo.JAVA_MAXSAT);
+            });
+        }
+        for (String program : LOOP_PROGRAMS) {
+            assertBounds(process(program, Context.Mode.LOOP, 0), LeakageAlgorithm.Algo.GRAPHT_PP);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"h input int h = 0buu; l output int o = 0;", "h input int h = 0buu; l output int o = h;",
+            "int f(int x) { return 1; } h input int h = 0buu; l output int o = f(h);"})
+    public void testSkipsComputation(String program) {
+        Context context = process(program, Context.Mode.LOOP, 0);
+        LeakageAlgorithm.ComputationResult result = LeakageAlgorithm.Algo.GRAPHT_PP.compute(context, LOW);
+        assertTrue(result.fromBounds);
+        assertEquals(LeakageBounds.compute(context, LOW).upper, result.maxFlow);
+        assertEquals(result.maxFlow, result.minCut.size());
+    }
+
+    @Test
+    public void testComputesIfNotTight() {
+        Context context = process(PROGRAMS[4], Context.Mode.LOOP, 0);
+        LeakageAlgorithm.ComputationResult result = LeakageAlgorithm.Algo.GRAPHT_PP.compute(context, LOW);
+        assertFalse(result.fromBounds);
+        assertFalse(LeakageBounds.compute(context, LOW).isTight());
+        assertEquals(6, result.maxFlow);
+    }
+}
@@ -0,0 +1,77 @@
+package nildumu;
+
+import nildumu.mih.MethodInvocationHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+
+import static nildumu.Lattices.BasicSecLattice.LOW;
+import static nildumu.Processor.RECORD_ALTERNATIVES;
+import static nildumu.Processor.TRANSFORM_LOOPS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeakageCacheTest {
+
+    private static final String PROGRAM = "int f(int x) { if (x == 0) { return 1; } return f(x - 1); } " +
+            "h input int h = 0buuu; int y = 0; while (h == 0) { y = y + 1; } l output int o = f(h) + (y & 0b11);";
+
+    private static LeakageAlgorithm.ComputationResult compute(String program, LeakageAlgorithm.Algo algo,
+                                                              LeakageCache cache, String unrelatedProgram) {
+        return new AnalysisSession().run(() -> {
+            // shifts the numbers of the bits of the analysed program
+            Processor.process(unrelatedProgram);
+            LeakageAlgorithm.setUsedCache(cache);
+            int opts = TRANSFORM_LOOPS | (algo.capability(LeakageAlgorithm.Algo.SUPPORTS_ALTERNATIVES) ? RECORD_ALTERNATIVES : 0);
+            Context context = Processor.process(program, Context.Mode.EXTENDED,
+                    MethodInvocationHandler.parse("handler=summary"), opts);
+            return context.computeLeakage(algo).get(LOW);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"GRAPHT_PP", "DINIC", "JAVA_MAXSAT"})
+    public void testReuse(String algoName, @TempDir Path directory) {
+        LeakageAlgorithm.Algo algo = LeakageAlgorithm.Algo.valueOf(algoName);
+        LeakageCache cache = new LeakageCache(directory, 1024 * 1024);
+        LeakageAlgorithm.ComputationResult first = compute(PROGRAM, algo, cache, "int x = 1;");
+        // the summary handler computes min cuts too
+        long computations = cache.getMisses();
+        LeakageAlgorithm.ComputationResult second = compute(PROGRAM, algo, cache, "h input int h = 0buuuu; int x = h + 1;");
+        assertEquals(computations, cache.getMisses());
+        assertEquals(computations, cache.getHits());
+        assertEquals(first.maxFlow, second.maxFlow);
+        assertEquals(first.minCut.size(), second.minCut.size());
+        compute(PROGRAM.replace("0buuu", "0buuuu"), algo, cache, "int x = 1;");
+        assertTrue(cache.getMisses() > computations);
+    }
+
+    @Test
+    public void testSameMinCut(@TempDir Path directory) {
+        LeakageCache cache = new LeakageCache(directory, 1024 * 1024);
+        String program = "h input int h = 0buu; l output int o = h | 0b01;";
+        new AnalysisSession().run(() -> {
+            Context context = Processor.process(program);
+            LeakageAlgorithm.SourcesAndSinks sourcesAndSinks = context.sourcesAndSinks(LOW);
+            LeakageAlgorithm.ComputationResult computed = cache.compute(LeakageAlgorithm.Algo.GRAPHT_PP, sourcesAndSinks,
+                    context::weight, () -> LeakageAlgorithm.Algo.GRAPHT_PP.compute(sourcesAndSinks, context::weight));
+            LeakageAlgorithm.ComputationResult loaded = cache.compute(LeakageAlgorithm.Algo.GRAPHT_PP, sourcesAndSinks,
+                    context::weight, () -> fail("Should be loaded"));
+            assertEquals(1, cache.getHits());
+            assertEquals(computed.minCut, loaded.minCut);
+            assertEquals(1, loaded.maxFlow);
+        });
+    }
+
+    @Test
+    public void testEviction(@TempDir Path directory) {
+        LeakageCache cache = new LeakageCache(directory, 0);
+        compute(PROGRAM, LeakageAlgorithm.Algo.GRAPHT_PP, cache, "int x = 1;");
+        long computations = cache.getMisses();
+        compute(PROGRAM, LeakageAlgorithm.Algo.GRAPHT_PP, cache, "int x = 1;");
+        assertEquals(0, cache.getHits());
+        assertEquals(2 * computations, cache.getMisses());
+    }
+}
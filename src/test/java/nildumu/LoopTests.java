@@ -1,10 +1,12 @@
 package nildumu;
 
 import nildumu.mih.MethodInvocationHandler;
+import nildumu.mih.SummaryHandler;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.logging.Level;
@@ -12,7 +14,7 @@ import java.util.logging.Level;
 import static java.time.Duration.ofMillis;
 import static nildumu.Processor.*;
 import static nildumu.util.Util.iter;
-import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class LoopTests {
 
@@ -377,6 +379,53 @@ public class LoopTests {
         Context.LOG.setLevel(Level.INFO);
     }
 
+    /**
+     * Widening should over approximate the leakage and stop the iteration of the loop method early
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    public void testWidening(int widen) {
+        String program = "h input int h = 0bu{32};\n" +
+                "int alpha = 16;\n" +
+                "int z = 0;\n" +
+                "while (0 < h & h < alpha) {\n" +
+                "\tz = z + 1;\n" +
+                "\th = h + 1;\n" +
+                "}\n" +
+                "l output int o = z;";
+        SummaryHandler exact = (SummaryHandler) MethodInvocationHandler.parse("handler=summary");
+        SummaryHandler widened = (SummaryHandler) MethodInvocationHandler.parse("handler=summary;widen=" + widen);
+        double exactLeakage = process(program, Context.Mode.LOOP, exact, USE_REPLACEMENTS)
+                .computeLeakage(LeakageAlgorithm.Algo.GRAPHT_PP).get(Lattices.BasicSecLattice.LOW).maxFlow;
+        double widenedLeakage = process(program, Context.Mode.LOOP, widened, USE_REPLACEMENTS)
+                .computeLeakage(LeakageAlgorithm.Algo.GRAPHT_PP).get(Lattices.BasicSecLattice.LOW).maxFlow;
+        assertTrue(widenedLeakage >= exactLeakage);
+        assertEquals(1, widened.getWidenedMethods().size());
+        Parser.MethodNode loop = widened.getWidenedMethods().iterator().next();
+        assertTrue(loop.name.startsWith("loop_method"));
+        assertTrue(widened.getIterationCounts().get(loop) < exact.getIterationCounts().get(exact.getIterationCounts().keySet().stream()
+                .filter(m -> m.name.equals(loop.name)).findFirst().get()));
+    }
+
+    /**
+     * The widened summary has to contain the inputs that are declared in the loop
+     */
+    @ParameterizedTest
+    @CsvSource({"1, +", "2, +", "1, |", "2, |"})
+    public void testWideningWithInputsInLoop(int widen, String op) {
+        String[] programs = {
+                "int r = 0; int i = 0; while (i < 4){ h input int n = 0bu{4}; r = r %s n; i = i + 1; } l output int o = r;",
+                "h input int s = 0buuuu; int r = s; int i = 0; while (i < 4){ h input int n = 0bu{4}; r = r %s n; i = i + 1; } l output int o = r;"};
+        for (String template : programs) {
+            String program = String.format(template, op);
+            double exactLeakage = process(program, Context.Mode.LOOP, MethodInvocationHandler.parse("handler=summary"), USE_REPLACEMENTS)
+                    .computeLeakage(LeakageAlgorithm.Algo.GRAPHT_PP).get(Lattices.BasicSecLattice.LOW).maxFlow;
+            double widenedLeakage = process(program, Context.Mode.LOOP, MethodInvocationHandler.parse("handler=summary;widen=" + widen), USE_REPLACEMENTS)
+                    .computeLeakage(LeakageAlgorithm.Algo.GRAPHT_PP).get(Lattices.BasicSecLattice.LOW).maxFlow;
+            assertTrue(widenedLeakage >= exactLeakage, String.format("%s: %f < %f", program, widenedLeakage, exactLeakage));
+        }
+    }
+
     static ContextMatcher parse(String program) {
         return parse(program, "handler=inlining;maxrec=5;bot=summary");
     }
@@ -0,0 +1,55 @@
+package nildumu;
+
+import nildumu.mih.MethodInvocationHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static nildumu.Lattices.BasicSecLattice.LOW;
+import static nildumu.Processor.RECORD_ALTERNATIVES;
+import static nildumu.Processor.TRANSFORM_LOOPS;
+import static nildumu.Processor.USE_REPLACEMENTS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the {@link PortfolioLeakageAlgorithm} computes the same leakage as the algorithms it runs
+ */
+public class PortfolioTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "bit_width 3; h input int h = 0buuu; l output int o = h;",
+            "bit_width 5; h input int h = 0buuuuu; l output int o = h & 0b00011;",
+            "h input int h = 0b0u; int x = 0; while (h == 0) { x = x + 1; } l output int o = x;",
+            "int f(int x) { return x + 1; } h input int h = 0buu; l output int o = f(h);"})
+    public void testSameLeakage(String program) {
+        Context context = Processor.process(program, Context.Mode.LOOP,
+                MethodInvocationHandler.parse("handler=inlining;maxrec=5;bot=summary"), USE_REPLACEMENTS);
+        LeakageAlgorithm.SourcesAndSinks sourcesAndSinks = context.sourcesAndSinks(LOW);
+        PortfolioLeakageAlgorithm portfolio = new PortfolioLeakageAlgorithm(sourcesAndSinks, context::weight);
+        assertEquals(LeakageAlgorithm.Algo.GRAPHT_PP.compute(sourcesAndSinks, context::weight).maxFlow,
+                portfolio.compute().maxFlow);
+        assertTrue(PortfolioLeakageAlgorithm.algos(context).contains(portfolio.getWinner()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "h input int h = 0buu; int x = 0; while (h == 0) { x = x + 1; } l output int o = x;",
+            "int f(int x) { if (x == 0) { return 1; } return f(x - 1); } h input int h = 0buu; l output int o = f(h);"})
+    public void testOnlyCapableAlgorithms(String program) {
+        Context context = Processor.process(program, Context.Mode.EXTENDED,
+                MethodInvocationHandler.parse("handler=summary"), TRANSFORM_LOOPS | RECORD_ALTERNATIVES);
+        assertFalse(PortfolioLeakageAlgorithm.algos(context).contains(LeakageAlgorithm.Algo.GRAPHT_PP));
+        PortfolioLeakageAlgorithm portfolio = new PortfolioLeakageAlgorithm(context.sourcesAndSinks(LOW), context::weight);
+        assertEquals(LeakageAlgorithm.Algo.JAVA_MAXSAT.compute(context, LOW).maxFlow, portfolio.compute().maxFlow);
+        assertTrue(portfolio.getWinner().capability(LeakageAlgorithm.Algo.SUPPORTS_ALTERNATIVES));
+    }
+
+    @Test
+    public void testCancelled() {
+        Context context = Processor.process("bit_width 3; h input int h = 0buuu; l output int o = h;");
+        PortfolioLeakageAlgorithm portfolio = new PortfolioLeakageAlgorithm(context.sourcesAndSinks(LOW), context::weight);
+        portfolio.cancel();
+        assertThrows(NildumuError.class, portfolio::compute);
+    }
+}
@@ -0,0 +1,140 @@
+package nildumu;
+
+import nildumu.util.MaxFlow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static nildumu.Lattices.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the relevance pruning and the reductions of the bit graph
+ */
+public class ReducedBitGraphTest {
+
+    private static List<Bit> bits(int count) {
+        return IntStream.range(0, count).mapToObj(i -> bl.create(B.U)).collect(Collectors.toList());
+    }
+
+    private static ReducedBitGraph reduce(Bit source, Bit sink) {
+        BitStore store = BitStore.create(Collections.singleton(source), sink::equals);
+        double[] capacities = new double[store.size()];
+        Arrays.fill(capacities, 1);
+        return ReducedBitGraph.create(store, new int[]{store.id(source)}, new int[]{store.id(sink)}, capacities, 1000);
+    }
+
+    @Test
+    public void testChainAndDeadEnd() {
+        List<Bit> b = bits(7);
+        // 0 -> 1 -> 2 -> 3 -> 4 (sink), 0 -> 5 -> 6
+        for (int i = 0; i < 4; i++) {
+            b.get(i).addDependency(b.get(i + 1));
+        }
+        b.get(0).addDependency(b.get(5));
+        b.get(5).addDependency(b.get(6));
+        ReducedBitGraph graph = reduce(b.get(0), b.get(4));
+        BitStore store = graph.store();
+        assertTrue(graph.isRelevant(store.idOf(b.get(2))));
+        assertFalse(graph.isRelevant(store.idOf(b.get(5))));
+        assertFalse(graph.isRelevant(store.idOf(b.get(6))));
+        assertEquals(3, graph.size());
+        assertEquals(2, graph.edgeCount());
+    }
+
+    @Test
+    public void testParallelBits() {
+        List<Bit> b = bits(5);
+        // 0 -> {1, 2, 3} -> 4 (sink)
+        for (int i = 1; i < 4; i++) {
+            b.get(0).addDependency(b.get(i));
+            b.get(i).addDependency(b.get(4));
+        }
+        ReducedBitGraph graph = reduce(b.get(0), b.get(4));
+        assertEquals(3, graph.size());
+        int merged = IntStream.range(0, graph.size()).filter(v -> !graph.isSource(v) && !graph.isSink(v))
+                .findFirst().getAsInt();
+        assertEquals(3, graph.capacity(merged));
+        assertEquals(new HashSet<>(b.subList(1, 4)), new HashSet<>(graph.bits(merged)));
+    }
+
+    private static double minVertexCut(int vertices, double[] capacities, int[][] succs, int source, int sink) {
+        // vertex v is split into 2v and 2v + 1, the super sink is 2 * vertices
+        MaxFlow flow = new MaxFlow(vertices * 2 + 1, 0);
+        for (int v = 0; v < vertices; v++) {
+            flow.addEdge(2 * v, 2 * v + 1, capacities[v]);
+            for (int w : succs[v]) {
+                flow.addEdge(2 * v + 1, 2 * w, 1e6);
+            }
+        }
+        flow.addEdge(2 * sink + 1, 2 * vertices, 1e6);
+        return flow.compute(2 * source, 2 * vertices);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8})
+    public void testMinCutIsPreserved(int seed) {
+        Random random = new Random(seed);
+        int count = 20 + random.nextInt(40);
+        List<Bit> b = bits(count);
+        for (int i = 0; i < count * 2; i++) {
+            int from = random.nextInt(count - 1);
+            // mostly forward edges, but some cycles
+            int to = random.nextInt(10) == 0 ? random.nextInt(count) : from + 1 + random.nextInt(Math.min(5, count - from - 1));
+            if (from != to) {
+                b.get(from).addDependency(b.get(to));
+            }
+        }
+        Bit source = b.get(0);
+        Bit sink = b.get(count - 1);
+        BitStore store = BitStore.create(Collections.singleton(source), sink::equals);
+        // registers the sink if it is not reachable
+        int sinkId = store.id(sink);
+        double[] capacities = new double[store.size()];
+        for (int i = 0; i < capacities.length; i++) {
+            capacities[i] = 1 + random.nextInt(3);
+        }
+        capacities[store.id(source)] = 1000;
+        capacities[sinkId] = 1000;
+        int[][] succs = new int[store.size()][];
+        for (int id = 0; id < store.size(); id++) {
+            int[] deps = new int[store.depCount(id)];
+            for (int i = 0; i < deps.length; i++) {
+                deps[i] = store.dep(id, i);
+            }
+            succs[id] = deps;
+        }
+        double expected = minVertexCut(store.size(), capacities, succs, store.id(source), sinkId);
+
+        ReducedBitGraph graph = ReducedBitGraph.create(store, new int[]{store.id(source)}, new int[]{sinkId},
+                capacities, 1000);
+        assertTrue(graph.size() <= store.size());
+        double[] reducedCapacities = new double[graph.size()];
+        int[][] reducedSuccs = new int[graph.size()][];
+        int reducedSource = -1;
+        int reducedSink = -1;
+        for (int v = 0; v < graph.size(); v++) {
+            reducedCapacities[v] = graph.capacity(v);
+            int[] vertexSuccs = new int[graph.successorCount(v)];
+            for (int i = 0; i < vertexSuccs.length; i++) {
+                vertexSuccs[i] = graph.successor(v, i);
+            }
+            reducedSuccs[v] = vertexSuccs;
+            if (graph.isSource(v)) {
+                reducedSource = v;
+            }
+            if (graph.isSink(v)) {
+                reducedSink = v;
+            }
+        }
+        if (reducedSource == -1 || reducedSink == -1) {
+            assertEquals(0, expected);
+        } else {
+            assertEquals(expected, minVertexCut(graph.size(), reducedCapacities, reducedSuccs, reducedSource, reducedSink));
+        }
+    }
+}
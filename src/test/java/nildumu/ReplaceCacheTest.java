@@ -0,0 +1,54 @@
+package nildumu;
+
+import nildumu.mih.MethodInvocationHandler;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the analysis with and without the cache of the replaced values in the extended mode
+ */
+public class ReplaceCacheTest {
+
+    private static final String[] PROGRAMS = {
+            "h input int h = 0buu; int x = 0; if (h == 0) { x = h; } else { x = h | 1; } l output int o = x;",
+            "h input int h = 0buuu; int x = h; if (h[1] == 1) { if (h[2] == 1) { x = x & 0b011; } else { x = x | 0b100; } } " +
+                    "else { x = 0; } l output int o = x;",
+            "int f(int a, int b) { int r = a; if (b == 0) { r = a & b; } return r; } " +
+                    "int g(int a) { int r = 0; if (a[1] == 1) { r = f(a, a[2]); } else { r = f(a | 1, 0); } return r; } " +
+                    "h input int h = 0buuu; l output int o = g(h);",
+            "int f(int a) { int r = a; if (a[1] == 0) { r = a + 1; } return r; } " +
+                    "h input int h = 0buuu; int x = 0; if (h[3] == 1) { x = f(h); } else { x = f(f(h)); } l output int o = x;"
+    };
+
+    private static Context process(String program, String handler, boolean cache) {
+        Parser.ProgramNode node = Parser.process(program);
+        node.context.setCacheReplacements(cache);
+        return Processor.process(node, Context.Mode.EXTENDED, MethodInvocationHandler.parse(handler),
+                true, true, true);
+    }
+
+    private static void assertEquivalent(String program, String handler) {
+        Context uncached = process(program, handler, false);
+        Context cached = process(program, handler, true);
+        assertEquals(uncached.output.toString(), cached.output.toString());
+        LeakageAlgorithm.Algo.JAVA_MAXSAT.use(() -> assertEquals(
+                uncached.computeLeakage(LeakageAlgorithm.Algo.JAVA_MAXSAT).get(Lattices.BasicSecLattice.LOW).maxFlow,
+                cached.computeLeakage(LeakageAlgorithm.Algo.JAVA_MAXSAT).get(Lattices.BasicSecLattice.LOW).maxFlow));
+        assertEquals(0, uncached.getReplaceCacheHits() + uncached.getReplaceCacheMisses());
+        assertTrue(cached.getReplaceCacheHits() > 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    public void testInlining(int program) {
+        assertEquivalent(PROGRAMS[program], "handler=inlining;maxrec=3;bot=basic");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3})
+    public void testSummary(int program) {
+        assertEquivalent(PROGRAMS[program], "handler=summary");
+    }
+}
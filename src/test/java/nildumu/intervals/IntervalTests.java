@@ -22,7 +22,7 @@ public class IntervalTests {
             "-1|1|0u", "-1|-1|uuuu1", "-1|0|uuuu1"
     })
     public void testSize(String val) {
-        vl.bitWidth = 5;
+        vl.setBitWidth(5);
         Intervals.ConstrainedInterval interval = Intervals.ConstrainedInterval.parse(val);
         System.out.println(interval);
         assertEquals(interval.size(), interval.size(), Intervals.countPattern(interval.start, interval.end,
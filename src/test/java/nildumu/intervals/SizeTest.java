@@ -82,7 +82,7 @@ public class SizeTest {
                     constraints.put(i, ints.get(i));
                 }
             });
-            signConstraint.ifPresent(b -> constraints.put(vl.bitWidth - 1, b));
+            signConstraint.ifPresent(b -> constraints.put(vl.getBitWidth() - 1, b));
             int start = r.nextInt(conf.min(), conf.max());
             int end = r.nextInt(start, conf.max());
             return new Intervals.ConstrainedInterval(new Interval(start, end), constraints);
@@ -110,7 +110,7 @@ public class SizeTest {
 
     @Before
     public void setUp(){
-        vl.bitWidth = 10;
+        vl.setBitWidth(10);
     }
 
     @Property(trials = 500)
@@ -0,0 +1,130 @@
+package nildumu.solver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JavaMaxSATSolverTest {
+
+    @Test
+    public void testImplicationChain() {
+        JavaMaxSATSolver<String> solver = new JavaMaxSATSolver<>();
+        solver.addSingleClause("a");
+        solver.addOrImplication("a", "b", "c");
+        solver.addOrImplication("b", "d");
+        solver.addWeight("b", 1);
+        solver.addWeight("c", 3);
+        solver.addWeight("d", 1);
+        Solver.Result<String> result = solver.solve().get();
+        assertEquals(2, result.weight);
+        assertTrue(result.trueVariables.containsAll(Arrays.asList("a", "b", "d")));
+        assertFalse(result.trueVariables.contains("c"));
+    }
+
+    @Test
+    public void testInfiniteWeight() {
+        JavaMaxSATSolver<String> solver = new JavaMaxSATSolver<>();
+        solver.addSingleClause("a");
+        solver.addOrImplication("a", "b");
+        solver.addInfiniteWeight("b");
+        assertEquals(Double.POSITIVE_INFINITY, solver.solve().get().weight);
+    }
+
+    @Test
+    public void testUnsatisfiable() {
+        JavaMaxSATSolver<String> solver = new JavaMaxSATSolver<>();
+        solver.addSingleClause("a");
+        solver.addOrImplication("a");
+        assertFalse(solver.solve().isPresent());
+    }
+
+    @Test
+    public void testFormula() {
+        Formula formula = new Formula();
+        formula.addUnit(1);
+        formula.add(-1).add(2).add(3).end();
+        formula.addImplication(2, 4);
+        formula.weight(2, 1);
+        formula.weight(3, 3);
+        formula.weight(4, 1);
+        boolean[] model = new JavaMaxSATSolver<>().solve(formula).get();
+        assertEquals(2, formula.weight(model));
+        assertTrue(model[1] && model[2] && model[4]);
+        assertFalse(model[3]);
+    }
+
+    @Test
+    public void testCancelled() {
+        JavaMaxSATSolver<String> solver = new JavaMaxSATSolver<>();
+        solver.addSingleClause("a");
+        solver.addOrImplication("a", "b");
+        solver.addWeight("b", 1);
+        solver.cancel();
+        assertFalse(solver.solve().isPresent());
+    }
+
+    /**
+     * Random formulas of the shape that the solver based leakage computation creates, compared with
+     * an exhaustive search
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12})
+    public void testAgainstExhaustiveSearch(int seed) {
+        Random random = new Random(seed);
+        int vars = 6 + random.nextInt(9);
+        JavaMaxSATSolver<Integer> solver = new JavaMaxSATSolver<>();
+        List<int[]> clauses = new ArrayList<>();
+        double[] weights = new double[vars];
+        for (int i = 0; i < vars * 2; i++) {
+            int a = random.nextInt(vars);
+            Integer[] ored = new Integer[1 + random.nextInt(3)];
+            int[] clause = new int[ored.length + 1];
+            clause[0] = -(a + 1);
+            for (int j = 0; j < ored.length; j++) {
+                ored[j] = random.nextInt(vars);
+                clause[j + 1] = ored[j] + 1;
+            }
+            solver.addOrImplication(a, ored);
+            clauses.add(clause);
+        }
+        for (int i = 0; i < 2; i++) {
+            int a = random.nextInt(vars);
+            solver.addSingleClause(a);
+            clauses.add(new int[]{a + 1});
+        }
+        for (int v = 0; v < vars; v++) {
+            if (random.nextInt(4) != 0) {
+                weights[v] = random.nextInt(3) == 0 ? 0.5 + random.nextInt(4) : 1;
+                solver.addWeight(v, weights[v]);
+            }
+        }
+        double expected = Double.POSITIVE_INFINITY;
+        for (int assignment = 0; assignment < 1 << vars; assignment++) {
+            int model = assignment;
+            if (clauses.stream().allMatch(c -> Arrays.stream(c).anyMatch(l -> ((model >> (Math.abs(l) - 1)) & 1) == (l > 0 ? 1 : 0)))) {
+                double weight = 0;
+                for (int v = 0; v < vars; v++) {
+                    if (((model >> v) & 1) == 1) {
+                        weight += weights[v];
+                    }
+                }
+                expected = Math.min(expected, weight);
+            }
+        }
+        Optional<Solver.Result<Integer>> result = solver.solve();
+        if (expected == Double.POSITIVE_INFINITY) {
+            assertFalse(result.isPresent());
+        } else {
+            assertEquals(expected, result.get().weight, 1e-9);
+            Set<Integer> trueVariables = new HashSet<>(result.get().trueVariables);
+            for (int[] clause : clauses) {
+                assertTrue(Arrays.stream(clause).anyMatch(l -> trueVariables.contains(Math.abs(l) - 1) == l > 0),
+                        Arrays.toString(clause));
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package nildumu.solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PMSATSolverTest {
+
+    /**
+     * Solver that returns a fixed output
+     */
+    private static class FixedOutputSolver extends PMSATSolver<String> {
+
+        private final String output;
+
+        FixedOutputSolver(String output) {
+            super(false, true);
+            this.output = output;
+        }
+
+        @Override
+        public InputStream solveAndRead(Formula formula) {
+            return new ByteArrayInputStream(output.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static FixedOutputSolver create(String output) {
+        FixedOutputSolver solver = new FixedOutputSolver(output);
+        solver.addSingleClause("a");
+        solver.addOrImplication("a", "b", "c");
+        solver.addWeight("b", 2);
+        solver.addInfiniteWeight("c");
+        return solver;
+    }
+
+    @Test
+    public void testWDIMACSFormat() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        create("").writeInWDIMACSFormat(out);
+        assertEquals("p wcnf 3 4 7\n" +
+                "7 1 0\n" +
+                "7 -1 2 3 0\n" +
+                "2 -2 0\n" +
+                "3 -3 0\n", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWDIMACSFormatOfFormula() throws IOException {
+        Formula formula = new Formula();
+        formula.addUnit(1);
+        formula.add(-1).add(2).add(4).end();
+        formula.weight(2, 2);
+        formula.weight(3, 0);
+        formula.infiniteWeight(4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new FixedOutputSolver("").writeInWDIMACSFormat(formula, out);
+        assertEquals("p wcnf 4 4 7\n" +
+                "7 1 0\n" +
+                "7 -1 2 4 0\n" +
+                "2 -2 0\n" +
+                "3 -4 0\n", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testLargeNumbersAcrossBufferBoundaries() throws IOException {
+        FixedOutputSolver solver = new FixedOutputSolver("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            solver.addSingleClause("v" + i);
+            expected.append("2 ").append(i + 1).append(" 0\n");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        solver.writeInWDIMACSFormat(out);
+        assertEquals("p wcnf 50000 50000 2\n" + expected, new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testParseModel() {
+        Solver.Result<String> result = create("c some comment with v 1 2\no 2\ns OPTIMUM FOUND\nv 1 2 -3\n")
+                .solve().get();
+        assertEquals(Arrays.asList("a", "b"), result.trueVariables);
+        assertEquals(Collections.singletonList("c"), result.falseVariables);
+        assertEquals(2, result.weight);
+    }
+
+    @Test
+    public void testParseModelWithoutTrailingNewLine() {
+        assertEquals(Arrays.asList("a", "b"), create("s OPTIMUM FOUND\nv 1 2 -3 4").solve().get().trueVariables);
+    }
+
+    @Test
+    public void testParseModelAfterBlankAndCommentLines() {
+        Solver.Result<String> result = create("\nc comment\n\n\ns OPTIMUM FOUND\n\nv 1 2 -3\n").solve().get();
+        assertEquals(Arrays.asList("a", "b"), result.trueVariables);
+        assertEquals(2, result.weight);
+    }
+
+    @Test
+    public void testParseWithoutModel() {
+        assertFalse(create("c comment\ns OPTIMUM FOUND\n").solve().isPresent());
+        assertFalse(create("").solve().isPresent());
+    }
+
+    @Test
+    public void testParseUnknown() {
+        assertFalse(create("c bla\ns UNKNOWN\n").solve().isPresent());
+    }
+}
@@ -0,0 +1,105 @@
+package nildumu.solver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PreprocessorTest {
+
+    /**
+     * Source → either → dependencies → either of the dependency → bit, like the formula of a bit chain
+     */
+    @Test
+    public void testImplicationChain() {
+        Formula formula = new Formula();
+        formula.addUnit(1);
+        formula.addImplication(1, 2);
+        formula.addImplication(2, 3);
+        formula.addImplication(3, 1);
+        formula.add(-3).add(4).add(5).end();
+        formula.add(-3).add(4).add(5).add(6).end();
+        formula.weight(4, 1);
+        formula.weight(5, 2);
+        Preprocessor preprocessor = new Preprocessor(formula);
+        assertTrue(preprocessor.run());
+        Preprocessor.Statistics statistics = preprocessor.getStatistics();
+        assertEquals(6, statistics.clausesBefore);
+        assertEquals(1, statistics.clausesAfter);
+        assertEquals(2, statistics.variablesAfter);
+        boolean[] model = preprocessor.model(new JavaMaxSATSolver<>().solve(preprocessor.getReduced()).get());
+        assertTrue(model[1] && model[2] && model[3] && model[4]);
+        assertFalse(model[5]);
+        assertEquals(1, formula.weight(model));
+    }
+
+    @Test
+    public void testEquivalentWeightedVariables() {
+        Formula formula = new Formula();
+        formula.addImplication(1, 2);
+        formula.addImplication(2, 1);
+        formula.add(1).add(3).end();
+        formula.weight(1, 2);
+        formula.weight(2, 2);
+        formula.weight(3, 3);
+        Optional<boolean[]> model = new JavaMaxSATSolver<>().solvePreprocessed(formula);
+        assertEquals(3, formula.weight(model.get()));
+    }
+
+    @Test
+    public void testUnsatisfiable() {
+        Formula formula = new Formula();
+        formula.addUnit(1);
+        formula.addImplication(1, 2);
+        formula.addUnit(-2);
+        assertFalse(new Preprocessor(formula).run());
+        assertFalse(new JavaMaxSATSolver<>().solvePreprocessed(formula).isPresent());
+    }
+
+    /**
+     * Random formulas, solved with and without preprocessing
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16})
+    public void testAgainstUnprocessed(int seed) {
+        Random random = new Random(seed);
+        int vars = 6 + random.nextInt(12);
+        Formula formula = new Formula();
+        List<int[]> clauses = new ArrayList<>();
+        for (int i = 0; i < vars * 2; i++) {
+            int[] clause = new int[1 + random.nextInt(3)];
+            clause[0] = -(random.nextInt(vars) + 1);
+            for (int j = 1; j < clause.length; j++) {
+                clause[j] = (random.nextInt(vars) + 1) * (random.nextInt(5) == 0 ? -1 : 1);
+            }
+            formula.addClause(clause);
+            clauses.add(clause);
+        }
+        for (int i = 0; i < 2; i++) {
+            int[] clause = {random.nextInt(vars) + 1};
+            formula.addClause(clause);
+            clauses.add(clause);
+        }
+        for (int v = 1; v <= vars; v++) {
+            int kind = random.nextInt(8);
+            if (kind == 0) {
+                formula.infiniteWeight(v);
+            } else if (kind < 5) {
+                formula.weight(v, random.nextInt(3) == 0 ? 0.5 + random.nextInt(4) : 1);
+            }
+        }
+        Optional<boolean[]> expected = new JavaMaxSATSolver<>().solve(formula);
+        Optional<boolean[]> actual = new JavaMaxSATSolver<>().solvePreprocessed(formula);
+        assertEquals(expected.isPresent(), actual.isPresent());
+        if (actual.isPresent()) {
+            boolean[] model = actual.get();
+            assertEquals(formula.weight(expected.get()), formula.weight(model), 1e-9);
+            for (int[] clause : clauses) {
+                assertTrue(Arrays.stream(clause).anyMatch(l -> model[Math.abs(l)] == l > 0), Arrays.toString(clause));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package nildumu.util;
+
+import org.jgrapht.alg.flow.PushRelabelMFImpl;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleDirectedWeightedGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaxFlowTest {
+
+    @Test
+    public void testSimple() {
+        // two paths with a bottleneck each, connected by a cross edge
+        MaxFlow flow = new MaxFlow(6, 4);
+        flow.addEdge(0, 1, 10);
+        flow.addEdge(0, 2, 10);
+        flow.addEdge(1, 3, 4);
+        flow.addEdge(2, 4, 9);
+        flow.addEdge(1, 4, 8);
+        flow.addEdge(3, 5, 10);
+        flow.addEdge(4, 5, 10);
+        assertEquals(14, flow.compute(0, 5));
+        double cut = 0;
+        for (int edge : flow.cutEdges()) {
+            cut += flow.flow(edge);
+        }
+        assertEquals(14, cut);
+    }
+
+    @Test
+    public void testLongChain() {
+        int length = 200_000;
+        MaxFlow flow = new MaxFlow(length, length);
+        for (int i = 0; i < length - 1; i++) {
+            flow.addEdge(i, i + 1, i == length / 2 ? 1 : 3);
+        }
+        assertEquals(1, flow.compute(0, length - 1));
+        assertArrayEquals(new int[]{length / 2}, flow.cutEdges());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8})
+    public void testAgainstJGraphT(int seed) {
+        Random random = new Random(seed);
+        int vertices = 30 + random.nextInt(50);
+        SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> graph =
+                new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        MaxFlow flow = new MaxFlow(vertices, 0);
+        for (int i = 0; i < vertices; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < vertices * 4; i++) {
+            int from = random.nextInt(vertices);
+            int to = random.nextInt(vertices);
+            if (from != to && !graph.containsEdge(from, to)) {
+                int weight = 1 + random.nextInt(5);
+                graph.setEdgeWeight(graph.addEdge(from, to), weight);
+                flow.addEdge(from, to, weight);
+            }
+        }
+        double expected = new PushRelabelMFImpl<>(graph, 0.5).calculateMinCut(0, vertices - 1);
+        assertEquals(expected, flow.compute(0, vertices - 1));
+        double cut = 0;
+        for (int edge : flow.cutEdges()) {
+            cut += graph.getEdgeWeight(graph.getEdge(flow.tail(edge), flow.head(edge)));
+        }
+        assertEquals(expected, cut);
+    }
+}